@@ -0,0 +1,60 @@
+package fctreddit.api;
+
+/**
+ * Represents the occupancy and effectiveness of a server-side cache
+ */
+public class CacheStats {
+
+	private long size;
+	private long hits;
+	private long misses;
+	private double hitRatio; // The fraction of the lookups answered from the cache, 1 if there were none.
+
+	public CacheStats() {
+
+	}
+
+	public CacheStats(long size, long hits, long misses, double hitRatio) {
+		this.size = size;
+		this.hits = hits;
+		this.misses = misses;
+		this.hitRatio = hitRatio;
+	}
+
+	public long getSize() {
+		return size;
+	}
+
+	public void setSize(long size) {
+		this.size = size;
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public void setHits(long hits) {
+		this.hits = hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	public void setMisses(long misses) {
+		this.misses = misses;
+	}
+
+	public double getHitRatio() {
+		return hitRatio;
+	}
+
+	public void setHitRatio(double hitRatio) {
+		this.hitRatio = hitRatio;
+	}
+
+	@Override
+	public String toString() {
+		return "CacheStats [size=" + size + ", hits=" + hits + ", misses=" + misses + ", hitRatio=" + hitRatio + "]";
+	}
+}
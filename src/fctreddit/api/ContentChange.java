@@ -0,0 +1,111 @@
+package fctreddit.api;
+
+import java.util.List;
+
+/**
+ * Represents one entry of the change log a Content server ships to its read replicas:
+ * the current state of a post, the deletion of posts, or the removal of an author
+ */
+public class ContentChange {
+
+	public static final String PUT_POST = "put";
+	public static final String DELETE_POSTS = "delete";
+	public static final String NULLIFY_AUTHOR = "nullify";
+
+	private long seq;
+	private String type;
+	private Post post; // The post as it is now, for PUT_POST changes.
+	private String parentId; // The fields of the post that are not sent with it.
+	private int replyCount;
+	private List<String> postIds; // The deleted posts, for DELETE_POSTS changes.
+	private String userId; // The removed author, for NULLIFY_AUTHOR changes.
+
+	public ContentChange() {
+
+	}
+
+	public static ContentChange putPost(Post post) {
+		ContentChange c = new ContentChange();
+		c.type = PUT_POST;
+		c.post = post;
+		c.parentId = post.getParentId();
+		c.replyCount = post.getReplyCount();
+		return c;
+	}
+
+	public static ContentChange deletePosts(List<String> postIds) {
+		ContentChange c = new ContentChange();
+		c.type = DELETE_POSTS;
+		c.postIds = postIds;
+		return c;
+	}
+
+	public static ContentChange nullifyAuthor(String userId) {
+		ContentChange c = new ContentChange();
+		c.type = NULLIFY_AUTHOR;
+		c.userId = userId;
+		return c;
+	}
+
+	public long getSeq() {
+		return seq;
+	}
+
+	public void setSeq(long seq) {
+		this.seq = seq;
+	}
+
+	public String getType() {
+		return type;
+	}
+
+	public void setType(String type) {
+		this.type = type;
+	}
+
+	public Post getPost() {
+		return post;
+	}
+
+	public void setPost(Post post) {
+		this.post = post;
+	}
+
+	public String getParentId() {
+		return parentId;
+	}
+
+	public void setParentId(String parentId) {
+		this.parentId = parentId;
+	}
+
+	public int getReplyCount() {
+		return replyCount;
+	}
+
+	public void setReplyCount(int replyCount) {
+		this.replyCount = replyCount;
+	}
+
+	public List<String> getPostIds() {
+		return postIds;
+	}
+
+	public void setPostIds(List<String> postIds) {
+		this.postIds = postIds;
+	}
+
+	public String getUserId() {
+		return userId;
+	}
+
+	public void setUserId(String userId) {
+		this.userId = userId;
+	}
+
+	@Override
+	public String toString() {
+		return "ContentChange [seq=" + seq + ", type=" + type + ", post=" + post + ", postIds=" + postIds
+				+ ", userId=" + userId + "]";
+	}
+}
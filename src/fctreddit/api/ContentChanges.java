@@ -0,0 +1,63 @@
+package fctreddit.api;
+
+import java.util.List;
+
+/**
+ * Represents a part of the change log of a Content server, as fetched by a read replica
+ */
+public class ContentChanges {
+
+	private String epoch; // Identifies the log, which starts over when the server restarts.
+	private boolean snapshot; // When true, changes are all the posts, which replace those of the replica.
+	private long lastSeq; // The seq to continue from.
+	private List<ContentChange> changes;
+
+	public ContentChanges() {
+
+	}
+
+	public ContentChanges(String epoch, boolean snapshot, long lastSeq, List<ContentChange> changes) {
+		this.epoch = epoch;
+		this.snapshot = snapshot;
+		this.lastSeq = lastSeq;
+		this.changes = changes;
+	}
+
+	public String getEpoch() {
+		return epoch;
+	}
+
+	public void setEpoch(String epoch) {
+		this.epoch = epoch;
+	}
+
+	public boolean isSnapshot() {
+		return snapshot;
+	}
+
+	public void setSnapshot(boolean snapshot) {
+		this.snapshot = snapshot;
+	}
+
+	public long getLastSeq() {
+		return lastSeq;
+	}
+
+	public void setLastSeq(long lastSeq) {
+		this.lastSeq = lastSeq;
+	}
+
+	public List<ContentChange> getChanges() {
+		return changes;
+	}
+
+	public void setChanges(List<ContentChange> changes) {
+		this.changes = changes;
+	}
+
+	@Override
+	public String toString() {
+		return "ContentChanges [epoch=" + epoch + ", snapshot=" + snapshot + ", lastSeq=" + lastSeq + ", changes="
+				+ (changes == null ? 0 : changes.size()) + "]";
+	}
+}
@@ -1,13 +1,23 @@
 package fctreddit.api;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 
 /**
  * Represents a Post and a Reply in the system
  */
 @Entity
+@Table(indexes = {
+		@Index(name = "idx_post_creation", columnList = "creationTimestamp, postId"),
+		@Index(name = "idx_post_parent", columnList = "parentId, creationTimestamp"),
+		@Index(name = "idx_post_author", columnList = "authorId, creationTimestamp, postId"),
+		@Index(name = "idx_post_up_vote", columnList = "upVote, postId"),
+		@Index(name = "idx_post_reply_count", columnList = "replyCount, postId") })
 public class Post {
 
 	@Id
@@ -20,9 +30,14 @@ public class Post {
 
 	private String mediaUrl;
 	private String parentUrl; // This should be null when this is a top level post.
+	@JsonIgnore
+	private String parentId; // Identifier of the post referred by parentUrl, set by the server.
 	private int upVote;
 	private int downVote;
 
+	@JsonIgnore
+	private int replyCount; // Number of direct replies, kept up to date by the server.
+
 	
 	public Post() {
 
@@ -37,6 +52,7 @@ public class Post {
 		this.parentUrl = null;
 		this.upVote = 0;
 		this.downVote = 0;
+		this.replyCount = 0;
 	}
 
 	public Post(String authorId, String content, String parentUrl) {
@@ -61,6 +77,13 @@ public class Post {
 		this.downVote = downVote;
 	}
 
+	public Post(Post other) {
+		this(other.postId, other.authorId, other.creationTimestamp, other.content, other.mediaUrl, other.parentUrl,
+				other.upVote, other.downVote);
+		this.parentId = other.parentId;
+		this.replyCount = other.replyCount;
+	}
+
 	public String getPostId() {
 		return postId;
 	}
@@ -125,6 +148,26 @@ public class Post {
 		this.downVote = downVote;
 	}
 
+	@JsonIgnore
+	public String getParentId() {
+		return parentId;
+	}
+
+	@JsonIgnore
+	public void setParentId(String parentId) {
+		this.parentId = parentId;
+	}
+
+	@JsonIgnore
+	public int getReplyCount() {
+		return replyCount;
+	}
+
+	@JsonIgnore
+	public void setReplyCount(int replyCount) {
+		this.replyCount = replyCount;
+	}
+
 	public int hashCode() {
 		final int prime = 31;
 		int result = 1;
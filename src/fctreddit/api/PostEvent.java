@@ -0,0 +1,76 @@
+package fctreddit.api;
+
+/**
+ * Represents a change pushed to the subscribers of the Content service: a new top-level
+ * post, a new reply or a change of the votes of a post
+ */
+public class PostEvent {
+
+	public static final String NEW_POST = "post";
+	public static final String NEW_REPLY = "reply";
+	public static final String VOTES = "votes";
+
+	private String type;
+	private String postId;
+	private String parentId; // The parent of the post, null for a top-level post.
+	private int upVote;
+	private int downVote;
+
+	public PostEvent() {
+
+	}
+
+	public PostEvent(String type, String postId, String parentId, int upVote, int downVote) {
+		this.type = type;
+		this.postId = postId;
+		this.parentId = parentId;
+		this.upVote = upVote;
+		this.downVote = downVote;
+	}
+
+	public String getType() {
+		return type;
+	}
+
+	public void setType(String type) {
+		this.type = type;
+	}
+
+	public String getPostId() {
+		return postId;
+	}
+
+	public void setPostId(String postId) {
+		this.postId = postId;
+	}
+
+	public String getParentId() {
+		return parentId;
+	}
+
+	public void setParentId(String parentId) {
+		this.parentId = parentId;
+	}
+
+	public int getUpVote() {
+		return upVote;
+	}
+
+	public void setUpVote(int upVote) {
+		this.upVote = upVote;
+	}
+
+	public int getDownVote() {
+		return downVote;
+	}
+
+	public void setDownVote(int downVote) {
+		this.downVote = downVote;
+	}
+
+	@Override
+	public String toString() {
+		return "PostEvent [type=" + type + ", postId=" + postId + ", parentId=" + parentId + ", upVote=" + upVote
+				+ ", downVote=" + downVote + "]";
+	}
+}
@@ -0,0 +1,43 @@
+package fctreddit.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents a Post together with the tree of its replies (and replies to those replies)
+ */
+public class PostThread {
+
+	private Post post;
+	private List<PostThread> replies; // Ordered by creation of the replies.
+
+	public PostThread() {
+
+	}
+
+	public PostThread(Post post) {
+		this.post = post;
+		this.replies = new ArrayList<>();
+	}
+
+	public Post getPost() {
+		return post;
+	}
+
+	public void setPost(Post post) {
+		this.post = post;
+	}
+
+	public List<PostThread> getReplies() {
+		return replies;
+	}
+
+	public void setReplies(List<PostThread> replies) {
+		this.replies = replies;
+	}
+
+	@Override
+	public String toString() {
+		return "PostThread [post=" + post + ", replies=" + replies + "]";
+	}
+}
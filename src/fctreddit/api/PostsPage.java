@@ -0,0 +1,87 @@
+package fctreddit.api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Represents one page of a paginated list of Post identifiers
+ */
+public class PostsPage {
+
+	private static final String CURSOR_SEPARATOR = ":";
+
+	private List<String> postIds;
+	private List<Long> sortKeys; // The keys the posts are ordered by, one per postId, as in the cursors.
+	private String nextCursor; // This should be null when this is the last page.
+
+	public PostsPage() {
+
+	}
+
+	public PostsPage(List<String> postIds, String nextCursor) {
+		this.postIds = postIds;
+		this.nextCursor = nextCursor;
+	}
+
+	public PostsPage(List<String> postIds, List<Long> sortKeys, String nextCursor) {
+		this(postIds, nextCursor);
+		this.sortKeys = sortKeys;
+	}
+
+	/**
+	 * Encodes the position right after a post as a cursor, given the key the post is
+	 * ordered by. A cursor does not depend on the server that made it, so the same cursor
+	 * can be used to continue the pages of several servers.
+	 */
+	public static String cursorAfter(long key, String postId) {
+		String position = key + CURSOR_SEPARATOR + postId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @return the key and the postId of the position encoded in a cursor, or null if the
+	 *         cursor is not valid
+	 */
+	public static String[] decodeCursor(String cursor) {
+		try {
+			String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] parts = position.split(CURSOR_SEPARATOR, 2);
+			if (parts.length != 2)
+				return null;
+			Long.parseLong(parts[0]);
+			return parts;
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	public List<String> getPostIds() {
+		return postIds;
+	}
+
+	public void setPostIds(List<String> postIds) {
+		this.postIds = postIds;
+	}
+
+	public List<Long> getSortKeys() {
+		return sortKeys;
+	}
+
+	public void setSortKeys(List<Long> sortKeys) {
+		this.sortKeys = sortKeys;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public void setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+
+	@Override
+	public String toString() {
+		return "PostsPage [postIds=" + postIds + ", nextCursor=" + nextCursor + "]";
+	}
+}
@@ -32,6 +32,10 @@ public class User {
 		this.avatarUrl = avatarUrl;
 	}
 
+	public User(User other) {
+		this(other.userId, other.fullName, other.email, other.password, other.avatarUrl);
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
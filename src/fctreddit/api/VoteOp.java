@@ -0,0 +1,60 @@
+package fctreddit.api;
+
+/**
+ * Represents one vote of a batch submitted to the Content service
+ */
+public class VoteOp {
+
+	private String postId;
+	private String userId;
+	private String password;
+	private String voteType; // Either Votes.VOTE_UP or Votes.VOTE_DOWN.
+
+	public VoteOp() {
+
+	}
+
+	public VoteOp(String postId, String userId, String password, String voteType) {
+		this.postId = postId;
+		this.userId = userId;
+		this.password = password;
+		this.voteType = voteType;
+	}
+
+	public String getPostId() {
+		return postId;
+	}
+
+	public void setPostId(String postId) {
+		this.postId = postId;
+	}
+
+	public String getUserId() {
+		return userId;
+	}
+
+	public void setUserId(String userId) {
+		this.userId = userId;
+	}
+
+	public String getPassword() {
+		return password;
+	}
+
+	public void setPassword(String password) {
+		this.password = password;
+	}
+
+	public String getVoteType() {
+		return voteType;
+	}
+
+	public void setVoteType(String voteType) {
+		this.voteType = voteType;
+	}
+
+	@Override
+	public String toString() {
+		return "VoteOp [postId=" + postId + ", userId=" + userId + ", voteType=" + voteType + "]";
+	}
+}
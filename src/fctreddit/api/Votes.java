@@ -1,38 +1,73 @@
 package fctreddit.api;
 
-import java.util.UUID;
+import java.io.Serializable;
+import java.util.Objects;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 
+/**
+ * The vote of a user on a post. A user has at most one vote on each post, which
+ * is enforced by the primary key (postId, userId).
+ */
 @Entity
+@IdClass(Votes.Key.class)
+@Table(indexes = { @Index(name = "idx_votes_user", columnList = "userId") })
 public class Votes {
-    
+
     public static final String VOTE_UP = "up";
     public static final String VOTE_DOWN = "down";
 
     @Id
-    private String voteId;
     private String postId;
+    @Id
     private String userId;
     private String voteType;
 
+    /**
+     * Primary key of Votes
+     */
+    public static class Key implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private String postId;
+        private String userId;
+
+        public Key() {
+
+        }
+
+        public Key(String postId, String userId) {
+            this.postId = postId;
+            this.userId = userId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key k && Objects.equals(postId, k.postId) && Objects.equals(userId, k.userId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(postId, userId);
+        }
+    }
+
 
     public Votes() {
 
     }
 
     public Votes(String postId, String userId, String voteType) {
-        this.voteId = UUID.randomUUID().toString();
         this.postId = postId;
         this.userId = userId;
         this.voteType = voteType;
     }
 
-    public String getVoteId() {
-        return voteId;
-    }
-
     public String getPostId() {
         return postId;
     }
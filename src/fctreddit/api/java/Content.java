@@ -2,7 +2,11 @@ package fctreddit.api.java;
 
 import java.util.List;
 
+import fctreddit.api.ContentChanges;
 import fctreddit.api.Post;
+import fctreddit.api.PostThread;
+import fctreddit.api.PostsPage;
+import fctreddit.api.VoteOp;
 
 public interface Content {
 
@@ -11,6 +15,7 @@ public interface Content {
 	 **/
 	public static final String MOST_UP_VOTES = "votes";
 	public static final String MOST_REPLIES = "replies";
+	public static final String HOTTEST = "hot";
 	
 	
 	/**
@@ -43,10 +48,57 @@ public interface Content {
 	 * more direct replies to the one with less direct replies. In ordering by MOST_UP_VOTES or by MOST_REPLIES
 	 * if there are posts with the same number of up votes or direct replies, respectively, those should be
 	 * ordered by the lexicographic order of the PostID.
+	 * If HOTTEST is provided, only the hottest posts (at most 1000) are returned, ranked by a score that
+	 * grows with the order of magnitude of their vote balance (up votes minus down votes) and with their
+	 * creation time.
 	 * @return 	OK and the List of PostIds that match all options in the right order 
 	 * 			
 	 */
 	public Result<List<String>> getPosts(long timestamp, String sortOrder);
+
+	/**
+	 * Paginated variant of getPosts. Posts are ordered as in getPosts, and each page
+	 * continues right after the last post of the previous page (keyset pagination).
+	 * 
+	 * @param timestamp optional, as in getPosts
+	 * @param sortOrder optional, as in getPosts
+	 * @param cursor optional, the nextCursor of the previous page; when not defined
+	 * the first page is returned
+	 * @param limit optional, the maximum number of posts in the page
+	 * @return 	OK and the page of PostIds, whose nextCursor is null if this is the last page
+	 * 			BAD_REQUEST if the sortOrder or the cursor are not valid
+	 */
+	public Result<PostsPage> getPostsPage(long timestamp, String sortOrder, String cursor, int limit);
+
+	/**
+	 * Searches the content of all posts (top-level posts and replies). The query is split 
+	 * into words, ignoring case and punctuation, and the posts that contain all of them are 
+	 * returned, the most relevant first: words that appear in fewer posts, and more times 
+	 * in a post, weigh more. The pages after the first are taken from the same ranking, 
+	 * even if posts are created, edited or deleted in the meantime, for a few minutes, 
+	 * unless the server is keeping too many rankings, or the ranking is too large, to keep it.
+	 * 
+	 * @param query the words to search for
+	 * @param limit optional, the maximum number of posts in the page
+	 * @param cursor optional, the nextCursor of the previous page; when not defined
+	 * the first page is returned
+	 * @return 	OK and the page of PostIds, whose nextCursor is null if this is the last page
+	 * 			BAD_REQUEST if the query is empty or the cursor is not valid, or has expired
+	 */
+	public Result<PostsPage> searchPosts(String query, int limit, String cursor);
+
+	/**
+	 * Retrieves the unique identifiers of all posts (top-level posts and replies) by an author,
+	 * the most recent first, one page at a time (keyset pagination).
+	 * 
+	 * @param userId the author of the posts
+	 * @param cursor optional, the nextCursor of the previous page; when not defined
+	 * the first page is returned
+	 * @param limit optional, the maximum number of posts in the page
+	 * @return 	OK and the page of PostIds, whose nextCursor is null if this is the last page
+	 * 			BAD_REQUEST if the userId is not defined or the cursor is not valid
+	 */
+	public Result<PostsPage> getPostsByAuthor(String userId, String cursor, int limit);
 	
 	/**
 	 * Retrieves a given post.
@@ -56,6 +108,16 @@ public interface Content {
 	 * 			NOT_FOUND if postId does not match an existing Post
 	 */
 	public Result<Post> getPost(String postId);
+
+	/**
+	 * Retrieves several posts at once.
+	 * 
+	 * @param postIds the unique identifiers of the posts to be retrieved
+	 * @return 	OK and the Posts that exist, in the order of postIds (identifiers
+	 * 			that do not match an existing Post are skipped)
+	 * 			BAD_REQUEST if postIds is null or has too many identifiers
+	 */
+	public Result<List<Post>> getPostsByIds(List<String> postIds);
 	
 	/**
 	 * Retrieves a list with all unique identifiers of posts that have the post
@@ -72,6 +134,19 @@ public interface Content {
 	 * 		
 	 */
 	public Result<List<String>> getPostAnswers(String postId, long maxTimeout);
+
+	/**
+	 * Retrieves a post together with all its replies (and replies to those replies),
+	 * with the replies of each post in their creation order.
+	 * @param postId the post at the root of the thread
+	 * @param maxDepth (optional) the maximum depth of the replies to include, where the 
+	 * 		  direct replies are at depth 1; when not positive the whole thread is returned
+	 * @param limit (optional) the maximum number of posts in the thread; when the thread has 
+	 * 		  more posts, the deepest (and, at the same depth, the most recent) are left out
+	 * @return 	OK and the thread rooted at the post
+	 * 			NOT_FOUND if postId does not match an existing Post
+	 */
+	public Result<PostThread> getThread(String postId, int maxDepth, int limit);
 	
 	/**
 	 * Updates the contents of a post restricted to the fields:
@@ -161,6 +236,17 @@ public interface Content {
 	 *			BAD_REQUEST otherwise
 	 */
 	public Result<Void> removeDownVotePost(String postId, String userId, String userPassword);
+
+	/**
+	 * Casts a batch of up and down votes, each with the same rules as upVotePost and
+	 * downVotePost. Each distinct user is authenticated once, and all the accepted votes
+	 * are stored together. A vote that fails does not prevent the others from being cast.
+	 * @param votes the votes to cast, at most 10000
+	 * @return 	OK and the outcome of each vote, in the order of the batch: OK if the vote was cast,
+	 * 			or the error upVotePost or downVotePost would have returned for it
+	 * 			BAD_REQUEST if votes is null or has too many votes
+	 */
+	public Result<List<Result.ErrorCode>> castVotes(List<VoteOp> votes);
 	
 	/**
 	 * Exposes the number of upvotes currently associated with a given post
@@ -200,4 +286,27 @@ public interface Content {
  	*         INTERNAL_SERVER_ERROR otherwise
  	*/
 	public Result<Void> deleteVotesFromUser(String userId);
+
+	/**
+ 	* Drops any cached copy of the specified user, so that it is fetched again from the 
+ 	* Users service. Used when a user account is updated or deleted.
+ 	* 
+ 	* @param userId the identifier of the user that changed
+ 	* @return NO_CONTENT in case of success;
+ 	*         BAD_REQUEST if userId is null
+ 	*/
+	public Result<Void> invalidateUser(String userId);
+
+	/**
+	 * Retrieves the changes made to the posts of this server after a given point of its
+	 * change log, in order. Used by the read replicas of the server to follow it.
+	 * 
+	 * @param epoch the epoch of the change log the caller follows, or null if it follows none yet
+	 * @param since the seq of the last change the caller applied
+	 * @param timeout (optional) how long to wait for a change when there are none after since
+	 * @return OK and the changes after since, which are empty if none came before the timeout;
+	 *         or, if epoch is not the current one or the changes after since were discarded, 
+	 *         a snapshot of all the posts, to be applied in place of those of the caller
+	 */
+	public Result<ContentChanges> getChanges(String epoch, long since, long timeout);
 }
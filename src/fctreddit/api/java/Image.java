@@ -32,6 +32,16 @@ public interface Image {
 	 * 		   	BAD_REQUEST password is null
 	 */
 	Result<Void> deleteImage(String userId, String imageId, String password);
+
+	/**
+	 * Drops any cached copy of the user, so that it is fetched again from the Users
+	 * service. Used when a user account is updated or deleted.
+	 * 
+	 * @param userId the identifier of the user that changed
+	 * @return 	<OK, Void> in the case of success. 
+	 * 		   	BAD_REQUEST if userId is null
+	 */
+	Result<Void> invalidateUser(String userId);
 	
 	
 	
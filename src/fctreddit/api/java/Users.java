@@ -61,10 +61,11 @@ public interface Users {
 	 * query must be set to the empty string "".
 	 * 
 	 * @param pattern substring to search (empty pattern translates to all users)
-	 * @return <OK,List<User>> and the list of Users matching the search, regardless 
-	 * 		    of the number of hits (including 0 hits)
+	 * @param limit   the maximum number of users returned, or zero for all of them
+	 * @return <OK,List<User>> and the list of Users matching the search, sorted by
+	 * 		    userId, regardless of the number of hits (including 0 hits)
 	 */
-	Result<List<User>> searchUsers(String pattern);
+	Result<List<User>> searchUsers(String pattern, int limit);
 
 	/**
 	 * Obtains the information on the user identified by name. This method is used
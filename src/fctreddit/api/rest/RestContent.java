@@ -2,7 +2,12 @@ package fctreddit.api.rest;
 
 import java.util.List;
 
+import fctreddit.api.ContentChanges;
 import fctreddit.api.Post;
+import fctreddit.api.PostThread;
+import fctreddit.api.PostsPage;
+import fctreddit.api.VoteOp;
+import fctreddit.api.java.Result;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
@@ -12,7 +17,14 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.container.Suspended;
+import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
 
 @Path(RestContent.PATH)
 public interface RestContent {
@@ -27,12 +39,28 @@ public interface RestContent {
 	public static final String USERID = "userId";
 	public static final String SORTBY = "sortBy";
 	public static final String TIMEOUT = "timeout";
+	public static final String PAGE = "page";
+	public static final String CURSOR = "cursor";
+	public static final String LIMIT = "limit";
+	public static final String BATCH = "batch";
+	public static final String THREAD = "thread";
+	public static final String MAX_DEPTH = "maxDepth";
+	public static final String EVENTS = "events";
+	public static final String VOTES = "votes";
+	public static final String SEARCH = "search";
+	public static final String QUERY = "query";
+	public static final String AUTHOR = "author";
+	public static final String CHANGES = "changes";
+	public static final String EPOCH = "epoch";
+	public static final String SINCE = "since";
+	public static final String CACHED_USER = "cached-user";
 	
 	/**
 	 * The following constants are the values that can be sent for the query parameter SORTBY
 	 **/
 	public static final String MOST_UP_VOTES = "votes";
 	public static final String MOST_REPLIES = "replies";
+	public static final String HOTTEST = "hot";
 	
 	
 	/**
@@ -68,24 +96,103 @@ public interface RestContent {
 	 * more direct replies to the one with less direct replies.
 	 * if there are posts with the same number of up votes or direct replies, respectively, those should be
 	 * ordered by the lexicographic order of the PostID.
+	 * If HOTTEST is provided, only the hottest posts (at most 1000) are returned, ranked by a score that
+	 * grows with the order of magnitude of their vote balance (up votes minus down votes) and with their
+	 * creation time.
 	 * @return 	OK and the List of PostIds that match all options in the right order 
-	 * 			
+	 * 			NOT_MODIFIED if the List did not change since the one with the ETag in If-None-Match
+	 * The response carries an ETag; when the If-None-Match header of the request matches it,
+	 * the answer is NOT_MODIFIED, without a body.
 	 */
 	@GET
 	@Produces(MediaType.APPLICATION_JSON)
-	public List<String> getPosts(@QueryParam(TIMESTAMP) long timestamp, @QueryParam(SORTBY) String sortOrder);
+	public Response getPosts(@QueryParam(TIMESTAMP) long timestamp, @QueryParam(SORTBY) String sortOrder,
+			@Context Request request);
+
+	/**
+	 * Paginated variant of getPosts. Posts are ordered as in getPosts, and each page
+	 * continues right after the last post of the previous page (keyset pagination).
+	 * 
+	 * @param timestamp optional, as in getPosts
+	 * @param sortOrder optional, as in getPosts
+	 * @param cursor optional, the nextCursor of the previous page; when not defined
+	 * the first page is returned
+	 * @param limit optional, the maximum number of posts in the page
+	 * @return 	OK and the page of PostIds, whose nextCursor is null if this is the last page
+	 * 			BAD_REQUEST if the sortOrder or the cursor are not valid
+	 */
+	@GET
+	@Path(PAGE)
+	@Produces(MediaType.APPLICATION_JSON)
+	public PostsPage getPostsPage(@QueryParam(TIMESTAMP) long timestamp, @QueryParam(SORTBY) String sortOrder,
+			@QueryParam(CURSOR) String cursor, @QueryParam(LIMIT) int limit);
+
+	/**
+	 * Searches the content of all posts (top-level posts and replies). The query is split 
+	 * into words, ignoring case and punctuation, and the posts that contain all of them are 
+	 * returned, the most relevant first: words that appear in fewer posts, and more times 
+	 * in a post, weigh more. The pages after the first are taken from the same ranking, 
+	 * even if posts are created, edited or deleted in the meantime, for a few minutes, 
+	 * unless the server is keeping too many rankings, or the ranking is too large, to keep it.
+	 * 
+	 * @param query the words to search for
+	 * @param limit optional, the maximum number of posts in the page
+	 * @param cursor optional, the nextCursor of the previous page; when not defined
+	 * the first page is returned
+	 * @return 	OK and the page of PostIds, whose nextCursor is null if this is the last page
+	 * 			BAD_REQUEST if the query is empty or the cursor is not valid, or has expired
+	 */
+	@GET
+	@Path(SEARCH)
+	@Produces(MediaType.APPLICATION_JSON)
+	public PostsPage searchPosts(@QueryParam(QUERY) String query, @QueryParam(LIMIT) int limit,
+			@QueryParam(CURSOR) String cursor);
+
+	/**
+	 * Retrieves the unique identifiers of all posts (top-level posts and replies) by an author,
+	 * the most recent first, one page at a time (keyset pagination).
+	 * 
+	 * @param userId the author of the posts
+	 * @param cursor optional, the nextCursor of the previous page; when not defined
+	 * the first page is returned
+	 * @param limit optional, the maximum number of posts in the page
+	 * @return 	OK and the page of PostIds, whose nextCursor is null if this is the last page
+	 * 			BAD_REQUEST if the userId is not defined or the cursor is not valid
+	 */
+	@GET
+	@Path(AUTHOR + "/{" + USERID + "}")
+	@Produces(MediaType.APPLICATION_JSON)
+	public PostsPage getPostsByAuthor(@PathParam(USERID) String userId, @QueryParam(CURSOR) String cursor,
+			@QueryParam(LIMIT) int limit);
 	
 	/**
 	 * Retrieves a given post.
 	 * 
 	 * @param postId the unique identifier of the short to be retrieved
 	 * @return 	OK and the Post in case of success 
+	 * 			NOT_MODIFIED if the Post did not change since the one with the ETag in If-None-Match
 	 * 			NOT_FOUND if postId does not match an existing Post
+	 * The response carries an ETag; when the If-None-Match header of the request matches it,
+	 * the answer is NOT_MODIFIED, without a body.
 	 */
 	@GET
 	@Path("{" + POSTID + "}")
 	@Produces(MediaType.APPLICATION_JSON)
-	public Post getPost(@PathParam(POSTID) String postId);
+	public Response getPost(@PathParam(POSTID) String postId, @Context Request request);
+
+	/**
+	 * Retrieves several posts at once.
+	 * 
+	 * @param postIds the unique identifiers of the posts to be retrieved (in the body of the request)
+	 * @return 	OK and the Posts that exist, in the order of postIds (identifiers
+	 * 			that do not match an existing Post are skipped)
+	 * 			BAD_REQUEST if postIds is null or has too many identifiers
+	 */
+	@POST
+	@Path(BATCH)
+	@Consumes(MediaType.APPLICATION_JSON)
+	@Produces(MediaType.APPLICATION_JSON)
+	public List<Post> getPostsByIds(List<String> postIds);
 	
 	/**
 	 * Retrieves a list with all unique identifiers of posts that have the post
@@ -97,13 +204,47 @@ public interface RestContent {
 	 * 		  to the post. If a new answer is added to the target post after the start of 
 	 * 		  the execution of this operation and before the timeout expires an answer should
 	 * 		  be sent to the client at that time. 		   
+	 * The request is suspended while waiting, so it does not hold a server thread.
 	 * @return 	OK and the List of PostIds that are answers to the post ordered by creationTime 
 	 * 			NOT_FOUND if postId does not match an existing Post			
 	 */
 	@GET
 	@Path("{" + POSTID + "}/" + REPLIES)
 	@Produces(MediaType.APPLICATION_JSON)
-	public List<String> getPostAnswers(@PathParam(POSTID) String postId, @QueryParam(TIMEOUT) long timeout);
+	public void getPostAnswers(@PathParam(POSTID) String postId, @QueryParam(TIMEOUT) long timeout,
+			@Suspended AsyncResponse ar);
+
+	/**
+	 * Retrieves a post together with all its replies (and replies to those replies),
+	 * with the replies of each post in their creation order.
+	 * @param postId the post at the root of the thread
+	 * @param maxDepth (optional) the maximum depth of the replies to include, where the 
+	 * 		  direct replies are at depth 1; when not defined the whole thread is returned
+	 * @param limit (optional) the maximum number of posts in the thread; when the thread has 
+	 * 		  more posts, the deepest (and, at the same depth, the most recent) are left out
+	 * @return 	OK and the thread rooted at the post
+	 * 			NOT_FOUND if postId does not match an existing Post
+	 */
+	@GET
+	@Path("{" + POSTID + "}/" + THREAD)
+	@Produces(MediaType.APPLICATION_JSON)
+	public PostThread getThread(@PathParam(POSTID) String postId, @QueryParam(MAX_DEPTH) int maxDepth,
+			@QueryParam(LIMIT) int limit);
+
+	/**
+	 * Opens a stream of Server-Sent Events with the changes to the posts, as they happen: 
+	 * new top-level posts, new replies and changes of the votes of a post. The name of each 
+	 * event is its type and its data the PostEvent, in JSON. The stream is closed by the 
+	 * server if the client falls too far behind in reading it.
+	 * @param postId (optional) when defined, only the events of this post and of its direct
+	 * 		  replies are sent
+	 * @return 	OK and the stream of events
+	 * 			NOT_FOUND if postId does not match an existing Post
+	 */
+	@GET
+	@Path(EVENTS)
+	@Produces(MediaType.SERVER_SENT_EVENTS)
+	public void subscribe(@QueryParam(POSTID) String postId, @Context SseEventSink eventSink, @Context Sse sse);
 	
 	/**
 	 * Updates the contents of a post restricted to the fields:
@@ -207,6 +348,21 @@ public interface RestContent {
 	@DELETE
 	@Path("{" + POSTID + "}/" + DOWNVOTE + "/{" + USERID + "}" )
 	public void removeDownVotePost(@PathParam(POSTID) String postId, @PathParam(USERID) String userId, @QueryParam(PASSWORD) String userPassword);
+
+	/**
+	 * Casts a batch of up and down votes, each with the same rules as upVotePost and
+	 * downVotePost. Each distinct user is authenticated once, and all the accepted votes
+	 * are stored together. A vote that fails does not prevent the others from being cast.
+	 * @param votes the votes to cast, at most 10000
+	 * @return 	OK and the outcome of each vote, in the order of the batch: OK if the vote was cast,
+	 * 			or the error upVotePost or downVotePost would have returned for it
+	 * 			BAD_REQUEST if votes is null or has too many votes
+	 */
+	@POST
+	@Path(VOTES)
+	@Consumes(MediaType.APPLICATION_JSON)
+	@Produces(MediaType.APPLICATION_JSON)
+	public List<Result.ErrorCode> castVotes(List<VoteOp> votes);
 	
 	/**
 	 * Exposes the number of upvotes currently associated with a given post
@@ -257,4 +413,32 @@ public void nullifyPostAuthors(@PathParam(USERID) String userId);
 @Path("/delete-votes/{" + USERID + "}")
 public void deleteVotesFromUser(@PathParam(USERID) String userId);
 
+/**
+ * Drops any cached copy of the specified user, so that it is fetched again from the 
+ * Users service. Used when a user account is updated or deleted.
+ * 
+ * @param userId the identifier of the user that changed
+ * @return NO_CONTENT in case of success;
+ *         BAD_REQUEST if userId is null
+ */
+@DELETE
+@Path("/" + CACHED_USER + "/{" + USERID + "}")
+public void invalidateUser(@PathParam(USERID) String userId);
+
+	/**
+	 * Retrieves the changes made to the posts of this server after a given point of its
+	 * change log, in order. Used by the read replicas of the server to follow it.
+	 * 
+	 * @param epoch (optional) the epoch of the change log the caller follows
+	 * @param since the seq of the last change the caller applied
+	 * @param timeout (optional) how long to wait for a change when there are none after since
+	 * @return OK and the changes after since, or a snapshot of all the posts if epoch is not 
+	 *         the current one or the changes after since were discarded
+	 */
+	@GET
+	@Path(CHANGES)
+	@Produces(MediaType.APPLICATION_JSON)
+	public ContentChanges getChanges(@QueryParam(EPOCH) String epoch, @QueryParam(SINCE) long since,
+			@QueryParam(TIMEOUT) long timeout);
+
 }
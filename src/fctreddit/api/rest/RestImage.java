@@ -17,6 +17,7 @@ public interface RestImage {
 	public static final String IMAGE_ID = "id";
 	public static final String USER_ID = "user";
 	public static final String PASSWORD = "pwd";
+	public static final String CACHED_USER = "cached-user";
 	/**
 	 * Create an image
 	 * 
@@ -56,6 +57,18 @@ public interface RestImage {
 	@DELETE
 	@Path("{" + USER_ID + "}/{" + IMAGE_ID + "}")
 	void deleteImage(@PathParam(USER_ID) String userId, @PathParam(IMAGE_ID) String imageId, @QueryParam(PASSWORD) String password);
+
+	/**
+	 * Drops any cached copy of the user, so that it is fetched again from the Users
+	 * service. Used when a user account is updated or deleted.
+	 * 
+	 * @param userId the identifier of the user that changed
+	 * @return 	NO_CONTENT in the case of success. 
+	 * 		   	BAD_REQUEST if userId is null
+	 */
+	@DELETE
+	@Path(CACHED_USER + "/{" + USER_ID + "}")
+	void invalidateUser(@PathParam(USER_ID) String userId);
 	
 	
 	
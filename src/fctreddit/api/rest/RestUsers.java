@@ -2,6 +2,7 @@ package fctreddit.api.rest;
 
 import java.util.List;
 
+import fctreddit.api.CacheStats;
 import fctreddit.api.User;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
@@ -13,14 +14,20 @@ import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.StreamingOutput;
 
 @Path(RestUsers.PATH)
 public interface RestUsers {
 
 	public static final String PATH = "/users";
 	public static final String QUERY = "query";
+	public static final String LIMIT = "limit";
+	// One JSON object per line, for results that are written as they are produced.
+	public static final String NDJSON = "application/x-ndjson";
 	public static final String USER_ID = "userId";
 	public static final String PASSWORD = "password";
+	// Two segments, so that it is not taken for a userId.
+	public static final String CACHE_STATS = "cache/stats";
 
 	/**
 	 * Creates a new user.
@@ -89,12 +96,24 @@ public interface RestUsers {
 	 * query must be set to the empty string "".
 	 * 
 	 * @param pattern substring to search (empty pattern translates to all users)
-	 * @return OK and the list of Users matching the search, regardless of the number of hits
-	 *         (including 0 hits)
+	 * @param limit   the maximum number of users returned, or zero (the default) for all of them
+	 * @return OK and the list of Users matching the search, sorted by userId, regardless of
+	 *         the number of hits (including 0 hits)
 	 */
 	@GET
 	@Produces(MediaType.APPLICATION_JSON)
-	List<User> searchUsers(@QueryParam(QUERY) String pattern);
+	List<User> searchUsers(@QueryParam(QUERY) String pattern, @QueryParam(LIMIT) int limit);
+
+	/**
+	 * Same as searchUsers, for clients that accept NDJSON: the users are written one per
+	 * line as they are read, in a chunked response, rather than in a single array.
+	 * JSON is preferred when both are accepted.
+	 * 
+	 * @return OK and the Users matching the search, sorted by userId
+	 */
+	@GET
+	@Produces(NDJSON + ";qs=0.5")
+	StreamingOutput streamUsers(@QueryParam(QUERY) String pattern, @QueryParam(LIMIT) int limit);
 
 	
 	/**
@@ -108,4 +127,15 @@ public interface RestUsers {
 	@Path("/{" + USER_ID + "}/aux")
 	@Produces(MediaType.APPLICATION_JSON)
 	User getUserAux(@PathParam(USER_ID) String userId);
+
+	/**
+	 * Obtains the size and the hit ratio of the cache this server keeps of the users
+	 * it reads from its database.
+	 * 
+	 * @return OK and the statistics of the cache
+	 */
+	@GET
+	@Path("/" + CACHE_STATS)
+	@Produces(MediaType.APPLICATION_JSON)
+	CacheStats getCacheStats();
 }
\ No newline at end of file
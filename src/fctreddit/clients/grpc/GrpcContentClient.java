@@ -1,23 +1,43 @@
 package fctreddit.clients.grpc;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import fctreddit.api.java.Result;
+import fctreddit.api.ContentChanges;
 import fctreddit.api.Post;
+import fctreddit.api.PostThread;
+import fctreddit.api.PostsPage;
+import fctreddit.api.VoteOp;
 import fctreddit.impl.grpc.generated_java.ContentGrpc;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.CreatePostArgs;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.CreatePostResult;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsArgs;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost;
 import fctreddit.api.java.Result.ErrorCode;
 import fctreddit.clients.java.ContentClient;
@@ -26,6 +46,7 @@ import io.grpc.Channel;
 import io.grpc.ManagedChannelBuilder;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.StreamObserver;
 import io.grpc.internal.PickFirstLoadBalancerProvider;
 import io.grpc.LoadBalancerRegistry;
 
@@ -36,10 +57,12 @@ public class GrpcContentClient extends ContentClient {
     }
     
     final ContentGrpc.ContentBlockingStub stub;
+    final ContentGrpc.ContentStub asyncStub;
 
     public GrpcContentClient(URI serverURI) {
         Channel channel = ManagedChannelBuilder.forAddress(serverURI.getHost(), serverURI.getPort()).enableRetry().usePlaintext().build();
         stub = ContentGrpc.newBlockingStub(channel);
+        asyncStub = ContentGrpc.newStub(channel);
     }
 
     @Override
@@ -73,6 +96,69 @@ public class GrpcContentClient extends ContentClient {
         }
     }
 
+    @Override
+    public Result<PostsPage> getPostsPage(long timestamp, String sortOrder, String cursor, int limit) {
+        try {
+            GetPostsPageArgs.Builder argsBuilder = GetPostsPageArgs.newBuilder();
+            if (timestamp != 0) {
+                argsBuilder.setTimestamp(timestamp);
+            }
+            if (sortOrder != null && !sortOrder.isEmpty()) {
+                argsBuilder.setSortOrder(sortOrder);
+            }
+            if (cursor != null && !cursor.isEmpty()) {
+                argsBuilder.setCursor(cursor);
+            }
+            if (limit > 0) {
+                argsBuilder.setLimit(limit);
+            }
+            GetPostsPageResult res = stub.getPostsPage(argsBuilder.build());
+            return Result.ok(GetPostsPageResult_to_PostsPage(res));
+        } catch (StatusRuntimeException sre) {
+            return Result.error(statusToErrorCode(sre.getStatus()));
+        }
+    }
+
+    @Override
+    public Result<PostsPage> searchPosts(String query, int limit, String cursor) {
+        try {
+            SearchPostsArgs.Builder argsBuilder = SearchPostsArgs.newBuilder();
+            if (query != null) {
+                argsBuilder.setQuery(query);
+            }
+            if (limit > 0) {
+                argsBuilder.setLimit(limit);
+            }
+            if (cursor != null && !cursor.isEmpty()) {
+                argsBuilder.setCursor(cursor);
+            }
+            GetPostsPageResult res = stub.searchPosts(argsBuilder.build());
+            return Result.ok(GetPostsPageResult_to_PostsPage(res));
+        } catch (StatusRuntimeException sre) {
+            return Result.error(statusToErrorCode(sre.getStatus()));
+        }
+    }
+
+    @Override
+    public Result<PostsPage> getPostsByAuthor(String userId, String cursor, int limit) {
+        try {
+            GetPostsByAuthorArgs.Builder argsBuilder = GetPostsByAuthorArgs.newBuilder();
+            if (userId != null) {
+                argsBuilder.setUserId(userId);
+            }
+            if (cursor != null && !cursor.isEmpty()) {
+                argsBuilder.setCursor(cursor);
+            }
+            if (limit > 0) {
+                argsBuilder.setLimit(limit);
+            }
+            GetPostsPageResult res = stub.getPostsByAuthor(argsBuilder.build());
+            return Result.ok(GetPostsPageResult_to_PostsPage(res));
+        } catch (StatusRuntimeException sre) {
+            return Result.error(statusToErrorCode(sre.getStatus()));
+        }
+    }
+
     @Override
     public Result<Post> getPost(String postId) {
         try {
@@ -86,6 +172,24 @@ public class GrpcContentClient extends ContentClient {
         }
     }
 
+    @Override
+    public Result<List<Post>> getPostsByIds(List<String> postIds) {
+        if (postIds == null)
+            return Result.error(ErrorCode.BAD_REQUEST);
+        try {
+            GetPostsBatchResult res = stub.getPostsBatch(GetPostsBatchArgs.newBuilder()
+                    .addAllPostId(postIds)
+                    .build());
+
+            List<Post> posts = new ArrayList<>();
+            for (GrpcPost p : res.getPostList())
+                posts.add(DataModelAdaptorPosts.GrpcPost_to_Post(p));
+            return Result.ok(posts);
+        } catch (StatusRuntimeException sre) {
+            return Result.error(statusToErrorCode(sre.getStatus()));
+        }
+    }
+
     @Override
     public Result<List<String>> getPostAnswers(String postId, long timeout) {
         try {
@@ -100,7 +204,34 @@ public class GrpcContentClient extends ContentClient {
             return Result.error(statusToErrorCode(sre.getStatus()));
         }
     }
-    
+
+    @Override
+    public Result<PostThread> getThread(String postId, int maxDepth, int limit) {
+        try {
+            GetThreadArgs.Builder argsBuilder = GetThreadArgs.newBuilder().setPostId(postId);
+            if (maxDepth > 0) {
+                argsBuilder.setMaxDepth(maxDepth);
+            }
+            if (limit > 0) {
+                argsBuilder.setLimit(limit);
+            }
+
+            // Nodes arrive in pre-order: the parent of a node is the last one seen one level above.
+            List<PostThread> path = new ArrayList<>();
+            Iterator<ThreadNode> nodes = stub.getThread(argsBuilder.build());
+            while (nodes.hasNext()) {
+                ThreadNode node = nodes.next();
+                PostThread thread = new PostThread(DataModelAdaptorPosts.GrpcPost_to_Post(node.getPost()));
+                path.subList(node.getDepth(), path.size()).clear();
+                if (!path.isEmpty())
+                    path.get(path.size() - 1).getReplies().add(thread);
+                path.add(thread);
+            }
+            return Result.ok(path.get(0));
+        } catch (StatusRuntimeException sre) {
+            return Result.error(statusToErrorCode(sre.getStatus()));
+        }
+    }
 
     @Override
     public Result<Post> updatePost(String postId, String password, Post post) {
@@ -192,6 +323,57 @@ public class GrpcContentClient extends ContentClient {
         }
     }
 
+    @Override
+    public Result<List<ErrorCode>> castVotes(List<VoteOp> votes) {
+        // Client streaming calls are only available on the asynchronous stub.
+        CompletableFuture<CastVotesResult> reply = new CompletableFuture<>();
+        StreamObserver<CastVoteArgs> requests = asyncStub.castVotes(new StreamObserver<CastVotesResult>() {
+            @Override
+            public void onNext(CastVotesResult res) {
+                reply.complete(res);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                reply.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        });
+
+        for (VoteOp vote : votes) {
+            CastVoteArgs.Builder argsBuilder = CastVoteArgs.newBuilder();
+            if (vote.getPostId() != null) {
+                argsBuilder.setPostId(vote.getPostId());
+            }
+            if (vote.getUserId() != null) {
+                argsBuilder.setUserId(vote.getUserId());
+            }
+            if (vote.getVoteType() != null) {
+                argsBuilder.setVoteType(vote.getVoteType());
+            }
+            if (vote.getPassword() != null) {
+                argsBuilder.setPassword(vote.getPassword());
+            }
+            requests.onNext(argsBuilder.build());
+        }
+        requests.onCompleted();
+
+        try {
+            List<ErrorCode> outcomes = new ArrayList<>();
+            for (String outcome : reply.get().getOutcomeList())
+                outcomes.add(ErrorCode.valueOf(outcome));
+            return Result.ok(outcomes);
+        } catch (ExecutionException e) {
+            return Result.error(statusToErrorCode(Status.fromThrowable(e.getCause())));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
     @Override
     public Result<Integer> getUpVotes(String postId) {
         try {
@@ -244,6 +426,39 @@ public class GrpcContentClient extends ContentClient {
         }
     }
 
+    @Override
+    public Result<Void> invalidateUser(String userId) {
+        try {
+            stub.invalidateUser(InvalidateUserArgs.newBuilder()
+                    .setUserId(userId)
+                    .build());
+            
+            return Result.ok(null);
+        } catch (StatusRuntimeException sre) {
+            return Result.error(statusToErrorCode(sre.getStatus()));
+        }
+    }
+
+    @Override
+    public Result<ContentChanges> getChanges(String epoch, long since, long timeout) {
+        try {
+            GetChangesArgs.Builder argsBuilder = GetChangesArgs.newBuilder().setSince(since);
+            if (epoch != null) {
+                argsBuilder.setEpoch(epoch);
+            }
+            if (timeout != 0) {
+                argsBuilder.setTimeout(timeout);
+            }
+            return Result.ok(DataModelAdaptorPosts.GetChangesResult_to_ContentChanges(stub.getChanges(argsBuilder.build())));
+        } catch (StatusRuntimeException sre) {
+            return Result.error(statusToErrorCode(sre.getStatus()));
+        }
+    }
+
+    private static PostsPage GetPostsPageResult_to_PostsPage(GetPostsPageResult res) {
+        return new PostsPage(res.getPostIdList(), res.getSortKeyList(), res.hasNextCursor() ? res.getNextCursor() : null);
+    }
+
     static ErrorCode statusToErrorCode(Status status) {
         return switch (status.getCode()) {
             case OK -> ErrorCode.OK;
@@ -10,6 +10,7 @@ import fctreddit.impl.grpc.generated_java.ImageProtoBuf.CreateImageResult;
 import fctreddit.impl.grpc.generated_java.ImageProtoBuf.GetImageArgs;
 import fctreddit.impl.grpc.generated_java.ImageProtoBuf.GetImageResult;
 import fctreddit.impl.grpc.generated_java.ImageProtoBuf.DeleteImageArgs;
+import fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserArgs;
 import fctreddit.api.java.Result.ErrorCode;
 import fctreddit.clients.java.ImageClient;
 import io.grpc.Channel;
@@ -72,6 +73,17 @@ public class GrpcImagesClient extends ImageClient {
         }
     }
 
+    public Result<Void> invalidateUser(String userId) {
+        try {
+            stub.invalidateUser(InvalidateUserArgs.newBuilder()
+                    .setUserId(userId)
+                    .build());
+            return Result.ok(null);
+        } catch (StatusRuntimeException sre) {
+            return Result.error(statusToErrorCode(sre.getStatus()));
+        }
+    }
+
     private static ErrorCode statusToErrorCode(Status status) {
         return switch (status.getCode()) {
             case OK -> ErrorCode.OK;
@@ -112,10 +112,11 @@ public Result<User> deleteUser(String userId, String pwd) {
 
 
 	@Override
-	public Result<List<User>> searchUsers(String pattern) {
+	public Result<List<User>> searchUsers(String pattern, int limit) {
 		try {
 			Iterator<GrpcUser> res = stub.searchUsers(SearchUserArgs.newBuilder()
 					.setPattern(pattern)
+					.setLimit(limit)
 					.build());
 			
 			List<User> ret = new ArrayList<User>();
@@ -2,7 +2,11 @@ package fctreddit.clients.java;
 
 import fctreddit.api.java.Content;
 import fctreddit.api.java.Result;
+import fctreddit.api.ContentChanges;
 import fctreddit.api.Post;
+import fctreddit.api.PostThread;
+import fctreddit.api.PostsPage;
+import fctreddit.api.VoteOp;
 
 import java.util.List;
 
@@ -18,10 +22,20 @@ public abstract class ContentClient implements Content {
 
     public abstract Result<List<String>> getPosts(long timestamp, String sortOrder);
 
+    public abstract Result<PostsPage> getPostsPage(long timestamp, String sortOrder, String cursor, int limit);
+
+    public abstract Result<PostsPage> searchPosts(String query, int limit, String cursor);
+
+    public abstract Result<PostsPage> getPostsByAuthor(String userId, String cursor, int limit);
+
     public abstract Result<Post> getPost(String postId);
 
+    public abstract Result<List<Post>> getPostsByIds(List<String> postIds);
+
     public abstract Result<List<String>> getPostAnswers(String postId, long maxTimeout);
 
+    public abstract Result<PostThread> getThread(String postId, int maxDepth, int limit);
+
     public abstract Result<Post> updatePost(String postId, String userPassword, Post post);
 
     public abstract Result<Void> deletePost(String postId, String userPassword);
@@ -34,6 +48,8 @@ public abstract class ContentClient implements Content {
 
     public abstract Result<Void> removeDownVotePost(String postId, String userId, String userPassword);
 
+    public abstract Result<List<Result.ErrorCode>> castVotes(List<VoteOp> votes);
+
     public abstract Result<Integer> getUpVotes(String postId);
 
     public abstract Result<Integer> getDownVotes(String postId);
@@ -41,4 +57,8 @@ public abstract class ContentClient implements Content {
     public abstract Result<Void> nullifyPostAuthors(String userId);
 
     public abstract Result<Void> deleteVotesFromUser(String userId);
+
+    public abstract Result<Void> invalidateUser(String userId);
+
+    public abstract Result<ContentChanges> getChanges(String epoch, long since, long timeout);
 }
@@ -17,4 +17,6 @@ public abstract class ImageClient implements Image {
 	
 	abstract public Result<Void> deleteImage(String userId, String imageId, String password);
 
+	abstract public Result<Void> invalidateUser(String userId);
+
 }
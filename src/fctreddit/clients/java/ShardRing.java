@@ -0,0 +1,64 @@
+package fctreddit.clients.java;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+/**
+ * Consistent hashing of postIds over a set of Content servers (the shards). Each shard is
+ * placed at VIRTUAL_NODES points of a ring of hashes, and a post belongs to the shard at
+ * the first point after the hash of its postId. Adding or removing a shard only moves the
+ * posts of the ranges next to its points.
+ *
+ * Clients and servers that are given the same shards agree on where each post belongs.
+ */
+public class ShardRing {
+
+    private static final int VIRTUAL_NODES = 128;
+    private static final HashFunction HASH = Hashing.murmur3_128();
+
+    private final List<String> shards;
+    private final NavigableMap<Long, String> ring = new TreeMap<>();
+
+    /**
+     * @param shards - the URIs of the shards, of which there should be at least one
+     */
+    public ShardRing(Collection<String> shards) {
+        this.shards = new ArrayList<>(shards);
+        this.shards.sort(null);
+        for (String shard : this.shards) {
+            for (int i = 0; i < VIRTUAL_NODES; i++)
+                ring.put(hash(shard + "#" + i), shard);
+        }
+    }
+
+    private static long hash(String key) {
+        return HASH.hashString(key, StandardCharsets.UTF_8).asLong();
+    }
+
+    /**
+     * @return the URIs of the shards, sorted
+     */
+    public List<String> shards() {
+        return shards;
+    }
+
+    /**
+     * @return whether the ring is made of exactly the given shards
+     */
+    public boolean hasShards(Collection<String> shards) {
+        return this.shards.size() == shards.size() && this.shards.containsAll(shards);
+    }
+
+    public String shardOf(String postId) {
+        Map.Entry<Long, String> e = ring.ceilingEntry(hash(postId));
+        return e != null ? e.getValue() : ring.firstEntry().getValue();
+    }
+}
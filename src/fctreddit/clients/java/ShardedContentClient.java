@@ -0,0 +1,593 @@
+package fctreddit.clients.java;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import fctreddit.api.ContentChanges;
+import fctreddit.api.Post;
+import fctreddit.api.PostThread;
+import fctreddit.api.PostsPage;
+import fctreddit.api.VoteOp;
+import fctreddit.api.java.Content;
+import fctreddit.api.java.Result;
+import fctreddit.api.java.Result.ErrorCode;
+import fctreddit.clients.grpc.GrpcContentClient;
+import fctreddit.clients.rest.RestPostsClient;
+
+/**
+ * A client of the Content service for when the posts are sharded over several Content
+ * servers, each holding the posts of a range of a ShardRing.
+ *
+ * Operations on a post go to the shard it belongs to. Top-level posts are created in a
+ * random shard, and replies in the shard of their parent, so a thread is never split.
+ * The feeds, the searches and the listings by author are scatter-gather: every shard is
+ * asked for a page, and the pages are merged by the keys their posts are sorted by.
+ * Operations on a user go to every shard.
+ *
+ * Reads of a shard go to one of its read replicas, if it has any, and to the shard itself
+ * when the replica cannot be reached or does not have the post yet. Writes always go to
+ * the shard.
+ *
+ * The shards are taken from the supplier on every operation. Posts are not moved when the
+ * shards change, so they are expected to be all up before posts are created.
+ */
+public class ShardedContentClient extends ContentClient {
+
+    private static final int SCATTER_THREADS = 16;
+
+    // As in the Content servers.
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_VOTES_BATCH = 10_000;
+    private static final int HOT_POSTS = 1000;
+
+    // The cursor, in the cursor of a search, of a shard with no more hits.
+    private static final String SHARD_DONE = "";
+
+    // Daemon threads, so that the client does not keep an application from exiting.
+    private static final ExecutorService scatter = Executors.newFixedThreadPool(SCATTER_THREADS,
+            new ThreadFactoryBuilder().setDaemon(true).setNameFormat("shard-scatter-%d").build());
+    private static final Map<String, ContentClient> clients = new ConcurrentHashMap<>();
+
+    private final Supplier<List<String>> shardUris;
+    private final Function<String, List<String>> replicasOf;
+    private volatile ShardRing ring;
+
+    /**
+     * A post in a page, with the key it is sorted by.
+     */
+    private record Ranked(String postId, long key) {
+    }
+
+    /**
+     * @param shardUris - the URIs of the Content servers that hold the posts
+     */
+    public ShardedContentClient(Supplier<List<String>> shardUris) {
+        this(shardUris, shard -> List.of());
+    }
+
+    /**
+     * @param shardUris  - the URIs of the Content servers that hold the posts
+     * @param replicasOf - the URIs of the read replicas of a Content server
+     */
+    public ShardedContentClient(Supplier<List<String>> shardUris, Function<String, List<String>> replicasOf) {
+        this.shardUris = shardUris;
+        this.replicasOf = replicasOf;
+    }
+
+    /**
+     * @return the ring of the current shards, or null if there are none
+     */
+    private ShardRing ring() {
+        List<String> uris = shardUris.get();
+        if (uris.isEmpty())
+            return null;
+        ShardRing current = ring;
+        if (current == null || !current.hasShards(uris))
+            ring = current = new ShardRing(uris);
+        return current;
+    }
+
+    private static ContentClient client(String uri) {
+        return clients.computeIfAbsent(uri, u -> {
+            URI serverURI = URI.create(u);
+            return serverURI.getScheme().equals("grpc") ? new GrpcContentClient(serverURI) : new RestPostsClient(serverURI);
+        });
+    }
+
+    private static String shardOf(ShardRing ring, String postId) {
+        // Invalid requests are left for any shard to reject.
+        return postId == null ? ring.shards().get(0) : ring.shardOf(postId);
+    }
+
+    private <T> Result<T> route(String postId, Function<ContentClient, Result<T>> op) {
+        ShardRing r = ring();
+        if (r == null)
+            return Result.error(ErrorCode.TIMEOUT);
+        return op.apply(client(shardOf(r, postId)));
+    }
+
+    /**
+     * Reads from a replica of a shard, chosen at random, or from the shard when it has none.
+     * Falls back to the shard on any failure of the replica but a bad request, which the
+     * shard would reject as well: not being reachable, failing in transport or not having
+     * received the post yet.
+     */
+    private <T> Result<T> read(String shard, Function<ContentClient, Result<T>> op) {
+        List<String> replicas = replicasOf.apply(shard);
+        if (!replicas.isEmpty()) {
+            Result<T> res = op.apply(client(replicas.get(ThreadLocalRandom.current().nextInt(replicas.size()))));
+            if (res.isOK() || res.error() == ErrorCode.BAD_REQUEST)
+                return res;
+        }
+        return op.apply(client(shard));
+    }
+
+    private <T> Result<T> routeRead(String postId, Function<ContentClient, Result<T>> op) {
+        ShardRing r = ring();
+        if (r == null)
+            return Result.error(ErrorCode.TIMEOUT);
+        return read(shardOf(r, postId), op);
+    }
+
+    /**
+     * Runs an operation on several shards at once.
+     *
+     * @return the results, in the order of the shards
+     */
+    private static <T> List<Result<T>> scatter(Collection<String> shards, Function<String, Result<T>> op) {
+        List<CompletableFuture<Result<T>>> futures = new ArrayList<>();
+        for (String shard : shards)
+            futures.add(CompletableFuture.supplyAsync(() -> op.apply(shard), scatter));
+
+        List<Result<T>> results = new ArrayList<>();
+        for (CompletableFuture<Result<T>> f : futures)
+            results.add(f.join());
+        return results;
+    }
+
+    /**
+     * Runs an operation on a user in every shard. It succeeds if it succeeds in some shard
+     * and fails in none, other than for not finding anything of the user there.
+     */
+    private Result<Void> broadcast(Function<ContentClient, Result<Void>> op) {
+        ShardRing r = ring();
+        if (r == null)
+            return Result.error(ErrorCode.TIMEOUT);
+
+        ErrorCode outcome = ErrorCode.NOT_FOUND;
+        for (Result<Void> res : scatter(r.shards(), shard -> op.apply(client(shard)))) {
+            if (res.isOK())
+                outcome = ErrorCode.OK;
+            else if (res.error() != ErrorCode.NOT_FOUND)
+                return Result.error(res.error());
+        }
+        return outcome == ErrorCode.OK ? Result.ok() : Result.error(outcome);
+    }
+
+    private static Comparator<Ranked> order(boolean descending, boolean scores) {
+        Comparator<Ranked> byKey = scores
+                ? Comparator.comparingDouble((Ranked r) -> Double.longBitsToDouble(r.key()))
+                : Comparator.comparingLong(Ranked::key);
+        return (descending ? byKey.reversed() : byKey).thenComparing(Ranked::postId);
+    }
+
+    /**
+     * @return the order of a feed, as in the Content servers, or null if it is not valid
+     */
+    private static Comparator<Ranked> feedOrder(String sortOrder) {
+        if (sortOrder == null || sortOrder.isEmpty())
+            return order(false, false);
+        return switch (sortOrder) {
+            case Content.MOST_UP_VOTES, Content.MOST_REPLIES -> order(true, false);
+            case Content.HOTTEST -> order(true, true);
+            default -> null;
+        };
+    }
+
+    private static int pageSize(int limit) {
+        return limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * @return the posts of a page, or null if the page has no sort keys
+     */
+    private static List<Ranked> ranked(PostsPage page) {
+        List<String> postIds = page.getPostIds();
+        List<Long> keys = page.getSortKeys();
+        if (keys == null || keys.size() != postIds.size())
+            return null;
+        List<Ranked> posts = new ArrayList<>();
+        for (int i = 0; i < postIds.size(); i++)
+            posts.add(new Ranked(postIds.get(i), keys.get(i)));
+        return posts;
+    }
+
+    /**
+     * Fetches the same page from every shard and merges them. As the cursors are positions
+     * in the order of the posts, not in the posts of a shard, the cursor of the merged page
+     * continues every shard right after the last post it got from it.
+     */
+    private Result<PostsPage> mergePages(Comparator<Ranked> order, int limit, Function<ContentClient, Result<PostsPage>> fetch) {
+        ShardRing r = ring();
+        if (r == null)
+            return Result.error(ErrorCode.TIMEOUT);
+        if (r.shards().size() == 1)
+            return read(r.shards().get(0), fetch);
+
+        List<Ranked> merged = new ArrayList<>();
+        boolean more = false;
+        for (Result<PostsPage> res : scatter(r.shards(), shard -> read(shard, fetch))) {
+            if (!res.isOK())
+                return Result.error(res.error());
+            List<Ranked> posts = ranked(res.value());
+            if (posts == null)
+                return Result.error(ErrorCode.INTERNAL_ERROR);
+            merged.addAll(posts);
+            more |= res.value().getNextCursor() != null;
+        }
+        merged.sort(order);
+
+        int size = pageSize(limit);
+        if (merged.size() > size) {
+            merged = merged.subList(0, size);
+            more = true;
+        }
+        List<String> postIds = new ArrayList<>();
+        List<Long> keys = new ArrayList<>();
+        for (Ranked p : merged) {
+            postIds.add(p.postId());
+            keys.add(p.key());
+        }
+        String nextCursor = null;
+        if (more && !merged.isEmpty()) {
+            Ranked last = merged.get(merged.size() - 1);
+            nextCursor = PostsPage.cursorAfter(last.key(), last.postId());
+        }
+        return Result.ok(new PostsPage(postIds, keys, nextCursor));
+    }
+
+    /**
+     * @return all the posts of a feed of a shard, in order, fetched one page at a time
+     */
+    private static Result<List<Ranked>> allPages(ContentClient client, long timestamp, String sortOrder) {
+        List<Ranked> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            Result<PostsPage> res = client.getPostsPage(timestamp, sortOrder, cursor, MAX_PAGE_SIZE);
+            if (!res.isOK())
+                return Result.error(res.error());
+            List<Ranked> posts = ranked(res.value());
+            if (posts == null)
+                return Result.error(ErrorCode.INTERNAL_ERROR);
+            all.addAll(posts);
+            cursor = res.value().getNextCursor();
+        } while (cursor != null);
+        return Result.ok(all);
+    }
+
+    private static String parentIdOf(String parentUrl) {
+        if (parentUrl == null) {
+            return null;
+        }
+        return parentUrl.substring(parentUrl.lastIndexOf('/') + 1);
+    }
+
+    @Override
+    public Result<String> createPost(Post post, String password) {
+        String parentId = parentIdOf(post.getParentUrl());
+        return route(parentId != null ? parentId : UUID.randomUUID().toString(), c -> c.createPost(post, password));
+    }
+
+    @Override
+    public Result<List<String>> getPosts(long timestamp, String sortOrder) {
+        ShardRing r = ring();
+        if (r == null)
+            return Result.error(ErrorCode.TIMEOUT);
+        if (r.shards().size() == 1)
+            return read(r.shards().get(0), c -> c.getPosts(timestamp, sortOrder));
+
+        Comparator<Ranked> order = feedOrder(sortOrder);
+        if (order == null)
+            return Result.error(ErrorCode.BAD_REQUEST);
+
+        List<Ranked> merged = new ArrayList<>();
+        for (Result<List<Ranked>> res : scatter(r.shards(), shard -> read(shard, c -> allPages(c, timestamp, sortOrder)))) {
+            if (!res.isOK())
+                return Result.error(res.error());
+            merged.addAll(res.value());
+        }
+        merged.sort(order);
+        if (Content.HOTTEST.equals(sortOrder) && merged.size() > HOT_POSTS)
+            merged = merged.subList(0, HOT_POSTS);
+
+        List<String> postIds = new ArrayList<>();
+        for (Ranked p : merged)
+            postIds.add(p.postId());
+        return Result.ok(postIds);
+    }
+
+    @Override
+    public Result<PostsPage> getPostsPage(long timestamp, String sortOrder, String cursor, int limit) {
+        Comparator<Ranked> order = feedOrder(sortOrder);
+        if (order == null)
+            return Result.error(ErrorCode.BAD_REQUEST);
+        return mergePages(order, limit, c -> c.getPostsPage(timestamp, sortOrder, cursor, limit));
+    }
+
+    /**
+     * Each shard ranks its own posts, weighing the terms by how rare they are in that shard,
+     * so the merged ranking is only as good as the shards are alike.
+     *
+     * The cursors of a shard are offsets into its own ranking, not positions in the order of
+     * the posts, so the cursor of a merged page holds a cursor for each shard, right after
+     * the last post taken from it. As the rankings of a shard are not those of its replicas,
+     * searches go to the shards themselves.
+     */
+    @Override
+    public Result<PostsPage> searchPosts(String query, int limit, String cursor) {
+        ShardRing r = ring();
+        if (r == null)
+            return Result.error(ErrorCode.TIMEOUT);
+        Map<String, String> cursors = decodeShardCursors(cursor);
+        if (cursors == null)
+            return Result.error(ErrorCode.BAD_REQUEST);
+
+        List<String> shards = new ArrayList<>();
+        for (String shard : r.shards()) {
+            if (!SHARD_DONE.equals(cursors.get(shard)))
+                shards.add(shard);
+        }
+        int size = pageSize(limit);
+        List<Result<PostsPage>> pages = scatter(shards, shard -> client(shard).searchPosts(query, size, cursors.get(shard)));
+
+        List<Ranked> merged = new ArrayList<>();
+        Map<String, String> shardOf = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            Result<PostsPage> res = pages.get(i);
+            if (!res.isOK())
+                return Result.error(res.error());
+            List<Ranked> posts = ranked(res.value());
+            if (posts == null)
+                return Result.error(ErrorCode.INTERNAL_ERROR);
+            merged.addAll(posts);
+            for (Ranked p : posts)
+                shardOf.put(p.postId(), shards.get(i));
+        }
+        merged.sort(order(true, true));
+        if (merged.size() > size)
+            merged = merged.subList(0, size);
+
+        List<String> postIds = new ArrayList<>();
+        List<Long> keys = new ArrayList<>();
+        Map<String, Integer> taken = new HashMap<>();
+        for (Ranked p : merged) {
+            postIds.add(p.postId());
+            keys.add(p.key());
+            taken.merge(shardOf.get(p.postId()), 1, Integer::sum);
+        }
+
+        Map<String, String> next = new HashMap<>(cursors);
+        boolean more = false;
+        for (int i = 0; i < shards.size(); i++) {
+            String shard = shards.get(i);
+            PostsPage page = pages.get(i).value();
+            int n = taken.getOrDefault(shard, 0);
+            String after;
+            if (n == page.getPostIds().size()) {
+                after = page.getNextCursor();
+            } else if (n == 0) {
+                more = true;
+                continue;
+            } else {
+                // Fetched again, up to the last post taken, for the cursor right after it.
+                Result<PostsPage> res = client(shard).searchPosts(query, n, cursors.get(shard));
+                if (!res.isOK())
+                    return Result.error(res.error());
+                after = res.value().getNextCursor();
+            }
+            next.put(shard, after == null ? SHARD_DONE : after);
+            more |= after != null;
+        }
+        return Result.ok(new PostsPage(postIds, keys, more ? encodeShardCursors(next) : null));
+    }
+
+    /**
+     * Encodes the cursors of the shards, by the URI of the shard, as a cursor.
+     */
+    private static String encodeShardCursors(Map<String, String> cursors) {
+        StringBuilder sb = new StringBuilder();
+        for (var e : cursors.entrySet())
+            sb.append(e.getKey()).append('\t').append(e.getValue()).append('\n');
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the cursors of the shards encoded in a cursor, none if it is not defined, or
+     *         null if it is not valid
+     */
+    private static Map<String, String> decodeShardCursors(String cursor) {
+        Map<String, String> cursors = new HashMap<>();
+        if (cursor == null || cursor.isEmpty())
+            return cursors;
+        try {
+            String encoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            for (String line : encoded.split("\n")) {
+                String[] parts = line.split("\t", -1);
+                if (parts.length != 2)
+                    return null;
+                cursors.put(parts[0], parts[1]);
+            }
+            return cursors;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public Result<PostsPage> getPostsByAuthor(String userId, String cursor, int limit) {
+        return mergePages(order(true, false), limit, c -> c.getPostsByAuthor(userId, cursor, limit));
+    }
+
+    @Override
+    public Result<Post> getPost(String postId) {
+        return routeRead(postId, c -> c.getPost(postId));
+    }
+
+    @Override
+    public Result<List<Post>> getPostsByIds(List<String> postIds) {
+        ShardRing r = ring();
+        if (r == null)
+            return Result.error(ErrorCode.TIMEOUT);
+        if (postIds == null || postIds.size() > MAX_PAGE_SIZE)
+            return Result.error(ErrorCode.BAD_REQUEST);
+
+        Map<String, List<String>> byShard = new LinkedHashMap<>();
+        for (String postId : postIds)
+            byShard.computeIfAbsent(shardOf(r, postId), k -> new ArrayList<>()).add(postId);
+
+        Map<String, Post> found = new HashMap<>();
+        for (Result<List<Post>> res : scatter(byShard.keySet(), shard -> read(shard, c -> c.getPostsByIds(byShard.get(shard))))) {
+            if (!res.isOK())
+                return Result.error(res.error());
+            for (Post post : res.value())
+                found.put(post.getPostId(), post);
+        }
+        List<Post> posts = new ArrayList<>();
+        for (String postId : postIds) {
+            Post post = found.get(postId);
+            if (post != null)
+                posts.add(post);
+        }
+        return Result.ok(posts);
+    }
+
+    @Override
+    public Result<List<String>> getPostAnswers(String postId, long maxTimeout) {
+        return routeRead(postId, c -> c.getPostAnswers(postId, maxTimeout));
+    }
+
+    @Override
+    public Result<PostThread> getThread(String postId, int maxDepth, int limit) {
+        return routeRead(postId, c -> c.getThread(postId, maxDepth, limit));
+    }
+
+    @Override
+    public Result<Post> updatePost(String postId, String userPassword, Post post) {
+        return route(postId, c -> c.updatePost(postId, userPassword, post));
+    }
+
+    @Override
+    public Result<Void> deletePost(String postId, String userPassword) {
+        return route(postId, c -> c.deletePost(postId, userPassword));
+    }
+
+    @Override
+    public Result<Void> upVotePost(String postId, String userId, String userPassword) {
+        return route(postId, c -> c.upVotePost(postId, userId, userPassword));
+    }
+
+    @Override
+    public Result<Void> removeUpVotePost(String postId, String userId, String userPassword) {
+        return route(postId, c -> c.removeUpVotePost(postId, userId, userPassword));
+    }
+
+    @Override
+    public Result<Void> downVotePost(String postId, String userId, String userPassword) {
+        return route(postId, c -> c.downVotePost(postId, userId, userPassword));
+    }
+
+    @Override
+    public Result<Void> removeDownVotePost(String postId, String userId, String userPassword) {
+        return route(postId, c -> c.removeDownVotePost(postId, userId, userPassword));
+    }
+
+    /**
+     * The votes are split by shard, and each shard gets its own batch. The votes of a shard
+     * that cannot be reached fail with the error of its batch.
+     */
+    @Override
+    public Result<List<ErrorCode>> castVotes(List<VoteOp> votes) {
+        ShardRing r = ring();
+        if (r == null)
+            return Result.error(ErrorCode.TIMEOUT);
+        if (votes == null || votes.size() > MAX_VOTES_BATCH)
+            return Result.error(ErrorCode.BAD_REQUEST);
+
+        // shard -> the positions of its votes in the batch
+        Map<String, List<Integer>> byShard = new LinkedHashMap<>();
+        for (int i = 0; i < votes.size(); i++) {
+            String postId = votes.get(i) == null ? null : votes.get(i).getPostId();
+            byShard.computeIfAbsent(shardOf(r, postId), k -> new ArrayList<>()).add(i);
+        }
+
+        List<String> shards = new ArrayList<>(byShard.keySet());
+        List<Result<List<ErrorCode>>> results = scatter(shards, shard -> {
+            List<VoteOp> batch = new ArrayList<>();
+            for (int i : byShard.get(shard))
+                batch.add(votes.get(i));
+            return client(shard).castVotes(batch);
+        });
+
+        ErrorCode[] outcomes = new ErrorCode[votes.size()];
+        for (int s = 0; s < shards.size(); s++) {
+            List<Integer> positions = byShard.get(shards.get(s));
+            Result<List<ErrorCode>> res = results.get(s);
+            for (int j = 0; j < positions.size(); j++)
+                outcomes[positions.get(j)] = res.isOK() ? res.value().get(j) : res.error();
+        }
+        return Result.ok(Arrays.asList(outcomes));
+    }
+
+    @Override
+    public Result<Integer> getUpVotes(String postId) {
+        return routeRead(postId, c -> c.getUpVotes(postId));
+    }
+
+    @Override
+    public Result<Integer> getDownVotes(String postId) {
+        return routeRead(postId, c -> c.getDownVotes(postId));
+    }
+
+    @Override
+    public Result<Void> nullifyPostAuthors(String userId) {
+        return broadcast(c -> c.nullifyPostAuthors(userId));
+    }
+
+    @Override
+    public Result<Void> deleteVotesFromUser(String userId) {
+        return broadcast(c -> c.deleteVotesFromUser(userId));
+    }
+
+    @Override
+    public Result<Void> invalidateUser(String userId) {
+        return broadcast(c -> c.invalidateUser(userId));
+    }
+
+    /**
+     * The change log is that of a single server, so it is fetched from it directly.
+     */
+    @Override
+    public Result<ContentChanges> getChanges(String epoch, long since, long timeout) {
+        return Result.error(ErrorCode.NOT_IMPLEMENTED);
+    }
+}
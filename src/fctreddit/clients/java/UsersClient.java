@@ -22,7 +22,7 @@ public abstract class UsersClient implements Users {
 
 	abstract public Result<User> deleteUser(String userId, String password);
 
-	abstract public Result<List<User>> searchUsers(String pattern);
+	abstract public Result<List<User>> searchUsers(String pattern, int limit);
 
   abstract public Result<User> getUserAux(String userId);
 
@@ -118,6 +118,30 @@ public class RestImagesClient extends ImageClient {
         return Result.error(ErrorCode.TIMEOUT);
     }
 
+    public Result<Void> invalidateUser(String userId) {
+        for (int i = 0; i < MAX_RETRIES; i++) {
+            try {
+                Response r = target.path(RestImage.CACHED_USER).path(userId)
+                        .request()
+                        .delete();
+
+                int status = r.getStatus();
+                if (status == Status.NO_CONTENT.getStatusCode()) {
+                    return Result.ok(null);
+                } else {
+                    return Result.error(getErrorCodeFrom(status));
+                }
+
+            } catch (ProcessingException e) {
+                Log.info("ProcessingException: " + e.getMessage());
+                retryWait();
+            } catch (Exception e) {
+                Log.severe("Exception: " + e.getMessage());
+            }
+        }
+        return Result.error(ErrorCode.TIMEOUT);
+    }
+
     private void retryWait() {
         try {
             Thread.sleep(RETRY_SLEEP);
@@ -1,15 +1,24 @@
 package fctreddit.clients.rest;
 
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
 
+import fctreddit.api.ContentChanges;
 import fctreddit.api.Post;
+import fctreddit.api.PostThread;
+import fctreddit.api.PostsPage;
+import fctreddit.api.VoteOp;
 import fctreddit.api.java.Result;
 import fctreddit.api.java.Result.ErrorCode;
 import fctreddit.api.rest.RestContent;
 import fctreddit.clients.java.ContentClient;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import org.glassfish.jersey.client.ClientConfig;
 import org.glassfish.jersey.client.ClientProperties;
 
@@ -17,8 +26,11 @@ import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.client.Invocation;
 import jakarta.ws.rs.client.WebTarget;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.Response.Status;
@@ -32,10 +44,23 @@ public class RestPostsClient extends ContentClient {
     protected static final int MAX_RETRIES = 10;
     protected static final int RETRY_SLEEP = 5000;
 
+    private static final int MAX_VALIDATED = 1000;
+
     final URI serverURI;
     final Client client;
     final WebTarget target;
 
+    /**
+     * A representation received with its ETag.
+     */
+    private record Validated<T>(EntityTag tag, T body) {
+    }
+
+    // The last representations of posts and feeds, by URI.
+    private final Cache<String, Validated<?>> validated = CacheBuilder.newBuilder()
+            .maximumSize(MAX_VALIDATED)
+            .build();
+
     public RestPostsClient(URI serverURI) {
         this.serverURI = serverURI;
         var config = new ClientConfig();
@@ -67,11 +92,21 @@ public class RestPostsClient extends ContentClient {
         return Result.error(ErrorCode.TIMEOUT);
     }
 
+    @Override
     public Result<List<String>> getPosts(long timestamp, String sortOrder) {
+        return conditionalGet(target.queryParam(RestContent.TIMESTAMP, timestamp)
+                .queryParam(RestContent.SORTBY, sortOrder),
+                new GenericType<List<String>>() {}, ArrayList::new);
+    }
+
+    public Result<PostsPage> getPostsPage(long timestamp, String sortOrder, String cursor, int limit) {
         for (int i = 0; i < MAX_RETRIES; i++) {
             try {
-                Response r = target.queryParam(RestContent.TIMESTAMP, timestamp)
+                Response r = target.path(RestContent.PAGE)
+                        .queryParam(RestContent.TIMESTAMP, timestamp)
                         .queryParam(RestContent.SORTBY, sortOrder)
+                        .queryParam(RestContent.CURSOR, cursor)
+                        .queryParam(RestContent.LIMIT, limit)
                         .request()
                         .accept(MediaType.APPLICATION_JSON)
                         .get();
@@ -79,9 +114,8 @@ public class RestPostsClient extends ContentClient {
                 if (status != Status.OK.getStatusCode()) {
                     return Result.error(getErrorCodeFrom(status));
                 }
-                return Result.ok(r.readEntity(new GenericType<List<String>>() {}));
-              
-              } catch (ProcessingException e) {
+                return Result.ok(r.readEntity(PostsPage.class));
+            } catch (ProcessingException e) {
                 Log.info("ProcessingException: " + e.getMessage());
                 retryWait();
             } catch (Exception e) {
@@ -91,10 +125,13 @@ public class RestPostsClient extends ContentClient {
         return Result.error(ErrorCode.TIMEOUT);
     }
 
-    public Result<Post> getPost(String postId) {
+    public Result<PostsPage> searchPosts(String query, int limit, String cursor) {
         for (int i = 0; i < MAX_RETRIES; i++) {
             try {
-                Response r = target.path(postId)
+                Response r = target.path(RestContent.SEARCH)
+                        .queryParam(RestContent.QUERY, query)
+                        .queryParam(RestContent.LIMIT, limit)
+                        .queryParam(RestContent.CURSOR, cursor)
                         .request()
                         .accept(MediaType.APPLICATION_JSON)
                         .get();
@@ -102,7 +139,95 @@ public class RestPostsClient extends ContentClient {
                 if (status != Status.OK.getStatusCode()) {
                     return Result.error(getErrorCodeFrom(status));
                 }
-                return Result.ok(r.readEntity(Post.class));
+                return Result.ok(r.readEntity(PostsPage.class));
+            } catch (ProcessingException e) {
+                Log.info("ProcessingException: " + e.getMessage());
+                retryWait();
+            } catch (Exception e) {
+                Log.severe("Exception: " + e.getMessage());
+            }
+        }
+        return Result.error(ErrorCode.TIMEOUT);
+    }
+
+    public Result<PostsPage> getPostsByAuthor(String userId, String cursor, int limit) {
+        for (int i = 0; i < MAX_RETRIES; i++) {
+            try {
+                Response r = target.path(RestContent.AUTHOR).path(userId)
+                        .queryParam(RestContent.CURSOR, cursor)
+                        .queryParam(RestContent.LIMIT, limit)
+                        .request()
+                        .accept(MediaType.APPLICATION_JSON)
+                        .get();
+                int status = r.getStatus();
+                if (status != Status.OK.getStatusCode()) {
+                    return Result.error(getErrorCodeFrom(status));
+                }
+                return Result.ok(r.readEntity(PostsPage.class));
+            } catch (ProcessingException e) {
+                Log.info("ProcessingException: " + e.getMessage());
+                retryWait();
+            } catch (Exception e) {
+                Log.severe("Exception: " + e.getMessage());
+            }
+        }
+        return Result.error(ErrorCode.TIMEOUT);
+    }
+
+    public Result<Post> getPost(String postId) {
+        return conditionalGet(target.path(postId), new GenericType<Post>() {}, Post::new);
+    }
+
+    /**
+     * GETs a resource, revalidating the last representation received with an ETag, if any,
+     * and reusing it when the server answers that it was not modified. Callers get copies.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Result<T> conditionalGet(WebTarget resource, GenericType<T> type, UnaryOperator<T> copy) {
+        String key = resource.getUri().toString();
+        for (int i = 0; i < MAX_RETRIES; i++) {
+            try {
+                Validated<T> last = (Validated<T>) validated.getIfPresent(key);
+                Invocation.Builder request = resource.request().accept(MediaType.APPLICATION_JSON);
+                if (last != null) {
+                    request.header(HttpHeaders.IF_NONE_MATCH, last.tag());
+                }
+                Response r = request.get();
+                int status = r.getStatus();
+                if (status == Status.NOT_MODIFIED.getStatusCode() && last != null) {
+                    return Result.ok(copy.apply(last.body()));
+                }
+                if (status != Status.OK.getStatusCode()) {
+                    validated.invalidate(key);
+                    return Result.error(getErrorCodeFrom(status));
+                }
+                T body = r.readEntity(type);
+                if (r.getEntityTag() != null) {
+                    validated.put(key, new Validated<>(r.getEntityTag(), body));
+                }
+                return Result.ok(copy.apply(body));
+            } catch (ProcessingException e) {
+                Log.info("ProcessingException: " + e.getMessage());
+                retryWait();
+            } catch (Exception e) {
+                Log.severe("Exception: " + e.getMessage());
+            }
+        }
+        return Result.error(ErrorCode.TIMEOUT);
+    }
+
+    public Result<List<Post>> getPostsByIds(List<String> postIds) {
+        for (int i = 0; i < MAX_RETRIES; i++) {
+            try {
+                Response r = target.path(RestContent.BATCH)
+                        .request()
+                        .accept(MediaType.APPLICATION_JSON)
+                        .post(Entity.entity(postIds, MediaType.APPLICATION_JSON));
+                int status = r.getStatus();
+                if (status != Status.OK.getStatusCode()) {
+                    return Result.error(getErrorCodeFrom(status));
+                }
+                return Result.ok(r.readEntity(new GenericType<List<Post>>() {}));
             } catch (ProcessingException e) {
                 Log.info("ProcessingException: " + e.getMessage());
                 retryWait();
@@ -136,6 +261,30 @@ public class RestPostsClient extends ContentClient {
         return Result.error(ErrorCode.TIMEOUT);
     }
 
+    public Result<PostThread> getThread(String postId, int maxDepth, int limit) {
+        for (int i = 0; i < MAX_RETRIES; i++) {
+            try {
+                Response r = target.path(postId).path(RestContent.THREAD)
+                        .queryParam(RestContent.MAX_DEPTH, maxDepth)
+                        .queryParam(RestContent.LIMIT, limit)
+                        .request()
+                        .accept(MediaType.APPLICATION_JSON)
+                        .get();
+                int status = r.getStatus();
+                if (status != Status.OK.getStatusCode()) {
+                    return Result.error(getErrorCodeFrom(status));
+                }
+                return Result.ok(r.readEntity(PostThread.class));
+            } catch (ProcessingException e) {
+                Log.info("ProcessingException: " + e.getMessage());
+                retryWait();
+            } catch (Exception e) {
+                Log.severe("Exception: " + e.getMessage());
+            }
+        }
+        return Result.error(ErrorCode.TIMEOUT);
+    }
+
     public Result<Post> updatePost(String postId, String password, Post post) {
         for (int i = 0; i < MAX_RETRIES; i++) {
             try {
@@ -219,6 +368,28 @@ public class RestPostsClient extends ContentClient {
         }
         return Result.error(ErrorCode.TIMEOUT);
     }
+
+    public Result<List<ErrorCode>> castVotes(List<VoteOp> votes) {
+        for (int i = 0; i < MAX_RETRIES; i++) {
+            try {
+                Response r = target.path(RestContent.VOTES)
+                        .request()
+                        .accept(MediaType.APPLICATION_JSON)
+                        .post(Entity.entity(votes, MediaType.APPLICATION_JSON));
+                int status = r.getStatus();
+                if (status != Status.OK.getStatusCode()) {
+                    return Result.error(getErrorCodeFrom(status));
+                }
+                return Result.ok(r.readEntity(new GenericType<List<ErrorCode>>() {}));
+            } catch (ProcessingException e) {
+                Log.info("ProcessingException: " + e.getMessage());
+                retryWait();
+            } catch (Exception e) {
+                Log.severe("Exception: " + e.getMessage());
+            }
+        }
+        return Result.error(ErrorCode.TIMEOUT);
+    }
     
 
     public Result<Integer> getUpVotes(String postId) {
@@ -305,6 +476,52 @@ public class RestPostsClient extends ContentClient {
         }
         return Result.error(ErrorCode.TIMEOUT);
     }
+
+    public Result<Void> invalidateUser(String userId) {
+        for (int i = 0; i < MAX_RETRIES; i++) {
+            try {
+                Response r = target.path(RestContent.CACHED_USER).path(userId)
+                        .request()
+                        .delete();
+                if (r.getStatus() == Status.NO_CONTENT.getStatusCode()) {
+                    return Result.ok(null);
+                } else {
+                    return Result.error(getErrorCodeFrom(r.getStatus()));
+                }
+            } catch (ProcessingException e) {
+                Log.info("ProcessingException: " + e.getMessage());
+                retryWait();
+            } catch (Exception e) {
+                Log.severe("Exception: " + e.getMessage());
+            }
+        }
+        return Result.error(ErrorCode.TIMEOUT);
+    }
+
+    public Result<ContentChanges> getChanges(String epoch, long since, long timeout) {
+        for (int i = 0; i < MAX_RETRIES; i++) {
+            try {
+                Response r = target.path(RestContent.CHANGES)
+                        .queryParam(RestContent.EPOCH, epoch)
+                        .queryParam(RestContent.SINCE, since)
+                        .queryParam(RestContent.TIMEOUT, timeout)
+                        .request()
+                        .accept(MediaType.APPLICATION_JSON)
+                        .get();
+                int status = r.getStatus();
+                if (status != Status.OK.getStatusCode()) {
+                    return Result.error(getErrorCodeFrom(status));
+                }
+                return Result.ok(r.readEntity(ContentChanges.class));
+            } catch (ProcessingException e) {
+                Log.info("ProcessingException: " + e.getMessage());
+                retryWait();
+            } catch (Exception e) {
+                Log.severe("Exception: " + e.getMessage());
+            }
+        }
+        return Result.error(ErrorCode.TIMEOUT);
+    }
     
 
     private void retryWait() {
@@ -139,11 +139,12 @@ public class RestUsersClient extends UsersClient {
         return Result.error(ErrorCode.TIMEOUT);
     }
 
-    public Result<List<User>> searchUsers(String pattern) {
+    public Result<List<User>> searchUsers(String pattern, int limit) {
         for (int i = 0; i < MAX_RETRIES; i++) {
             try {
                 Response r = target.path("/")
                         .queryParam(RestUsers.QUERY, pattern)
+                        .queryParam(RestUsers.LIMIT, limit)
                         .request()
                         .accept(MediaType.APPLICATION_JSON)
                         .get();
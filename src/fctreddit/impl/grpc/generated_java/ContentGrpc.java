@@ -77,6 +77,99 @@ public final class ContentGrpc {
     return getGetPostsMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs,
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult> getGetPostsPageMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getPostsPage",
+      requestType = fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs.class,
+      responseType = fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs,
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult> getGetPostsPageMethod() {
+    io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult> getGetPostsPageMethod;
+    if ((getGetPostsPageMethod = ContentGrpc.getGetPostsPageMethod) == null) {
+      synchronized (ContentGrpc.class) {
+        if ((getGetPostsPageMethod = ContentGrpc.getGetPostsPageMethod) == null) {
+          ContentGrpc.getGetPostsPageMethod = getGetPostsPageMethod =
+              io.grpc.MethodDescriptor.<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getPostsPage"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult.getDefaultInstance()))
+              .setSchemaDescriptor(new ContentMethodDescriptorSupplier("getPostsPage"))
+              .build();
+        }
+      }
+    }
+    return getGetPostsPageMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs,
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult> getSearchPostsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "searchPosts",
+      requestType = fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs.class,
+      responseType = fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs,
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult> getSearchPostsMethod() {
+    io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult> getSearchPostsMethod;
+    if ((getSearchPostsMethod = ContentGrpc.getSearchPostsMethod) == null) {
+      synchronized (ContentGrpc.class) {
+        if ((getSearchPostsMethod = ContentGrpc.getSearchPostsMethod) == null) {
+          ContentGrpc.getSearchPostsMethod = getSearchPostsMethod =
+              io.grpc.MethodDescriptor.<fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "searchPosts"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult.getDefaultInstance()))
+              .setSchemaDescriptor(new ContentMethodDescriptorSupplier("searchPosts"))
+              .build();
+        }
+      }
+    }
+    return getSearchPostsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs,
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult> getGetPostsByAuthorMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getPostsByAuthor",
+      requestType = fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs.class,
+      responseType = fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs,
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult> getGetPostsByAuthorMethod() {
+    io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult> getGetPostsByAuthorMethod;
+    if ((getGetPostsByAuthorMethod = ContentGrpc.getGetPostsByAuthorMethod) == null) {
+      synchronized (ContentGrpc.class) {
+        if ((getGetPostsByAuthorMethod = ContentGrpc.getGetPostsByAuthorMethod) == null) {
+          ContentGrpc.getGetPostsByAuthorMethod = getGetPostsByAuthorMethod =
+              io.grpc.MethodDescriptor.<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getPostsByAuthor"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult.getDefaultInstance()))
+              .setSchemaDescriptor(new ContentMethodDescriptorSupplier("getPostsByAuthor"))
+              .build();
+        }
+      }
+    }
+    return getGetPostsByAuthorMethod;
+  }
+
   private static volatile io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs,
       fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost> getGetPostMethod;
 
@@ -108,6 +201,37 @@ public final class ContentGrpc {
     return getGetPostMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs,
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult> getGetPostsBatchMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getPostsBatch",
+      requestType = fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs.class,
+      responseType = fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs,
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult> getGetPostsBatchMethod() {
+    io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult> getGetPostsBatchMethod;
+    if ((getGetPostsBatchMethod = ContentGrpc.getGetPostsBatchMethod) == null) {
+      synchronized (ContentGrpc.class) {
+        if ((getGetPostsBatchMethod = ContentGrpc.getGetPostsBatchMethod) == null) {
+          ContentGrpc.getGetPostsBatchMethod = getGetPostsBatchMethod =
+              io.grpc.MethodDescriptor.<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getPostsBatch"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult.getDefaultInstance()))
+              .setSchemaDescriptor(new ContentMethodDescriptorSupplier("getPostsBatch"))
+              .build();
+        }
+      }
+    }
+    return getGetPostsBatchMethod;
+  }
+
   private static volatile io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs,
       fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult> getGetPostAnswersMethod;
 
@@ -139,6 +263,68 @@ public final class ContentGrpc {
     return getGetPostAnswersMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs,
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode> getGetThreadMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getThread",
+      requestType = fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs.class,
+      responseType = fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs,
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode> getGetThreadMethod() {
+    io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs, fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode> getGetThreadMethod;
+    if ((getGetThreadMethod = ContentGrpc.getGetThreadMethod) == null) {
+      synchronized (ContentGrpc.class) {
+        if ((getGetThreadMethod = ContentGrpc.getGetThreadMethod) == null) {
+          ContentGrpc.getGetThreadMethod = getGetThreadMethod =
+              io.grpc.MethodDescriptor.<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs, fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getThread"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode.getDefaultInstance()))
+              .setSchemaDescriptor(new ContentMethodDescriptorSupplier("getThread"))
+              .build();
+        }
+      }
+    }
+    return getGetThreadMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs,
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent> getSubscribeMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "subscribe",
+      requestType = fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs.class,
+      responseType = fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs,
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent> getSubscribeMethod() {
+    io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent> getSubscribeMethod;
+    if ((getSubscribeMethod = ContentGrpc.getSubscribeMethod) == null) {
+      synchronized (ContentGrpc.class) {
+        if ((getSubscribeMethod = ContentGrpc.getSubscribeMethod) == null) {
+          ContentGrpc.getSubscribeMethod = getSubscribeMethod =
+              io.grpc.MethodDescriptor.<fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "subscribe"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent.getDefaultInstance()))
+              .setSchemaDescriptor(new ContentMethodDescriptorSupplier("subscribe"))
+              .build();
+        }
+      }
+    }
+    return getSubscribeMethod;
+  }
+
   private static volatile io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs,
       fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost> getUpdatePostMethod;
 
@@ -325,6 +511,37 @@ public final class ContentGrpc {
     return getRemoveDownVotePostMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs,
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult> getCastVotesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "castVotes",
+      requestType = fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs.class,
+      responseType = fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+  public static io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs,
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult> getCastVotesMethod() {
+    io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs, fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult> getCastVotesMethod;
+    if ((getCastVotesMethod = ContentGrpc.getCastVotesMethod) == null) {
+      synchronized (ContentGrpc.class) {
+        if ((getCastVotesMethod = ContentGrpc.getCastVotesMethod) == null) {
+          ContentGrpc.getCastVotesMethod = getCastVotesMethod =
+              io.grpc.MethodDescriptor.<fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs, fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.CLIENT_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "castVotes"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult.getDefaultInstance()))
+              .setSchemaDescriptor(new ContentMethodDescriptorSupplier("castVotes"))
+              .build();
+        }
+      }
+    }
+    return getCastVotesMethod;
+  }
+
   private static volatile io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs,
       fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult> getGetUpVotesMethod;
 
@@ -449,6 +666,68 @@ public final class ContentGrpc {
     return getNullifyPostAuthorsMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs,
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage> getInvalidateUserMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "invalidateUser",
+      requestType = fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs.class,
+      responseType = fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs,
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage> getInvalidateUserMethod() {
+    io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs, fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage> getInvalidateUserMethod;
+    if ((getInvalidateUserMethod = ContentGrpc.getInvalidateUserMethod) == null) {
+      synchronized (ContentGrpc.class) {
+        if ((getInvalidateUserMethod = ContentGrpc.getInvalidateUserMethod) == null) {
+          ContentGrpc.getInvalidateUserMethod = getInvalidateUserMethod =
+              io.grpc.MethodDescriptor.<fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs, fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "invalidateUser"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage.getDefaultInstance()))
+              .setSchemaDescriptor(new ContentMethodDescriptorSupplier("invalidateUser"))
+              .build();
+        }
+      }
+    }
+    return getInvalidateUserMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs,
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult> getGetChangesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getChanges",
+      requestType = fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs.class,
+      responseType = fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs,
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult> getGetChangesMethod() {
+    io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult> getGetChangesMethod;
+    if ((getGetChangesMethod = ContentGrpc.getGetChangesMethod) == null) {
+      synchronized (ContentGrpc.class) {
+        if ((getGetChangesMethod = ContentGrpc.getGetChangesMethod) == null) {
+          ContentGrpc.getGetChangesMethod = getGetChangesMethod =
+              io.grpc.MethodDescriptor.<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getChanges"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult.getDefaultInstance()))
+              .setSchemaDescriptor(new ContentMethodDescriptorSupplier("getChanges"))
+              .build();
+        }
+      }
+    }
+    return getGetChangesMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -511,6 +790,27 @@ public final class ContentGrpc {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetPostsMethod(), responseObserver);
     }
 
+    /**
+     */
+    default void getPostsPage(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetPostsPageMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void searchPosts(fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getSearchPostsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void getPostsByAuthor(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetPostsByAuthorMethod(), responseObserver);
+    }
+
     /**
      */
     default void getPost(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs request,
@@ -518,6 +818,13 @@ public final class ContentGrpc {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetPostMethod(), responseObserver);
     }
 
+    /**
+     */
+    default void getPostsBatch(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetPostsBatchMethod(), responseObserver);
+    }
+
     /**
      */
     default void getPostAnswers(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs request,
@@ -525,6 +832,20 @@ public final class ContentGrpc {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetPostAnswersMethod(), responseObserver);
     }
 
+    /**
+     */
+    default void getThread(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetThreadMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void subscribe(fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getSubscribeMethod(), responseObserver);
+    }
+
     /**
      */
     default void updatePost(fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs request,
@@ -567,6 +888,13 @@ public final class ContentGrpc {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getRemoveDownVotePostMethod(), responseObserver);
     }
 
+    /**
+     */
+    default io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs> castVotes(
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult> responseObserver) {
+      return io.grpc.stub.ServerCalls.asyncUnimplementedStreamingCall(getCastVotesMethod(), responseObserver);
+    }
+
     /**
      */
     default void getUpVotes(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs request,
@@ -594,6 +922,20 @@ public final class ContentGrpc {
         io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage> responseObserver) {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getNullifyPostAuthorsMethod(), responseObserver);
     }
+
+    /**
+     */
+    default void invalidateUser(fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getInvalidateUserMethod(), responseObserver);
+    }
+
+    /**
+     */
+    default void getChanges(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetChangesMethod(), responseObserver);
+    }
   }
 
   /**
@@ -639,6 +981,30 @@ public final class ContentGrpc {
           getChannel().newCall(getGetPostsMethod(), getCallOptions()), request, responseObserver);
     }
 
+    /**
+     */
+    public void getPostsPage(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetPostsPageMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void searchPosts(fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getSearchPostsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getPostsByAuthor(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetPostsByAuthorMethod(), getCallOptions()), request, responseObserver);
+    }
+
     /**
      */
     public void getPost(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs request,
@@ -647,6 +1013,14 @@ public final class ContentGrpc {
           getChannel().newCall(getGetPostMethod(), getCallOptions()), request, responseObserver);
     }
 
+    /**
+     */
+    public void getPostsBatch(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetPostsBatchMethod(), getCallOptions()), request, responseObserver);
+    }
+
     /**
      */
     public void getPostAnswers(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs request,
@@ -655,6 +1029,22 @@ public final class ContentGrpc {
           getChannel().newCall(getGetPostAnswersMethod(), getCallOptions()), request, responseObserver);
     }
 
+    /**
+     */
+    public void getThread(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetThreadMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void subscribe(fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getSubscribeMethod(), getCallOptions()), request, responseObserver);
+    }
+
     /**
      */
     public void updatePost(fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs request,
@@ -703,6 +1093,14 @@ public final class ContentGrpc {
           getChannel().newCall(getRemoveDownVotePostMethod(), getCallOptions()), request, responseObserver);
     }
 
+    /**
+     */
+    public io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs> castVotes(
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult> responseObserver) {
+      return io.grpc.stub.ClientCalls.asyncClientStreamingCall(
+          getChannel().newCall(getCastVotesMethod(), getCallOptions()), responseObserver);
+    }
+
     /**
      */
     public void getUpVotes(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs request,
@@ -734,6 +1132,22 @@ public final class ContentGrpc {
       io.grpc.stub.ClientCalls.asyncUnaryCall(
           getChannel().newCall(getNullifyPostAuthorsMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     */
+    public void invalidateUser(fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getInvalidateUserMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getChanges(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetChangesMethod(), getCallOptions()), request, responseObserver);
+    }
   }
 
   /**
@@ -766,6 +1180,27 @@ public final class ContentGrpc {
           getChannel(), getGetPostsMethod(), getCallOptions(), request);
     }
 
+    /**
+     */
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult getPostsPage(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetPostsPageMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult searchPosts(fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getSearchPostsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult getPostsByAuthor(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetPostsByAuthorMethod(), getCallOptions(), request);
+    }
+
     /**
      */
     public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost getPost(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs request) {
@@ -773,6 +1208,13 @@ public final class ContentGrpc {
           getChannel(), getGetPostMethod(), getCallOptions(), request);
     }
 
+    /**
+     */
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult getPostsBatch(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetPostsBatchMethod(), getCallOptions(), request);
+    }
+
     /**
      */
     public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult getPostAnswers(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs request) {
@@ -780,6 +1222,22 @@ public final class ContentGrpc {
           getChannel(), getGetPostAnswersMethod(), getCallOptions(), request);
     }
 
+    /**
+     */
+    public java.util.Iterator<fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode> getThread(
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetThreadMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent> subscribe(
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getSubscribeMethod(), getCallOptions(), request);
+    }
+
     /**
      */
     public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost updatePost(fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs request) {
@@ -849,6 +1307,20 @@ public final class ContentGrpc {
       return io.grpc.stub.ClientCalls.blockingUnaryCall(
           getChannel(), getNullifyPostAuthorsMethod(), getCallOptions(), request);
     }
+
+    /**
+     */
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage invalidateUser(fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getInvalidateUserMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult getChanges(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetChangesMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -883,6 +1355,30 @@ public final class ContentGrpc {
           getChannel().newCall(getGetPostsMethod(), getCallOptions()), request);
     }
 
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult> getPostsPage(
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetPostsPageMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult> searchPosts(
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getSearchPostsMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult> getPostsByAuthor(
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetPostsByAuthorMethod(), getCallOptions()), request);
+    }
+
     /**
      */
     public com.google.common.util.concurrent.ListenableFuture<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost> getPost(
@@ -891,6 +1387,14 @@ public final class ContentGrpc {
           getChannel().newCall(getGetPostMethod(), getCallOptions()), request);
     }
 
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult> getPostsBatch(
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetPostsBatchMethod(), getCallOptions()), request);
+    }
+
     /**
      */
     public com.google.common.util.concurrent.ListenableFuture<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult> getPostAnswers(
@@ -978,22 +1482,47 @@ public final class ContentGrpc {
       return io.grpc.stub.ClientCalls.futureUnaryCall(
           getChannel().newCall(getNullifyPostAuthorsMethod(), getCallOptions()), request);
     }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage> invalidateUser(
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getInvalidateUserMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult> getChanges(
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetChangesMethod(), getCallOptions()), request);
+    }
   }
 
   private static final int METHODID_CREATE_POST = 0;
   private static final int METHODID_GET_POSTS = 1;
-  private static final int METHODID_GET_POST = 2;
-  private static final int METHODID_GET_POST_ANSWERS = 3;
-  private static final int METHODID_UPDATE_POST = 4;
-  private static final int METHODID_DELETE_POST = 5;
-  private static final int METHODID_UP_VOTE_POST = 6;
-  private static final int METHODID_REMOVE_UP_VOTE_POST = 7;
-  private static final int METHODID_DOWN_VOTE_POST = 8;
-  private static final int METHODID_REMOVE_DOWN_VOTE_POST = 9;
-  private static final int METHODID_GET_UP_VOTES = 10;
-  private static final int METHODID_GET_DOWN_VOTES = 11;
-  private static final int METHODID_DELETE_VOTES_FROM_USER = 12;
-  private static final int METHODID_NULLIFY_POST_AUTHORS = 13;
+  private static final int METHODID_GET_POSTS_PAGE = 2;
+  private static final int METHODID_SEARCH_POSTS = 3;
+  private static final int METHODID_GET_POSTS_BY_AUTHOR = 4;
+  private static final int METHODID_GET_POST = 5;
+  private static final int METHODID_GET_POSTS_BATCH = 6;
+  private static final int METHODID_GET_POST_ANSWERS = 7;
+  private static final int METHODID_GET_THREAD = 8;
+  private static final int METHODID_SUBSCRIBE = 9;
+  private static final int METHODID_UPDATE_POST = 10;
+  private static final int METHODID_DELETE_POST = 11;
+  private static final int METHODID_UP_VOTE_POST = 12;
+  private static final int METHODID_REMOVE_UP_VOTE_POST = 13;
+  private static final int METHODID_DOWN_VOTE_POST = 14;
+  private static final int METHODID_REMOVE_DOWN_VOTE_POST = 15;
+  private static final int METHODID_GET_UP_VOTES = 16;
+  private static final int METHODID_GET_DOWN_VOTES = 17;
+  private static final int METHODID_DELETE_VOTES_FROM_USER = 18;
+  private static final int METHODID_NULLIFY_POST_AUTHORS = 19;
+  private static final int METHODID_INVALIDATE_USER = 20;
+  private static final int METHODID_GET_CHANGES = 21;
+  private static final int METHODID_CAST_VOTES = 22;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -1020,14 +1549,38 @@ public final class ContentGrpc {
           serviceImpl.getPosts((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsArgs) request,
               (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult>) responseObserver);
           break;
+        case METHODID_GET_POSTS_PAGE:
+          serviceImpl.getPostsPage((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs) request,
+              (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult>) responseObserver);
+          break;
+        case METHODID_SEARCH_POSTS:
+          serviceImpl.searchPosts((fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs) request,
+              (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult>) responseObserver);
+          break;
+        case METHODID_GET_POSTS_BY_AUTHOR:
+          serviceImpl.getPostsByAuthor((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs) request,
+              (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult>) responseObserver);
+          break;
         case METHODID_GET_POST:
           serviceImpl.getPost((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs) request,
               (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost>) responseObserver);
           break;
+        case METHODID_GET_POSTS_BATCH:
+          serviceImpl.getPostsBatch((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs) request,
+              (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult>) responseObserver);
+          break;
         case METHODID_GET_POST_ANSWERS:
           serviceImpl.getPostAnswers((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs) request,
               (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult>) responseObserver);
           break;
+        case METHODID_GET_THREAD:
+          serviceImpl.getThread((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs) request,
+              (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode>) responseObserver);
+          break;
+        case METHODID_SUBSCRIBE:
+          serviceImpl.subscribe((fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs) request,
+              (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent>) responseObserver);
+          break;
         case METHODID_UPDATE_POST:
           serviceImpl.updatePost((fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs) request,
               (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost>) responseObserver);
@@ -1068,6 +1621,14 @@ public final class ContentGrpc {
           serviceImpl.nullifyPostAuthors((fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs) request,
               (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage>) responseObserver);
           break;
+        case METHODID_INVALIDATE_USER:
+          serviceImpl.invalidateUser((fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs) request,
+              (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage>) responseObserver);
+          break;
+        case METHODID_GET_CHANGES:
+          serviceImpl.getChanges((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs) request,
+              (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -1078,6 +1639,9 @@ public final class ContentGrpc {
     public io.grpc.stub.StreamObserver<Req> invoke(
         io.grpc.stub.StreamObserver<Resp> responseObserver) {
       switch (methodId) {
+        case METHODID_CAST_VOTES:
+          return (io.grpc.stub.StreamObserver<Req>) serviceImpl.castVotes(
+              (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult>) responseObserver);
         default:
           throw new AssertionError();
       }
@@ -1100,6 +1664,27 @@ public final class ContentGrpc {
               fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsArgs,
               fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult>(
                 service, METHODID_GET_POSTS)))
+        .addMethod(
+          getGetPostsPageMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs,
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult>(
+                service, METHODID_GET_POSTS_PAGE)))
+        .addMethod(
+          getSearchPostsMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs,
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult>(
+                service, METHODID_SEARCH_POSTS)))
+        .addMethod(
+          getGetPostsByAuthorMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs,
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult>(
+                service, METHODID_GET_POSTS_BY_AUTHOR)))
         .addMethod(
           getGetPostMethod(),
           io.grpc.stub.ServerCalls.asyncUnaryCall(
@@ -1107,6 +1692,13 @@ public final class ContentGrpc {
               fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs,
               fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost>(
                 service, METHODID_GET_POST)))
+        .addMethod(
+          getGetPostsBatchMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs,
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult>(
+                service, METHODID_GET_POSTS_BATCH)))
         .addMethod(
           getGetPostAnswersMethod(),
           io.grpc.stub.ServerCalls.asyncUnaryCall(
@@ -1114,6 +1706,20 @@ public final class ContentGrpc {
               fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs,
               fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult>(
                 service, METHODID_GET_POST_ANSWERS)))
+        .addMethod(
+          getGetThreadMethod(),
+          io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+            new MethodHandlers<
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs,
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode>(
+                service, METHODID_GET_THREAD)))
+        .addMethod(
+          getSubscribeMethod(),
+          io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+            new MethodHandlers<
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs,
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent>(
+                service, METHODID_SUBSCRIBE)))
         .addMethod(
           getUpdatePostMethod(),
           io.grpc.stub.ServerCalls.asyncUnaryCall(
@@ -1156,6 +1762,13 @@ public final class ContentGrpc {
               fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs,
               fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage>(
                 service, METHODID_REMOVE_DOWN_VOTE_POST)))
+        .addMethod(
+          getCastVotesMethod(),
+          io.grpc.stub.ServerCalls.asyncClientStreamingCall(
+            new MethodHandlers<
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs,
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult>(
+                service, METHODID_CAST_VOTES)))
         .addMethod(
           getGetUpVotesMethod(),
           io.grpc.stub.ServerCalls.asyncUnaryCall(
@@ -1184,6 +1797,20 @@ public final class ContentGrpc {
               fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs,
               fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage>(
                 service, METHODID_NULLIFY_POST_AUTHORS)))
+        .addMethod(
+          getInvalidateUserMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs,
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage>(
+                service, METHODID_INVALIDATE_USER)))
+        .addMethod(
+          getGetChangesMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs,
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult>(
+                service, METHODID_GET_CHANGES)))
         .build();
   }
 
@@ -1234,18 +1861,27 @@ public final class ContentGrpc {
               .setSchemaDescriptor(new ContentFileDescriptorSupplier())
               .addMethod(getCreatePostMethod())
               .addMethod(getGetPostsMethod())
+              .addMethod(getGetPostsPageMethod())
+              .addMethod(getSearchPostsMethod())
+              .addMethod(getGetPostsByAuthorMethod())
               .addMethod(getGetPostMethod())
+              .addMethod(getGetPostsBatchMethod())
               .addMethod(getGetPostAnswersMethod())
+              .addMethod(getGetThreadMethod())
+              .addMethod(getSubscribeMethod())
               .addMethod(getUpdatePostMethod())
               .addMethod(getDeletePostMethod())
               .addMethod(getUpVotePostMethod())
               .addMethod(getRemoveUpVotePostMethod())
               .addMethod(getDownVotePostMethod())
               .addMethod(getRemoveDownVotePostMethod())
+              .addMethod(getCastVotesMethod())
               .addMethod(getGetUpVotesMethod())
               .addMethod(getGetDownVotesMethod())
               .addMethod(getDeleteVotesFromUserMethod())
               .addMethod(getNullifyPostAuthorsMethod())
+              .addMethod(getInvalidateUserMethod())
+              .addMethod(getGetChangesMethod())
               .build();
         }
       }
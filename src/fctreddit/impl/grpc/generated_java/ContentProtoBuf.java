@@ -4356,43 +4356,88 @@ public final class ContentProtoBuf {
 
   }
 
-  public interface GetPostArgsOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:GetPostArgs)
+  public interface GetPostsPageArgsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GetPostsPageArgs)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string postId = 1;</code>
-     * @return The postId.
+     * <code>optional int64 timestamp = 1;</code>
+     * @return Whether the timestamp field is set.
      */
-    java.lang.String getPostId();
+    boolean hasTimestamp();
     /**
-     * <code>string postId = 1;</code>
-     * @return The bytes for postId.
+     * <code>optional int64 timestamp = 1;</code>
+     * @return The timestamp.
+     */
+    long getTimestamp();
+
+    /**
+     * <code>optional string sortOrder = 2;</code>
+     * @return Whether the sortOrder field is set.
+     */
+    boolean hasSortOrder();
+    /**
+     * <code>optional string sortOrder = 2;</code>
+     * @return The sortOrder.
+     */
+    java.lang.String getSortOrder();
+    /**
+     * <code>optional string sortOrder = 2;</code>
+     * @return The bytes for sortOrder.
      */
     com.google.protobuf.ByteString
-        getPostIdBytes();
+        getSortOrderBytes();
+
+    /**
+     * <code>optional string cursor = 3;</code>
+     * @return Whether the cursor field is set.
+     */
+    boolean hasCursor();
+    /**
+     * <code>optional string cursor = 3;</code>
+     * @return The cursor.
+     */
+    java.lang.String getCursor();
+    /**
+     * <code>optional string cursor = 3;</code>
+     * @return The bytes for cursor.
+     */
+    com.google.protobuf.ByteString
+        getCursorBytes();
+
+    /**
+     * <code>optional int32 limit = 4;</code>
+     * @return Whether the limit field is set.
+     */
+    boolean hasLimit();
+    /**
+     * <code>optional int32 limit = 4;</code>
+     * @return The limit.
+     */
+    int getLimit();
   }
   /**
-   * Protobuf type {@code GetPostArgs}
+   * Protobuf type {@code GetPostsPageArgs}
    */
-  public static final class GetPostArgs extends
+  public static final class GetPostsPageArgs extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:GetPostArgs)
-      GetPostArgsOrBuilder {
+      // @@protoc_insertion_point(message_implements:GetPostsPageArgs)
+      GetPostsPageArgsOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use GetPostArgs.newBuilder() to construct.
-    private GetPostArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use GetPostsPageArgs.newBuilder() to construct.
+    private GetPostsPageArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private GetPostArgs() {
-      postId_ = "";
+    private GetPostsPageArgs() {
+      sortOrder_ = "";
+      cursor_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new GetPostArgs();
+      return new GetPostsPageArgs();
     }
 
     @java.lang.Override
@@ -4400,7 +4445,7 @@ public final class ContentProtoBuf {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private GetPostArgs(
+    private GetPostsPageArgs(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4408,6 +4453,7 @@ public final class ContentProtoBuf {
       if (extensionRegistry == null) {
         throw new java.lang.NullPointerException();
       }
+      int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -4418,10 +4464,26 @@ public final class ContentProtoBuf {
             case 0:
               done = true;
               break;
-            case 10: {
+            case 8: {
+              bitField0_ |= 0x00000001;
+              timestamp_ = input.readInt64();
+              break;
+            }
+            case 18: {
               java.lang.String s = input.readStringRequireUtf8();
-
-              postId_ = s;
+              bitField0_ |= 0x00000002;
+              sortOrder_ = s;
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000004;
+              cursor_ = s;
+              break;
+            }
+            case 32: {
+              bitField0_ |= 0x00000008;
+              limit_ = input.readInt32();
               break;
             }
             default: {
@@ -4447,55 +4509,148 @@ public final class ContentProtoBuf {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostArgs_descriptor;
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsPageArgs_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostArgs_fieldAccessorTable
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsPageArgs_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.Builder.class);
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs.Builder.class);
     }
 
-    public static final int POSTID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object postId_;
+    private int bitField0_;
+    public static final int TIMESTAMP_FIELD_NUMBER = 1;
+    private long timestamp_;
     /**
-     * <code>string postId = 1;</code>
-     * @return The postId.
+     * <code>optional int64 timestamp = 1;</code>
+     * @return Whether the timestamp field is set.
      */
     @java.lang.Override
-    public java.lang.String getPostId() {
-      java.lang.Object ref = postId_;
+    public boolean hasTimestamp() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional int64 timestamp = 1;</code>
+     * @return The timestamp.
+     */
+    @java.lang.Override
+    public long getTimestamp() {
+      return timestamp_;
+    }
+
+    public static final int SORTORDER_FIELD_NUMBER = 2;
+    private volatile java.lang.Object sortOrder_;
+    /**
+     * <code>optional string sortOrder = 2;</code>
+     * @return Whether the sortOrder field is set.
+     */
+    @java.lang.Override
+    public boolean hasSortOrder() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string sortOrder = 2;</code>
+     * @return The sortOrder.
+     */
+    @java.lang.Override
+    public java.lang.String getSortOrder() {
+      java.lang.Object ref = sortOrder_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        postId_ = s;
+        sortOrder_ = s;
         return s;
       }
     }
     /**
-     * <code>string postId = 1;</code>
-     * @return The bytes for postId.
+     * <code>optional string sortOrder = 2;</code>
+     * @return The bytes for sortOrder.
      */
     @java.lang.Override
     public com.google.protobuf.ByteString
-        getPostIdBytes() {
-      java.lang.Object ref = postId_;
+        getSortOrderBytes() {
+      java.lang.Object ref = sortOrder_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        postId_ = b;
+        sortOrder_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int CURSOR_FIELD_NUMBER = 3;
+    private volatile java.lang.Object cursor_;
+    /**
+     * <code>optional string cursor = 3;</code>
+     * @return Whether the cursor field is set.
+     */
+    @java.lang.Override
+    public boolean hasCursor() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string cursor = 3;</code>
+     * @return The cursor.
+     */
+    @java.lang.Override
+    public java.lang.String getCursor() {
+      java.lang.Object ref = cursor_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        cursor_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string cursor = 3;</code>
+     * @return The bytes for cursor.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getCursorBytes() {
+      java.lang.Object ref = cursor_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        cursor_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
+    public static final int LIMIT_FIELD_NUMBER = 4;
+    private int limit_;
+    /**
+     * <code>optional int32 limit = 4;</code>
+     * @return Whether the limit field is set.
+     */
+    @java.lang.Override
+    public boolean hasLimit() {
+      return ((bitField0_ & 0x00000008) != 0);
+    }
+    /**
+     * <code>optional int32 limit = 4;</code>
+     * @return The limit.
+     */
+    @java.lang.Override
+    public int getLimit() {
+      return limit_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -4510,8 +4665,17 @@ public final class ContentProtoBuf {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, postId_);
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt64(1, timestamp_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, sortOrder_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, cursor_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        output.writeInt32(4, limit_);
       }
       unknownFields.writeTo(output);
     }
@@ -4522,8 +4686,19 @@ public final class ContentProtoBuf {
       if (size != -1) return size;
 
       size = 0;
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, postId_);
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, timestamp_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, sortOrder_);
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, cursor_);
+      }
+      if (((bitField0_ & 0x00000008) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, limit_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -4535,13 +4710,31 @@ public final class ContentProtoBuf {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs)) {
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs)) {
         return super.equals(obj);
       }
-      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs) obj;
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs) obj;
 
-      if (!getPostId()
-          .equals(other.getPostId())) return false;
+      if (hasTimestamp() != other.hasTimestamp()) return false;
+      if (hasTimestamp()) {
+        if (getTimestamp()
+            != other.getTimestamp()) return false;
+      }
+      if (hasSortOrder() != other.hasSortOrder()) return false;
+      if (hasSortOrder()) {
+        if (!getSortOrder()
+            .equals(other.getSortOrder())) return false;
+      }
+      if (hasCursor() != other.hasCursor()) return false;
+      if (hasCursor()) {
+        if (!getCursor()
+            .equals(other.getCursor())) return false;
+      }
+      if (hasLimit() != other.hasLimit()) return false;
+      if (hasLimit()) {
+        if (getLimit()
+            != other.getLimit()) return false;
+      }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -4553,76 +4746,91 @@ public final class ContentProtoBuf {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + POSTID_FIELD_NUMBER;
-      hash = (53 * hash) + getPostId().hashCode();
+      if (hasTimestamp()) {
+        hash = (37 * hash) + TIMESTAMP_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTimestamp());
+      }
+      if (hasSortOrder()) {
+        hash = (37 * hash) + SORTORDER_FIELD_NUMBER;
+        hash = (53 * hash) + getSortOrder().hashCode();
+      }
+      if (hasCursor()) {
+        hash = (37 * hash) + CURSOR_FIELD_NUMBER;
+        hash = (53 * hash) + getCursor().hashCode();
+      }
+      if (hasLimit()) {
+        hash = (37 * hash) + LIMIT_FIELD_NUMBER;
+        hash = (53 * hash) + getLimit();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(byte[] data)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseDelimitedFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseDelimitedFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4635,7 +4843,7 @@ public final class ContentProtoBuf {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs prototype) {
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -4651,26 +4859,26 @@ public final class ContentProtoBuf {
       return builder;
     }
     /**
-     * Protobuf type {@code GetPostArgs}
+     * Protobuf type {@code GetPostsPageArgs}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:GetPostArgs)
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgsOrBuilder {
+        // @@protoc_insertion_point(builder_implements:GetPostsPageArgs)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgsOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostArgs_descriptor;
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsPageArgs_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostArgs_fieldAccessorTable
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsPageArgs_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.Builder.class);
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs.Builder.class);
       }
 
-      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.newBuilder()
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -4688,25 +4896,31 @@ public final class ContentProtoBuf {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        postId_ = "";
-
+        timestamp_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sortOrder_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        cursor_ = "";
+        bitField0_ = (bitField0_ & ~0x00000004);
+        limit_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000008);
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostArgs_descriptor;
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsPageArgs_descriptor;
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs getDefaultInstanceForType() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.getDefaultInstance();
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs.getDefaultInstance();
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs build() {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs result = buildPartial();
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -4714,9 +4928,27 @@ public final class ContentProtoBuf {
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs buildPartial() {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs(this);
-        result.postId_ = postId_;
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.timestamp_ = timestamp_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.sortOrder_ = sortOrder_;
+        if (((from_bitField0_ & 0x00000004) != 0)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.cursor_ = cursor_;
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          result.limit_ = limit_;
+          to_bitField0_ |= 0x00000008;
+        }
+        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -4755,20 +4987,32 @@ public final class ContentProtoBuf {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs) {
-          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs)other);
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs other) {
-        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.getDefaultInstance()) return this;
-        if (!other.getPostId().isEmpty()) {
-          postId_ = other.postId_;
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs.getDefaultInstance()) return this;
+        if (other.hasTimestamp()) {
+          setTimestamp(other.getTimestamp());
+        }
+        if (other.hasSortOrder()) {
+          bitField0_ |= 0x00000002;
+          sortOrder_ = other.sortOrder_;
           onChanged();
         }
+        if (other.hasCursor()) {
+          bitField0_ |= 0x00000004;
+          cursor_ = other.cursor_;
+          onChanged();
+        }
+        if (other.hasLimit()) {
+          setLimit(other.getLimit());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -4784,11 +5028,11 @@ public final class ContentProtoBuf {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parsedMessage = null;
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs) e.getUnfinishedMessage();
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -4797,79 +5041,248 @@ public final class ContentProtoBuf {
         }
         return this;
       }
+      private int bitField0_;
 
-      private java.lang.Object postId_ = "";
+      private long timestamp_ ;
       /**
-       * <code>string postId = 1;</code>
-       * @return The postId.
+       * <code>optional int64 timestamp = 1;</code>
+       * @return Whether the timestamp field is set.
        */
-      public java.lang.String getPostId() {
-        java.lang.Object ref = postId_;
+      @java.lang.Override
+      public boolean hasTimestamp() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional int64 timestamp = 1;</code>
+       * @return The timestamp.
+       */
+      @java.lang.Override
+      public long getTimestamp() {
+        return timestamp_;
+      }
+      /**
+       * <code>optional int64 timestamp = 1;</code>
+       * @param value The timestamp to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimestamp(long value) {
+        bitField0_ |= 0x00000001;
+        timestamp_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 timestamp = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimestamp() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        timestamp_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object sortOrder_ = "";
+      /**
+       * <code>optional string sortOrder = 2;</code>
+       * @return Whether the sortOrder field is set.
+       */
+      public boolean hasSortOrder() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string sortOrder = 2;</code>
+       * @return The sortOrder.
+       */
+      public java.lang.String getSortOrder() {
+        java.lang.Object ref = sortOrder_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          postId_ = s;
+          sortOrder_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string postId = 1;</code>
-       * @return The bytes for postId.
+       * <code>optional string sortOrder = 2;</code>
+       * @return The bytes for sortOrder.
        */
       public com.google.protobuf.ByteString
-          getPostIdBytes() {
-        java.lang.Object ref = postId_;
+          getSortOrderBytes() {
+        java.lang.Object ref = sortOrder_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          postId_ = b;
+          sortOrder_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string postId = 1;</code>
-       * @param value The postId to set.
+       * <code>optional string sortOrder = 2;</code>
+       * @param value The sortOrder to set.
        * @return This builder for chaining.
        */
-      public Builder setPostId(
+      public Builder setSortOrder(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  
-        postId_ = value;
+  bitField0_ |= 0x00000002;
+        sortOrder_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string postId = 1;</code>
+       * <code>optional string sortOrder = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearPostId() {
-        
-        postId_ = getDefaultInstance().getPostId();
+      public Builder clearSortOrder() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        sortOrder_ = getDefaultInstance().getSortOrder();
         onChanged();
         return this;
       }
       /**
-       * <code>string postId = 1;</code>
-       * @param value The bytes for postId to set.
+       * <code>optional string sortOrder = 2;</code>
+       * @param value The bytes for sortOrder to set.
        * @return This builder for chaining.
        */
-      public Builder setPostIdBytes(
+      public Builder setSortOrderBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
-        
-        postId_ = value;
+        bitField0_ |= 0x00000002;
+        sortOrder_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object cursor_ = "";
+      /**
+       * <code>optional string cursor = 3;</code>
+       * @return Whether the cursor field is set.
+       */
+      public boolean hasCursor() {
+        return ((bitField0_ & 0x00000004) != 0);
+      }
+      /**
+       * <code>optional string cursor = 3;</code>
+       * @return The cursor.
+       */
+      public java.lang.String getCursor() {
+        java.lang.Object ref = cursor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          cursor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string cursor = 3;</code>
+       * @return The bytes for cursor.
+       */
+      public com.google.protobuf.ByteString
+          getCursorBytes() {
+        java.lang.Object ref = cursor_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          cursor_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string cursor = 3;</code>
+       * @param value The cursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCursor(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000004;
+        cursor_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string cursor = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCursor() {
+        bitField0_ = (bitField0_ & ~0x00000004);
+        cursor_ = getDefaultInstance().getCursor();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string cursor = 3;</code>
+       * @param value The bytes for cursor to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCursorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000004;
+        cursor_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int limit_ ;
+      /**
+       * <code>optional int32 limit = 4;</code>
+       * @return Whether the limit field is set.
+       */
+      @java.lang.Override
+      public boolean hasLimit() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional int32 limit = 4;</code>
+       * @return The limit.
+       */
+      @java.lang.Override
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>optional int32 limit = 4;</code>
+       * @param value The limit to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLimit(int value) {
+        bitField0_ |= 0x00000008;
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 limit = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLimit() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        limit_ = 0;
         onChanged();
         return this;
       }
@@ -4886,94 +5299,132 @@ public final class ContentProtoBuf {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:GetPostArgs)
+      // @@protoc_insertion_point(builder_scope:GetPostsPageArgs)
     }
 
-    // @@protoc_insertion_point(class_scope:GetPostArgs)
-    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:GetPostsPageArgs)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs();
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs();
     }
 
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs getDefaultInstance() {
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<GetPostArgs>
-        PARSER = new com.google.protobuf.AbstractParser<GetPostArgs>() {
+    private static final com.google.protobuf.Parser<GetPostsPageArgs>
+        PARSER = new com.google.protobuf.AbstractParser<GetPostsPageArgs>() {
       @java.lang.Override
-      public GetPostArgs parsePartialFrom(
+      public GetPostsPageArgs parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new GetPostArgs(input, extensionRegistry);
+        return new GetPostsPageArgs(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<GetPostArgs> parser() {
+    public static com.google.protobuf.Parser<GetPostsPageArgs> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GetPostArgs> getParserForType() {
+    public com.google.protobuf.Parser<GetPostsPageArgs> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs getDefaultInstanceForType() {
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface GetPostAnswersArgsOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:GetPostAnswersArgs)
+  public interface GetPostsPageResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GetPostsPageResult)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string postId = 1;</code>
-     * @return The postId.
+     * <code>repeated string postId = 1;</code>
+     * @return A list containing the postId.
      */
-    java.lang.String getPostId();
+    java.util.List<java.lang.String>
+        getPostIdList();
     /**
-     * <code>string postId = 1;</code>
-     * @return The bytes for postId.
+     * <code>repeated string postId = 1;</code>
+     * @return The count of postId.
      */
-    com.google.protobuf.ByteString
-        getPostIdBytes();
-
+    int getPostIdCount();
     /**
-     * <code>optional int64 timeout = 2;</code>
-     * @return Whether the timeout field is set.
+     * <code>repeated string postId = 1;</code>
+     * @param index The index of the element to return.
+     * @return The postId at the given index.
      */
-    boolean hasTimeout();
+    java.lang.String getPostId(int index);
     /**
-     * <code>optional int64 timeout = 2;</code>
-     * @return The timeout.
+     * <code>repeated string postId = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the postId at the given index.
      */
-    long getTimeout();
+    com.google.protobuf.ByteString
+        getPostIdBytes(int index);
+
+    /**
+     * <code>optional string nextCursor = 2;</code>
+     * @return Whether the nextCursor field is set.
+     */
+    boolean hasNextCursor();
+    /**
+     * <code>optional string nextCursor = 2;</code>
+     * @return The nextCursor.
+     */
+    java.lang.String getNextCursor();
+    /**
+     * <code>optional string nextCursor = 2;</code>
+     * @return The bytes for nextCursor.
+     */
+    com.google.protobuf.ByteString
+        getNextCursorBytes();
+
+    /**
+     * <code>repeated int64 sortKey = 3;</code>
+     * @return A list containing the sortKey.
+     */
+    java.util.List<java.lang.Long> getSortKeyList();
+    /**
+     * <code>repeated int64 sortKey = 3;</code>
+     * @return The count of sortKey.
+     */
+    int getSortKeyCount();
+    /**
+     * <code>repeated int64 sortKey = 3;</code>
+     * @param index The index of the element to return.
+     * @return The sortKey at the given index.
+     */
+    long getSortKey(int index);
   }
   /**
-   * Protobuf type {@code GetPostAnswersArgs}
+   * Protobuf type {@code GetPostsPageResult}
    */
-  public static final class GetPostAnswersArgs extends
+  public static final class GetPostsPageResult extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:GetPostAnswersArgs)
-      GetPostAnswersArgsOrBuilder {
+      // @@protoc_insertion_point(message_implements:GetPostsPageResult)
+      GetPostsPageResultOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use GetPostAnswersArgs.newBuilder() to construct.
-    private GetPostAnswersArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use GetPostsPageResult.newBuilder() to construct.
+    private GetPostsPageResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private GetPostAnswersArgs() {
-      postId_ = "";
+    private GetPostsPageResult() {
+      postId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      nextCursor_ = "";
+      sortKey_ = emptyLongList();
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new GetPostAnswersArgs();
+      return new GetPostsPageResult();
     }
 
     @java.lang.Override
@@ -4981,7 +5432,7 @@ public final class ContentProtoBuf {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private GetPostAnswersArgs(
+    private GetPostsPageResult(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5002,13 +5453,38 @@ public final class ContentProtoBuf {
               break;
             case 10: {
               java.lang.String s = input.readStringRequireUtf8();
-
-              postId_ = s;
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                postId_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              postId_.add(s);
               break;
             }
-            case 16: {
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
               bitField0_ |= 0x00000001;
-              timeout_ = input.readInt64();
+              nextCursor_ = s;
+              break;
+            }
+            case 24: {
+              if (!((mutable_bitField0_ & 0x00000004) != 0)) {
+                sortKey_ = newLongList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              sortKey_.addLong(input.readInt64());
+              break;
+            }
+            case 26: {
+              int length = input.readRawVarint32();
+              int limit = input.pushLimit(length);
+              if (!((mutable_bitField0_ & 0x00000004) != 0) && input.getBytesUntilLimit() > 0) {
+                sortKey_ = newLongList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              while (input.getBytesUntilLimit() > 0) {
+                sortKey_.addLong(input.readInt64());
+              }
+              input.popLimit(limit);
               break;
             }
             default: {
@@ -5028,80 +5504,138 @@ public final class ContentProtoBuf {
         throw new com.google.protobuf.InvalidProtocolBufferException(
             e).setUnfinishedMessage(this);
       } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          postId_ = postId_.getUnmodifiableView();
+        }
+        if (((mutable_bitField0_ & 0x00000004) != 0)) {
+          sortKey_.makeImmutable(); // C
+        }
         this.unknownFields = unknownFields.build();
         makeExtensionsImmutable();
       }
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostAnswersArgs_descriptor;
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsPageResult_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostAnswersArgs_fieldAccessorTable
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsPageResult_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs.Builder.class);
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult.Builder.class);
     }
 
     private int bitField0_;
     public static final int POSTID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object postId_;
+    private com.google.protobuf.LazyStringList postId_;
     /**
-     * <code>string postId = 1;</code>
-     * @return The postId.
+     * <code>repeated string postId = 1;</code>
+     * @return A list containing the postId.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getPostIdList() {
+      return postId_;
+    }
+    /**
+     * <code>repeated string postId = 1;</code>
+     * @return The count of postId.
+     */
+    public int getPostIdCount() {
+      return postId_.size();
+    }
+    /**
+     * <code>repeated string postId = 1;</code>
+     * @param index The index of the element to return.
+     * @return The postId at the given index.
+     */
+    public java.lang.String getPostId(int index) {
+      return postId_.get(index);
+    }
+    /**
+     * <code>repeated string postId = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the postId at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getPostIdBytes(int index) {
+      return postId_.getByteString(index);
+    }
+
+    public static final int NEXTCURSOR_FIELD_NUMBER = 2;
+    private volatile java.lang.Object nextCursor_;
+    /**
+     * <code>optional string nextCursor = 2;</code>
+     * @return Whether the nextCursor field is set.
      */
     @java.lang.Override
-    public java.lang.String getPostId() {
-      java.lang.Object ref = postId_;
+    public boolean hasNextCursor() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string nextCursor = 2;</code>
+     * @return The nextCursor.
+     */
+    @java.lang.Override
+    public java.lang.String getNextCursor() {
+      java.lang.Object ref = nextCursor_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        postId_ = s;
+        nextCursor_ = s;
         return s;
       }
     }
     /**
-     * <code>string postId = 1;</code>
-     * @return The bytes for postId.
+     * <code>optional string nextCursor = 2;</code>
+     * @return The bytes for nextCursor.
      */
     @java.lang.Override
     public com.google.protobuf.ByteString
-        getPostIdBytes() {
-      java.lang.Object ref = postId_;
+        getNextCursorBytes() {
+      java.lang.Object ref = nextCursor_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        postId_ = b;
+        nextCursor_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int TIMEOUT_FIELD_NUMBER = 2;
-    private long timeout_;
+    public static final int SORTKEY_FIELD_NUMBER = 3;
+    private com.google.protobuf.Internal.LongList sortKey_;
     /**
-     * <code>optional int64 timeout = 2;</code>
-     * @return Whether the timeout field is set.
+     * <code>repeated int64 sortKey = 3;</code>
+     * @return A list containing the sortKey.
      */
     @java.lang.Override
-    public boolean hasTimeout() {
-      return ((bitField0_ & 0x00000001) != 0);
+    public java.util.List<java.lang.Long>
+        getSortKeyList() {
+      return sortKey_;
     }
     /**
-     * <code>optional int64 timeout = 2;</code>
-     * @return The timeout.
+     * <code>repeated int64 sortKey = 3;</code>
+     * @return The count of sortKey.
      */
-    @java.lang.Override
-    public long getTimeout() {
-      return timeout_;
+    public int getSortKeyCount() {
+      return sortKey_.size();
+    }
+    /**
+     * <code>repeated int64 sortKey = 3;</code>
+     * @param index The index of the element to return.
+     * @return The sortKey at the given index.
+     */
+    public long getSortKey(int index) {
+      return sortKey_.getLong(index);
     }
+    private int sortKeyMemoizedSerializedSize = -1;
 
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
@@ -5117,11 +5651,19 @@ public final class ContentProtoBuf {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, postId_);
+      getSerializedSize();
+      for (int i = 0; i < postId_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, postId_.getRaw(i));
       }
       if (((bitField0_ & 0x00000001) != 0)) {
-        output.writeInt64(2, timeout_);
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, nextCursor_);
+      }
+      if (getSortKeyList().size() > 0) {
+        output.writeUInt32NoTag(26);
+        output.writeUInt32NoTag(sortKeyMemoizedSerializedSize);
+      }
+      for (int i = 0; i < sortKey_.size(); i++) {
+        output.writeInt64NoTag(sortKey_.getLong(i));
       }
       unknownFields.writeTo(output);
     }
@@ -5132,12 +5674,30 @@ public final class ContentProtoBuf {
       if (size != -1) return size;
 
       size = 0;
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, postId_);
+      {
+        int dataSize = 0;
+        for (int i = 0; i < postId_.size(); i++) {
+          dataSize += computeStringSizeNoTag(postId_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getPostIdList().size();
       }
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt64Size(2, timeout_);
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, nextCursor_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < sortKey_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeInt64SizeNoTag(sortKey_.getLong(i));
+        }
+        size += dataSize;
+        if (!getSortKeyList().isEmpty()) {
+          size += 1;
+          size += com.google.protobuf.CodedOutputStream
+              .computeInt32SizeNoTag(dataSize);
+        }
+        sortKeyMemoizedSerializedSize = dataSize;
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -5149,18 +5709,20 @@ public final class ContentProtoBuf {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs)) {
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult)) {
         return super.equals(obj);
       }
-      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs) obj;
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult) obj;
 
-      if (!getPostId()
-          .equals(other.getPostId())) return false;
-      if (hasTimeout() != other.hasTimeout()) return false;
-      if (hasTimeout()) {
-        if (getTimeout()
-            != other.getTimeout()) return false;
+      if (!getPostIdList()
+          .equals(other.getPostIdList())) return false;
+      if (hasNextCursor() != other.hasNextCursor()) return false;
+      if (hasNextCursor()) {
+        if (!getNextCursor()
+            .equals(other.getNextCursor())) return false;
       }
+      if (!getSortKeyList()
+          .equals(other.getSortKeyList())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -5172,81 +5734,86 @@ public final class ContentProtoBuf {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + POSTID_FIELD_NUMBER;
-      hash = (53 * hash) + getPostId().hashCode();
-      if (hasTimeout()) {
-        hash = (37 * hash) + TIMEOUT_FIELD_NUMBER;
-        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
-            getTimeout());
+      if (getPostIdCount() > 0) {
+        hash = (37 * hash) + POSTID_FIELD_NUMBER;
+        hash = (53 * hash) + getPostIdList().hashCode();
+      }
+      if (hasNextCursor()) {
+        hash = (37 * hash) + NEXTCURSOR_FIELD_NUMBER;
+        hash = (53 * hash) + getNextCursor().hashCode();
+      }
+      if (getSortKeyCount() > 0) {
+        hash = (37 * hash) + SORTKEY_FIELD_NUMBER;
+        hash = (53 * hash) + getSortKeyList().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseFrom(byte[] data)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseDelimitedFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseDelimitedFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5259,7 +5826,7 @@ public final class ContentProtoBuf {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs prototype) {
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -5275,26 +5842,26 @@ public final class ContentProtoBuf {
       return builder;
     }
     /**
-     * Protobuf type {@code GetPostAnswersArgs}
+     * Protobuf type {@code GetPostsPageResult}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:GetPostAnswersArgs)
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgsOrBuilder {
+        // @@protoc_insertion_point(builder_implements:GetPostsPageResult)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResultOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostAnswersArgs_descriptor;
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsPageResult_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostAnswersArgs_fieldAccessorTable
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsPageResult_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs.Builder.class);
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult.Builder.class);
       }
 
-      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs.newBuilder()
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -5312,27 +5879,29 @@ public final class ContentProtoBuf {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        postId_ = "";
-
-        timeout_ = 0L;
+        postId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
         bitField0_ = (bitField0_ & ~0x00000001);
+        nextCursor_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        sortKey_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000004);
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostAnswersArgs_descriptor;
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsPageResult_descriptor;
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs getDefaultInstanceForType() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs.getDefaultInstance();
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult.getDefaultInstance();
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs build() {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs result = buildPartial();
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -5340,15 +5909,24 @@ public final class ContentProtoBuf {
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs buildPartial() {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs(this);
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          postId_ = postId_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
         result.postId_ = postId_;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          result.timeout_ = timeout_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
           to_bitField0_ |= 0x00000001;
         }
+        result.nextCursor_ = nextCursor_;
+        if (((bitField0_ & 0x00000004) != 0)) {
+          sortKey_.makeImmutable();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.sortKey_ = sortKey_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -5388,22 +5966,40 @@ public final class ContentProtoBuf {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs) {
-          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs)other);
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs other) {
-        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs.getDefaultInstance()) return this;
-        if (!other.getPostId().isEmpty()) {
-          postId_ = other.postId_;
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult.getDefaultInstance()) return this;
+        if (!other.postId_.isEmpty()) {
+          if (postId_.isEmpty()) {
+            postId_ = other.postId_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensurePostIdIsMutable();
+            postId_.addAll(other.postId_);
+          }
           onChanged();
         }
-        if (other.hasTimeout()) {
-          setTimeout(other.getTimeout());
+        if (other.hasNextCursor()) {
+          bitField0_ |= 0x00000002;
+          nextCursor_ = other.nextCursor_;
+          onChanged();
+        }
+        if (!other.sortKey_.isEmpty()) {
+          if (sortKey_.isEmpty()) {
+            sortKey_ = other.sortKey_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureSortKeyIsMutable();
+            sortKey_.addAll(other.sortKey_);
+          }
+          onChanged();
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -5420,11 +6016,11 @@ public final class ContentProtoBuf {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parsedMessage = null;
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs) e.getUnfinishedMessage();
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -5435,117 +6031,274 @@ public final class ContentProtoBuf {
       }
       private int bitField0_;
 
-      private java.lang.Object postId_ = "";
-      /**
-       * <code>string postId = 1;</code>
-       * @return The postId.
-       */
-      public java.lang.String getPostId() {
-        java.lang.Object ref = postId_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          postId_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      private com.google.protobuf.LazyStringList postId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensurePostIdIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          postId_ = new com.google.protobuf.LazyStringArrayList(postId_);
+          bitField0_ |= 0x00000001;
+         }
       }
       /**
-       * <code>string postId = 1;</code>
-       * @return The bytes for postId.
+       * <code>repeated string postId = 1;</code>
+       * @return A list containing the postId.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getPostIdList() {
+        return postId_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string postId = 1;</code>
+       * @return The count of postId.
+       */
+      public int getPostIdCount() {
+        return postId_.size();
+      }
+      /**
+       * <code>repeated string postId = 1;</code>
+       * @param index The index of the element to return.
+       * @return The postId at the given index.
+       */
+      public java.lang.String getPostId(int index) {
+        return postId_.get(index);
+      }
+      /**
+       * <code>repeated string postId = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the postId at the given index.
        */
       public com.google.protobuf.ByteString
-          getPostIdBytes() {
-        java.lang.Object ref = postId_;
+          getPostIdBytes(int index) {
+        return postId_.getByteString(index);
+      }
+      /**
+       * <code>repeated string postId = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The postId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPostId(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePostIdIsMutable();
+        postId_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string postId = 1;</code>
+       * @param value The postId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPostId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePostIdIsMutable();
+        postId_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string postId = 1;</code>
+       * @param values The postId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPostId(
+          java.lang.Iterable<java.lang.String> values) {
+        ensurePostIdIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, postId_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string postId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPostId() {
+        postId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string postId = 1;</code>
+       * @param value The bytes of the postId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPostIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        ensurePostIdIsMutable();
+        postId_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object nextCursor_ = "";
+      /**
+       * <code>optional string nextCursor = 2;</code>
+       * @return Whether the nextCursor field is set.
+       */
+      public boolean hasNextCursor() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string nextCursor = 2;</code>
+       * @return The nextCursor.
+       */
+      public java.lang.String getNextCursor() {
+        java.lang.Object ref = nextCursor_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          nextCursor_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string nextCursor = 2;</code>
+       * @return The bytes for nextCursor.
+       */
+      public com.google.protobuf.ByteString
+          getNextCursorBytes() {
+        java.lang.Object ref = nextCursor_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          postId_ = b;
+          nextCursor_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string postId = 1;</code>
-       * @param value The postId to set.
+       * <code>optional string nextCursor = 2;</code>
+       * @param value The nextCursor to set.
        * @return This builder for chaining.
        */
-      public Builder setPostId(
+      public Builder setNextCursor(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  
-        postId_ = value;
+  bitField0_ |= 0x00000002;
+        nextCursor_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string postId = 1;</code>
+       * <code>optional string nextCursor = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearPostId() {
-        
-        postId_ = getDefaultInstance().getPostId();
+      public Builder clearNextCursor() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        nextCursor_ = getDefaultInstance().getNextCursor();
         onChanged();
         return this;
       }
       /**
-       * <code>string postId = 1;</code>
-       * @param value The bytes for postId to set.
+       * <code>optional string nextCursor = 2;</code>
+       * @param value The bytes for nextCursor to set.
        * @return This builder for chaining.
        */
-      public Builder setPostIdBytes(
+      public Builder setNextCursorBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
-        
-        postId_ = value;
+        bitField0_ |= 0x00000002;
+        nextCursor_ = value;
         onChanged();
         return this;
       }
 
-      private long timeout_ ;
+      private com.google.protobuf.Internal.LongList sortKey_ = emptyLongList();
+      private void ensureSortKeyIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          sortKey_ = mutableCopy(sortKey_);
+          bitField0_ |= 0x00000004;
+         }
+      }
       /**
-       * <code>optional int64 timeout = 2;</code>
-       * @return Whether the timeout field is set.
+       * <code>repeated int64 sortKey = 3;</code>
+       * @return A list containing the sortKey.
        */
-      @java.lang.Override
-      public boolean hasTimeout() {
-        return ((bitField0_ & 0x00000001) != 0);
+      public java.util.List<java.lang.Long>
+          getSortKeyList() {
+        return ((bitField0_ & 0x00000004) != 0) ?
+                 java.util.Collections.unmodifiableList(sortKey_) : sortKey_;
       }
       /**
-       * <code>optional int64 timeout = 2;</code>
-       * @return The timeout.
+       * <code>repeated int64 sortKey = 3;</code>
+       * @return The count of sortKey.
        */
-      @java.lang.Override
-      public long getTimeout() {
-        return timeout_;
+      public int getSortKeyCount() {
+        return sortKey_.size();
       }
       /**
-       * <code>optional int64 timeout = 2;</code>
-       * @param value The timeout to set.
+       * <code>repeated int64 sortKey = 3;</code>
+       * @param index The index of the element to return.
+       * @return The sortKey at the given index.
+       */
+      public long getSortKey(int index) {
+        return sortKey_.getLong(index);
+      }
+      /**
+       * <code>repeated int64 sortKey = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The sortKey to set.
        * @return This builder for chaining.
        */
-      public Builder setTimeout(long value) {
-        bitField0_ |= 0x00000001;
-        timeout_ = value;
+      public Builder setSortKey(
+          int index, long value) {
+        ensureSortKeyIsMutable();
+        sortKey_.setLong(index, value);
         onChanged();
         return this;
       }
       /**
-       * <code>optional int64 timeout = 2;</code>
+       * <code>repeated int64 sortKey = 3;</code>
+       * @param value The sortKey to add.
        * @return This builder for chaining.
        */
-      public Builder clearTimeout() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        timeout_ = 0L;
+      public Builder addSortKey(long value) {
+        ensureSortKeyIsMutable();
+        sortKey_.addLong(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 sortKey = 3;</code>
+       * @param values The sortKey to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllSortKey(
+          java.lang.Iterable<? extends java.lang.Long> values) {
+        ensureSortKeyIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, sortKey_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated int64 sortKey = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSortKey() {
+        sortKey_ = emptyLongList();
+        bitField0_ = (bitField0_ & ~0x00000004);
         onChanged();
         return this;
       }
@@ -5562,116 +6315,112 @@ public final class ContentProtoBuf {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:GetPostAnswersArgs)
+      // @@protoc_insertion_point(builder_scope:GetPostsPageResult)
     }
 
-    // @@protoc_insertion_point(class_scope:GetPostAnswersArgs)
-    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:GetPostsPageResult)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs();
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult();
     }
 
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs getDefaultInstance() {
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<GetPostAnswersArgs>
-        PARSER = new com.google.protobuf.AbstractParser<GetPostAnswersArgs>() {
+    private static final com.google.protobuf.Parser<GetPostsPageResult>
+        PARSER = new com.google.protobuf.AbstractParser<GetPostsPageResult>() {
       @java.lang.Override
-      public GetPostAnswersArgs parsePartialFrom(
+      public GetPostsPageResult parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new GetPostAnswersArgs(input, extensionRegistry);
+        return new GetPostsPageResult(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<GetPostAnswersArgs> parser() {
+    public static com.google.protobuf.Parser<GetPostsPageResult> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GetPostAnswersArgs> getParserForType() {
+    public com.google.protobuf.Parser<GetPostsPageResult> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs getDefaultInstanceForType() {
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface UpdatePostArgsOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:UpdatePostArgs)
+  public interface SearchPostsArgsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:SearchPostsArgs)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string postId = 1;</code>
-     * @return The postId.
+     * <code>string query = 1;</code>
+     * @return The query.
      */
-    java.lang.String getPostId();
+    java.lang.String getQuery();
     /**
-     * <code>string postId = 1;</code>
-     * @return The bytes for postId.
+     * <code>string query = 1;</code>
+     * @return The bytes for query.
      */
     com.google.protobuf.ByteString
-        getPostIdBytes();
+        getQueryBytes();
 
     /**
-     * <code>optional string password = 2;</code>
-     * @return Whether the password field is set.
-     */
-    boolean hasPassword();
-    /**
-     * <code>optional string password = 2;</code>
-     * @return The password.
+     * <code>optional int32 limit = 2;</code>
+     * @return Whether the limit field is set.
      */
-    java.lang.String getPassword();
+    boolean hasLimit();
     /**
-     * <code>optional string password = 2;</code>
-     * @return The bytes for password.
+     * <code>optional int32 limit = 2;</code>
+     * @return The limit.
      */
-    com.google.protobuf.ByteString
-        getPasswordBytes();
+    int getLimit();
 
     /**
-     * <code>.GrpcPost post = 3;</code>
-     * @return Whether the post field is set.
+     * <code>optional string cursor = 3;</code>
+     * @return Whether the cursor field is set.
      */
-    boolean hasPost();
+    boolean hasCursor();
     /**
-     * <code>.GrpcPost post = 3;</code>
-     * @return The post.
+     * <code>optional string cursor = 3;</code>
+     * @return The cursor.
      */
-    fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost getPost();
+    java.lang.String getCursor();
     /**
-     * <code>.GrpcPost post = 3;</code>
+     * <code>optional string cursor = 3;</code>
+     * @return The bytes for cursor.
      */
-    fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder getPostOrBuilder();
+    com.google.protobuf.ByteString
+        getCursorBytes();
   }
   /**
-   * Protobuf type {@code UpdatePostArgs}
+   * Protobuf type {@code SearchPostsArgs}
    */
-  public static final class UpdatePostArgs extends
+  public static final class SearchPostsArgs extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:UpdatePostArgs)
-      UpdatePostArgsOrBuilder {
+      // @@protoc_insertion_point(message_implements:SearchPostsArgs)
+      SearchPostsArgsOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use UpdatePostArgs.newBuilder() to construct.
-    private UpdatePostArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use SearchPostsArgs.newBuilder() to construct.
+    private SearchPostsArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private UpdatePostArgs() {
-      postId_ = "";
-      password_ = "";
+    private SearchPostsArgs() {
+      query_ = "";
+      cursor_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new UpdatePostArgs();
+      return new SearchPostsArgs();
     }
 
     @java.lang.Override
@@ -5679,7 +6428,7 @@ public final class ContentProtoBuf {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private UpdatePostArgs(
+    private SearchPostsArgs(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5701,26 +6450,18 @@ public final class ContentProtoBuf {
             case 10: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              postId_ = s;
+              query_ = s;
               break;
             }
-            case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
+            case 16: {
               bitField0_ |= 0x00000001;
-              password_ = s;
+              limit_ = input.readInt32();
               break;
             }
             case 26: {
-              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder subBuilder = null;
-              if (post_ != null) {
-                subBuilder = post_.toBuilder();
-              }
-              post_ = input.readMessage(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.parser(), extensionRegistry);
-              if (subBuilder != null) {
-                subBuilder.mergeFrom(post_);
-                post_ = subBuilder.buildPartial();
-              }
-
+              java.lang.String s = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000002;
+              cursor_ = s;
               break;
             }
             default: {
@@ -5746,128 +6487,121 @@ public final class ContentProtoBuf {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_UpdatePostArgs_descriptor;
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_SearchPostsArgs_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_UpdatePostArgs_fieldAccessorTable
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_SearchPostsArgs_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs.Builder.class);
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs.Builder.class);
     }
 
     private int bitField0_;
-    public static final int POSTID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object postId_;
+    public static final int QUERY_FIELD_NUMBER = 1;
+    private volatile java.lang.Object query_;
     /**
-     * <code>string postId = 1;</code>
-     * @return The postId.
+     * <code>string query = 1;</code>
+     * @return The query.
      */
     @java.lang.Override
-    public java.lang.String getPostId() {
-      java.lang.Object ref = postId_;
+    public java.lang.String getQuery() {
+      java.lang.Object ref = query_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        postId_ = s;
+        query_ = s;
         return s;
       }
     }
     /**
-     * <code>string postId = 1;</code>
-     * @return The bytes for postId.
+     * <code>string query = 1;</code>
+     * @return The bytes for query.
      */
     @java.lang.Override
     public com.google.protobuf.ByteString
-        getPostIdBytes() {
-      java.lang.Object ref = postId_;
+        getQueryBytes() {
+      java.lang.Object ref = query_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        postId_ = b;
+        query_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int PASSWORD_FIELD_NUMBER = 2;
-    private volatile java.lang.Object password_;
+    public static final int LIMIT_FIELD_NUMBER = 2;
+    private int limit_;
     /**
-     * <code>optional string password = 2;</code>
-     * @return Whether the password field is set.
+     * <code>optional int32 limit = 2;</code>
+     * @return Whether the limit field is set.
      */
     @java.lang.Override
-    public boolean hasPassword() {
+    public boolean hasLimit() {
       return ((bitField0_ & 0x00000001) != 0);
     }
     /**
-     * <code>optional string password = 2;</code>
-     * @return The password.
+     * <code>optional int32 limit = 2;</code>
+     * @return The limit.
      */
     @java.lang.Override
-    public java.lang.String getPassword() {
-      java.lang.Object ref = password_;
+    public int getLimit() {
+      return limit_;
+    }
+
+    public static final int CURSOR_FIELD_NUMBER = 3;
+    private volatile java.lang.Object cursor_;
+    /**
+     * <code>optional string cursor = 3;</code>
+     * @return Whether the cursor field is set.
+     */
+    @java.lang.Override
+    public boolean hasCursor() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string cursor = 3;</code>
+     * @return The cursor.
+     */
+    @java.lang.Override
+    public java.lang.String getCursor() {
+      java.lang.Object ref = cursor_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        password_ = s;
+        cursor_ = s;
         return s;
       }
     }
     /**
-     * <code>optional string password = 2;</code>
-     * @return The bytes for password.
+     * <code>optional string cursor = 3;</code>
+     * @return The bytes for cursor.
      */
     @java.lang.Override
     public com.google.protobuf.ByteString
-        getPasswordBytes() {
-      java.lang.Object ref = password_;
+        getCursorBytes() {
+      java.lang.Object ref = cursor_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        password_ = b;
+        cursor_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int POST_FIELD_NUMBER = 3;
-    private fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost post_;
-    /**
-     * <code>.GrpcPost post = 3;</code>
-     * @return Whether the post field is set.
-     */
-    @java.lang.Override
-    public boolean hasPost() {
-      return post_ != null;
-    }
-    /**
-     * <code>.GrpcPost post = 3;</code>
-     * @return The post.
-     */
-    @java.lang.Override
-    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost getPost() {
-      return post_ == null ? fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.getDefaultInstance() : post_;
-    }
-    /**
-     * <code>.GrpcPost post = 3;</code>
-     */
-    @java.lang.Override
-    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder getPostOrBuilder() {
-      return getPost();
-    }
-
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -5882,14 +6616,14 @@ public final class ContentProtoBuf {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, postId_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(query_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, query_);
       }
       if (((bitField0_ & 0x00000001) != 0)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, password_);
+        output.writeInt32(2, limit_);
       }
-      if (post_ != null) {
-        output.writeMessage(3, getPost());
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, cursor_);
       }
       unknownFields.writeTo(output);
     }
@@ -5900,15 +6634,15 @@ public final class ContentProtoBuf {
       if (size != -1) return size;
 
       size = 0;
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, postId_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(query_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, query_);
       }
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, password_);
-      }
-      if (post_ != null) {
         size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(3, getPost());
+          .computeInt32Size(2, limit_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, cursor_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -5920,22 +6654,22 @@ public final class ContentProtoBuf {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs)) {
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs)) {
         return super.equals(obj);
       }
-      fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs) obj;
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs) obj;
 
-      if (!getPostId()
-          .equals(other.getPostId())) return false;
-      if (hasPassword() != other.hasPassword()) return false;
-      if (hasPassword()) {
-        if (!getPassword()
-            .equals(other.getPassword())) return false;
+      if (!getQuery()
+          .equals(other.getQuery())) return false;
+      if (hasLimit() != other.hasLimit()) return false;
+      if (hasLimit()) {
+        if (getLimit()
+            != other.getLimit()) return false;
       }
-      if (hasPost() != other.hasPost()) return false;
-      if (hasPost()) {
-        if (!getPost()
-            .equals(other.getPost())) return false;
+      if (hasCursor() != other.hasCursor()) return false;
+      if (hasCursor()) {
+        if (!getCursor()
+            .equals(other.getCursor())) return false;
       }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
@@ -5948,84 +6682,84 @@ public final class ContentProtoBuf {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + POSTID_FIELD_NUMBER;
-      hash = (53 * hash) + getPostId().hashCode();
-      if (hasPassword()) {
-        hash = (37 * hash) + PASSWORD_FIELD_NUMBER;
-        hash = (53 * hash) + getPassword().hashCode();
+      hash = (37 * hash) + QUERY_FIELD_NUMBER;
+      hash = (53 * hash) + getQuery().hashCode();
+      if (hasLimit()) {
+        hash = (37 * hash) + LIMIT_FIELD_NUMBER;
+        hash = (53 * hash) + getLimit();
       }
-      if (hasPost()) {
-        hash = (37 * hash) + POST_FIELD_NUMBER;
-        hash = (53 * hash) + getPost().hashCode();
+      if (hasCursor()) {
+        hash = (37 * hash) + CURSOR_FIELD_NUMBER;
+        hash = (53 * hash) + getCursor().hashCode();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseFrom(byte[] data)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseDelimitedFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseDelimitedFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -6038,7 +6772,7 @@ public final class ContentProtoBuf {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs prototype) {
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -6054,26 +6788,26 @@ public final class ContentProtoBuf {
       return builder;
     }
     /**
-     * Protobuf type {@code UpdatePostArgs}
+     * Protobuf type {@code SearchPostsArgs}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:UpdatePostArgs)
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgsOrBuilder {
+        // @@protoc_insertion_point(builder_implements:SearchPostsArgs)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgsOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_UpdatePostArgs_descriptor;
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_SearchPostsArgs_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_UpdatePostArgs_fieldAccessorTable
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_SearchPostsArgs_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs.Builder.class);
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs.Builder.class);
       }
 
-      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs.newBuilder()
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -6091,33 +6825,29 @@ public final class ContentProtoBuf {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        postId_ = "";
+        query_ = "";
 
-        password_ = "";
+        limit_ = 0;
         bitField0_ = (bitField0_ & ~0x00000001);
-        if (postBuilder_ == null) {
-          post_ = null;
-        } else {
-          post_ = null;
-          postBuilder_ = null;
-        }
+        cursor_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_UpdatePostArgs_descriptor;
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_SearchPostsArgs_descriptor;
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs getDefaultInstanceForType() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs.getDefaultInstance();
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs.getDefaultInstance();
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs build() {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs result = buildPartial();
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -6125,20 +6855,19 @@ public final class ContentProtoBuf {
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs buildPartial() {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs(this);
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        result.postId_ = postId_;
+        result.query_ = query_;
         if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.limit_ = limit_;
           to_bitField0_ |= 0x00000001;
         }
-        result.password_ = password_;
-        if (postBuilder_ == null) {
-          result.post_ = post_;
-        } else {
-          result.post_ = postBuilder_.build();
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
         }
+        result.cursor_ = cursor_;
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -6178,27 +6907,27 @@ public final class ContentProtoBuf {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs) {
-          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs)other);
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs other) {
-        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs.getDefaultInstance()) return this;
-        if (!other.getPostId().isEmpty()) {
-          postId_ = other.postId_;
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs.getDefaultInstance()) return this;
+        if (!other.getQuery().isEmpty()) {
+          query_ = other.query_;
           onChanged();
         }
-        if (other.hasPassword()) {
-          bitField0_ |= 0x00000001;
-          password_ = other.password_;
-          onChanged();
+        if (other.hasLimit()) {
+          setLimit(other.getLimit());
         }
-        if (other.hasPost()) {
-          mergePost(other.getPost());
+        if (other.hasCursor()) {
+          bitField0_ |= 0x00000002;
+          cursor_ = other.cursor_;
+          onChanged();
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -6215,11 +6944,11 @@ public final class ContentProtoBuf {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parsedMessage = null;
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs) e.getUnfinishedMessage();
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -6230,391 +6959,322 @@ public final class ContentProtoBuf {
       }
       private int bitField0_;
 
-      private java.lang.Object postId_ = "";
+      private java.lang.Object query_ = "";
       /**
-       * <code>string postId = 1;</code>
-       * @return The postId.
+       * <code>string query = 1;</code>
+       * @return The query.
        */
-      public java.lang.String getPostId() {
-        java.lang.Object ref = postId_;
+      public java.lang.String getQuery() {
+        java.lang.Object ref = query_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          postId_ = s;
+          query_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string postId = 1;</code>
-       * @return The bytes for postId.
+       * <code>string query = 1;</code>
+       * @return The bytes for query.
        */
       public com.google.protobuf.ByteString
-          getPostIdBytes() {
-        java.lang.Object ref = postId_;
+          getQueryBytes() {
+        java.lang.Object ref = query_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          postId_ = b;
+          query_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string postId = 1;</code>
-       * @param value The postId to set.
+       * <code>string query = 1;</code>
+       * @param value The query to set.
        * @return This builder for chaining.
        */
-      public Builder setPostId(
+      public Builder setQuery(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        postId_ = value;
+        query_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string postId = 1;</code>
+       * <code>string query = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearPostId() {
+      public Builder clearQuery() {
         
-        postId_ = getDefaultInstance().getPostId();
+        query_ = getDefaultInstance().getQuery();
         onChanged();
         return this;
       }
       /**
-       * <code>string postId = 1;</code>
-       * @param value The bytes for postId to set.
+       * <code>string query = 1;</code>
+       * @param value The bytes for query to set.
        * @return This builder for chaining.
        */
-      public Builder setPostIdBytes(
+      public Builder setQueryBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        postId_ = value;
+        query_ = value;
         onChanged();
         return this;
       }
 
-      private java.lang.Object password_ = "";
+      private int limit_ ;
       /**
-       * <code>optional string password = 2;</code>
-       * @return Whether the password field is set.
+       * <code>optional int32 limit = 2;</code>
+       * @return Whether the limit field is set.
        */
-      public boolean hasPassword() {
+      @java.lang.Override
+      public boolean hasLimit() {
         return ((bitField0_ & 0x00000001) != 0);
       }
       /**
-       * <code>optional string password = 2;</code>
-       * @return The password.
+       * <code>optional int32 limit = 2;</code>
+       * @return The limit.
        */
-      public java.lang.String getPassword() {
-        java.lang.Object ref = password_;
+      @java.lang.Override
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>optional int32 limit = 2;</code>
+       * @param value The limit to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLimit(int value) {
+        bitField0_ |= 0x00000001;
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 limit = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLimit() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        limit_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object cursor_ = "";
+      /**
+       * <code>optional string cursor = 3;</code>
+       * @return Whether the cursor field is set.
+       */
+      public boolean hasCursor() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string cursor = 3;</code>
+       * @return The cursor.
+       */
+      public java.lang.String getCursor() {
+        java.lang.Object ref = cursor_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          password_ = s;
+          cursor_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>optional string password = 2;</code>
-       * @return The bytes for password.
+       * <code>optional string cursor = 3;</code>
+       * @return The bytes for cursor.
        */
       public com.google.protobuf.ByteString
-          getPasswordBytes() {
-        java.lang.Object ref = password_;
+          getCursorBytes() {
+        java.lang.Object ref = cursor_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          password_ = b;
+          cursor_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string password = 2;</code>
-       * @param value The password to set.
+       * <code>optional string cursor = 3;</code>
+       * @param value The cursor to set.
        * @return This builder for chaining.
        */
-      public Builder setPassword(
+      public Builder setCursor(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  bitField0_ |= 0x00000001;
-        password_ = value;
+  bitField0_ |= 0x00000002;
+        cursor_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string password = 2;</code>
+       * <code>optional string cursor = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder clearPassword() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        password_ = getDefaultInstance().getPassword();
+      public Builder clearCursor() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        cursor_ = getDefaultInstance().getCursor();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string password = 2;</code>
-       * @param value The bytes for password to set.
+       * <code>optional string cursor = 3;</code>
+       * @param value The bytes for cursor to set.
        * @return This builder for chaining.
        */
-      public Builder setPasswordBytes(
+      public Builder setCursorBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
-        bitField0_ |= 0x00000001;
-        password_ = value;
+        bitField0_ |= 0x00000002;
+        cursor_ = value;
         onChanged();
         return this;
       }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
 
-      private fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost post_;
-      private com.google.protobuf.SingleFieldBuilderV3<
-          fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder> postBuilder_;
-      /**
-       * <code>.GrpcPost post = 3;</code>
-       * @return Whether the post field is set.
-       */
-      public boolean hasPost() {
-        return postBuilder_ != null || post_ != null;
-      }
-      /**
-       * <code>.GrpcPost post = 3;</code>
-       * @return The post.
-       */
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost getPost() {
-        if (postBuilder_ == null) {
-          return post_ == null ? fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.getDefaultInstance() : post_;
-        } else {
-          return postBuilder_.getMessage();
-        }
-      }
-      /**
-       * <code>.GrpcPost post = 3;</code>
-       */
-      public Builder setPost(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost value) {
-        if (postBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          post_ = value;
-          onChanged();
-        } else {
-          postBuilder_.setMessage(value);
-        }
-
-        return this;
-      }
-      /**
-       * <code>.GrpcPost post = 3;</code>
-       */
-      public Builder setPost(
-          fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder builderForValue) {
-        if (postBuilder_ == null) {
-          post_ = builderForValue.build();
-          onChanged();
-        } else {
-          postBuilder_.setMessage(builderForValue.build());
-        }
-
-        return this;
-      }
-      /**
-       * <code>.GrpcPost post = 3;</code>
-       */
-      public Builder mergePost(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost value) {
-        if (postBuilder_ == null) {
-          if (post_ != null) {
-            post_ =
-              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.newBuilder(post_).mergeFrom(value).buildPartial();
-          } else {
-            post_ = value;
-          }
-          onChanged();
-        } else {
-          postBuilder_.mergeFrom(value);
-        }
-
-        return this;
-      }
-      /**
-       * <code>.GrpcPost post = 3;</code>
-       */
-      public Builder clearPost() {
-        if (postBuilder_ == null) {
-          post_ = null;
-          onChanged();
-        } else {
-          post_ = null;
-          postBuilder_ = null;
-        }
-
-        return this;
-      }
-      /**
-       * <code>.GrpcPost post = 3;</code>
-       */
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder getPostBuilder() {
-        
-        onChanged();
-        return getPostFieldBuilder().getBuilder();
-      }
-      /**
-       * <code>.GrpcPost post = 3;</code>
-       */
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder getPostOrBuilder() {
-        if (postBuilder_ != null) {
-          return postBuilder_.getMessageOrBuilder();
-        } else {
-          return post_ == null ?
-              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.getDefaultInstance() : post_;
-        }
-      }
-      /**
-       * <code>.GrpcPost post = 3;</code>
-       */
-      private com.google.protobuf.SingleFieldBuilderV3<
-          fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder> 
-          getPostFieldBuilder() {
-        if (postBuilder_ == null) {
-          postBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
-              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder>(
-                  getPost(),
-                  getParentForChildren(),
-                  isClean());
-          post_ = null;
-        }
-        return postBuilder_;
-      }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFields(unknownFields);
-      }
-
-      @java.lang.Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
       }
 
 
-      // @@protoc_insertion_point(builder_scope:UpdatePostArgs)
+      // @@protoc_insertion_point(builder_scope:SearchPostsArgs)
     }
 
-    // @@protoc_insertion_point(class_scope:UpdatePostArgs)
-    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:SearchPostsArgs)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs();
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs();
     }
 
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs getDefaultInstance() {
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<UpdatePostArgs>
-        PARSER = new com.google.protobuf.AbstractParser<UpdatePostArgs>() {
+    private static final com.google.protobuf.Parser<SearchPostsArgs>
+        PARSER = new com.google.protobuf.AbstractParser<SearchPostsArgs>() {
       @java.lang.Override
-      public UpdatePostArgs parsePartialFrom(
+      public SearchPostsArgs parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new UpdatePostArgs(input, extensionRegistry);
+        return new SearchPostsArgs(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<UpdatePostArgs> parser() {
+    public static com.google.protobuf.Parser<SearchPostsArgs> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<UpdatePostArgs> getParserForType() {
+    public com.google.protobuf.Parser<SearchPostsArgs> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs getDefaultInstanceForType() {
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface DeletePostArgsOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:DeletePostArgs)
+  public interface GetPostsByAuthorArgsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GetPostsByAuthorArgs)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string postId = 1;</code>
-     * @return The postId.
+     * <code>string userId = 1;</code>
+     * @return The userId.
      */
-    java.lang.String getPostId();
+    java.lang.String getUserId();
     /**
-     * <code>string postId = 1;</code>
-     * @return The bytes for postId.
+     * <code>string userId = 1;</code>
+     * @return The bytes for userId.
      */
     com.google.protobuf.ByteString
-        getPostIdBytes();
+        getUserIdBytes();
 
     /**
-     * <code>optional string password = 2;</code>
-     * @return Whether the password field is set.
+     * <code>optional string cursor = 2;</code>
+     * @return Whether the cursor field is set.
      */
-    boolean hasPassword();
+    boolean hasCursor();
     /**
-     * <code>optional string password = 2;</code>
-     * @return The password.
+     * <code>optional string cursor = 2;</code>
+     * @return The cursor.
      */
-    java.lang.String getPassword();
+    java.lang.String getCursor();
     /**
-     * <code>optional string password = 2;</code>
-     * @return The bytes for password.
+     * <code>optional string cursor = 2;</code>
+     * @return The bytes for cursor.
      */
     com.google.protobuf.ByteString
-        getPasswordBytes();
+        getCursorBytes();
+
+    /**
+     * <code>optional int32 limit = 3;</code>
+     * @return Whether the limit field is set.
+     */
+    boolean hasLimit();
+    /**
+     * <code>optional int32 limit = 3;</code>
+     * @return The limit.
+     */
+    int getLimit();
   }
   /**
-   * Protobuf type {@code DeletePostArgs}
+   * Protobuf type {@code GetPostsByAuthorArgs}
    */
-  public static final class DeletePostArgs extends
+  public static final class GetPostsByAuthorArgs extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:DeletePostArgs)
-      DeletePostArgsOrBuilder {
+      // @@protoc_insertion_point(message_implements:GetPostsByAuthorArgs)
+      GetPostsByAuthorArgsOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use DeletePostArgs.newBuilder() to construct.
-    private DeletePostArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use GetPostsByAuthorArgs.newBuilder() to construct.
+    private GetPostsByAuthorArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private DeletePostArgs() {
-      postId_ = "";
-      password_ = "";
+    private GetPostsByAuthorArgs() {
+      userId_ = "";
+      cursor_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new DeletePostArgs();
+      return new GetPostsByAuthorArgs();
     }
 
     @java.lang.Override
@@ -6622,7 +7282,7 @@ public final class ContentProtoBuf {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private DeletePostArgs(
+    private GetPostsByAuthorArgs(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -6644,13 +7304,18 @@ public final class ContentProtoBuf {
             case 10: {
               java.lang.String s = input.readStringRequireUtf8();
 
-              postId_ = s;
+              userId_ = s;
               break;
             }
             case 18: {
               java.lang.String s = input.readStringRequireUtf8();
               bitField0_ |= 0x00000001;
-              password_ = s;
+              cursor_ = s;
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000002;
+              limit_ = input.readInt32();
               break;
             }
             default: {
@@ -6676,102 +7341,121 @@ public final class ContentProtoBuf {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_DeletePostArgs_descriptor;
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsByAuthorArgs_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_DeletePostArgs_fieldAccessorTable
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsByAuthorArgs_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs.Builder.class);
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs.Builder.class);
     }
 
     private int bitField0_;
-    public static final int POSTID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object postId_;
+    public static final int USERID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object userId_;
     /**
-     * <code>string postId = 1;</code>
-     * @return The postId.
+     * <code>string userId = 1;</code>
+     * @return The userId.
      */
     @java.lang.Override
-    public java.lang.String getPostId() {
-      java.lang.Object ref = postId_;
+    public java.lang.String getUserId() {
+      java.lang.Object ref = userId_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        postId_ = s;
+        userId_ = s;
         return s;
       }
     }
     /**
-     * <code>string postId = 1;</code>
-     * @return The bytes for postId.
+     * <code>string userId = 1;</code>
+     * @return The bytes for userId.
      */
     @java.lang.Override
     public com.google.protobuf.ByteString
-        getPostIdBytes() {
-      java.lang.Object ref = postId_;
+        getUserIdBytes() {
+      java.lang.Object ref = userId_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        postId_ = b;
+        userId_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int PASSWORD_FIELD_NUMBER = 2;
-    private volatile java.lang.Object password_;
+    public static final int CURSOR_FIELD_NUMBER = 2;
+    private volatile java.lang.Object cursor_;
     /**
-     * <code>optional string password = 2;</code>
-     * @return Whether the password field is set.
+     * <code>optional string cursor = 2;</code>
+     * @return Whether the cursor field is set.
      */
     @java.lang.Override
-    public boolean hasPassword() {
+    public boolean hasCursor() {
       return ((bitField0_ & 0x00000001) != 0);
     }
     /**
-     * <code>optional string password = 2;</code>
-     * @return The password.
+     * <code>optional string cursor = 2;</code>
+     * @return The cursor.
      */
     @java.lang.Override
-    public java.lang.String getPassword() {
-      java.lang.Object ref = password_;
+    public java.lang.String getCursor() {
+      java.lang.Object ref = cursor_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        password_ = s;
+        cursor_ = s;
         return s;
       }
     }
     /**
-     * <code>optional string password = 2;</code>
-     * @return The bytes for password.
+     * <code>optional string cursor = 2;</code>
+     * @return The bytes for cursor.
      */
     @java.lang.Override
     public com.google.protobuf.ByteString
-        getPasswordBytes() {
-      java.lang.Object ref = password_;
+        getCursorBytes() {
+      java.lang.Object ref = cursor_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        password_ = b;
+        cursor_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
+    public static final int LIMIT_FIELD_NUMBER = 3;
+    private int limit_;
+    /**
+     * <code>optional int32 limit = 3;</code>
+     * @return Whether the limit field is set.
+     */
+    @java.lang.Override
+    public boolean hasLimit() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional int32 limit = 3;</code>
+     * @return The limit.
+     */
+    @java.lang.Override
+    public int getLimit() {
+      return limit_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -6786,11 +7470,14 @@ public final class ContentProtoBuf {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, postId_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(userId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, userId_);
       }
       if (((bitField0_ & 0x00000001) != 0)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, password_);
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, cursor_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt32(3, limit_);
       }
       unknownFields.writeTo(output);
     }
@@ -6801,11 +7488,15 @@ public final class ContentProtoBuf {
       if (size != -1) return size;
 
       size = 0;
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, postId_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(userId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, userId_);
       }
       if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, password_);
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, cursor_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, limit_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -6817,17 +7508,22 @@ public final class ContentProtoBuf {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs)) {
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs)) {
         return super.equals(obj);
       }
-      fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs) obj;
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs) obj;
 
-      if (!getPostId()
-          .equals(other.getPostId())) return false;
-      if (hasPassword() != other.hasPassword()) return false;
-      if (hasPassword()) {
-        if (!getPassword()
-            .equals(other.getPassword())) return false;
+      if (!getUserId()
+          .equals(other.getUserId())) return false;
+      if (hasCursor() != other.hasCursor()) return false;
+      if (hasCursor()) {
+        if (!getCursor()
+            .equals(other.getCursor())) return false;
+      }
+      if (hasLimit() != other.hasLimit()) return false;
+      if (hasLimit()) {
+        if (getLimit()
+            != other.getLimit()) return false;
       }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
@@ -6840,80 +7536,84 @@ public final class ContentProtoBuf {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + POSTID_FIELD_NUMBER;
-      hash = (53 * hash) + getPostId().hashCode();
-      if (hasPassword()) {
-        hash = (37 * hash) + PASSWORD_FIELD_NUMBER;
-        hash = (53 * hash) + getPassword().hashCode();
+      hash = (37 * hash) + USERID_FIELD_NUMBER;
+      hash = (53 * hash) + getUserId().hashCode();
+      if (hasCursor()) {
+        hash = (37 * hash) + CURSOR_FIELD_NUMBER;
+        hash = (53 * hash) + getCursor().hashCode();
+      }
+      if (hasLimit()) {
+        hash = (37 * hash) + LIMIT_FIELD_NUMBER;
+        hash = (53 * hash) + getLimit();
       }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseFrom(byte[] data)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseDelimitedFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseDelimitedFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -6926,7 +7626,7 @@ public final class ContentProtoBuf {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs prototype) {
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -6942,26 +7642,26 @@ public final class ContentProtoBuf {
       return builder;
     }
     /**
-     * Protobuf type {@code DeletePostArgs}
+     * Protobuf type {@code GetPostsByAuthorArgs}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:DeletePostArgs)
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgsOrBuilder {
+        // @@protoc_insertion_point(builder_implements:GetPostsByAuthorArgs)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgsOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_DeletePostArgs_descriptor;
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsByAuthorArgs_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_DeletePostArgs_fieldAccessorTable
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsByAuthorArgs_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs.Builder.class);
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs.Builder.class);
       }
 
-      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs.newBuilder()
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -6979,27 +7679,29 @@ public final class ContentProtoBuf {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        postId_ = "";
+        userId_ = "";
 
-        password_ = "";
+        cursor_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
+        limit_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_DeletePostArgs_descriptor;
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsByAuthorArgs_descriptor;
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs getDefaultInstanceForType() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs.getDefaultInstance();
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs.getDefaultInstance();
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs build() {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs result = buildPartial();
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -7007,15 +7709,19 @@ public final class ContentProtoBuf {
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs buildPartial() {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs(this);
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs(this);
         int from_bitField0_ = bitField0_;
         int to_bitField0_ = 0;
-        result.postId_ = postId_;
+        result.userId_ = userId_;
         if (((from_bitField0_ & 0x00000001) != 0)) {
           to_bitField0_ |= 0x00000001;
         }
-        result.password_ = password_;
+        result.cursor_ = cursor_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.limit_ = limit_;
+          to_bitField0_ |= 0x00000002;
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -7055,25 +7761,28 @@ public final class ContentProtoBuf {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs) {
-          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs)other);
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs other) {
-        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs.getDefaultInstance()) return this;
-        if (!other.getPostId().isEmpty()) {
-          postId_ = other.postId_;
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs.getDefaultInstance()) return this;
+        if (!other.getUserId().isEmpty()) {
+          userId_ = other.userId_;
           onChanged();
         }
-        if (other.hasPassword()) {
+        if (other.hasCursor()) {
           bitField0_ |= 0x00000001;
-          password_ = other.password_;
+          cursor_ = other.cursor_;
           onChanged();
         }
+        if (other.hasLimit()) {
+          setLimit(other.getLimit());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -7089,11 +7798,11 @@ public final class ContentProtoBuf {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parsedMessage = null;
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs) e.getUnfinishedMessage();
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -7104,161 +7813,200 @@ public final class ContentProtoBuf {
       }
       private int bitField0_;
 
-      private java.lang.Object postId_ = "";
+      private java.lang.Object userId_ = "";
       /**
-       * <code>string postId = 1;</code>
-       * @return The postId.
+       * <code>string userId = 1;</code>
+       * @return The userId.
        */
-      public java.lang.String getPostId() {
-        java.lang.Object ref = postId_;
+      public java.lang.String getUserId() {
+        java.lang.Object ref = userId_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          postId_ = s;
+          userId_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string postId = 1;</code>
-       * @return The bytes for postId.
+       * <code>string userId = 1;</code>
+       * @return The bytes for userId.
        */
       public com.google.protobuf.ByteString
-          getPostIdBytes() {
-        java.lang.Object ref = postId_;
+          getUserIdBytes() {
+        java.lang.Object ref = userId_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          postId_ = b;
+          userId_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string postId = 1;</code>
-       * @param value The postId to set.
+       * <code>string userId = 1;</code>
+       * @param value The userId to set.
        * @return This builder for chaining.
        */
-      public Builder setPostId(
+      public Builder setUserId(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        postId_ = value;
+        userId_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string postId = 1;</code>
+       * <code>string userId = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearPostId() {
+      public Builder clearUserId() {
         
-        postId_ = getDefaultInstance().getPostId();
+        userId_ = getDefaultInstance().getUserId();
         onChanged();
         return this;
       }
       /**
-       * <code>string postId = 1;</code>
-       * @param value The bytes for postId to set.
+       * <code>string userId = 1;</code>
+       * @param value The bytes for userId to set.
        * @return This builder for chaining.
        */
-      public Builder setPostIdBytes(
+      public Builder setUserIdBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        postId_ = value;
+        userId_ = value;
         onChanged();
         return this;
       }
 
-      private java.lang.Object password_ = "";
+      private java.lang.Object cursor_ = "";
       /**
-       * <code>optional string password = 2;</code>
-       * @return Whether the password field is set.
+       * <code>optional string cursor = 2;</code>
+       * @return Whether the cursor field is set.
        */
-      public boolean hasPassword() {
+      public boolean hasCursor() {
         return ((bitField0_ & 0x00000001) != 0);
       }
       /**
-       * <code>optional string password = 2;</code>
-       * @return The password.
+       * <code>optional string cursor = 2;</code>
+       * @return The cursor.
        */
-      public java.lang.String getPassword() {
-        java.lang.Object ref = password_;
+      public java.lang.String getCursor() {
+        java.lang.Object ref = cursor_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          password_ = s;
+          cursor_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>optional string password = 2;</code>
-       * @return The bytes for password.
+       * <code>optional string cursor = 2;</code>
+       * @return The bytes for cursor.
        */
       public com.google.protobuf.ByteString
-          getPasswordBytes() {
-        java.lang.Object ref = password_;
+          getCursorBytes() {
+        java.lang.Object ref = cursor_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          password_ = b;
+          cursor_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>optional string password = 2;</code>
-       * @param value The password to set.
+       * <code>optional string cursor = 2;</code>
+       * @param value The cursor to set.
        * @return This builder for chaining.
        */
-      public Builder setPassword(
+      public Builder setCursor(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   bitField0_ |= 0x00000001;
-        password_ = value;
+        cursor_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>optional string password = 2;</code>
+       * <code>optional string cursor = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearPassword() {
+      public Builder clearCursor() {
         bitField0_ = (bitField0_ & ~0x00000001);
-        password_ = getDefaultInstance().getPassword();
+        cursor_ = getDefaultInstance().getCursor();
         onChanged();
         return this;
       }
       /**
-       * <code>optional string password = 2;</code>
-       * @param value The bytes for password to set.
+       * <code>optional string cursor = 2;</code>
+       * @param value The bytes for cursor to set.
        * @return This builder for chaining.
        */
-      public Builder setPasswordBytes(
+      public Builder setCursorBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         bitField0_ |= 0x00000001;
-        password_ = value;
+        cursor_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int limit_ ;
+      /**
+       * <code>optional int32 limit = 3;</code>
+       * @return Whether the limit field is set.
+       */
+      @java.lang.Override
+      public boolean hasLimit() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional int32 limit = 3;</code>
+       * @return The limit.
+       */
+      @java.lang.Override
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>optional int32 limit = 3;</code>
+       * @param value The limit to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLimit(int value) {
+        bitField0_ |= 0x00000002;
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 limit = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLimit() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        limit_ = 0;
         onChanged();
         return this;
       }
@@ -7275,48 +8023,48 @@ public final class ContentProtoBuf {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:DeletePostArgs)
+      // @@protoc_insertion_point(builder_scope:GetPostsByAuthorArgs)
     }
 
-    // @@protoc_insertion_point(class_scope:DeletePostArgs)
-    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:GetPostsByAuthorArgs)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs();
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs();
     }
 
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs getDefaultInstance() {
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<DeletePostArgs>
-        PARSER = new com.google.protobuf.AbstractParser<DeletePostArgs>() {
+    private static final com.google.protobuf.Parser<GetPostsByAuthorArgs>
+        PARSER = new com.google.protobuf.AbstractParser<GetPostsByAuthorArgs>() {
       @java.lang.Override
-      public DeletePostArgs parsePartialFrom(
+      public GetPostsByAuthorArgs parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new DeletePostArgs(input, extensionRegistry);
+        return new GetPostsByAuthorArgs(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<DeletePostArgs> parser() {
+    public static com.google.protobuf.Parser<GetPostsByAuthorArgs> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<DeletePostArgs> getParserForType() {
+    public com.google.protobuf.Parser<GetPostsByAuthorArgs> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs getDefaultInstanceForType() {
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface ChangeVoteArgsOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:ChangeVoteArgs)
+  public interface GetPostArgsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GetPostArgs)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -7330,59 +8078,28 @@ public final class ContentProtoBuf {
      */
     com.google.protobuf.ByteString
         getPostIdBytes();
-
-    /**
-     * <code>string userId = 2;</code>
-     * @return The userId.
-     */
-    java.lang.String getUserId();
-    /**
-     * <code>string userId = 2;</code>
-     * @return The bytes for userId.
-     */
-    com.google.protobuf.ByteString
-        getUserIdBytes();
-
-    /**
-     * <code>optional string password = 3;</code>
-     * @return Whether the password field is set.
-     */
-    boolean hasPassword();
-    /**
-     * <code>optional string password = 3;</code>
-     * @return The password.
-     */
-    java.lang.String getPassword();
-    /**
-     * <code>optional string password = 3;</code>
-     * @return The bytes for password.
-     */
-    com.google.protobuf.ByteString
-        getPasswordBytes();
   }
   /**
-   * Protobuf type {@code ChangeVoteArgs}
+   * Protobuf type {@code GetPostArgs}
    */
-  public static final class ChangeVoteArgs extends
+  public static final class GetPostArgs extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:ChangeVoteArgs)
-      ChangeVoteArgsOrBuilder {
+      // @@protoc_insertion_point(message_implements:GetPostArgs)
+      GetPostArgsOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use ChangeVoteArgs.newBuilder() to construct.
-    private ChangeVoteArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use GetPostArgs.newBuilder() to construct.
+    private GetPostArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private ChangeVoteArgs() {
+    private GetPostArgs() {
       postId_ = "";
-      userId_ = "";
-      password_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new ChangeVoteArgs();
+      return new GetPostArgs();
     }
 
     @java.lang.Override
@@ -7390,7 +8107,7 @@ public final class ContentProtoBuf {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private ChangeVoteArgs(
+    private GetPostArgs(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -7398,7 +8115,6 @@ public final class ContentProtoBuf {
       if (extensionRegistry == null) {
         throw new java.lang.NullPointerException();
       }
-      int mutable_bitField0_ = 0;
       com.google.protobuf.UnknownFieldSet.Builder unknownFields =
           com.google.protobuf.UnknownFieldSet.newBuilder();
       try {
@@ -7415,18 +8131,6 @@ public final class ContentProtoBuf {
               postId_ = s;
               break;
             }
-            case 18: {
-              java.lang.String s = input.readStringRequireUtf8();
-
-              userId_ = s;
-              break;
-            }
-            case 26: {
-              java.lang.String s = input.readStringRequireUtf8();
-              bitField0_ |= 0x00000001;
-              password_ = s;
-              break;
-            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -7450,18 +8154,17 @@ public final class ContentProtoBuf {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_ChangeVoteArgs_descriptor;
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostArgs_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_ChangeVoteArgs_fieldAccessorTable
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostArgs_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs.Builder.class);
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.Builder.class);
     }
 
-    private int bitField0_;
     public static final int POSTID_FIELD_NUMBER = 1;
     private volatile java.lang.Object postId_;
     /**
@@ -7500,99 +8203,15 @@ public final class ContentProtoBuf {
       }
     }
 
-    public static final int USERID_FIELD_NUMBER = 2;
-    private volatile java.lang.Object userId_;
-    /**
-     * <code>string userId = 2;</code>
-     * @return The userId.
-     */
+    private byte memoizedIsInitialized = -1;
     @java.lang.Override
-    public java.lang.String getUserId() {
-      java.lang.Object ref = userId_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        userId_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>string userId = 2;</code>
-     * @return The bytes for userId.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getUserIdBytes() {
-      java.lang.Object ref = userId_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        userId_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int PASSWORD_FIELD_NUMBER = 3;
-    private volatile java.lang.Object password_;
-    /**
-     * <code>optional string password = 3;</code>
-     * @return Whether the password field is set.
-     */
-    @java.lang.Override
-    public boolean hasPassword() {
-      return ((bitField0_ & 0x00000001) != 0);
-    }
-    /**
-     * <code>optional string password = 3;</code>
-     * @return The password.
-     */
-    @java.lang.Override
-    public java.lang.String getPassword() {
-      java.lang.Object ref = password_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        password_ = s;
-        return s;
-      }
-    }
-    /**
-     * <code>optional string password = 3;</code>
-     * @return The bytes for password.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getPasswordBytes() {
-      java.lang.Object ref = password_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        password_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    private byte memoizedIsInitialized = -1;
-    @java.lang.Override
-    public final boolean isInitialized() {
-      byte isInitialized = memoizedIsInitialized;
-      if (isInitialized == 1) return true;
-      if (isInitialized == 0) return false;
-
-      memoizedIsInitialized = 1;
-      return true;
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
     }
 
     @java.lang.Override
@@ -7601,12 +8220,6 @@ public final class ContentProtoBuf {
       if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, postId_);
       }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(userId_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, userId_);
-      }
-      if (((bitField0_ & 0x00000001) != 0)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, password_);
-      }
       unknownFields.writeTo(output);
     }
 
@@ -7619,12 +8232,6 @@ public final class ContentProtoBuf {
       if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, postId_);
       }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(userId_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, userId_);
-      }
-      if (((bitField0_ & 0x00000001) != 0)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, password_);
-      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -7635,20 +8242,13 @@ public final class ContentProtoBuf {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs)) {
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs)) {
         return super.equals(obj);
       }
-      fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs) obj;
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs) obj;
 
       if (!getPostId()
           .equals(other.getPostId())) return false;
-      if (!getUserId()
-          .equals(other.getUserId())) return false;
-      if (hasPassword() != other.hasPassword()) return false;
-      if (hasPassword()) {
-        if (!getPassword()
-            .equals(other.getPassword())) return false;
-      }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -7662,80 +8262,74 @@ public final class ContentProtoBuf {
       hash = (19 * hash) + getDescriptor().hashCode();
       hash = (37 * hash) + POSTID_FIELD_NUMBER;
       hash = (53 * hash) + getPostId().hashCode();
-      hash = (37 * hash) + USERID_FIELD_NUMBER;
-      hash = (53 * hash) + getUserId().hashCode();
-      if (hasPassword()) {
-        hash = (37 * hash) + PASSWORD_FIELD_NUMBER;
-        hash = (53 * hash) + getPassword().hashCode();
-      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseFrom(byte[] data)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseDelimitedFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseDelimitedFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -7748,7 +8342,7 @@ public final class ContentProtoBuf {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs prototype) {
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -7764,26 +8358,26 @@ public final class ContentProtoBuf {
       return builder;
     }
     /**
-     * Protobuf type {@code ChangeVoteArgs}
+     * Protobuf type {@code GetPostArgs}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:ChangeVoteArgs)
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgsOrBuilder {
+        // @@protoc_insertion_point(builder_implements:GetPostArgs)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgsOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_ChangeVoteArgs_descriptor;
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostArgs_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_ChangeVoteArgs_fieldAccessorTable
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostArgs_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs.Builder.class);
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.Builder.class);
       }
 
-      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs.newBuilder()
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -7803,27 +8397,23 @@ public final class ContentProtoBuf {
         super.clear();
         postId_ = "";
 
-        userId_ = "";
-
-        password_ = "";
-        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_ChangeVoteArgs_descriptor;
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostArgs_descriptor;
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs getDefaultInstanceForType() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs.getDefaultInstance();
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.getDefaultInstance();
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs build() {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs result = buildPartial();
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -7831,17 +8421,9 @@ public final class ContentProtoBuf {
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs buildPartial() {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs(this);
-        int from_bitField0_ = bitField0_;
-        int to_bitField0_ = 0;
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs(this);
         result.postId_ = postId_;
-        result.userId_ = userId_;
-        if (((from_bitField0_ & 0x00000001) != 0)) {
-          to_bitField0_ |= 0x00000001;
-        }
-        result.password_ = password_;
-        result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
       }
@@ -7880,29 +8462,20 @@ public final class ContentProtoBuf {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs) {
-          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs)other);
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs other) {
-        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs.getDefaultInstance()) return this;
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs.getDefaultInstance()) return this;
         if (!other.getPostId().isEmpty()) {
           postId_ = other.postId_;
           onChanged();
         }
-        if (!other.getUserId().isEmpty()) {
-          userId_ = other.userId_;
-          onChanged();
-        }
-        if (other.hasPassword()) {
-          bitField0_ |= 0x00000001;
-          password_ = other.password_;
-          onChanged();
-        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -7918,11 +8491,11 @@ public final class ContentProtoBuf {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parsedMessage = null;
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs) e.getUnfinishedMessage();
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -7931,7 +8504,6 @@ public final class ContentProtoBuf {
         }
         return this;
       }
-      private int bitField0_;
 
       private java.lang.Object postId_ = "";
       /**
@@ -8008,163 +8580,13328 @@ public final class ContentProtoBuf {
         onChanged();
         return this;
       }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
 
-      private java.lang.Object userId_ = "";
-      /**
-       * <code>string userId = 2;</code>
-       * @return The userId.
-       */
-      public java.lang.String getUserId() {
-        java.lang.Object ref = userId_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          userId_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
       }
-      /**
-       * <code>string userId = 2;</code>
-       * @return The bytes for userId.
-       */
-      public com.google.protobuf.ByteString
-          getUserIdBytes() {
-        java.lang.Object ref = userId_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          userId_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
+
+
+      // @@protoc_insertion_point(builder_scope:GetPostArgs)
+    }
+
+    // @@protoc_insertion_point(class_scope:GetPostArgs)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetPostArgs>
+        PARSER = new com.google.protobuf.AbstractParser<GetPostArgs>() {
+      @java.lang.Override
+      public GetPostArgs parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetPostArgs(input, extensionRegistry);
       }
-      /**
-       * <code>string userId = 2;</code>
-       * @param value The userId to set.
-       * @return This builder for chaining.
+    };
+
+    public static com.google.protobuf.Parser<GetPostArgs> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetPostArgs> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetPostsBatchArgsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GetPostsBatchArgs)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated string postId = 1;</code>
+     * @return A list containing the postId.
+     */
+    java.util.List<java.lang.String>
+        getPostIdList();
+    /**
+     * <code>repeated string postId = 1;</code>
+     * @return The count of postId.
+     */
+    int getPostIdCount();
+    /**
+     * <code>repeated string postId = 1;</code>
+     * @param index The index of the element to return.
+     * @return The postId at the given index.
+     */
+    java.lang.String getPostId(int index);
+    /**
+     * <code>repeated string postId = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the postId at the given index.
+     */
+    com.google.protobuf.ByteString
+        getPostIdBytes(int index);
+  }
+  /**
+   * Protobuf type {@code GetPostsBatchArgs}
+   */
+  public static final class GetPostsBatchArgs extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:GetPostsBatchArgs)
+      GetPostsBatchArgsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetPostsBatchArgs.newBuilder() to construct.
+    private GetPostsBatchArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetPostsBatchArgs() {
+      postId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetPostsBatchArgs();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetPostsBatchArgs(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                postId_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              postId_.add(s);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          postId_ = postId_.getUnmodifiableView();
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsBatchArgs_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsBatchArgs_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs.Builder.class);
+    }
+
+    public static final int POSTID_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList postId_;
+    /**
+     * <code>repeated string postId = 1;</code>
+     * @return A list containing the postId.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getPostIdList() {
+      return postId_;
+    }
+    /**
+     * <code>repeated string postId = 1;</code>
+     * @return The count of postId.
+     */
+    public int getPostIdCount() {
+      return postId_.size();
+    }
+    /**
+     * <code>repeated string postId = 1;</code>
+     * @param index The index of the element to return.
+     * @return The postId at the given index.
+     */
+    public java.lang.String getPostId(int index) {
+      return postId_.get(index);
+    }
+    /**
+     * <code>repeated string postId = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the postId at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getPostIdBytes(int index) {
+      return postId_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < postId_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, postId_.getRaw(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < postId_.size(); i++) {
+          dataSize += computeStringSizeNoTag(postId_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getPostIdList().size();
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs)) {
+        return super.equals(obj);
+      }
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs) obj;
+
+      if (!getPostIdList()
+          .equals(other.getPostIdList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getPostIdCount() > 0) {
+        hash = (37 * hash) + POSTID_FIELD_NUMBER;
+        hash = (53 * hash) + getPostIdList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code GetPostsBatchArgs}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:GetPostsBatchArgs)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsBatchArgs_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsBatchArgs_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs.Builder.class);
+      }
+
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        postId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsBatchArgs_descriptor;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          postId_ = postId_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.postId_ = postId_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs.getDefaultInstance()) return this;
+        if (!other.postId_.isEmpty()) {
+          if (postId_.isEmpty()) {
+            postId_ = other.postId_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensurePostIdIsMutable();
+            postId_.addAll(other.postId_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringList postId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensurePostIdIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          postId_ = new com.google.protobuf.LazyStringArrayList(postId_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated string postId = 1;</code>
+       * @return A list containing the postId.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getPostIdList() {
+        return postId_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string postId = 1;</code>
+       * @return The count of postId.
+       */
+      public int getPostIdCount() {
+        return postId_.size();
+      }
+      /**
+       * <code>repeated string postId = 1;</code>
+       * @param index The index of the element to return.
+       * @return The postId at the given index.
+       */
+      public java.lang.String getPostId(int index) {
+        return postId_.get(index);
+      }
+      /**
+       * <code>repeated string postId = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the postId at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getPostIdBytes(int index) {
+        return postId_.getByteString(index);
+      }
+      /**
+       * <code>repeated string postId = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The postId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPostId(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePostIdIsMutable();
+        postId_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string postId = 1;</code>
+       * @param value The postId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPostId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePostIdIsMutable();
+        postId_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string postId = 1;</code>
+       * @param values The postId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPostId(
+          java.lang.Iterable<java.lang.String> values) {
+        ensurePostIdIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, postId_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string postId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPostId() {
+        postId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string postId = 1;</code>
+       * @param value The bytes of the postId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPostIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        ensurePostIdIsMutable();
+        postId_.add(value);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:GetPostsBatchArgs)
+    }
+
+    // @@protoc_insertion_point(class_scope:GetPostsBatchArgs)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetPostsBatchArgs>
+        PARSER = new com.google.protobuf.AbstractParser<GetPostsBatchArgs>() {
+      @java.lang.Override
+      public GetPostsBatchArgs parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetPostsBatchArgs(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetPostsBatchArgs> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetPostsBatchArgs> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetPostsBatchResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GetPostsBatchResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .GrpcPost post = 1;</code>
+     */
+    java.util.List<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost> 
+        getPostList();
+    /**
+     * <code>repeated .GrpcPost post = 1;</code>
+     */
+    fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost getPost(int index);
+    /**
+     * <code>repeated .GrpcPost post = 1;</code>
+     */
+    int getPostCount();
+    /**
+     * <code>repeated .GrpcPost post = 1;</code>
+     */
+    java.util.List<? extends fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder> 
+        getPostOrBuilderList();
+    /**
+     * <code>repeated .GrpcPost post = 1;</code>
+     */
+    fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder getPostOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code GetPostsBatchResult}
+   */
+  public static final class GetPostsBatchResult extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:GetPostsBatchResult)
+      GetPostsBatchResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetPostsBatchResult.newBuilder() to construct.
+    private GetPostsBatchResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetPostsBatchResult() {
+      post_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetPostsBatchResult();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetPostsBatchResult(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                post_ = new java.util.ArrayList<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              post_.add(
+                  input.readMessage(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          post_ = java.util.Collections.unmodifiableList(post_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsBatchResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsBatchResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult.Builder.class);
+    }
+
+    public static final int POST_FIELD_NUMBER = 1;
+    private java.util.List<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost> post_;
+    /**
+     * <code>repeated .GrpcPost post = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost> getPostList() {
+      return post_;
+    }
+    /**
+     * <code>repeated .GrpcPost post = 1;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder> 
+        getPostOrBuilderList() {
+      return post_;
+    }
+    /**
+     * <code>repeated .GrpcPost post = 1;</code>
+     */
+    @java.lang.Override
+    public int getPostCount() {
+      return post_.size();
+    }
+    /**
+     * <code>repeated .GrpcPost post = 1;</code>
+     */
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost getPost(int index) {
+      return post_.get(index);
+    }
+    /**
+     * <code>repeated .GrpcPost post = 1;</code>
+     */
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder getPostOrBuilder(
+        int index) {
+      return post_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < post_.size(); i++) {
+        output.writeMessage(1, post_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      for (int i = 0; i < post_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, post_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult)) {
+        return super.equals(obj);
+      }
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult) obj;
+
+      if (!getPostList()
+          .equals(other.getPostList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getPostCount() > 0) {
+        hash = (37 * hash) + POST_FIELD_NUMBER;
+        hash = (53 * hash) + getPostList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code GetPostsBatchResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:GetPostsBatchResult)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsBatchResult_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsBatchResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult.Builder.class);
+      }
+
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getPostFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (postBuilder_ == null) {
+          post_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          postBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostsBatchResult_descriptor;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult(this);
+        int from_bitField0_ = bitField0_;
+        if (postBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            post_ = java.util.Collections.unmodifiableList(post_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.post_ = post_;
+        } else {
+          result.post_ = postBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult.getDefaultInstance()) return this;
+        if (postBuilder_ == null) {
+          if (!other.post_.isEmpty()) {
+            if (post_.isEmpty()) {
+              post_ = other.post_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensurePostIsMutable();
+              post_.addAll(other.post_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.post_.isEmpty()) {
+            if (postBuilder_.isEmpty()) {
+              postBuilder_.dispose();
+              postBuilder_ = null;
+              post_ = other.post_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              postBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPostFieldBuilder() : null;
+            } else {
+              postBuilder_.addAllMessages(other.post_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost> post_ =
+        java.util.Collections.emptyList();
+      private void ensurePostIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          post_ = new java.util.ArrayList<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost>(post_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder> postBuilder_;
+
+      /**
+       * <code>repeated .GrpcPost post = 1;</code>
+       */
+      public java.util.List<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost> getPostList() {
+        if (postBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(post_);
+        } else {
+          return postBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .GrpcPost post = 1;</code>
+       */
+      public int getPostCount() {
+        if (postBuilder_ == null) {
+          return post_.size();
+        } else {
+          return postBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .GrpcPost post = 1;</code>
+       */
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost getPost(int index) {
+        if (postBuilder_ == null) {
+          return post_.get(index);
+        } else {
+          return postBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .GrpcPost post = 1;</code>
+       */
+      public Builder setPost(
+          int index, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost value) {
+        if (postBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePostIsMutable();
+          post_.set(index, value);
+          onChanged();
+        } else {
+          postBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .GrpcPost post = 1;</code>
+       */
+      public Builder setPost(
+          int index, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder builderForValue) {
+        if (postBuilder_ == null) {
+          ensurePostIsMutable();
+          post_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          postBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .GrpcPost post = 1;</code>
+       */
+      public Builder addPost(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost value) {
+        if (postBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePostIsMutable();
+          post_.add(value);
+          onChanged();
+        } else {
+          postBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .GrpcPost post = 1;</code>
+       */
+      public Builder addPost(
+          int index, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost value) {
+        if (postBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePostIsMutable();
+          post_.add(index, value);
+          onChanged();
+        } else {
+          postBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .GrpcPost post = 1;</code>
+       */
+      public Builder addPost(
+          fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder builderForValue) {
+        if (postBuilder_ == null) {
+          ensurePostIsMutable();
+          post_.add(builderForValue.build());
+          onChanged();
+        } else {
+          postBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .GrpcPost post = 1;</code>
+       */
+      public Builder addPost(
+          int index, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder builderForValue) {
+        if (postBuilder_ == null) {
+          ensurePostIsMutable();
+          post_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          postBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .GrpcPost post = 1;</code>
+       */
+      public Builder addAllPost(
+          java.lang.Iterable<? extends fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost> values) {
+        if (postBuilder_ == null) {
+          ensurePostIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, post_);
+          onChanged();
+        } else {
+          postBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .GrpcPost post = 1;</code>
+       */
+      public Builder clearPost() {
+        if (postBuilder_ == null) {
+          post_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          postBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .GrpcPost post = 1;</code>
+       */
+      public Builder removePost(int index) {
+        if (postBuilder_ == null) {
+          ensurePostIsMutable();
+          post_.remove(index);
+          onChanged();
+        } else {
+          postBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .GrpcPost post = 1;</code>
+       */
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder getPostBuilder(
+          int index) {
+        return getPostFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .GrpcPost post = 1;</code>
+       */
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder getPostOrBuilder(
+          int index) {
+        if (postBuilder_ == null) {
+          return post_.get(index);  } else {
+          return postBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .GrpcPost post = 1;</code>
+       */
+      public java.util.List<? extends fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder> 
+           getPostOrBuilderList() {
+        if (postBuilder_ != null) {
+          return postBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(post_);
+        }
+      }
+      /**
+       * <code>repeated .GrpcPost post = 1;</code>
+       */
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder addPostBuilder() {
+        return getPostFieldBuilder().addBuilder(
+            fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .GrpcPost post = 1;</code>
+       */
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder addPostBuilder(
+          int index) {
+        return getPostFieldBuilder().addBuilder(
+            index, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .GrpcPost post = 1;</code>
+       */
+      public java.util.List<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder> 
+           getPostBuilderList() {
+        return getPostFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder> 
+          getPostFieldBuilder() {
+        if (postBuilder_ == null) {
+          postBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder>(
+                  post_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          post_ = null;
+        }
+        return postBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:GetPostsBatchResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:GetPostsBatchResult)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetPostsBatchResult>
+        PARSER = new com.google.protobuf.AbstractParser<GetPostsBatchResult>() {
+      @java.lang.Override
+      public GetPostsBatchResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetPostsBatchResult(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetPostsBatchResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetPostsBatchResult> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetPostAnswersArgsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GetPostAnswersArgs)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string postId = 1;</code>
+     * @return The postId.
+     */
+    java.lang.String getPostId();
+    /**
+     * <code>string postId = 1;</code>
+     * @return The bytes for postId.
+     */
+    com.google.protobuf.ByteString
+        getPostIdBytes();
+
+    /**
+     * <code>optional int64 timeout = 2;</code>
+     * @return Whether the timeout field is set.
+     */
+    boolean hasTimeout();
+    /**
+     * <code>optional int64 timeout = 2;</code>
+     * @return The timeout.
+     */
+    long getTimeout();
+  }
+  /**
+   * Protobuf type {@code GetPostAnswersArgs}
+   */
+  public static final class GetPostAnswersArgs extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:GetPostAnswersArgs)
+      GetPostAnswersArgsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetPostAnswersArgs.newBuilder() to construct.
+    private GetPostAnswersArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetPostAnswersArgs() {
+      postId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetPostAnswersArgs();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetPostAnswersArgs(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              postId_ = s;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000001;
+              timeout_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostAnswersArgs_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostAnswersArgs_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int POSTID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object postId_;
+    /**
+     * <code>string postId = 1;</code>
+     * @return The postId.
+     */
+    @java.lang.Override
+    public java.lang.String getPostId() {
+      java.lang.Object ref = postId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        postId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string postId = 1;</code>
+     * @return The bytes for postId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPostIdBytes() {
+      java.lang.Object ref = postId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        postId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int TIMEOUT_FIELD_NUMBER = 2;
+    private long timeout_;
+    /**
+     * <code>optional int64 timeout = 2;</code>
+     * @return Whether the timeout field is set.
+     */
+    @java.lang.Override
+    public boolean hasTimeout() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional int64 timeout = 2;</code>
+     * @return The timeout.
+     */
+    @java.lang.Override
+    public long getTimeout() {
+      return timeout_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, postId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt64(2, timeout_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, postId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, timeout_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs)) {
+        return super.equals(obj);
+      }
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs) obj;
+
+      if (!getPostId()
+          .equals(other.getPostId())) return false;
+      if (hasTimeout() != other.hasTimeout()) return false;
+      if (hasTimeout()) {
+        if (getTimeout()
+            != other.getTimeout()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + POSTID_FIELD_NUMBER;
+      hash = (53 * hash) + getPostId().hashCode();
+      if (hasTimeout()) {
+        hash = (37 * hash) + TIMEOUT_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTimeout());
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code GetPostAnswersArgs}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:GetPostAnswersArgs)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostAnswersArgs_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostAnswersArgs_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs.Builder.class);
+      }
+
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        postId_ = "";
+
+        timeout_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetPostAnswersArgs_descriptor;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.postId_ = postId_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.timeout_ = timeout_;
+          to_bitField0_ |= 0x00000001;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs.getDefaultInstance()) return this;
+        if (!other.getPostId().isEmpty()) {
+          postId_ = other.postId_;
+          onChanged();
+        }
+        if (other.hasTimeout()) {
+          setTimeout(other.getTimeout());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object postId_ = "";
+      /**
+       * <code>string postId = 1;</code>
+       * @return The postId.
+       */
+      public java.lang.String getPostId() {
+        java.lang.Object ref = postId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          postId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @return The bytes for postId.
+       */
+      public com.google.protobuf.ByteString
+          getPostIdBytes() {
+        java.lang.Object ref = postId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          postId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @param value The postId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPostId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        postId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPostId() {
+        
+        postId_ = getDefaultInstance().getPostId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @param value The bytes for postId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPostIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        postId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long timeout_ ;
+      /**
+       * <code>optional int64 timeout = 2;</code>
+       * @return Whether the timeout field is set.
+       */
+      @java.lang.Override
+      public boolean hasTimeout() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional int64 timeout = 2;</code>
+       * @return The timeout.
+       */
+      @java.lang.Override
+      public long getTimeout() {
+        return timeout_;
+      }
+      /**
+       * <code>optional int64 timeout = 2;</code>
+       * @param value The timeout to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimeout(long value) {
+        bitField0_ |= 0x00000001;
+        timeout_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 timeout = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimeout() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        timeout_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:GetPostAnswersArgs)
+    }
+
+    // @@protoc_insertion_point(class_scope:GetPostAnswersArgs)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetPostAnswersArgs>
+        PARSER = new com.google.protobuf.AbstractParser<GetPostAnswersArgs>() {
+      @java.lang.Override
+      public GetPostAnswersArgs parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetPostAnswersArgs(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetPostAnswersArgs> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetPostAnswersArgs> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetThreadArgsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GetThreadArgs)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string postId = 1;</code>
+     * @return The postId.
+     */
+    java.lang.String getPostId();
+    /**
+     * <code>string postId = 1;</code>
+     * @return The bytes for postId.
+     */
+    com.google.protobuf.ByteString
+        getPostIdBytes();
+
+    /**
+     * <code>optional int32 maxDepth = 2;</code>
+     * @return Whether the maxDepth field is set.
+     */
+    boolean hasMaxDepth();
+    /**
+     * <code>optional int32 maxDepth = 2;</code>
+     * @return The maxDepth.
+     */
+    int getMaxDepth();
+
+    /**
+     * <code>optional int32 limit = 3;</code>
+     * @return Whether the limit field is set.
+     */
+    boolean hasLimit();
+    /**
+     * <code>optional int32 limit = 3;</code>
+     * @return The limit.
+     */
+    int getLimit();
+  }
+  /**
+   * Protobuf type {@code GetThreadArgs}
+   */
+  public static final class GetThreadArgs extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:GetThreadArgs)
+      GetThreadArgsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetThreadArgs.newBuilder() to construct.
+    private GetThreadArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetThreadArgs() {
+      postId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetThreadArgs();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetThreadArgs(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              postId_ = s;
+              break;
+            }
+            case 16: {
+              bitField0_ |= 0x00000001;
+              maxDepth_ = input.readInt32();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000002;
+              limit_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetThreadArgs_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetThreadArgs_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int POSTID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object postId_;
+    /**
+     * <code>string postId = 1;</code>
+     * @return The postId.
+     */
+    @java.lang.Override
+    public java.lang.String getPostId() {
+      java.lang.Object ref = postId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        postId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string postId = 1;</code>
+     * @return The bytes for postId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPostIdBytes() {
+      java.lang.Object ref = postId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        postId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int MAXDEPTH_FIELD_NUMBER = 2;
+    private int maxDepth_;
+    /**
+     * <code>optional int32 maxDepth = 2;</code>
+     * @return Whether the maxDepth field is set.
+     */
+    @java.lang.Override
+    public boolean hasMaxDepth() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional int32 maxDepth = 2;</code>
+     * @return The maxDepth.
+     */
+    @java.lang.Override
+    public int getMaxDepth() {
+      return maxDepth_;
+    }
+
+    public static final int LIMIT_FIELD_NUMBER = 3;
+    private int limit_;
+    /**
+     * <code>optional int32 limit = 3;</code>
+     * @return Whether the limit field is set.
+     */
+    @java.lang.Override
+    public boolean hasLimit() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional int32 limit = 3;</code>
+     * @return The limit.
+     */
+    @java.lang.Override
+    public int getLimit() {
+      return limit_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, postId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeInt32(2, maxDepth_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt32(3, limit_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, postId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, maxDepth_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, limit_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs)) {
+        return super.equals(obj);
+      }
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs) obj;
+
+      if (!getPostId()
+          .equals(other.getPostId())) return false;
+      if (hasMaxDepth() != other.hasMaxDepth()) return false;
+      if (hasMaxDepth()) {
+        if (getMaxDepth()
+            != other.getMaxDepth()) return false;
+      }
+      if (hasLimit() != other.hasLimit()) return false;
+      if (hasLimit()) {
+        if (getLimit()
+            != other.getLimit()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + POSTID_FIELD_NUMBER;
+      hash = (53 * hash) + getPostId().hashCode();
+      if (hasMaxDepth()) {
+        hash = (37 * hash) + MAXDEPTH_FIELD_NUMBER;
+        hash = (53 * hash) + getMaxDepth();
+      }
+      if (hasLimit()) {
+        hash = (37 * hash) + LIMIT_FIELD_NUMBER;
+        hash = (53 * hash) + getLimit();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code GetThreadArgs}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:GetThreadArgs)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetThreadArgs_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetThreadArgs_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs.Builder.class);
+      }
+
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        postId_ = "";
+
+        maxDepth_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        limit_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetThreadArgs_descriptor;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.postId_ = postId_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          result.maxDepth_ = maxDepth_;
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.limit_ = limit_;
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs.getDefaultInstance()) return this;
+        if (!other.getPostId().isEmpty()) {
+          postId_ = other.postId_;
+          onChanged();
+        }
+        if (other.hasMaxDepth()) {
+          setMaxDepth(other.getMaxDepth());
+        }
+        if (other.hasLimit()) {
+          setLimit(other.getLimit());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object postId_ = "";
+      /**
+       * <code>string postId = 1;</code>
+       * @return The postId.
+       */
+      public java.lang.String getPostId() {
+        java.lang.Object ref = postId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          postId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @return The bytes for postId.
+       */
+      public com.google.protobuf.ByteString
+          getPostIdBytes() {
+        java.lang.Object ref = postId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          postId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @param value The postId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPostId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        postId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPostId() {
+        
+        postId_ = getDefaultInstance().getPostId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @param value The bytes for postId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPostIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        postId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int maxDepth_ ;
+      /**
+       * <code>optional int32 maxDepth = 2;</code>
+       * @return Whether the maxDepth field is set.
+       */
+      @java.lang.Override
+      public boolean hasMaxDepth() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional int32 maxDepth = 2;</code>
+       * @return The maxDepth.
+       */
+      @java.lang.Override
+      public int getMaxDepth() {
+        return maxDepth_;
+      }
+      /**
+       * <code>optional int32 maxDepth = 2;</code>
+       * @param value The maxDepth to set.
+       * @return This builder for chaining.
+       */
+      public Builder setMaxDepth(int value) {
+        bitField0_ |= 0x00000001;
+        maxDepth_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 maxDepth = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearMaxDepth() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        maxDepth_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int limit_ ;
+      /**
+       * <code>optional int32 limit = 3;</code>
+       * @return Whether the limit field is set.
+       */
+      @java.lang.Override
+      public boolean hasLimit() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional int32 limit = 3;</code>
+       * @return The limit.
+       */
+      @java.lang.Override
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>optional int32 limit = 3;</code>
+       * @param value The limit to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLimit(int value) {
+        bitField0_ |= 0x00000002;
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 limit = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLimit() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        limit_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:GetThreadArgs)
+    }
+
+    // @@protoc_insertion_point(class_scope:GetThreadArgs)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetThreadArgs>
+        PARSER = new com.google.protobuf.AbstractParser<GetThreadArgs>() {
+      @java.lang.Override
+      public GetThreadArgs parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetThreadArgs(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetThreadArgs> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetThreadArgs> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ThreadNodeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ThreadNode)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>.GrpcPost post = 1;</code>
+     * @return Whether the post field is set.
+     */
+    boolean hasPost();
+    /**
+     * <code>.GrpcPost post = 1;</code>
+     * @return The post.
+     */
+    fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost getPost();
+    /**
+     * <code>.GrpcPost post = 1;</code>
+     */
+    fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder getPostOrBuilder();
+
+    /**
+     * <code>int32 depth = 2;</code>
+     * @return The depth.
+     */
+    int getDepth();
+  }
+  /**
+   * Protobuf type {@code ThreadNode}
+   */
+  public static final class ThreadNode extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ThreadNode)
+      ThreadNodeOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ThreadNode.newBuilder() to construct.
+    private ThreadNode(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ThreadNode() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ThreadNode();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ThreadNode(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder subBuilder = null;
+              if (post_ != null) {
+                subBuilder = post_.toBuilder();
+              }
+              post_ = input.readMessage(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(post_);
+                post_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            case 16: {
+
+              depth_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_ThreadNode_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_ThreadNode_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode.Builder.class);
+    }
+
+    public static final int POST_FIELD_NUMBER = 1;
+    private fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost post_;
+    /**
+     * <code>.GrpcPost post = 1;</code>
+     * @return Whether the post field is set.
+     */
+    @java.lang.Override
+    public boolean hasPost() {
+      return post_ != null;
+    }
+    /**
+     * <code>.GrpcPost post = 1;</code>
+     * @return The post.
+     */
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost getPost() {
+      return post_ == null ? fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.getDefaultInstance() : post_;
+    }
+    /**
+     * <code>.GrpcPost post = 1;</code>
+     */
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder getPostOrBuilder() {
+      return getPost();
+    }
+
+    public static final int DEPTH_FIELD_NUMBER = 2;
+    private int depth_;
+    /**
+     * <code>int32 depth = 2;</code>
+     * @return The depth.
+     */
+    @java.lang.Override
+    public int getDepth() {
+      return depth_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (post_ != null) {
+        output.writeMessage(1, getPost());
+      }
+      if (depth_ != 0) {
+        output.writeInt32(2, depth_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (post_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(1, getPost());
+      }
+      if (depth_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, depth_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode)) {
+        return super.equals(obj);
+      }
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode) obj;
+
+      if (hasPost() != other.hasPost()) return false;
+      if (hasPost()) {
+        if (!getPost()
+            .equals(other.getPost())) return false;
+      }
+      if (getDepth()
+          != other.getDepth()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasPost()) {
+        hash = (37 * hash) + POST_FIELD_NUMBER;
+        hash = (53 * hash) + getPost().hashCode();
+      }
+      hash = (37 * hash) + DEPTH_FIELD_NUMBER;
+      hash = (53 * hash) + getDepth();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ThreadNode}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ThreadNode)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNodeOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_ThreadNode_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_ThreadNode_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode.Builder.class);
+      }
+
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        if (postBuilder_ == null) {
+          post_ = null;
+        } else {
+          post_ = null;
+          postBuilder_ = null;
+        }
+        depth_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_ThreadNode_descriptor;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode(this);
+        if (postBuilder_ == null) {
+          result.post_ = post_;
+        } else {
+          result.post_ = postBuilder_.build();
+        }
+        result.depth_ = depth_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode.getDefaultInstance()) return this;
+        if (other.hasPost()) {
+          mergePost(other.getPost());
+        }
+        if (other.getDepth() != 0) {
+          setDepth(other.getDepth());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+
+      private fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost post_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder> postBuilder_;
+      /**
+       * <code>.GrpcPost post = 1;</code>
+       * @return Whether the post field is set.
+       */
+      public boolean hasPost() {
+        return postBuilder_ != null || post_ != null;
+      }
+      /**
+       * <code>.GrpcPost post = 1;</code>
+       * @return The post.
+       */
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost getPost() {
+        if (postBuilder_ == null) {
+          return post_ == null ? fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.getDefaultInstance() : post_;
+        } else {
+          return postBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.GrpcPost post = 1;</code>
+       */
+      public Builder setPost(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost value) {
+        if (postBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          post_ = value;
+          onChanged();
+        } else {
+          postBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.GrpcPost post = 1;</code>
+       */
+      public Builder setPost(
+          fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder builderForValue) {
+        if (postBuilder_ == null) {
+          post_ = builderForValue.build();
+          onChanged();
+        } else {
+          postBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.GrpcPost post = 1;</code>
+       */
+      public Builder mergePost(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost value) {
+        if (postBuilder_ == null) {
+          if (post_ != null) {
+            post_ =
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.newBuilder(post_).mergeFrom(value).buildPartial();
+          } else {
+            post_ = value;
+          }
+          onChanged();
+        } else {
+          postBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.GrpcPost post = 1;</code>
+       */
+      public Builder clearPost() {
+        if (postBuilder_ == null) {
+          post_ = null;
+          onChanged();
+        } else {
+          post_ = null;
+          postBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.GrpcPost post = 1;</code>
+       */
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder getPostBuilder() {
+        
+        onChanged();
+        return getPostFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.GrpcPost post = 1;</code>
+       */
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder getPostOrBuilder() {
+        if (postBuilder_ != null) {
+          return postBuilder_.getMessageOrBuilder();
+        } else {
+          return post_ == null ?
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.getDefaultInstance() : post_;
+        }
+      }
+      /**
+       * <code>.GrpcPost post = 1;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder> 
+          getPostFieldBuilder() {
+        if (postBuilder_ == null) {
+          postBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder>(
+                  getPost(),
+                  getParentForChildren(),
+                  isClean());
+          post_ = null;
+        }
+        return postBuilder_;
+      }
+
+      private int depth_ ;
+      /**
+       * <code>int32 depth = 2;</code>
+       * @return The depth.
+       */
+      @java.lang.Override
+      public int getDepth() {
+        return depth_;
+      }
+      /**
+       * <code>int32 depth = 2;</code>
+       * @param value The depth to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDepth(int value) {
+        
+        depth_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 depth = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDepth() {
+        
+        depth_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ThreadNode)
+    }
+
+    // @@protoc_insertion_point(class_scope:ThreadNode)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ThreadNode>
+        PARSER = new com.google.protobuf.AbstractParser<ThreadNode>() {
+      @java.lang.Override
+      public ThreadNode parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ThreadNode(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ThreadNode> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ThreadNode> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface SubscribeArgsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:SubscribeArgs)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string postId = 1;</code>
+     * @return Whether the postId field is set.
+     */
+    boolean hasPostId();
+    /**
+     * <code>optional string postId = 1;</code>
+     * @return The postId.
+     */
+    java.lang.String getPostId();
+    /**
+     * <code>optional string postId = 1;</code>
+     * @return The bytes for postId.
+     */
+    com.google.protobuf.ByteString
+        getPostIdBytes();
+  }
+  /**
+   * Protobuf type {@code SubscribeArgs}
+   */
+  public static final class SubscribeArgs extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:SubscribeArgs)
+      SubscribeArgsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use SubscribeArgs.newBuilder() to construct.
+    private SubscribeArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private SubscribeArgs() {
+      postId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new SubscribeArgs();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private SubscribeArgs(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              postId_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_SubscribeArgs_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_SubscribeArgs_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int POSTID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object postId_;
+    /**
+     * <code>optional string postId = 1;</code>
+     * @return Whether the postId field is set.
+     */
+    @java.lang.Override
+    public boolean hasPostId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string postId = 1;</code>
+     * @return The postId.
+     */
+    @java.lang.Override
+    public java.lang.String getPostId() {
+      java.lang.Object ref = postId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        postId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string postId = 1;</code>
+     * @return The bytes for postId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPostIdBytes() {
+      java.lang.Object ref = postId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        postId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, postId_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, postId_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs)) {
+        return super.equals(obj);
+      }
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs) obj;
+
+      if (hasPostId() != other.hasPostId()) return false;
+      if (hasPostId()) {
+        if (!getPostId()
+            .equals(other.getPostId())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasPostId()) {
+        hash = (37 * hash) + POSTID_FIELD_NUMBER;
+        hash = (53 * hash) + getPostId().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code SubscribeArgs}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:SubscribeArgs)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_SubscribeArgs_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_SubscribeArgs_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs.Builder.class);
+      }
+
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        postId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_SubscribeArgs_descriptor;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.postId_ = postId_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs.getDefaultInstance()) return this;
+        if (other.hasPostId()) {
+          bitField0_ |= 0x00000001;
+          postId_ = other.postId_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object postId_ = "";
+      /**
+       * <code>optional string postId = 1;</code>
+       * @return Whether the postId field is set.
+       */
+      public boolean hasPostId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string postId = 1;</code>
+       * @return The postId.
+       */
+      public java.lang.String getPostId() {
+        java.lang.Object ref = postId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          postId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string postId = 1;</code>
+       * @return The bytes for postId.
+       */
+      public com.google.protobuf.ByteString
+          getPostIdBytes() {
+        java.lang.Object ref = postId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          postId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string postId = 1;</code>
+       * @param value The postId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPostId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        postId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string postId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPostId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        postId_ = getDefaultInstance().getPostId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string postId = 1;</code>
+       * @param value The bytes for postId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPostIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000001;
+        postId_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:SubscribeArgs)
+    }
+
+    // @@protoc_insertion_point(class_scope:SubscribeArgs)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SubscribeArgs>
+        PARSER = new com.google.protobuf.AbstractParser<SubscribeArgs>() {
+      @java.lang.Override
+      public SubscribeArgs parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new SubscribeArgs(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<SubscribeArgs> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SubscribeArgs> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GrpcPostEventOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GrpcPostEvent)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string type = 1;</code>
+     * @return The type.
+     */
+    java.lang.String getType();
+    /**
+     * <code>string type = 1;</code>
+     * @return The bytes for type.
+     */
+    com.google.protobuf.ByteString
+        getTypeBytes();
+
+    /**
+     * <code>string postId = 2;</code>
+     * @return The postId.
+     */
+    java.lang.String getPostId();
+    /**
+     * <code>string postId = 2;</code>
+     * @return The bytes for postId.
+     */
+    com.google.protobuf.ByteString
+        getPostIdBytes();
+
+    /**
+     * <code>optional string parentId = 3;</code>
+     * @return Whether the parentId field is set.
+     */
+    boolean hasParentId();
+    /**
+     * <code>optional string parentId = 3;</code>
+     * @return The parentId.
+     */
+    java.lang.String getParentId();
+    /**
+     * <code>optional string parentId = 3;</code>
+     * @return The bytes for parentId.
+     */
+    com.google.protobuf.ByteString
+        getParentIdBytes();
+
+    /**
+     * <code>int32 upVote = 4;</code>
+     * @return The upVote.
+     */
+    int getUpVote();
+
+    /**
+     * <code>int32 downVote = 5;</code>
+     * @return The downVote.
+     */
+    int getDownVote();
+  }
+  /**
+   * Protobuf type {@code GrpcPostEvent}
+   */
+  public static final class GrpcPostEvent extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:GrpcPostEvent)
+      GrpcPostEventOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GrpcPostEvent.newBuilder() to construct.
+    private GrpcPostEvent(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GrpcPostEvent() {
+      type_ = "";
+      postId_ = "";
+      parentId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GrpcPostEvent();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GrpcPostEvent(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              type_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              postId_ = s;
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              parentId_ = s;
+              break;
+            }
+            case 32: {
+
+              upVote_ = input.readInt32();
+              break;
+            }
+            case 40: {
+
+              downVote_ = input.readInt32();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GrpcPostEvent_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GrpcPostEvent_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int TYPE_FIELD_NUMBER = 1;
+    private volatile java.lang.Object type_;
+    /**
+     * <code>string type = 1;</code>
+     * @return The type.
+     */
+    @java.lang.Override
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        type_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string type = 1;</code>
+     * @return The bytes for type.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTypeBytes() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        type_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int POSTID_FIELD_NUMBER = 2;
+    private volatile java.lang.Object postId_;
+    /**
+     * <code>string postId = 2;</code>
+     * @return The postId.
+     */
+    @java.lang.Override
+    public java.lang.String getPostId() {
+      java.lang.Object ref = postId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        postId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string postId = 2;</code>
+     * @return The bytes for postId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPostIdBytes() {
+      java.lang.Object ref = postId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        postId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PARENTID_FIELD_NUMBER = 3;
+    private volatile java.lang.Object parentId_;
+    /**
+     * <code>optional string parentId = 3;</code>
+     * @return Whether the parentId field is set.
+     */
+    @java.lang.Override
+    public boolean hasParentId() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string parentId = 3;</code>
+     * @return The parentId.
+     */
+    @java.lang.Override
+    public java.lang.String getParentId() {
+      java.lang.Object ref = parentId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        parentId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string parentId = 3;</code>
+     * @return The bytes for parentId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getParentIdBytes() {
+      java.lang.Object ref = parentId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        parentId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int UPVOTE_FIELD_NUMBER = 4;
+    private int upVote_;
+    /**
+     * <code>int32 upVote = 4;</code>
+     * @return The upVote.
+     */
+    @java.lang.Override
+    public int getUpVote() {
+      return upVote_;
+    }
+
+    public static final int DOWNVOTE_FIELD_NUMBER = 5;
+    private int downVote_;
+    /**
+     * <code>int32 downVote = 5;</code>
+     * @return The downVote.
+     */
+    @java.lang.Override
+    public int getDownVote() {
+      return downVote_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(type_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, type_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, postId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, parentId_);
+      }
+      if (upVote_ != 0) {
+        output.writeInt32(4, upVote_);
+      }
+      if (downVote_ != 0) {
+        output.writeInt32(5, downVote_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(type_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, type_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, postId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, parentId_);
+      }
+      if (upVote_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, upVote_);
+      }
+      if (downVote_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, downVote_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent)) {
+        return super.equals(obj);
+      }
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent) obj;
+
+      if (!getType()
+          .equals(other.getType())) return false;
+      if (!getPostId()
+          .equals(other.getPostId())) return false;
+      if (hasParentId() != other.hasParentId()) return false;
+      if (hasParentId()) {
+        if (!getParentId()
+            .equals(other.getParentId())) return false;
+      }
+      if (getUpVote()
+          != other.getUpVote()) return false;
+      if (getDownVote()
+          != other.getDownVote()) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getType().hashCode();
+      hash = (37 * hash) + POSTID_FIELD_NUMBER;
+      hash = (53 * hash) + getPostId().hashCode();
+      if (hasParentId()) {
+        hash = (37 * hash) + PARENTID_FIELD_NUMBER;
+        hash = (53 * hash) + getParentId().hashCode();
+      }
+      hash = (37 * hash) + UPVOTE_FIELD_NUMBER;
+      hash = (53 * hash) + getUpVote();
+      hash = (37 * hash) + DOWNVOTE_FIELD_NUMBER;
+      hash = (53 * hash) + getDownVote();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code GrpcPostEvent}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:GrpcPostEvent)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEventOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GrpcPostEvent_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GrpcPostEvent_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent.Builder.class);
+      }
+
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        type_ = "";
+
+        postId_ = "";
+
+        parentId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        upVote_ = 0;
+
+        downVote_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GrpcPostEvent_descriptor;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.type_ = type_;
+        result.postId_ = postId_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.parentId_ = parentId_;
+        result.upVote_ = upVote_;
+        result.downVote_ = downVote_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent.getDefaultInstance()) return this;
+        if (!other.getType().isEmpty()) {
+          type_ = other.type_;
+          onChanged();
+        }
+        if (!other.getPostId().isEmpty()) {
+          postId_ = other.postId_;
+          onChanged();
+        }
+        if (other.hasParentId()) {
+          bitField0_ |= 0x00000001;
+          parentId_ = other.parentId_;
+          onChanged();
+        }
+        if (other.getUpVote() != 0) {
+          setUpVote(other.getUpVote());
+        }
+        if (other.getDownVote() != 0) {
+          setDownVote(other.getDownVote());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object type_ = "";
+      /**
+       * <code>string type = 1;</code>
+       * @return The type.
+       */
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          type_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string type = 1;</code>
+       * @return The bytes for type.
+       */
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string type = 1;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        type_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string type = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        
+        type_ = getDefaultInstance().getType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string type = 1;</code>
+       * @param value The bytes for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        type_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object postId_ = "";
+      /**
+       * <code>string postId = 2;</code>
+       * @return The postId.
+       */
+      public java.lang.String getPostId() {
+        java.lang.Object ref = postId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          postId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string postId = 2;</code>
+       * @return The bytes for postId.
+       */
+      public com.google.protobuf.ByteString
+          getPostIdBytes() {
+        java.lang.Object ref = postId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          postId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string postId = 2;</code>
+       * @param value The postId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPostId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        postId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string postId = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPostId() {
+        
+        postId_ = getDefaultInstance().getPostId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string postId = 2;</code>
+       * @param value The bytes for postId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPostIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        postId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object parentId_ = "";
+      /**
+       * <code>optional string parentId = 3;</code>
+       * @return Whether the parentId field is set.
+       */
+      public boolean hasParentId() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string parentId = 3;</code>
+       * @return The parentId.
+       */
+      public java.lang.String getParentId() {
+        java.lang.Object ref = parentId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          parentId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string parentId = 3;</code>
+       * @return The bytes for parentId.
+       */
+      public com.google.protobuf.ByteString
+          getParentIdBytes() {
+        java.lang.Object ref = parentId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          parentId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string parentId = 3;</code>
+       * @param value The parentId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setParentId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        parentId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string parentId = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearParentId() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        parentId_ = getDefaultInstance().getParentId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string parentId = 3;</code>
+       * @param value The bytes for parentId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setParentIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000001;
+        parentId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int upVote_ ;
+      /**
+       * <code>int32 upVote = 4;</code>
+       * @return The upVote.
+       */
+      @java.lang.Override
+      public int getUpVote() {
+        return upVote_;
+      }
+      /**
+       * <code>int32 upVote = 4;</code>
+       * @param value The upVote to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUpVote(int value) {
+        
+        upVote_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 upVote = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUpVote() {
+        
+        upVote_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int downVote_ ;
+      /**
+       * <code>int32 downVote = 5;</code>
+       * @return The downVote.
+       */
+      @java.lang.Override
+      public int getDownVote() {
+        return downVote_;
+      }
+      /**
+       * <code>int32 downVote = 5;</code>
+       * @param value The downVote to set.
+       * @return This builder for chaining.
+       */
+      public Builder setDownVote(int value) {
+        
+        downVote_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 downVote = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearDownVote() {
+        
+        downVote_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:GrpcPostEvent)
+    }
+
+    // @@protoc_insertion_point(class_scope:GrpcPostEvent)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GrpcPostEvent>
+        PARSER = new com.google.protobuf.AbstractParser<GrpcPostEvent>() {
+      @java.lang.Override
+      public GrpcPostEvent parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GrpcPostEvent(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GrpcPostEvent> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GrpcPostEvent> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetChangesArgsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GetChangesArgs)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>optional string epoch = 1;</code>
+     * @return Whether the epoch field is set.
+     */
+    boolean hasEpoch();
+    /**
+     * <code>optional string epoch = 1;</code>
+     * @return The epoch.
+     */
+    java.lang.String getEpoch();
+    /**
+     * <code>optional string epoch = 1;</code>
+     * @return The bytes for epoch.
+     */
+    com.google.protobuf.ByteString
+        getEpochBytes();
+
+    /**
+     * <code>int64 since = 2;</code>
+     * @return The since.
+     */
+    long getSince();
+
+    /**
+     * <code>optional int64 timeout = 3;</code>
+     * @return Whether the timeout field is set.
+     */
+    boolean hasTimeout();
+    /**
+     * <code>optional int64 timeout = 3;</code>
+     * @return The timeout.
+     */
+    long getTimeout();
+  }
+  /**
+   * Protobuf type {@code GetChangesArgs}
+   */
+  public static final class GetChangesArgs extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:GetChangesArgs)
+      GetChangesArgsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetChangesArgs.newBuilder() to construct.
+    private GetChangesArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetChangesArgs() {
+      epoch_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetChangesArgs();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetChangesArgs(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              epoch_ = s;
+              break;
+            }
+            case 16: {
+
+              since_ = input.readInt64();
+              break;
+            }
+            case 24: {
+              bitField0_ |= 0x00000002;
+              timeout_ = input.readInt64();
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetChangesArgs_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetChangesArgs_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int EPOCH_FIELD_NUMBER = 1;
+    private volatile java.lang.Object epoch_;
+    /**
+     * <code>optional string epoch = 1;</code>
+     * @return Whether the epoch field is set.
+     */
+    @java.lang.Override
+    public boolean hasEpoch() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string epoch = 1;</code>
+     * @return The epoch.
+     */
+    @java.lang.Override
+    public java.lang.String getEpoch() {
+      java.lang.Object ref = epoch_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        epoch_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string epoch = 1;</code>
+     * @return The bytes for epoch.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getEpochBytes() {
+      java.lang.Object ref = epoch_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        epoch_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SINCE_FIELD_NUMBER = 2;
+    private long since_;
+    /**
+     * <code>int64 since = 2;</code>
+     * @return The since.
+     */
+    @java.lang.Override
+    public long getSince() {
+      return since_;
+    }
+
+    public static final int TIMEOUT_FIELD_NUMBER = 3;
+    private long timeout_;
+    /**
+     * <code>optional int64 timeout = 3;</code>
+     * @return Whether the timeout field is set.
+     */
+    @java.lang.Override
+    public boolean hasTimeout() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional int64 timeout = 3;</code>
+     * @return The timeout.
+     */
+    @java.lang.Override
+    public long getTimeout() {
+      return timeout_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, epoch_);
+      }
+      if (since_ != 0L) {
+        output.writeInt64(2, since_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt64(3, timeout_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, epoch_);
+      }
+      if (since_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, since_);
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, timeout_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs)) {
+        return super.equals(obj);
+      }
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs) obj;
+
+      if (hasEpoch() != other.hasEpoch()) return false;
+      if (hasEpoch()) {
+        if (!getEpoch()
+            .equals(other.getEpoch())) return false;
+      }
+      if (getSince()
+          != other.getSince()) return false;
+      if (hasTimeout() != other.hasTimeout()) return false;
+      if (hasTimeout()) {
+        if (getTimeout()
+            != other.getTimeout()) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (hasEpoch()) {
+        hash = (37 * hash) + EPOCH_FIELD_NUMBER;
+        hash = (53 * hash) + getEpoch().hashCode();
+      }
+      hash = (37 * hash) + SINCE_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSince());
+      if (hasTimeout()) {
+        hash = (37 * hash) + TIMEOUT_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getTimeout());
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code GetChangesArgs}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:GetChangesArgs)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetChangesArgs_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetChangesArgs_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs.Builder.class);
+      }
+
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        epoch_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        since_ = 0L;
+
+        timeout_ = 0L;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetChangesArgs_descriptor;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.epoch_ = epoch_;
+        result.since_ = since_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.timeout_ = timeout_;
+          to_bitField0_ |= 0x00000002;
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs.getDefaultInstance()) return this;
+        if (other.hasEpoch()) {
+          bitField0_ |= 0x00000001;
+          epoch_ = other.epoch_;
+          onChanged();
+        }
+        if (other.getSince() != 0L) {
+          setSince(other.getSince());
+        }
+        if (other.hasTimeout()) {
+          setTimeout(other.getTimeout());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object epoch_ = "";
+      /**
+       * <code>optional string epoch = 1;</code>
+       * @return Whether the epoch field is set.
+       */
+      public boolean hasEpoch() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string epoch = 1;</code>
+       * @return The epoch.
+       */
+      public java.lang.String getEpoch() {
+        java.lang.Object ref = epoch_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          epoch_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string epoch = 1;</code>
+       * @return The bytes for epoch.
+       */
+      public com.google.protobuf.ByteString
+          getEpochBytes() {
+        java.lang.Object ref = epoch_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          epoch_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string epoch = 1;</code>
+       * @param value The epoch to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEpoch(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        epoch_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string epoch = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEpoch() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        epoch_ = getDefaultInstance().getEpoch();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string epoch = 1;</code>
+       * @param value The bytes for epoch to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEpochBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000001;
+        epoch_ = value;
+        onChanged();
+        return this;
+      }
+
+      private long since_ ;
+      /**
+       * <code>int64 since = 2;</code>
+       * @return The since.
+       */
+      @java.lang.Override
+      public long getSince() {
+        return since_;
+      }
+      /**
+       * <code>int64 since = 2;</code>
+       * @param value The since to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSince(long value) {
+        
+        since_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 since = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSince() {
+        
+        since_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private long timeout_ ;
+      /**
+       * <code>optional int64 timeout = 3;</code>
+       * @return Whether the timeout field is set.
+       */
+      @java.lang.Override
+      public boolean hasTimeout() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional int64 timeout = 3;</code>
+       * @return The timeout.
+       */
+      @java.lang.Override
+      public long getTimeout() {
+        return timeout_;
+      }
+      /**
+       * <code>optional int64 timeout = 3;</code>
+       * @param value The timeout to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTimeout(long value) {
+        bitField0_ |= 0x00000002;
+        timeout_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int64 timeout = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTimeout() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        timeout_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:GetChangesArgs)
+    }
+
+    // @@protoc_insertion_point(class_scope:GetChangesArgs)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetChangesArgs>
+        PARSER = new com.google.protobuf.AbstractParser<GetChangesArgs>() {
+      @java.lang.Override
+      public GetChangesArgs parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetChangesArgs(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetChangesArgs> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetChangesArgs> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GrpcContentChangeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GrpcContentChange)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 seq = 1;</code>
+     * @return The seq.
+     */
+    long getSeq();
+
+    /**
+     * <code>string type = 2;</code>
+     * @return The type.
+     */
+    java.lang.String getType();
+    /**
+     * <code>string type = 2;</code>
+     * @return The bytes for type.
+     */
+    com.google.protobuf.ByteString
+        getTypeBytes();
+
+    /**
+     * <code>optional .GrpcPost post = 3;</code>
+     * @return Whether the post field is set.
+     */
+    boolean hasPost();
+    /**
+     * <code>optional .GrpcPost post = 3;</code>
+     * @return The post.
+     */
+    fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost getPost();
+    /**
+     * <code>optional .GrpcPost post = 3;</code>
+     */
+    fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder getPostOrBuilder();
+
+    /**
+     * <code>optional string parentId = 4;</code>
+     * @return Whether the parentId field is set.
+     */
+    boolean hasParentId();
+    /**
+     * <code>optional string parentId = 4;</code>
+     * @return The parentId.
+     */
+    java.lang.String getParentId();
+    /**
+     * <code>optional string parentId = 4;</code>
+     * @return The bytes for parentId.
+     */
+    com.google.protobuf.ByteString
+        getParentIdBytes();
+
+    /**
+     * <code>int32 replyCount = 5;</code>
+     * @return The replyCount.
+     */
+    int getReplyCount();
+
+    /**
+     * <code>repeated string postId = 6;</code>
+     * @return A list containing the postId.
+     */
+    java.util.List<java.lang.String>
+        getPostIdList();
+    /**
+     * <code>repeated string postId = 6;</code>
+     * @return The count of postId.
+     */
+    int getPostIdCount();
+    /**
+     * <code>repeated string postId = 6;</code>
+     * @param index The index of the element to return.
+     * @return The postId at the given index.
+     */
+    java.lang.String getPostId(int index);
+    /**
+     * <code>repeated string postId = 6;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the postId at the given index.
+     */
+    com.google.protobuf.ByteString
+        getPostIdBytes(int index);
+
+    /**
+     * <code>optional string userId = 7;</code>
+     * @return Whether the userId field is set.
+     */
+    boolean hasUserId();
+    /**
+     * <code>optional string userId = 7;</code>
+     * @return The userId.
+     */
+    java.lang.String getUserId();
+    /**
+     * <code>optional string userId = 7;</code>
+     * @return The bytes for userId.
+     */
+    com.google.protobuf.ByteString
+        getUserIdBytes();
+  }
+  /**
+   * Protobuf type {@code GrpcContentChange}
+   */
+  public static final class GrpcContentChange extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:GrpcContentChange)
+      GrpcContentChangeOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GrpcContentChange.newBuilder() to construct.
+    private GrpcContentChange(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GrpcContentChange() {
+      type_ = "";
+      parentId_ = "";
+      postId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      userId_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GrpcContentChange();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GrpcContentChange(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 8: {
+
+              seq_ = input.readInt64();
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              type_ = s;
+              break;
+            }
+            case 26: {
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder subBuilder = null;
+              if (((bitField0_ & 0x00000001) != 0)) {
+                subBuilder = post_.toBuilder();
+              }
+              post_ = input.readMessage(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(post_);
+                post_ = subBuilder.buildPartial();
+              }
+              bitField0_ |= 0x00000001;
+              break;
+            }
+            case 34: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000002;
+              parentId_ = s;
+              break;
+            }
+            case 40: {
+
+              replyCount_ = input.readInt32();
+              break;
+            }
+            case 50: {
+              java.lang.String s = input.readStringRequireUtf8();
+              if (!((mutable_bitField0_ & 0x00000004) != 0)) {
+                postId_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000004;
+              }
+              postId_.add(s);
+              break;
+            }
+            case 58: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000004;
+              userId_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000004) != 0)) {
+          postId_ = postId_.getUnmodifiableView();
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GrpcContentChange_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GrpcContentChange_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int SEQ_FIELD_NUMBER = 1;
+    private long seq_;
+    /**
+     * <code>int64 seq = 1;</code>
+     * @return The seq.
+     */
+    @java.lang.Override
+    public long getSeq() {
+      return seq_;
+    }
+
+    public static final int TYPE_FIELD_NUMBER = 2;
+    private volatile java.lang.Object type_;
+    /**
+     * <code>string type = 2;</code>
+     * @return The type.
+     */
+    @java.lang.Override
+    public java.lang.String getType() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        type_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string type = 2;</code>
+     * @return The bytes for type.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getTypeBytes() {
+      java.lang.Object ref = type_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        type_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int POST_FIELD_NUMBER = 3;
+    private fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost post_;
+    /**
+     * <code>optional .GrpcPost post = 3;</code>
+     * @return Whether the post field is set.
+     */
+    @java.lang.Override
+    public boolean hasPost() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional .GrpcPost post = 3;</code>
+     * @return The post.
+     */
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost getPost() {
+      return post_ == null ? fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.getDefaultInstance() : post_;
+    }
+    /**
+     * <code>optional .GrpcPost post = 3;</code>
+     */
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder getPostOrBuilder() {
+      return post_ == null ? fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.getDefaultInstance() : post_;
+    }
+
+    public static final int PARENTID_FIELD_NUMBER = 4;
+    private volatile java.lang.Object parentId_;
+    /**
+     * <code>optional string parentId = 4;</code>
+     * @return Whether the parentId field is set.
+     */
+    @java.lang.Override
+    public boolean hasParentId() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional string parentId = 4;</code>
+     * @return The parentId.
+     */
+    @java.lang.Override
+    public java.lang.String getParentId() {
+      java.lang.Object ref = parentId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        parentId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string parentId = 4;</code>
+     * @return The bytes for parentId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getParentIdBytes() {
+      java.lang.Object ref = parentId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        parentId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int REPLYCOUNT_FIELD_NUMBER = 5;
+    private int replyCount_;
+    /**
+     * <code>int32 replyCount = 5;</code>
+     * @return The replyCount.
+     */
+    @java.lang.Override
+    public int getReplyCount() {
+      return replyCount_;
+    }
+
+    public static final int POSTID_FIELD_NUMBER = 6;
+    private com.google.protobuf.LazyStringList postId_;
+    /**
+     * <code>repeated string postId = 6;</code>
+     * @return A list containing the postId.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getPostIdList() {
+      return postId_;
+    }
+    /**
+     * <code>repeated string postId = 6;</code>
+     * @return The count of postId.
+     */
+    public int getPostIdCount() {
+      return postId_.size();
+    }
+    /**
+     * <code>repeated string postId = 6;</code>
+     * @param index The index of the element to return.
+     * @return The postId at the given index.
+     */
+    public java.lang.String getPostId(int index) {
+      return postId_.get(index);
+    }
+    /**
+     * <code>repeated string postId = 6;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the postId at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getPostIdBytes(int index) {
+      return postId_.getByteString(index);
+    }
+
+    public static final int USERID_FIELD_NUMBER = 7;
+    private volatile java.lang.Object userId_;
+    /**
+     * <code>optional string userId = 7;</code>
+     * @return Whether the userId field is set.
+     */
+    @java.lang.Override
+    public boolean hasUserId() {
+      return ((bitField0_ & 0x00000004) != 0);
+    }
+    /**
+     * <code>optional string userId = 7;</code>
+     * @return The userId.
+     */
+    @java.lang.Override
+    public java.lang.String getUserId() {
+      java.lang.Object ref = userId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        userId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string userId = 7;</code>
+     * @return The bytes for userId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getUserIdBytes() {
+      java.lang.Object ref = userId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        userId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (seq_ != 0L) {
+        output.writeInt64(1, seq_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(type_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, type_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        output.writeMessage(3, getPost());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, parentId_);
+      }
+      if (replyCount_ != 0) {
+        output.writeInt32(5, replyCount_);
+      }
+      for (int i = 0; i < postId_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 6, postId_.getRaw(i));
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 7, userId_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (seq_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, seq_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(type_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, type_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getPost());
+      }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, parentId_);
+      }
+      if (replyCount_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, replyCount_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < postId_.size(); i++) {
+          dataSize += computeStringSizeNoTag(postId_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getPostIdList().size();
+      }
+      if (((bitField0_ & 0x00000004) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(7, userId_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange)) {
+        return super.equals(obj);
+      }
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange) obj;
+
+      if (getSeq()
+          != other.getSeq()) return false;
+      if (!getType()
+          .equals(other.getType())) return false;
+      if (hasPost() != other.hasPost()) return false;
+      if (hasPost()) {
+        if (!getPost()
+            .equals(other.getPost())) return false;
+      }
+      if (hasParentId() != other.hasParentId()) return false;
+      if (hasParentId()) {
+        if (!getParentId()
+            .equals(other.getParentId())) return false;
+      }
+      if (getReplyCount()
+          != other.getReplyCount()) return false;
+      if (!getPostIdList()
+          .equals(other.getPostIdList())) return false;
+      if (hasUserId() != other.hasUserId()) return false;
+      if (hasUserId()) {
+        if (!getUserId()
+            .equals(other.getUserId())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SEQ_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSeq());
+      hash = (37 * hash) + TYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getType().hashCode();
+      if (hasPost()) {
+        hash = (37 * hash) + POST_FIELD_NUMBER;
+        hash = (53 * hash) + getPost().hashCode();
+      }
+      if (hasParentId()) {
+        hash = (37 * hash) + PARENTID_FIELD_NUMBER;
+        hash = (53 * hash) + getParentId().hashCode();
+      }
+      hash = (37 * hash) + REPLYCOUNT_FIELD_NUMBER;
+      hash = (53 * hash) + getReplyCount();
+      if (getPostIdCount() > 0) {
+        hash = (37 * hash) + POSTID_FIELD_NUMBER;
+        hash = (53 * hash) + getPostIdList().hashCode();
+      }
+      if (hasUserId()) {
+        hash = (37 * hash) + USERID_FIELD_NUMBER;
+        hash = (53 * hash) + getUserId().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code GrpcContentChange}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:GrpcContentChange)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChangeOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GrpcContentChange_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GrpcContentChange_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange.Builder.class);
+      }
+
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getPostFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        seq_ = 0L;
+
+        type_ = "";
+
+        if (postBuilder_ == null) {
+          post_ = null;
+        } else {
+          postBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        parentId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000002);
+        replyCount_ = 0;
+
+        postId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        userId_ = "";
+        bitField0_ = (bitField0_ & ~0x00000008);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GrpcContentChange_descriptor;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.seq_ = seq_;
+        result.type_ = type_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          if (postBuilder_ == null) {
+            result.post_ = post_;
+          } else {
+            result.post_ = postBuilder_.build();
+          }
+          to_bitField0_ |= 0x00000001;
+        }
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          to_bitField0_ |= 0x00000002;
+        }
+        result.parentId_ = parentId_;
+        result.replyCount_ = replyCount_;
+        if (((bitField0_ & 0x00000004) != 0)) {
+          postId_ = postId_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.postId_ = postId_;
+        if (((from_bitField0_ & 0x00000008) != 0)) {
+          to_bitField0_ |= 0x00000004;
+        }
+        result.userId_ = userId_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange.getDefaultInstance()) return this;
+        if (other.getSeq() != 0L) {
+          setSeq(other.getSeq());
+        }
+        if (!other.getType().isEmpty()) {
+          type_ = other.type_;
+          onChanged();
+        }
+        if (other.hasPost()) {
+          mergePost(other.getPost());
+        }
+        if (other.hasParentId()) {
+          bitField0_ |= 0x00000002;
+          parentId_ = other.parentId_;
+          onChanged();
+        }
+        if (other.getReplyCount() != 0) {
+          setReplyCount(other.getReplyCount());
+        }
+        if (!other.postId_.isEmpty()) {
+          if (postId_.isEmpty()) {
+            postId_ = other.postId_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensurePostIdIsMutable();
+            postId_.addAll(other.postId_);
+          }
+          onChanged();
+        }
+        if (other.hasUserId()) {
+          bitField0_ |= 0x00000008;
+          userId_ = other.userId_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private long seq_ ;
+      /**
+       * <code>int64 seq = 1;</code>
+       * @return The seq.
+       */
+      @java.lang.Override
+      public long getSeq() {
+        return seq_;
+      }
+      /**
+       * <code>int64 seq = 1;</code>
+       * @param value The seq to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSeq(long value) {
+        
+        seq_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 seq = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSeq() {
+        
+        seq_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object type_ = "";
+      /**
+       * <code>string type = 2;</code>
+       * @return The type.
+       */
+      public java.lang.String getType() {
+        java.lang.Object ref = type_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          type_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string type = 2;</code>
+       * @return The bytes for type.
+       */
+      public com.google.protobuf.ByteString
+          getTypeBytes() {
+        java.lang.Object ref = type_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          type_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string type = 2;</code>
+       * @param value The type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        type_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string type = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearType() {
+        
+        type_ = getDefaultInstance().getType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string type = 2;</code>
+       * @param value The bytes for type to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        type_ = value;
+        onChanged();
+        return this;
+      }
+
+      private fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost post_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder> postBuilder_;
+      /**
+       * <code>optional .GrpcPost post = 3;</code>
+       * @return Whether the post field is set.
+       */
+      public boolean hasPost() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional .GrpcPost post = 3;</code>
+       * @return The post.
+       */
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost getPost() {
+        if (postBuilder_ == null) {
+          return post_ == null ? fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.getDefaultInstance() : post_;
+        } else {
+          return postBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>optional .GrpcPost post = 3;</code>
+       */
+      public Builder setPost(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost value) {
+        if (postBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          post_ = value;
+          onChanged();
+        } else {
+          postBuilder_.setMessage(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .GrpcPost post = 3;</code>
+       */
+      public Builder setPost(
+          fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder builderForValue) {
+        if (postBuilder_ == null) {
+          post_ = builderForValue.build();
+          onChanged();
+        } else {
+          postBuilder_.setMessage(builderForValue.build());
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .GrpcPost post = 3;</code>
+       */
+      public Builder mergePost(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost value) {
+        if (postBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0) &&
+              post_ != null &&
+              post_ != fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.getDefaultInstance()) {
+            post_ =
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.newBuilder(post_).mergeFrom(value).buildPartial();
+          } else {
+            post_ = value;
+          }
+          onChanged();
+        } else {
+          postBuilder_.mergeFrom(value);
+        }
+        bitField0_ |= 0x00000001;
+        return this;
+      }
+      /**
+       * <code>optional .GrpcPost post = 3;</code>
+       */
+      public Builder clearPost() {
+        if (postBuilder_ == null) {
+          post_ = null;
+          onChanged();
+        } else {
+          postBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+      /**
+       * <code>optional .GrpcPost post = 3;</code>
+       */
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder getPostBuilder() {
+        bitField0_ |= 0x00000001;
+        onChanged();
+        return getPostFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>optional .GrpcPost post = 3;</code>
+       */
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder getPostOrBuilder() {
+        if (postBuilder_ != null) {
+          return postBuilder_.getMessageOrBuilder();
+        } else {
+          return post_ == null ?
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.getDefaultInstance() : post_;
+        }
+      }
+      /**
+       * <code>optional .GrpcPost post = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder> 
+          getPostFieldBuilder() {
+        if (postBuilder_ == null) {
+          postBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder>(
+                  getPost(),
+                  getParentForChildren(),
+                  isClean());
+          post_ = null;
+        }
+        return postBuilder_;
+      }
+
+      private java.lang.Object parentId_ = "";
+      /**
+       * <code>optional string parentId = 4;</code>
+       * @return Whether the parentId field is set.
+       */
+      public boolean hasParentId() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional string parentId = 4;</code>
+       * @return The parentId.
+       */
+      public java.lang.String getParentId() {
+        java.lang.Object ref = parentId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          parentId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string parentId = 4;</code>
+       * @return The bytes for parentId.
+       */
+      public com.google.protobuf.ByteString
+          getParentIdBytes() {
+        java.lang.Object ref = parentId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          parentId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string parentId = 4;</code>
+       * @param value The parentId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setParentId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000002;
+        parentId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string parentId = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearParentId() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        parentId_ = getDefaultInstance().getParentId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string parentId = 4;</code>
+       * @param value The bytes for parentId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setParentIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000002;
+        parentId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int replyCount_ ;
+      /**
+       * <code>int32 replyCount = 5;</code>
+       * @return The replyCount.
+       */
+      @java.lang.Override
+      public int getReplyCount() {
+        return replyCount_;
+      }
+      /**
+       * <code>int32 replyCount = 5;</code>
+       * @param value The replyCount to set.
+       * @return This builder for chaining.
+       */
+      public Builder setReplyCount(int value) {
+        
+        replyCount_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 replyCount = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearReplyCount() {
+        
+        replyCount_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringList postId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensurePostIdIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          postId_ = new com.google.protobuf.LazyStringArrayList(postId_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <code>repeated string postId = 6;</code>
+       * @return A list containing the postId.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getPostIdList() {
+        return postId_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string postId = 6;</code>
+       * @return The count of postId.
+       */
+      public int getPostIdCount() {
+        return postId_.size();
+      }
+      /**
+       * <code>repeated string postId = 6;</code>
+       * @param index The index of the element to return.
+       * @return The postId at the given index.
+       */
+      public java.lang.String getPostId(int index) {
+        return postId_.get(index);
+      }
+      /**
+       * <code>repeated string postId = 6;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the postId at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getPostIdBytes(int index) {
+        return postId_.getByteString(index);
+      }
+      /**
+       * <code>repeated string postId = 6;</code>
+       * @param index The index to set the value at.
+       * @param value The postId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPostId(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePostIdIsMutable();
+        postId_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string postId = 6;</code>
+       * @param value The postId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPostId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensurePostIdIsMutable();
+        postId_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string postId = 6;</code>
+       * @param values The postId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPostId(
+          java.lang.Iterable<java.lang.String> values) {
+        ensurePostIdIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, postId_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string postId = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPostId() {
+        postId_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string postId = 6;</code>
+       * @param value The bytes of the postId to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPostIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        ensurePostIdIsMutable();
+        postId_.add(value);
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object userId_ = "";
+      /**
+       * <code>optional string userId = 7;</code>
+       * @return Whether the userId field is set.
+       */
+      public boolean hasUserId() {
+        return ((bitField0_ & 0x00000008) != 0);
+      }
+      /**
+       * <code>optional string userId = 7;</code>
+       * @return The userId.
+       */
+      public java.lang.String getUserId() {
+        java.lang.Object ref = userId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          userId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string userId = 7;</code>
+       * @return The bytes for userId.
+       */
+      public com.google.protobuf.ByteString
+          getUserIdBytes() {
+        java.lang.Object ref = userId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          userId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string userId = 7;</code>
+       * @param value The userId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUserId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000008;
+        userId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string userId = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUserId() {
+        bitField0_ = (bitField0_ & ~0x00000008);
+        userId_ = getDefaultInstance().getUserId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string userId = 7;</code>
+       * @param value The bytes for userId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUserIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000008;
+        userId_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:GrpcContentChange)
+    }
+
+    // @@protoc_insertion_point(class_scope:GrpcContentChange)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GrpcContentChange>
+        PARSER = new com.google.protobuf.AbstractParser<GrpcContentChange>() {
+      @java.lang.Override
+      public GrpcContentChange parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GrpcContentChange(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GrpcContentChange> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GrpcContentChange> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GetChangesResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GetChangesResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string epoch = 1;</code>
+     * @return The epoch.
+     */
+    java.lang.String getEpoch();
+    /**
+     * <code>string epoch = 1;</code>
+     * @return The bytes for epoch.
+     */
+    com.google.protobuf.ByteString
+        getEpochBytes();
+
+    /**
+     * <code>bool snapshot = 2;</code>
+     * @return The snapshot.
+     */
+    boolean getSnapshot();
+
+    /**
+     * <code>int64 lastSeq = 3;</code>
+     * @return The lastSeq.
+     */
+    long getLastSeq();
+
+    /**
+     * <code>repeated .GrpcContentChange change = 4;</code>
+     */
+    java.util.List<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange> 
+        getChangeList();
+    /**
+     * <code>repeated .GrpcContentChange change = 4;</code>
+     */
+    fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange getChange(int index);
+    /**
+     * <code>repeated .GrpcContentChange change = 4;</code>
+     */
+    int getChangeCount();
+    /**
+     * <code>repeated .GrpcContentChange change = 4;</code>
+     */
+    java.util.List<? extends fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChangeOrBuilder> 
+        getChangeOrBuilderList();
+    /**
+     * <code>repeated .GrpcContentChange change = 4;</code>
+     */
+    fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChangeOrBuilder getChangeOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code GetChangesResult}
+   */
+  public static final class GetChangesResult extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:GetChangesResult)
+      GetChangesResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GetChangesResult.newBuilder() to construct.
+    private GetChangesResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GetChangesResult() {
+      epoch_ = "";
+      change_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GetChangesResult();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private GetChangesResult(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              epoch_ = s;
+              break;
+            }
+            case 16: {
+
+              snapshot_ = input.readBool();
+              break;
+            }
+            case 24: {
+
+              lastSeq_ = input.readInt64();
+              break;
+            }
+            case 34: {
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                change_ = new java.util.ArrayList<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange>();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              change_.add(
+                  input.readMessage(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange.parser(), extensionRegistry));
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          change_ = java.util.Collections.unmodifiableList(change_);
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetChangesResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetChangesResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult.Builder.class);
+    }
+
+    public static final int EPOCH_FIELD_NUMBER = 1;
+    private volatile java.lang.Object epoch_;
+    /**
+     * <code>string epoch = 1;</code>
+     * @return The epoch.
+     */
+    @java.lang.Override
+    public java.lang.String getEpoch() {
+      java.lang.Object ref = epoch_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        epoch_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string epoch = 1;</code>
+     * @return The bytes for epoch.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getEpochBytes() {
+      java.lang.Object ref = epoch_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        epoch_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int SNAPSHOT_FIELD_NUMBER = 2;
+    private boolean snapshot_;
+    /**
+     * <code>bool snapshot = 2;</code>
+     * @return The snapshot.
+     */
+    @java.lang.Override
+    public boolean getSnapshot() {
+      return snapshot_;
+    }
+
+    public static final int LASTSEQ_FIELD_NUMBER = 3;
+    private long lastSeq_;
+    /**
+     * <code>int64 lastSeq = 3;</code>
+     * @return The lastSeq.
+     */
+    @java.lang.Override
+    public long getLastSeq() {
+      return lastSeq_;
+    }
+
+    public static final int CHANGE_FIELD_NUMBER = 4;
+    private java.util.List<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange> change_;
+    /**
+     * <code>repeated .GrpcContentChange change = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange> getChangeList() {
+      return change_;
+    }
+    /**
+     * <code>repeated .GrpcContentChange change = 4;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChangeOrBuilder> 
+        getChangeOrBuilderList() {
+      return change_;
+    }
+    /**
+     * <code>repeated .GrpcContentChange change = 4;</code>
+     */
+    @java.lang.Override
+    public int getChangeCount() {
+      return change_.size();
+    }
+    /**
+     * <code>repeated .GrpcContentChange change = 4;</code>
+     */
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange getChange(int index) {
+      return change_.get(index);
+    }
+    /**
+     * <code>repeated .GrpcContentChange change = 4;</code>
+     */
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChangeOrBuilder getChangeOrBuilder(
+        int index) {
+      return change_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(epoch_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, epoch_);
+      }
+      if (snapshot_ != false) {
+        output.writeBool(2, snapshot_);
+      }
+      if (lastSeq_ != 0L) {
+        output.writeInt64(3, lastSeq_);
+      }
+      for (int i = 0; i < change_.size(); i++) {
+        output.writeMessage(4, change_.get(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(epoch_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, epoch_);
+      }
+      if (snapshot_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(2, snapshot_);
+      }
+      if (lastSeq_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(3, lastSeq_);
+      }
+      for (int i = 0; i < change_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(4, change_.get(i));
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult)) {
+        return super.equals(obj);
+      }
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult) obj;
+
+      if (!getEpoch()
+          .equals(other.getEpoch())) return false;
+      if (getSnapshot()
+          != other.getSnapshot()) return false;
+      if (getLastSeq()
+          != other.getLastSeq()) return false;
+      if (!getChangeList()
+          .equals(other.getChangeList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + EPOCH_FIELD_NUMBER;
+      hash = (53 * hash) + getEpoch().hashCode();
+      hash = (37 * hash) + SNAPSHOT_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getSnapshot());
+      hash = (37 * hash) + LASTSEQ_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getLastSeq());
+      if (getChangeCount() > 0) {
+        hash = (37 * hash) + CHANGE_FIELD_NUMBER;
+        hash = (53 * hash) + getChangeList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code GetChangesResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:GetChangesResult)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetChangesResult_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetChangesResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult.Builder.class);
+      }
+
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+          getChangeFieldBuilder();
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        epoch_ = "";
+
+        snapshot_ = false;
+
+        lastSeq_ = 0L;
+
+        if (changeBuilder_ == null) {
+          change_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          changeBuilder_.clear();
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_GetChangesResult_descriptor;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult(this);
+        int from_bitField0_ = bitField0_;
+        result.epoch_ = epoch_;
+        result.snapshot_ = snapshot_;
+        result.lastSeq_ = lastSeq_;
+        if (changeBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            change_ = java.util.Collections.unmodifiableList(change_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.change_ = change_;
+        } else {
+          result.change_ = changeBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult.getDefaultInstance()) return this;
+        if (!other.getEpoch().isEmpty()) {
+          epoch_ = other.epoch_;
+          onChanged();
+        }
+        if (other.getSnapshot() != false) {
+          setSnapshot(other.getSnapshot());
+        }
+        if (other.getLastSeq() != 0L) {
+          setLastSeq(other.getLastSeq());
+        }
+        if (changeBuilder_ == null) {
+          if (!other.change_.isEmpty()) {
+            if (change_.isEmpty()) {
+              change_ = other.change_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureChangeIsMutable();
+              change_.addAll(other.change_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.change_.isEmpty()) {
+            if (changeBuilder_.isEmpty()) {
+              changeBuilder_.dispose();
+              changeBuilder_ = null;
+              change_ = other.change_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              changeBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getChangeFieldBuilder() : null;
+            } else {
+              changeBuilder_.addAllMessages(other.change_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object epoch_ = "";
+      /**
+       * <code>string epoch = 1;</code>
+       * @return The epoch.
+       */
+      public java.lang.String getEpoch() {
+        java.lang.Object ref = epoch_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          epoch_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string epoch = 1;</code>
+       * @return The bytes for epoch.
+       */
+      public com.google.protobuf.ByteString
+          getEpochBytes() {
+        java.lang.Object ref = epoch_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          epoch_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string epoch = 1;</code>
+       * @param value The epoch to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEpoch(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        epoch_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string epoch = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearEpoch() {
+        
+        epoch_ = getDefaultInstance().getEpoch();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string epoch = 1;</code>
+       * @param value The bytes for epoch to set.
+       * @return This builder for chaining.
+       */
+      public Builder setEpochBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        epoch_ = value;
+        onChanged();
+        return this;
+      }
+
+      private boolean snapshot_ ;
+      /**
+       * <code>bool snapshot = 2;</code>
+       * @return The snapshot.
+       */
+      @java.lang.Override
+      public boolean getSnapshot() {
+        return snapshot_;
+      }
+      /**
+       * <code>bool snapshot = 2;</code>
+       * @param value The snapshot to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSnapshot(boolean value) {
+        
+        snapshot_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>bool snapshot = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSnapshot() {
+        
+        snapshot_ = false;
+        onChanged();
+        return this;
+      }
+
+      private long lastSeq_ ;
+      /**
+       * <code>int64 lastSeq = 3;</code>
+       * @return The lastSeq.
+       */
+      @java.lang.Override
+      public long getLastSeq() {
+        return lastSeq_;
+      }
+      /**
+       * <code>int64 lastSeq = 3;</code>
+       * @param value The lastSeq to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastSeq(long value) {
+        
+        lastSeq_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 lastSeq = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLastSeq() {
+        
+        lastSeq_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange> change_ =
+        java.util.Collections.emptyList();
+      private void ensureChangeIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          change_ = new java.util.ArrayList<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange>(change_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange.Builder, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChangeOrBuilder> changeBuilder_;
+
+      /**
+       * <code>repeated .GrpcContentChange change = 4;</code>
+       */
+      public java.util.List<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange> getChangeList() {
+        if (changeBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(change_);
+        } else {
+          return changeBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .GrpcContentChange change = 4;</code>
+       */
+      public int getChangeCount() {
+        if (changeBuilder_ == null) {
+          return change_.size();
+        } else {
+          return changeBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .GrpcContentChange change = 4;</code>
+       */
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange getChange(int index) {
+        if (changeBuilder_ == null) {
+          return change_.get(index);
+        } else {
+          return changeBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .GrpcContentChange change = 4;</code>
+       */
+      public Builder setChange(
+          int index, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange value) {
+        if (changeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChangeIsMutable();
+          change_.set(index, value);
+          onChanged();
+        } else {
+          changeBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .GrpcContentChange change = 4;</code>
+       */
+      public Builder setChange(
+          int index, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange.Builder builderForValue) {
+        if (changeBuilder_ == null) {
+          ensureChangeIsMutable();
+          change_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          changeBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .GrpcContentChange change = 4;</code>
+       */
+      public Builder addChange(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange value) {
+        if (changeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChangeIsMutable();
+          change_.add(value);
+          onChanged();
+        } else {
+          changeBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .GrpcContentChange change = 4;</code>
+       */
+      public Builder addChange(
+          int index, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange value) {
+        if (changeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureChangeIsMutable();
+          change_.add(index, value);
+          onChanged();
+        } else {
+          changeBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .GrpcContentChange change = 4;</code>
+       */
+      public Builder addChange(
+          fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange.Builder builderForValue) {
+        if (changeBuilder_ == null) {
+          ensureChangeIsMutable();
+          change_.add(builderForValue.build());
+          onChanged();
+        } else {
+          changeBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .GrpcContentChange change = 4;</code>
+       */
+      public Builder addChange(
+          int index, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange.Builder builderForValue) {
+        if (changeBuilder_ == null) {
+          ensureChangeIsMutable();
+          change_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          changeBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .GrpcContentChange change = 4;</code>
+       */
+      public Builder addAllChange(
+          java.lang.Iterable<? extends fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange> values) {
+        if (changeBuilder_ == null) {
+          ensureChangeIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, change_);
+          onChanged();
+        } else {
+          changeBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .GrpcContentChange change = 4;</code>
+       */
+      public Builder clearChange() {
+        if (changeBuilder_ == null) {
+          change_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          changeBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .GrpcContentChange change = 4;</code>
+       */
+      public Builder removeChange(int index) {
+        if (changeBuilder_ == null) {
+          ensureChangeIsMutable();
+          change_.remove(index);
+          onChanged();
+        } else {
+          changeBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .GrpcContentChange change = 4;</code>
+       */
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange.Builder getChangeBuilder(
+          int index) {
+        return getChangeFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .GrpcContentChange change = 4;</code>
+       */
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChangeOrBuilder getChangeOrBuilder(
+          int index) {
+        if (changeBuilder_ == null) {
+          return change_.get(index);  } else {
+          return changeBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .GrpcContentChange change = 4;</code>
+       */
+      public java.util.List<? extends fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChangeOrBuilder> 
+           getChangeOrBuilderList() {
+        if (changeBuilder_ != null) {
+          return changeBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(change_);
+        }
+      }
+      /**
+       * <code>repeated .GrpcContentChange change = 4;</code>
+       */
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange.Builder addChangeBuilder() {
+        return getChangeFieldBuilder().addBuilder(
+            fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .GrpcContentChange change = 4;</code>
+       */
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange.Builder addChangeBuilder(
+          int index) {
+        return getChangeFieldBuilder().addBuilder(
+            index, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .GrpcContentChange change = 4;</code>
+       */
+      public java.util.List<fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange.Builder> 
+           getChangeBuilderList() {
+        return getChangeFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange.Builder, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChangeOrBuilder> 
+          getChangeFieldBuilder() {
+        if (changeBuilder_ == null) {
+          changeBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange.Builder, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChangeOrBuilder>(
+                  change_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          change_ = null;
+        }
+        return changeBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:GetChangesResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:GetChangesResult)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GetChangesResult>
+        PARSER = new com.google.protobuf.AbstractParser<GetChangesResult>() {
+      @java.lang.Override
+      public GetChangesResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new GetChangesResult(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<GetChangesResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GetChangesResult> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface UpdatePostArgsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:UpdatePostArgs)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string postId = 1;</code>
+     * @return The postId.
+     */
+    java.lang.String getPostId();
+    /**
+     * <code>string postId = 1;</code>
+     * @return The bytes for postId.
+     */
+    com.google.protobuf.ByteString
+        getPostIdBytes();
+
+    /**
+     * <code>optional string password = 2;</code>
+     * @return Whether the password field is set.
+     */
+    boolean hasPassword();
+    /**
+     * <code>optional string password = 2;</code>
+     * @return The password.
+     */
+    java.lang.String getPassword();
+    /**
+     * <code>optional string password = 2;</code>
+     * @return The bytes for password.
+     */
+    com.google.protobuf.ByteString
+        getPasswordBytes();
+
+    /**
+     * <code>.GrpcPost post = 3;</code>
+     * @return Whether the post field is set.
+     */
+    boolean hasPost();
+    /**
+     * <code>.GrpcPost post = 3;</code>
+     * @return The post.
+     */
+    fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost getPost();
+    /**
+     * <code>.GrpcPost post = 3;</code>
+     */
+    fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder getPostOrBuilder();
+  }
+  /**
+   * Protobuf type {@code UpdatePostArgs}
+   */
+  public static final class UpdatePostArgs extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:UpdatePostArgs)
+      UpdatePostArgsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use UpdatePostArgs.newBuilder() to construct.
+    private UpdatePostArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private UpdatePostArgs() {
+      postId_ = "";
+      password_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new UpdatePostArgs();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private UpdatePostArgs(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              postId_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              password_ = s;
+              break;
+            }
+            case 26: {
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder subBuilder = null;
+              if (post_ != null) {
+                subBuilder = post_.toBuilder();
+              }
+              post_ = input.readMessage(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.parser(), extensionRegistry);
+              if (subBuilder != null) {
+                subBuilder.mergeFrom(post_);
+                post_ = subBuilder.buildPartial();
+              }
+
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_UpdatePostArgs_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_UpdatePostArgs_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int POSTID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object postId_;
+    /**
+     * <code>string postId = 1;</code>
+     * @return The postId.
+     */
+    @java.lang.Override
+    public java.lang.String getPostId() {
+      java.lang.Object ref = postId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        postId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string postId = 1;</code>
+     * @return The bytes for postId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPostIdBytes() {
+      java.lang.Object ref = postId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        postId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PASSWORD_FIELD_NUMBER = 2;
+    private volatile java.lang.Object password_;
+    /**
+     * <code>optional string password = 2;</code>
+     * @return Whether the password field is set.
+     */
+    @java.lang.Override
+    public boolean hasPassword() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string password = 2;</code>
+     * @return The password.
+     */
+    @java.lang.Override
+    public java.lang.String getPassword() {
+      java.lang.Object ref = password_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        password_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string password = 2;</code>
+     * @return The bytes for password.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPasswordBytes() {
+      java.lang.Object ref = password_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        password_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int POST_FIELD_NUMBER = 3;
+    private fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost post_;
+    /**
+     * <code>.GrpcPost post = 3;</code>
+     * @return Whether the post field is set.
+     */
+    @java.lang.Override
+    public boolean hasPost() {
+      return post_ != null;
+    }
+    /**
+     * <code>.GrpcPost post = 3;</code>
+     * @return The post.
+     */
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost getPost() {
+      return post_ == null ? fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.getDefaultInstance() : post_;
+    }
+    /**
+     * <code>.GrpcPost post = 3;</code>
+     */
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder getPostOrBuilder() {
+      return getPost();
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, postId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, password_);
+      }
+      if (post_ != null) {
+        output.writeMessage(3, getPost());
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, postId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, password_);
+      }
+      if (post_ != null) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, getPost());
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs)) {
+        return super.equals(obj);
+      }
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs) obj;
+
+      if (!getPostId()
+          .equals(other.getPostId())) return false;
+      if (hasPassword() != other.hasPassword()) return false;
+      if (hasPassword()) {
+        if (!getPassword()
+            .equals(other.getPassword())) return false;
+      }
+      if (hasPost() != other.hasPost()) return false;
+      if (hasPost()) {
+        if (!getPost()
+            .equals(other.getPost())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + POSTID_FIELD_NUMBER;
+      hash = (53 * hash) + getPostId().hashCode();
+      if (hasPassword()) {
+        hash = (37 * hash) + PASSWORD_FIELD_NUMBER;
+        hash = (53 * hash) + getPassword().hashCode();
+      }
+      if (hasPost()) {
+        hash = (37 * hash) + POST_FIELD_NUMBER;
+        hash = (53 * hash) + getPost().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code UpdatePostArgs}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:UpdatePostArgs)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_UpdatePostArgs_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_UpdatePostArgs_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs.Builder.class);
+      }
+
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        postId_ = "";
+
+        password_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (postBuilder_ == null) {
+          post_ = null;
+        } else {
+          post_ = null;
+          postBuilder_ = null;
+        }
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_UpdatePostArgs_descriptor;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.postId_ = postId_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.password_ = password_;
+        if (postBuilder_ == null) {
+          result.post_ = post_;
+        } else {
+          result.post_ = postBuilder_.build();
+        }
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs.getDefaultInstance()) return this;
+        if (!other.getPostId().isEmpty()) {
+          postId_ = other.postId_;
+          onChanged();
+        }
+        if (other.hasPassword()) {
+          bitField0_ |= 0x00000001;
+          password_ = other.password_;
+          onChanged();
+        }
+        if (other.hasPost()) {
+          mergePost(other.getPost());
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object postId_ = "";
+      /**
+       * <code>string postId = 1;</code>
+       * @return The postId.
+       */
+      public java.lang.String getPostId() {
+        java.lang.Object ref = postId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          postId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @return The bytes for postId.
+       */
+      public com.google.protobuf.ByteString
+          getPostIdBytes() {
+        java.lang.Object ref = postId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          postId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @param value The postId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPostId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        postId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPostId() {
+        
+        postId_ = getDefaultInstance().getPostId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @param value The bytes for postId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPostIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        postId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object password_ = "";
+      /**
+       * <code>optional string password = 2;</code>
+       * @return Whether the password field is set.
+       */
+      public boolean hasPassword() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string password = 2;</code>
+       * @return The password.
+       */
+      public java.lang.String getPassword() {
+        java.lang.Object ref = password_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          password_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string password = 2;</code>
+       * @return The bytes for password.
+       */
+      public com.google.protobuf.ByteString
+          getPasswordBytes() {
+        java.lang.Object ref = password_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          password_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string password = 2;</code>
+       * @param value The password to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPassword(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        password_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string password = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPassword() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        password_ = getDefaultInstance().getPassword();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string password = 2;</code>
+       * @param value The bytes for password to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPasswordBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000001;
+        password_ = value;
+        onChanged();
+        return this;
+      }
+
+      private fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost post_;
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder> postBuilder_;
+      /**
+       * <code>.GrpcPost post = 3;</code>
+       * @return Whether the post field is set.
+       */
+      public boolean hasPost() {
+        return postBuilder_ != null || post_ != null;
+      }
+      /**
+       * <code>.GrpcPost post = 3;</code>
+       * @return The post.
+       */
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost getPost() {
+        if (postBuilder_ == null) {
+          return post_ == null ? fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.getDefaultInstance() : post_;
+        } else {
+          return postBuilder_.getMessage();
+        }
+      }
+      /**
+       * <code>.GrpcPost post = 3;</code>
+       */
+      public Builder setPost(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost value) {
+        if (postBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          post_ = value;
+          onChanged();
+        } else {
+          postBuilder_.setMessage(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.GrpcPost post = 3;</code>
+       */
+      public Builder setPost(
+          fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder builderForValue) {
+        if (postBuilder_ == null) {
+          post_ = builderForValue.build();
+          onChanged();
+        } else {
+          postBuilder_.setMessage(builderForValue.build());
+        }
+
+        return this;
+      }
+      /**
+       * <code>.GrpcPost post = 3;</code>
+       */
+      public Builder mergePost(fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost value) {
+        if (postBuilder_ == null) {
+          if (post_ != null) {
+            post_ =
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.newBuilder(post_).mergeFrom(value).buildPartial();
+          } else {
+            post_ = value;
+          }
+          onChanged();
+        } else {
+          postBuilder_.mergeFrom(value);
+        }
+
+        return this;
+      }
+      /**
+       * <code>.GrpcPost post = 3;</code>
+       */
+      public Builder clearPost() {
+        if (postBuilder_ == null) {
+          post_ = null;
+          onChanged();
+        } else {
+          post_ = null;
+          postBuilder_ = null;
+        }
+
+        return this;
+      }
+      /**
+       * <code>.GrpcPost post = 3;</code>
+       */
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder getPostBuilder() {
+        
+        onChanged();
+        return getPostFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.GrpcPost post = 3;</code>
+       */
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder getPostOrBuilder() {
+        if (postBuilder_ != null) {
+          return postBuilder_.getMessageOrBuilder();
+        } else {
+          return post_ == null ?
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.getDefaultInstance() : post_;
+        }
+      }
+      /**
+       * <code>.GrpcPost post = 3;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder> 
+          getPostFieldBuilder() {
+        if (postBuilder_ == null) {
+          postBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder, fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostOrBuilder>(
+                  getPost(),
+                  getParentForChildren(),
+                  isClean());
+          post_ = null;
+        }
+        return postBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:UpdatePostArgs)
+    }
+
+    // @@protoc_insertion_point(class_scope:UpdatePostArgs)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<UpdatePostArgs>
+        PARSER = new com.google.protobuf.AbstractParser<UpdatePostArgs>() {
+      @java.lang.Override
+      public UpdatePostArgs parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new UpdatePostArgs(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<UpdatePostArgs> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<UpdatePostArgs> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface DeletePostArgsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:DeletePostArgs)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string postId = 1;</code>
+     * @return The postId.
+     */
+    java.lang.String getPostId();
+    /**
+     * <code>string postId = 1;</code>
+     * @return The bytes for postId.
+     */
+    com.google.protobuf.ByteString
+        getPostIdBytes();
+
+    /**
+     * <code>optional string password = 2;</code>
+     * @return Whether the password field is set.
+     */
+    boolean hasPassword();
+    /**
+     * <code>optional string password = 2;</code>
+     * @return The password.
+     */
+    java.lang.String getPassword();
+    /**
+     * <code>optional string password = 2;</code>
+     * @return The bytes for password.
+     */
+    com.google.protobuf.ByteString
+        getPasswordBytes();
+  }
+  /**
+   * Protobuf type {@code DeletePostArgs}
+   */
+  public static final class DeletePostArgs extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:DeletePostArgs)
+      DeletePostArgsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use DeletePostArgs.newBuilder() to construct.
+    private DeletePostArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private DeletePostArgs() {
+      postId_ = "";
+      password_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new DeletePostArgs();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private DeletePostArgs(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              postId_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              password_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_DeletePostArgs_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_DeletePostArgs_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int POSTID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object postId_;
+    /**
+     * <code>string postId = 1;</code>
+     * @return The postId.
+     */
+    @java.lang.Override
+    public java.lang.String getPostId() {
+      java.lang.Object ref = postId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        postId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string postId = 1;</code>
+     * @return The bytes for postId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPostIdBytes() {
+      java.lang.Object ref = postId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        postId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PASSWORD_FIELD_NUMBER = 2;
+    private volatile java.lang.Object password_;
+    /**
+     * <code>optional string password = 2;</code>
+     * @return Whether the password field is set.
+     */
+    @java.lang.Override
+    public boolean hasPassword() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string password = 2;</code>
+     * @return The password.
+     */
+    @java.lang.Override
+    public java.lang.String getPassword() {
+      java.lang.Object ref = password_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        password_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string password = 2;</code>
+     * @return The bytes for password.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPasswordBytes() {
+      java.lang.Object ref = password_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        password_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, postId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, password_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, postId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, password_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs)) {
+        return super.equals(obj);
+      }
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs) obj;
+
+      if (!getPostId()
+          .equals(other.getPostId())) return false;
+      if (hasPassword() != other.hasPassword()) return false;
+      if (hasPassword()) {
+        if (!getPassword()
+            .equals(other.getPassword())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + POSTID_FIELD_NUMBER;
+      hash = (53 * hash) + getPostId().hashCode();
+      if (hasPassword()) {
+        hash = (37 * hash) + PASSWORD_FIELD_NUMBER;
+        hash = (53 * hash) + getPassword().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code DeletePostArgs}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:DeletePostArgs)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_DeletePostArgs_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_DeletePostArgs_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs.Builder.class);
+      }
+
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        postId_ = "";
+
+        password_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_DeletePostArgs_descriptor;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.postId_ = postId_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.password_ = password_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs.getDefaultInstance()) return this;
+        if (!other.getPostId().isEmpty()) {
+          postId_ = other.postId_;
+          onChanged();
+        }
+        if (other.hasPassword()) {
+          bitField0_ |= 0x00000001;
+          password_ = other.password_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object postId_ = "";
+      /**
+       * <code>string postId = 1;</code>
+       * @return The postId.
+       */
+      public java.lang.String getPostId() {
+        java.lang.Object ref = postId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          postId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @return The bytes for postId.
+       */
+      public com.google.protobuf.ByteString
+          getPostIdBytes() {
+        java.lang.Object ref = postId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          postId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @param value The postId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPostId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        postId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPostId() {
+        
+        postId_ = getDefaultInstance().getPostId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @param value The bytes for postId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPostIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        postId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object password_ = "";
+      /**
+       * <code>optional string password = 2;</code>
+       * @return Whether the password field is set.
+       */
+      public boolean hasPassword() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string password = 2;</code>
+       * @return The password.
+       */
+      public java.lang.String getPassword() {
+        java.lang.Object ref = password_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          password_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string password = 2;</code>
+       * @return The bytes for password.
+       */
+      public com.google.protobuf.ByteString
+          getPasswordBytes() {
+        java.lang.Object ref = password_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          password_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string password = 2;</code>
+       * @param value The password to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPassword(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        password_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string password = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPassword() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        password_ = getDefaultInstance().getPassword();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string password = 2;</code>
+       * @param value The bytes for password to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPasswordBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000001;
+        password_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:DeletePostArgs)
+    }
+
+    // @@protoc_insertion_point(class_scope:DeletePostArgs)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<DeletePostArgs>
+        PARSER = new com.google.protobuf.AbstractParser<DeletePostArgs>() {
+      @java.lang.Override
+      public DeletePostArgs parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new DeletePostArgs(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<DeletePostArgs> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<DeletePostArgs> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ChangeVoteArgsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ChangeVoteArgs)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string postId = 1;</code>
+     * @return The postId.
+     */
+    java.lang.String getPostId();
+    /**
+     * <code>string postId = 1;</code>
+     * @return The bytes for postId.
+     */
+    com.google.protobuf.ByteString
+        getPostIdBytes();
+
+    /**
+     * <code>string userId = 2;</code>
+     * @return The userId.
+     */
+    java.lang.String getUserId();
+    /**
+     * <code>string userId = 2;</code>
+     * @return The bytes for userId.
+     */
+    com.google.protobuf.ByteString
+        getUserIdBytes();
+
+    /**
+     * <code>optional string password = 3;</code>
+     * @return Whether the password field is set.
+     */
+    boolean hasPassword();
+    /**
+     * <code>optional string password = 3;</code>
+     * @return The password.
+     */
+    java.lang.String getPassword();
+    /**
+     * <code>optional string password = 3;</code>
+     * @return The bytes for password.
+     */
+    com.google.protobuf.ByteString
+        getPasswordBytes();
+  }
+  /**
+   * Protobuf type {@code ChangeVoteArgs}
+   */
+  public static final class ChangeVoteArgs extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ChangeVoteArgs)
+      ChangeVoteArgsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ChangeVoteArgs.newBuilder() to construct.
+    private ChangeVoteArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ChangeVoteArgs() {
+      postId_ = "";
+      userId_ = "";
+      password_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ChangeVoteArgs();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private ChangeVoteArgs(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              postId_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              userId_ = s;
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              password_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_ChangeVoteArgs_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_ChangeVoteArgs_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int POSTID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object postId_;
+    /**
+     * <code>string postId = 1;</code>
+     * @return The postId.
+     */
+    @java.lang.Override
+    public java.lang.String getPostId() {
+      java.lang.Object ref = postId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        postId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string postId = 1;</code>
+     * @return The bytes for postId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPostIdBytes() {
+      java.lang.Object ref = postId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        postId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int USERID_FIELD_NUMBER = 2;
+    private volatile java.lang.Object userId_;
+    /**
+     * <code>string userId = 2;</code>
+     * @return The userId.
+     */
+    @java.lang.Override
+    public java.lang.String getUserId() {
+      java.lang.Object ref = userId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        userId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string userId = 2;</code>
+     * @return The bytes for userId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getUserIdBytes() {
+      java.lang.Object ref = userId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        userId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PASSWORD_FIELD_NUMBER = 3;
+    private volatile java.lang.Object password_;
+    /**
+     * <code>optional string password = 3;</code>
+     * @return Whether the password field is set.
+     */
+    @java.lang.Override
+    public boolean hasPassword() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string password = 3;</code>
+     * @return The password.
+     */
+    @java.lang.Override
+    public java.lang.String getPassword() {
+      java.lang.Object ref = password_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        password_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string password = 3;</code>
+     * @return The bytes for password.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPasswordBytes() {
+      java.lang.Object ref = password_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        password_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, postId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(userId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, userId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, password_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, postId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(userId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, userId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, password_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs)) {
+        return super.equals(obj);
+      }
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs) obj;
+
+      if (!getPostId()
+          .equals(other.getPostId())) return false;
+      if (!getUserId()
+          .equals(other.getUserId())) return false;
+      if (hasPassword() != other.hasPassword()) return false;
+      if (hasPassword()) {
+        if (!getPassword()
+            .equals(other.getPassword())) return false;
+      }
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + POSTID_FIELD_NUMBER;
+      hash = (53 * hash) + getPostId().hashCode();
+      hash = (37 * hash) + USERID_FIELD_NUMBER;
+      hash = (53 * hash) + getUserId().hashCode();
+      if (hasPassword()) {
+        hash = (37 * hash) + PASSWORD_FIELD_NUMBER;
+        hash = (53 * hash) + getPassword().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code ChangeVoteArgs}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ChangeVoteArgs)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_ChangeVoteArgs_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_ChangeVoteArgs_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs.Builder.class);
+      }
+
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        postId_ = "";
+
+        userId_ = "";
+
+        password_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_ChangeVoteArgs_descriptor;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.postId_ = postId_;
+        result.userId_ = userId_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.password_ = password_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs.getDefaultInstance()) return this;
+        if (!other.getPostId().isEmpty()) {
+          postId_ = other.postId_;
+          onChanged();
+        }
+        if (!other.getUserId().isEmpty()) {
+          userId_ = other.userId_;
+          onChanged();
+        }
+        if (other.hasPassword()) {
+          bitField0_ |= 0x00000001;
+          password_ = other.password_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object postId_ = "";
+      /**
+       * <code>string postId = 1;</code>
+       * @return The postId.
+       */
+      public java.lang.String getPostId() {
+        java.lang.Object ref = postId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          postId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @return The bytes for postId.
+       */
+      public com.google.protobuf.ByteString
+          getPostIdBytes() {
+        java.lang.Object ref = postId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          postId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @param value The postId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPostId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        postId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPostId() {
+        
+        postId_ = getDefaultInstance().getPostId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @param value The bytes for postId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPostIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        postId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object userId_ = "";
+      /**
+       * <code>string userId = 2;</code>
+       * @return The userId.
+       */
+      public java.lang.String getUserId() {
+        java.lang.Object ref = userId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          userId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string userId = 2;</code>
+       * @return The bytes for userId.
+       */
+      public com.google.protobuf.ByteString
+          getUserIdBytes() {
+        java.lang.Object ref = userId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          userId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string userId = 2;</code>
+       * @param value The userId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUserId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        userId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string userId = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUserId() {
+        
+        userId_ = getDefaultInstance().getUserId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string userId = 2;</code>
+       * @param value The bytes for userId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUserIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        userId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object password_ = "";
+      /**
+       * <code>optional string password = 3;</code>
+       * @return Whether the password field is set.
+       */
+      public boolean hasPassword() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string password = 3;</code>
+       * @return The password.
+       */
+      public java.lang.String getPassword() {
+        java.lang.Object ref = password_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          password_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string password = 3;</code>
+       * @return The bytes for password.
+       */
+      public com.google.protobuf.ByteString
+          getPasswordBytes() {
+        java.lang.Object ref = password_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          password_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string password = 3;</code>
+       * @param value The password to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPassword(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        password_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string password = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPassword() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        password_ = getDefaultInstance().getPassword();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string password = 3;</code>
+       * @param value The bytes for password to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPasswordBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000001;
+        password_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ChangeVoteArgs)
+    }
+
+    // @@protoc_insertion_point(class_scope:ChangeVoteArgs)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ChangeVoteArgs>
+        PARSER = new com.google.protobuf.AbstractParser<ChangeVoteArgs>() {
+      @java.lang.Override
+      public ChangeVoteArgs parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new ChangeVoteArgs(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<ChangeVoteArgs> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ChangeVoteArgs> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CastVoteArgsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CastVoteArgs)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string postId = 1;</code>
+     * @return The postId.
+     */
+    java.lang.String getPostId();
+    /**
+     * <code>string postId = 1;</code>
+     * @return The bytes for postId.
+     */
+    com.google.protobuf.ByteString
+        getPostIdBytes();
+
+    /**
+     * <code>string userId = 2;</code>
+     * @return The userId.
+     */
+    java.lang.String getUserId();
+    /**
+     * <code>string userId = 2;</code>
+     * @return The bytes for userId.
+     */
+    com.google.protobuf.ByteString
+        getUserIdBytes();
+
+    /**
+     * <code>optional string password = 3;</code>
+     * @return Whether the password field is set.
+     */
+    boolean hasPassword();
+    /**
+     * <code>optional string password = 3;</code>
+     * @return The password.
+     */
+    java.lang.String getPassword();
+    /**
+     * <code>optional string password = 3;</code>
+     * @return The bytes for password.
+     */
+    com.google.protobuf.ByteString
+        getPasswordBytes();
+
+    /**
+     * <code>string voteType = 4;</code>
+     * @return The voteType.
+     */
+    java.lang.String getVoteType();
+    /**
+     * <code>string voteType = 4;</code>
+     * @return The bytes for voteType.
+     */
+    com.google.protobuf.ByteString
+        getVoteTypeBytes();
+  }
+  /**
+   * Protobuf type {@code CastVoteArgs}
+   */
+  public static final class CastVoteArgs extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:CastVoteArgs)
+      CastVoteArgsOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CastVoteArgs.newBuilder() to construct.
+    private CastVoteArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CastVoteArgs() {
+      postId_ = "";
+      userId_ = "";
+      password_ = "";
+      voteType_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CastVoteArgs();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CastVoteArgs(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              postId_ = s;
+              break;
+            }
+            case 18: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              userId_ = s;
+              break;
+            }
+            case 26: {
+              java.lang.String s = input.readStringRequireUtf8();
+              bitField0_ |= 0x00000001;
+              password_ = s;
+              break;
+            }
+            case 34: {
+              java.lang.String s = input.readStringRequireUtf8();
+
+              voteType_ = s;
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_CastVoteArgs_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_CastVoteArgs_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs.Builder.class);
+    }
+
+    private int bitField0_;
+    public static final int POSTID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object postId_;
+    /**
+     * <code>string postId = 1;</code>
+     * @return The postId.
+     */
+    @java.lang.Override
+    public java.lang.String getPostId() {
+      java.lang.Object ref = postId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        postId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string postId = 1;</code>
+     * @return The bytes for postId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPostIdBytes() {
+      java.lang.Object ref = postId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        postId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int USERID_FIELD_NUMBER = 2;
+    private volatile java.lang.Object userId_;
+    /**
+     * <code>string userId = 2;</code>
+     * @return The userId.
+     */
+    @java.lang.Override
+    public java.lang.String getUserId() {
+      java.lang.Object ref = userId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        userId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string userId = 2;</code>
+     * @return The bytes for userId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getUserIdBytes() {
+      java.lang.Object ref = userId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        userId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int PASSWORD_FIELD_NUMBER = 3;
+    private volatile java.lang.Object password_;
+    /**
+     * <code>optional string password = 3;</code>
+     * @return Whether the password field is set.
+     */
+    @java.lang.Override
+    public boolean hasPassword() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <code>optional string password = 3;</code>
+     * @return The password.
+     */
+    @java.lang.Override
+    public java.lang.String getPassword() {
+      java.lang.Object ref = password_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        password_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>optional string password = 3;</code>
+     * @return The bytes for password.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getPasswordBytes() {
+      java.lang.Object ref = password_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        password_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int VOTETYPE_FIELD_NUMBER = 4;
+    private volatile java.lang.Object voteType_;
+    /**
+     * <code>string voteType = 4;</code>
+     * @return The voteType.
+     */
+    @java.lang.Override
+    public java.lang.String getVoteType() {
+      java.lang.Object ref = voteType_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        voteType_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string voteType = 4;</code>
+     * @return The bytes for voteType.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getVoteTypeBytes() {
+      java.lang.Object ref = voteType_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        voteType_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, postId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(userId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, userId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, password_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(voteType_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 4, voteType_);
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(postId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, postId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(userId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, userId_);
+      }
+      if (((bitField0_ & 0x00000001) != 0)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, password_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(voteType_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, voteType_);
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs)) {
+        return super.equals(obj);
+      }
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs) obj;
+
+      if (!getPostId()
+          .equals(other.getPostId())) return false;
+      if (!getUserId()
+          .equals(other.getUserId())) return false;
+      if (hasPassword() != other.hasPassword()) return false;
+      if (hasPassword()) {
+        if (!getPassword()
+            .equals(other.getPassword())) return false;
+      }
+      if (!getVoteType()
+          .equals(other.getVoteType())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + POSTID_FIELD_NUMBER;
+      hash = (53 * hash) + getPostId().hashCode();
+      hash = (37 * hash) + USERID_FIELD_NUMBER;
+      hash = (53 * hash) + getUserId().hashCode();
+      if (hasPassword()) {
+        hash = (37 * hash) + PASSWORD_FIELD_NUMBER;
+        hash = (53 * hash) + getPassword().hashCode();
+      }
+      hash = (37 * hash) + VOTETYPE_FIELD_NUMBER;
+      hash = (53 * hash) + getVoteType().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CastVoteArgs}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CastVoteArgs)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgsOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_CastVoteArgs_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_CastVoteArgs_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs.Builder.class);
+      }
+
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        postId_ = "";
+
+        userId_ = "";
+
+        password_ = "";
+        bitField0_ = (bitField0_ & ~0x00000001);
+        voteType_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_CastVoteArgs_descriptor;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs(this);
+        int from_bitField0_ = bitField0_;
+        int to_bitField0_ = 0;
+        result.postId_ = postId_;
+        result.userId_ = userId_;
+        if (((from_bitField0_ & 0x00000001) != 0)) {
+          to_bitField0_ |= 0x00000001;
+        }
+        result.password_ = password_;
+        result.voteType_ = voteType_;
+        result.bitField0_ = to_bitField0_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs.getDefaultInstance()) return this;
+        if (!other.getPostId().isEmpty()) {
+          postId_ = other.postId_;
+          onChanged();
+        }
+        if (!other.getUserId().isEmpty()) {
+          userId_ = other.userId_;
+          onChanged();
+        }
+        if (other.hasPassword()) {
+          bitField0_ |= 0x00000001;
+          password_ = other.password_;
+          onChanged();
+        }
+        if (!other.getVoteType().isEmpty()) {
+          voteType_ = other.voteType_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private java.lang.Object postId_ = "";
+      /**
+       * <code>string postId = 1;</code>
+       * @return The postId.
+       */
+      public java.lang.String getPostId() {
+        java.lang.Object ref = postId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          postId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @return The bytes for postId.
+       */
+      public com.google.protobuf.ByteString
+          getPostIdBytes() {
+        java.lang.Object ref = postId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          postId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @param value The postId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPostId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        postId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPostId() {
+        
+        postId_ = getDefaultInstance().getPostId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string postId = 1;</code>
+       * @param value The bytes for postId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPostIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        postId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object userId_ = "";
+      /**
+       * <code>string userId = 2;</code>
+       * @return The userId.
+       */
+      public java.lang.String getUserId() {
+        java.lang.Object ref = userId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          userId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string userId = 2;</code>
+       * @return The bytes for userId.
+       */
+      public com.google.protobuf.ByteString
+          getUserIdBytes() {
+        java.lang.Object ref = userId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          userId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string userId = 2;</code>
+       * @param value The userId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUserId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        userId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string userId = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUserId() {
+        
+        userId_ = getDefaultInstance().getUserId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string userId = 2;</code>
+       * @param value The bytes for userId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setUserIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        userId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object password_ = "";
+      /**
+       * <code>optional string password = 3;</code>
+       * @return Whether the password field is set.
+       */
+      public boolean hasPassword() {
+        return ((bitField0_ & 0x00000001) != 0);
+      }
+      /**
+       * <code>optional string password = 3;</code>
+       * @return The password.
+       */
+      public java.lang.String getPassword() {
+        java.lang.Object ref = password_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          password_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>optional string password = 3;</code>
+       * @return The bytes for password.
+       */
+      public com.google.protobuf.ByteString
+          getPasswordBytes() {
+        java.lang.Object ref = password_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          password_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>optional string password = 3;</code>
+       * @param value The password to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPassword(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  bitField0_ |= 0x00000001;
+        password_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string password = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPassword() {
+        bitField0_ = (bitField0_ & ~0x00000001);
+        password_ = getDefaultInstance().getPassword();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional string password = 3;</code>
+       * @param value The bytes for password to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPasswordBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        bitField0_ |= 0x00000001;
+        password_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object voteType_ = "";
+      /**
+       * <code>string voteType = 4;</code>
+       * @return The voteType.
+       */
+      public java.lang.String getVoteType() {
+        java.lang.Object ref = voteType_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          voteType_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string voteType = 4;</code>
+       * @return The bytes for voteType.
+       */
+      public com.google.protobuf.ByteString
+          getVoteTypeBytes() {
+        java.lang.Object ref = voteType_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          voteType_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string voteType = 4;</code>
+       * @param value The voteType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVoteType(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        voteType_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string voteType = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVoteType() {
+        
+        voteType_ = getDefaultInstance().getVoteType();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string voteType = 4;</code>
+       * @param value The bytes for voteType to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVoteTypeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        voteType_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:CastVoteArgs)
+    }
+
+    // @@protoc_insertion_point(class_scope:CastVoteArgs)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CastVoteArgs>
+        PARSER = new com.google.protobuf.AbstractParser<CastVoteArgs>() {
+      @java.lang.Override
+      public CastVoteArgs parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CastVoteArgs(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<CastVoteArgs> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CastVoteArgs> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface CastVotesResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:CastVotesResult)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated string outcome = 1;</code>
+     * @return A list containing the outcome.
+     */
+    java.util.List<java.lang.String>
+        getOutcomeList();
+    /**
+     * <code>repeated string outcome = 1;</code>
+     * @return The count of outcome.
+     */
+    int getOutcomeCount();
+    /**
+     * <code>repeated string outcome = 1;</code>
+     * @param index The index of the element to return.
+     * @return The outcome at the given index.
+     */
+    java.lang.String getOutcome(int index);
+    /**
+     * <code>repeated string outcome = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the outcome at the given index.
+     */
+    com.google.protobuf.ByteString
+        getOutcomeBytes(int index);
+  }
+  /**
+   * Protobuf type {@code CastVotesResult}
+   */
+  public static final class CastVotesResult extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:CastVotesResult)
+      CastVotesResultOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use CastVotesResult.newBuilder() to construct.
+    private CastVotesResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private CastVotesResult() {
+      outcome_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new CastVotesResult();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private CastVotesResult(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      int mutable_bitField0_ = 0;
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
+              if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+                outcome_ = new com.google.protobuf.LazyStringArrayList();
+                mutable_bitField0_ |= 0x00000001;
+              }
+              outcome_.add(s);
+              break;
+            }
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        if (((mutable_bitField0_ & 0x00000001) != 0)) {
+          outcome_ = outcome_.getUnmodifiableView();
+        }
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_CastVotesResult_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_CastVotesResult_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult.Builder.class);
+    }
+
+    public static final int OUTCOME_FIELD_NUMBER = 1;
+    private com.google.protobuf.LazyStringList outcome_;
+    /**
+     * <code>repeated string outcome = 1;</code>
+     * @return A list containing the outcome.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getOutcomeList() {
+      return outcome_;
+    }
+    /**
+     * <code>repeated string outcome = 1;</code>
+     * @return The count of outcome.
+     */
+    public int getOutcomeCount() {
+      return outcome_.size();
+    }
+    /**
+     * <code>repeated string outcome = 1;</code>
+     * @param index The index of the element to return.
+     * @return The outcome at the given index.
+     */
+    public java.lang.String getOutcome(int index) {
+      return outcome_.get(index);
+    }
+    /**
+     * <code>repeated string outcome = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the outcome at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getOutcomeBytes(int index) {
+      return outcome_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      for (int i = 0; i < outcome_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, outcome_.getRaw(i));
+      }
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < outcome_.size(); i++) {
+          dataSize += computeStringSizeNoTag(outcome_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getOutcomeList().size();
+      }
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult)) {
+        return super.equals(obj);
+      }
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult) obj;
+
+      if (!getOutcomeList()
+          .equals(other.getOutcomeList())) return false;
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getOutcomeCount() > 0) {
+        hash = (37 * hash) + OUTCOME_FIELD_NUMBER;
+        hash = (53 * hash) + getOutcomeList().hashCode();
+      }
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code CastVotesResult}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:CastVotesResult)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResultOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_CastVotesResult_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_CastVotesResult_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult.Builder.class);
+      }
+
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        outcome_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_CastVotesResult_descriptor;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          outcome_ = outcome_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.outcome_ = outcome_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult.getDefaultInstance()) return this;
+        if (!other.outcome_.isEmpty()) {
+          if (outcome_.isEmpty()) {
+            outcome_ = other.outcome_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureOutcomeIsMutable();
+            outcome_.addAll(other.outcome_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.unknownFields);
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
+        return this;
+      }
+      private int bitField0_;
+
+      private com.google.protobuf.LazyStringList outcome_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureOutcomeIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          outcome_ = new com.google.protobuf.LazyStringArrayList(outcome_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+      /**
+       * <code>repeated string outcome = 1;</code>
+       * @return A list containing the outcome.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getOutcomeList() {
+        return outcome_.getUnmodifiableView();
+      }
+      /**
+       * <code>repeated string outcome = 1;</code>
+       * @return The count of outcome.
+       */
+      public int getOutcomeCount() {
+        return outcome_.size();
+      }
+      /**
+       * <code>repeated string outcome = 1;</code>
+       * @param index The index of the element to return.
+       * @return The outcome at the given index.
+       */
+      public java.lang.String getOutcome(int index) {
+        return outcome_.get(index);
+      }
+      /**
+       * <code>repeated string outcome = 1;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the outcome at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getOutcomeBytes(int index) {
+        return outcome_.getByteString(index);
+      }
+      /**
+       * <code>repeated string outcome = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The outcome to set.
+       * @return This builder for chaining.
+       */
+      public Builder setOutcome(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureOutcomeIsMutable();
+        outcome_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string outcome = 1;</code>
+       * @param value The outcome to add.
+       * @return This builder for chaining.
        */
-      public Builder setUserId(
+      public Builder addOutcome(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  
-        userId_ = value;
+  ensureOutcomeIsMutable();
+        outcome_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string outcome = 1;</code>
+       * @param values The outcome to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllOutcome(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureOutcomeIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, outcome_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string outcome = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearOutcome() {
+        outcome_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated string outcome = 1;</code>
+       * @param value The bytes of the outcome to add.
+       * @return This builder for chaining.
+       */
+      public Builder addOutcomeBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        ensureOutcomeIsMutable();
+        outcome_.add(value);
         onChanged();
         return this;
       }
-      /**
-       * <code>string userId = 2;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearUserId() {
-        
-        userId_ = getDefaultInstance().getUserId();
-        onChanged();
-        return this;
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:CastVotesResult)
+    }
+
+    // @@protoc_insertion_point(class_scope:CastVotesResult)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult();
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<CastVotesResult>
+        PARSER = new com.google.protobuf.AbstractParser<CastVotesResult>() {
+      @java.lang.Override
+      public CastVotesResult parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        return new CastVotesResult(input, extensionRegistry);
+      }
+    };
+
+    public static com.google.protobuf.Parser<CastVotesResult> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<CastVotesResult> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface EmptyMessageOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:EmptyMessage)
+      com.google.protobuf.MessageOrBuilder {
+  }
+  /**
+   * Protobuf type {@code EmptyMessage}
+   */
+  public static final class EmptyMessage extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:EmptyMessage)
+      EmptyMessageOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use EmptyMessage.newBuilder() to construct.
+    private EmptyMessage(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private EmptyMessage() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new EmptyMessage();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    private EmptyMessage(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      this();
+      if (extensionRegistry == null) {
+        throw new java.lang.NullPointerException();
+      }
+      com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+          com.google.protobuf.UnknownFieldSet.newBuilder();
+      try {
+        boolean done = false;
+        while (!done) {
+          int tag = input.readTag();
+          switch (tag) {
+            case 0:
+              done = true;
+              break;
+            default: {
+              if (!parseUnknownField(
+                  input, unknownFields, extensionRegistry, tag)) {
+                done = true;
+              }
+              break;
+            }
+          }
+        }
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        throw e.setUnfinishedMessage(this);
+      } catch (com.google.protobuf.UninitializedMessageException e) {
+        throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+      } catch (java.io.IOException e) {
+        throw new com.google.protobuf.InvalidProtocolBufferException(
+            e).setUnfinishedMessage(this);
+      } finally {
+        this.unknownFields = unknownFields.build();
+        makeExtensionsImmutable();
+      }
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_EmptyMessage_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_EmptyMessage_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage.Builder.class);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      unknownFields.writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      size += unknownFields.getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage)) {
+        return super.equals(obj);
+      }
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage) obj;
+
+      if (!unknownFields.equals(other.unknownFields)) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (29 * hash) + unknownFields.hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code EmptyMessage}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:EmptyMessage)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessageOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_EmptyMessage_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_EmptyMessage_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage.Builder.class);
       }
-      /**
-       * <code>string userId = 2;</code>
-       * @param value The bytes for userId to set.
-       * @return This builder for chaining.
-       */
-      public Builder setUserIdBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        userId_ = value;
-        onChanged();
+
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage.newBuilder()
+      private Builder() {
+        maybeForceBuilderInitialization();
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+        maybeForceBuilderInitialization();
+      }
+      private void maybeForceBuilderInitialization() {
+        if (com.google.protobuf.GeneratedMessageV3
+                .alwaysUseFieldBuilders) {
+        }
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
         return this;
       }
 
-      private java.lang.Object password_ = "";
-      /**
-       * <code>optional string password = 3;</code>
-       * @return Whether the password field is set.
-       */
-      public boolean hasPassword() {
-        return ((bitField0_ & 0x00000001) != 0);
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_EmptyMessage_descriptor;
       }
-      /**
-       * <code>optional string password = 3;</code>
-       * @return The password.
-       */
-      public java.lang.String getPassword() {
-        java.lang.Object ref = password_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          password_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
+        return result;
       }
-      /**
-       * <code>optional string password = 3;</code>
-       * @return The bytes for password.
-       */
-      public com.google.protobuf.ByteString
-          getPasswordBytes() {
-        java.lang.Object ref = password_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          password_ = b;
-          return b;
+
+      @java.lang.Override
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage(this);
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage)other);
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          super.mergeFrom(other);
+          return this;
         }
       }
-      /**
-       * <code>optional string password = 3;</code>
-       * @param value The password to set.
-       * @return This builder for chaining.
-       */
-      public Builder setPassword(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  bitField0_ |= 0x00000001;
-        password_ = value;
+
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage.getDefaultInstance()) return this;
+        this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
       }
-      /**
-       * <code>optional string password = 3;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearPassword() {
-        bitField0_ = (bitField0_ & ~0x00000001);
-        password_ = getDefaultInstance().getPassword();
-        onChanged();
-        return this;
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
       }
-      /**
-       * <code>optional string password = 3;</code>
-       * @param value The bytes for password to set.
-       * @return This builder for chaining.
-       */
-      public Builder setPasswordBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        bitField0_ |= 0x00000001;
-        password_ = value;
-        onChanged();
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parsedMessage = null;
+        try {
+          parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage) e.getUnfinishedMessage();
+          throw e.unwrapIOException();
+        } finally {
+          if (parsedMessage != null) {
+            mergeFrom(parsedMessage);
+          }
+        }
         return this;
       }
       @java.lang.Override
@@ -8180,70 +21917,76 @@ public final class ContentProtoBuf {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:ChangeVoteArgs)
+      // @@protoc_insertion_point(builder_scope:EmptyMessage)
     }
 
-    // @@protoc_insertion_point(class_scope:ChangeVoteArgs)
-    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:EmptyMessage)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs();
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage();
     }
 
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs getDefaultInstance() {
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<ChangeVoteArgs>
-        PARSER = new com.google.protobuf.AbstractParser<ChangeVoteArgs>() {
+    private static final com.google.protobuf.Parser<EmptyMessage>
+        PARSER = new com.google.protobuf.AbstractParser<EmptyMessage>() {
       @java.lang.Override
-      public ChangeVoteArgs parsePartialFrom(
+      public EmptyMessage parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new ChangeVoteArgs(input, extensionRegistry);
+        return new EmptyMessage(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<ChangeVoteArgs> parser() {
+    public static com.google.protobuf.Parser<EmptyMessage> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<ChangeVoteArgs> getParserForType() {
+    public com.google.protobuf.Parser<EmptyMessage> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs getDefaultInstanceForType() {
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface EmptyMessageOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:EmptyMessage)
+  public interface VoteCountResultOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:VoteCountResult)
       com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 count = 1;</code>
+     * @return The count.
+     */
+    int getCount();
   }
   /**
-   * Protobuf type {@code EmptyMessage}
+   * Protobuf type {@code VoteCountResult}
    */
-  public static final class EmptyMessage extends
+  public static final class VoteCountResult extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:EmptyMessage)
-      EmptyMessageOrBuilder {
+      // @@protoc_insertion_point(message_implements:VoteCountResult)
+      VoteCountResultOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use EmptyMessage.newBuilder() to construct.
-    private EmptyMessage(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use VoteCountResult.newBuilder() to construct.
+    private VoteCountResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private EmptyMessage() {
+    private VoteCountResult() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new EmptyMessage();
+      return new VoteCountResult();
     }
 
     @java.lang.Override
@@ -8251,7 +21994,7 @@ public final class ContentProtoBuf {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private EmptyMessage(
+    private VoteCountResult(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -8269,6 +22012,11 @@ public final class ContentProtoBuf {
             case 0:
               done = true;
               break;
+            case 8: {
+
+              count_ = input.readInt32();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -8292,15 +22040,26 @@ public final class ContentProtoBuf {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_EmptyMessage_descriptor;
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_VoteCountResult_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_EmptyMessage_fieldAccessorTable
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_VoteCountResult_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage.Builder.class);
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult.Builder.class);
+    }
+
+    public static final int COUNT_FIELD_NUMBER = 1;
+    private int count_;
+    /**
+     * <code>int32 count = 1;</code>
+     * @return The count.
+     */
+    @java.lang.Override
+    public int getCount() {
+      return count_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -8317,6 +22076,9 @@ public final class ContentProtoBuf {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
+      if (count_ != 0) {
+        output.writeInt32(1, count_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -8326,6 +22088,10 @@ public final class ContentProtoBuf {
       if (size != -1) return size;
 
       size = 0;
+      if (count_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, count_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -8336,11 +22102,13 @@ public final class ContentProtoBuf {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage)) {
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult)) {
         return super.equals(obj);
       }
-      fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage) obj;
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult) obj;
 
+      if (getCount()
+          != other.getCount()) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -8352,74 +22120,76 @@ public final class ContentProtoBuf {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + COUNT_FIELD_NUMBER;
+      hash = (53 * hash) + getCount();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseFrom(byte[] data)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseDelimitedFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseDelimitedFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -8432,7 +22202,7 @@ public final class ContentProtoBuf {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage prototype) {
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -8448,26 +22218,26 @@ public final class ContentProtoBuf {
       return builder;
     }
     /**
-     * Protobuf type {@code EmptyMessage}
+     * Protobuf type {@code VoteCountResult}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:EmptyMessage)
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessageOrBuilder {
+        // @@protoc_insertion_point(builder_implements:VoteCountResult)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResultOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_EmptyMessage_descriptor;
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_VoteCountResult_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_EmptyMessage_fieldAccessorTable
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_VoteCountResult_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage.Builder.class);
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult.Builder.class);
       }
 
-      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage.newBuilder()
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -8485,23 +22255,25 @@ public final class ContentProtoBuf {
       @java.lang.Override
       public Builder clear() {
         super.clear();
+        count_ = 0;
+
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_EmptyMessage_descriptor;
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_VoteCountResult_descriptor;
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage getDefaultInstanceForType() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage.getDefaultInstance();
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult.getDefaultInstance();
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage build() {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage result = buildPartial();
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -8509,8 +22281,9 @@ public final class ContentProtoBuf {
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage buildPartial() {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage(this);
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult(this);
+        result.count_ = count_;
         onBuilt();
         return result;
       }
@@ -8549,16 +22322,19 @@ public final class ContentProtoBuf {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage) {
-          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage)other);
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage other) {
-        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage.getDefaultInstance()) return this;
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult.getDefaultInstance()) return this;
+        if (other.getCount() != 0) {
+          setCount(other.getCount());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -8574,11 +22350,11 @@ public final class ContentProtoBuf {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage parsedMessage = null;
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage) e.getUnfinishedMessage();
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -8587,6 +22363,37 @@ public final class ContentProtoBuf {
         }
         return this;
       }
+
+      private int count_ ;
+      /**
+       * <code>int32 count = 1;</code>
+       * @return The count.
+       */
+      @java.lang.Override
+      public int getCount() {
+        return count_;
+      }
+      /**
+       * <code>int32 count = 1;</code>
+       * @param value The count to set.
+       * @return This builder for chaining.
+       */
+      public Builder setCount(int value) {
+        
+        count_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 count = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearCount() {
+        
+        count_ = 0;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -8600,76 +22407,83 @@ public final class ContentProtoBuf {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:EmptyMessage)
+      // @@protoc_insertion_point(builder_scope:VoteCountResult)
     }
 
-    // @@protoc_insertion_point(class_scope:EmptyMessage)
-    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:VoteCountResult)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage();
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult();
     }
 
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage getDefaultInstance() {
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<EmptyMessage>
-        PARSER = new com.google.protobuf.AbstractParser<EmptyMessage>() {
+    private static final com.google.protobuf.Parser<VoteCountResult>
+        PARSER = new com.google.protobuf.AbstractParser<VoteCountResult>() {
       @java.lang.Override
-      public EmptyMessage parsePartialFrom(
+      public VoteCountResult parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new EmptyMessage(input, extensionRegistry);
+        return new VoteCountResult(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<EmptyMessage> parser() {
+    public static com.google.protobuf.Parser<VoteCountResult> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<EmptyMessage> getParserForType() {
+    public com.google.protobuf.Parser<VoteCountResult> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage getDefaultInstanceForType() {
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface VoteCountResultOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:VoteCountResult)
+  public interface DeleteVotesArgsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:DeleteVotesArgs)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>int32 count = 1;</code>
-     * @return The count.
+     * <code>string userId = 1;</code>
+     * @return The userId.
      */
-    int getCount();
+    java.lang.String getUserId();
+    /**
+     * <code>string userId = 1;</code>
+     * @return The bytes for userId.
+     */
+    com.google.protobuf.ByteString
+        getUserIdBytes();
   }
   /**
-   * Protobuf type {@code VoteCountResult}
+   * Protobuf type {@code DeleteVotesArgs}
    */
-  public static final class VoteCountResult extends
+  public static final class DeleteVotesArgs extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:VoteCountResult)
-      VoteCountResultOrBuilder {
+      // @@protoc_insertion_point(message_implements:DeleteVotesArgs)
+      DeleteVotesArgsOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use VoteCountResult.newBuilder() to construct.
-    private VoteCountResult(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use DeleteVotesArgs.newBuilder() to construct.
+    private DeleteVotesArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private VoteCountResult() {
+    private DeleteVotesArgs() {
+      userId_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new VoteCountResult();
+      return new DeleteVotesArgs();
     }
 
     @java.lang.Override
@@ -8677,7 +22491,7 @@ public final class ContentProtoBuf {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private VoteCountResult(
+    private DeleteVotesArgs(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -8695,9 +22509,10 @@ public final class ContentProtoBuf {
             case 0:
               done = true;
               break;
-            case 8: {
+            case 10: {
+              java.lang.String s = input.readStringRequireUtf8();
 
-              count_ = input.readInt32();
+              userId_ = s;
               break;
             }
             default: {
@@ -8723,26 +22538,53 @@ public final class ContentProtoBuf {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_VoteCountResult_descriptor;
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_DeleteVotesArgs_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_VoteCountResult_fieldAccessorTable
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_DeleteVotesArgs_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult.Builder.class);
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs.Builder.class);
     }
 
-    public static final int COUNT_FIELD_NUMBER = 1;
-    private int count_;
+    public static final int USERID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object userId_;
     /**
-     * <code>int32 count = 1;</code>
-     * @return The count.
+     * <code>string userId = 1;</code>
+     * @return The userId.
      */
     @java.lang.Override
-    public int getCount() {
-      return count_;
+    public java.lang.String getUserId() {
+      java.lang.Object ref = userId_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        userId_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string userId = 1;</code>
+     * @return The bytes for userId.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getUserIdBytes() {
+      java.lang.Object ref = userId_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        userId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
     }
 
     private byte memoizedIsInitialized = -1;
@@ -8759,8 +22601,8 @@ public final class ContentProtoBuf {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (count_ != 0) {
-        output.writeInt32(1, count_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(userId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, userId_);
       }
       unknownFields.writeTo(output);
     }
@@ -8771,9 +22613,8 @@ public final class ContentProtoBuf {
       if (size != -1) return size;
 
       size = 0;
-      if (count_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(1, count_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(userId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, userId_);
       }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
@@ -8785,13 +22626,13 @@ public final class ContentProtoBuf {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult)) {
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs)) {
         return super.equals(obj);
       }
-      fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult) obj;
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs) obj;
 
-      if (getCount()
-          != other.getCount()) return false;
+      if (!getUserId()
+          .equals(other.getUserId())) return false;
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -8803,76 +22644,76 @@ public final class ContentProtoBuf {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + COUNT_FIELD_NUMBER;
-      hash = (53 * hash) + getCount();
+      hash = (37 * hash) + USERID_FIELD_NUMBER;
+      hash = (53 * hash) + getUserId().hashCode();
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseFrom(byte[] data)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseDelimitedFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseDelimitedFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -8885,7 +22726,7 @@ public final class ContentProtoBuf {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult prototype) {
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -8901,26 +22742,26 @@ public final class ContentProtoBuf {
       return builder;
     }
     /**
-     * Protobuf type {@code VoteCountResult}
+     * Protobuf type {@code DeleteVotesArgs}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:VoteCountResult)
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResultOrBuilder {
+        // @@protoc_insertion_point(builder_implements:DeleteVotesArgs)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgsOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_VoteCountResult_descriptor;
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_DeleteVotesArgs_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_VoteCountResult_fieldAccessorTable
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_DeleteVotesArgs_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult.Builder.class);
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs.Builder.class);
       }
 
-      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult.newBuilder()
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -8938,7 +22779,7 @@ public final class ContentProtoBuf {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        count_ = 0;
+        userId_ = "";
 
         return this;
       }
@@ -8946,17 +22787,17 @@ public final class ContentProtoBuf {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_VoteCountResult_descriptor;
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_DeleteVotesArgs_descriptor;
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult getDefaultInstanceForType() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult.getDefaultInstance();
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs.getDefaultInstance();
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult build() {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult result = buildPartial();
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -8964,9 +22805,9 @@ public final class ContentProtoBuf {
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult buildPartial() {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult(this);
-        result.count_ = count_;
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs(this);
+        result.userId_ = userId_;
         onBuilt();
         return result;
       }
@@ -9005,18 +22846,19 @@ public final class ContentProtoBuf {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult) {
-          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult)other);
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult other) {
-        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult.getDefaultInstance()) return this;
-        if (other.getCount() != 0) {
-          setCount(other.getCount());
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs.getDefaultInstance()) return this;
+        if (!other.getUserId().isEmpty()) {
+          userId_ = other.userId_;
+          onChanged();
         }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
@@ -9033,11 +22875,11 @@ public final class ContentProtoBuf {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult parsedMessage = null;
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult) e.getUnfinishedMessage();
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -9047,33 +22889,78 @@ public final class ContentProtoBuf {
         return this;
       }
 
-      private int count_ ;
+      private java.lang.Object userId_ = "";
       /**
-       * <code>int32 count = 1;</code>
-       * @return The count.
+       * <code>string userId = 1;</code>
+       * @return The userId.
        */
-      @java.lang.Override
-      public int getCount() {
-        return count_;
+      public java.lang.String getUserId() {
+        java.lang.Object ref = userId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          userId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
       }
       /**
-       * <code>int32 count = 1;</code>
-       * @param value The count to set.
+       * <code>string userId = 1;</code>
+       * @return The bytes for userId.
+       */
+      public com.google.protobuf.ByteString
+          getUserIdBytes() {
+        java.lang.Object ref = userId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          userId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string userId = 1;</code>
+       * @param value The userId to set.
        * @return This builder for chaining.
        */
-      public Builder setCount(int value) {
+      public Builder setUserId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        userId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string userId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearUserId() {
         
-        count_ = value;
+        userId_ = getDefaultInstance().getUserId();
         onChanged();
         return this;
       }
       /**
-       * <code>int32 count = 1;</code>
+       * <code>string userId = 1;</code>
+       * @param value The bytes for userId to set.
        * @return This builder for chaining.
        */
-      public Builder clearCount() {
+      public Builder setUserIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
         
-        count_ = 0;
+        userId_ = value;
         onChanged();
         return this;
       }
@@ -9090,48 +22977,48 @@ public final class ContentProtoBuf {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:VoteCountResult)
+      // @@protoc_insertion_point(builder_scope:DeleteVotesArgs)
     }
 
-    // @@protoc_insertion_point(class_scope:VoteCountResult)
-    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:DeleteVotesArgs)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult();
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs();
     }
 
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult getDefaultInstance() {
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<VoteCountResult>
-        PARSER = new com.google.protobuf.AbstractParser<VoteCountResult>() {
+    private static final com.google.protobuf.Parser<DeleteVotesArgs>
+        PARSER = new com.google.protobuf.AbstractParser<DeleteVotesArgs>() {
       @java.lang.Override
-      public VoteCountResult parsePartialFrom(
+      public DeleteVotesArgs parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new VoteCountResult(input, extensionRegistry);
+        return new DeleteVotesArgs(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<VoteCountResult> parser() {
+    public static com.google.protobuf.Parser<DeleteVotesArgs> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<VoteCountResult> getParserForType() {
+    public com.google.protobuf.Parser<DeleteVotesArgs> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult getDefaultInstanceForType() {
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface DeleteVotesArgsOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:DeleteVotesArgs)
+  public interface NullifyAuthorsArgsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:NullifyAuthorsArgs)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -9147,18 +23034,18 @@ public final class ContentProtoBuf {
         getUserIdBytes();
   }
   /**
-   * Protobuf type {@code DeleteVotesArgs}
+   * Protobuf type {@code NullifyAuthorsArgs}
    */
-  public static final class DeleteVotesArgs extends
+  public static final class NullifyAuthorsArgs extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:DeleteVotesArgs)
-      DeleteVotesArgsOrBuilder {
+      // @@protoc_insertion_point(message_implements:NullifyAuthorsArgs)
+      NullifyAuthorsArgsOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use DeleteVotesArgs.newBuilder() to construct.
-    private DeleteVotesArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use NullifyAuthorsArgs.newBuilder() to construct.
+    private NullifyAuthorsArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private DeleteVotesArgs() {
+    private NullifyAuthorsArgs() {
       userId_ = "";
     }
 
@@ -9166,7 +23053,7 @@ public final class ContentProtoBuf {
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new DeleteVotesArgs();
+      return new NullifyAuthorsArgs();
     }
 
     @java.lang.Override
@@ -9174,7 +23061,7 @@ public final class ContentProtoBuf {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private DeleteVotesArgs(
+    private NullifyAuthorsArgs(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -9221,15 +23108,15 @@ public final class ContentProtoBuf {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_DeleteVotesArgs_descriptor;
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_NullifyAuthorsArgs_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_DeleteVotesArgs_fieldAccessorTable
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_NullifyAuthorsArgs_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs.Builder.class);
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs.Builder.class);
     }
 
     public static final int USERID_FIELD_NUMBER = 1;
@@ -9309,10 +23196,10 @@ public final class ContentProtoBuf {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs)) {
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs)) {
         return super.equals(obj);
       }
-      fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs) obj;
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs) obj;
 
       if (!getUserId()
           .equals(other.getUserId())) return false;
@@ -9334,69 +23221,69 @@ public final class ContentProtoBuf {
       return hash;
     }
 
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseFrom(byte[] data)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseDelimitedFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseDelimitedFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -9409,7 +23296,7 @@ public final class ContentProtoBuf {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs prototype) {
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -9425,26 +23312,26 @@ public final class ContentProtoBuf {
       return builder;
     }
     /**
-     * Protobuf type {@code DeleteVotesArgs}
+     * Protobuf type {@code NullifyAuthorsArgs}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:DeleteVotesArgs)
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgsOrBuilder {
+        // @@protoc_insertion_point(builder_implements:NullifyAuthorsArgs)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgsOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_DeleteVotesArgs_descriptor;
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_NullifyAuthorsArgs_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_DeleteVotesArgs_fieldAccessorTable
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_NullifyAuthorsArgs_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs.Builder.class);
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs.Builder.class);
       }
 
-      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs.newBuilder()
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -9470,17 +23357,17 @@ public final class ContentProtoBuf {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_DeleteVotesArgs_descriptor;
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_NullifyAuthorsArgs_descriptor;
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs getDefaultInstanceForType() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs.getDefaultInstance();
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs.getDefaultInstance();
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs build() {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs result = buildPartial();
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -9488,8 +23375,8 @@ public final class ContentProtoBuf {
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs buildPartial() {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs(this);
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs(this);
         result.userId_ = userId_;
         onBuilt();
         return result;
@@ -9529,16 +23416,16 @@ public final class ContentProtoBuf {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs) {
-          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs)other);
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs other) {
-        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs.getDefaultInstance()) return this;
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs.getDefaultInstance()) return this;
         if (!other.getUserId().isEmpty()) {
           userId_ = other.userId_;
           onChanged();
@@ -9558,11 +23445,11 @@ public final class ContentProtoBuf {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs parsedMessage = null;
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs) e.getUnfinishedMessage();
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -9660,48 +23547,48 @@ public final class ContentProtoBuf {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:DeleteVotesArgs)
+      // @@protoc_insertion_point(builder_scope:NullifyAuthorsArgs)
     }
 
-    // @@protoc_insertion_point(class_scope:DeleteVotesArgs)
-    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:NullifyAuthorsArgs)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs();
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs();
     }
 
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs getDefaultInstance() {
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<DeleteVotesArgs>
-        PARSER = new com.google.protobuf.AbstractParser<DeleteVotesArgs>() {
+    private static final com.google.protobuf.Parser<NullifyAuthorsArgs>
+        PARSER = new com.google.protobuf.AbstractParser<NullifyAuthorsArgs>() {
       @java.lang.Override
-      public DeleteVotesArgs parsePartialFrom(
+      public NullifyAuthorsArgs parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new DeleteVotesArgs(input, extensionRegistry);
+        return new NullifyAuthorsArgs(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<DeleteVotesArgs> parser() {
+    public static com.google.protobuf.Parser<NullifyAuthorsArgs> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<DeleteVotesArgs> getParserForType() {
+    public com.google.protobuf.Parser<NullifyAuthorsArgs> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs getDefaultInstanceForType() {
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface NullifyAuthorsArgsOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:NullifyAuthorsArgs)
+  public interface InvalidateUserArgsOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:InvalidateUserArgs)
       com.google.protobuf.MessageOrBuilder {
 
     /**
@@ -9717,18 +23604,18 @@ public final class ContentProtoBuf {
         getUserIdBytes();
   }
   /**
-   * Protobuf type {@code NullifyAuthorsArgs}
+   * Protobuf type {@code InvalidateUserArgs}
    */
-  public static final class NullifyAuthorsArgs extends
+  public static final class InvalidateUserArgs extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:NullifyAuthorsArgs)
-      NullifyAuthorsArgsOrBuilder {
+      // @@protoc_insertion_point(message_implements:InvalidateUserArgs)
+      InvalidateUserArgsOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use NullifyAuthorsArgs.newBuilder() to construct.
-    private NullifyAuthorsArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use InvalidateUserArgs.newBuilder() to construct.
+    private InvalidateUserArgs(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private NullifyAuthorsArgs() {
+    private InvalidateUserArgs() {
       userId_ = "";
     }
 
@@ -9736,7 +23623,7 @@ public final class ContentProtoBuf {
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new NullifyAuthorsArgs();
+      return new InvalidateUserArgs();
     }
 
     @java.lang.Override
@@ -9744,7 +23631,7 @@ public final class ContentProtoBuf {
     getUnknownFields() {
       return this.unknownFields;
     }
-    private NullifyAuthorsArgs(
+    private InvalidateUserArgs(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
@@ -9791,15 +23678,15 @@ public final class ContentProtoBuf {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_NullifyAuthorsArgs_descriptor;
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_InvalidateUserArgs_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_NullifyAuthorsArgs_fieldAccessorTable
+      return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_InvalidateUserArgs_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs.Builder.class);
+              fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs.Builder.class);
     }
 
     public static final int USERID_FIELD_NUMBER = 1;
@@ -9879,10 +23766,10 @@ public final class ContentProtoBuf {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs)) {
+      if (!(obj instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs)) {
         return super.equals(obj);
       }
-      fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs) obj;
+      fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs other = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs) obj;
 
       if (!getUserId()
           .equals(other.getUserId())) return false;
@@ -9904,69 +23791,69 @@ public final class ContentProtoBuf {
       return hash;
     }
 
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseFrom(byte[] data)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseDelimitedFrom(java.io.InputStream input)
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseDelimitedFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parseFrom(
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -9979,7 +23866,7 @@ public final class ContentProtoBuf {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs prototype) {
+    public static Builder newBuilder(fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -9995,26 +23882,26 @@ public final class ContentProtoBuf {
       return builder;
     }
     /**
-     * Protobuf type {@code NullifyAuthorsArgs}
+     * Protobuf type {@code InvalidateUserArgs}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:NullifyAuthorsArgs)
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgsOrBuilder {
+        // @@protoc_insertion_point(builder_implements:InvalidateUserArgs)
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgsOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_NullifyAuthorsArgs_descriptor;
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_InvalidateUserArgs_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_NullifyAuthorsArgs_fieldAccessorTable
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_InvalidateUserArgs_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs.Builder.class);
+                fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs.class, fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs.Builder.class);
       }
 
-      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs.newBuilder()
+      // Construct using fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs.newBuilder()
       private Builder() {
         maybeForceBuilderInitialization();
       }
@@ -10040,17 +23927,17 @@ public final class ContentProtoBuf {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_NullifyAuthorsArgs_descriptor;
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.internal_static_InvalidateUserArgs_descriptor;
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs getDefaultInstanceForType() {
-        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs.getDefaultInstance();
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs getDefaultInstanceForType() {
+        return fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs.getDefaultInstance();
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs build() {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs result = buildPartial();
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs build() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -10058,8 +23945,8 @@ public final class ContentProtoBuf {
       }
 
       @java.lang.Override
-      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs buildPartial() {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs(this);
+      public fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs buildPartial() {
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs result = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs(this);
         result.userId_ = userId_;
         onBuilt();
         return result;
@@ -10099,16 +23986,16 @@ public final class ContentProtoBuf {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs) {
-          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs)other);
+        if (other instanceof fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs) {
+          return mergeFrom((fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs other) {
-        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs.getDefaultInstance()) return this;
+      public Builder mergeFrom(fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs other) {
+        if (other == fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs.getDefaultInstance()) return this;
         if (!other.getUserId().isEmpty()) {
           userId_ = other.userId_;
           onChanged();
@@ -10128,11 +24015,11 @@ public final class ContentProtoBuf {
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws java.io.IOException {
-        fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs parsedMessage = null;
+        fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs parsedMessage = null;
         try {
           parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
         } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs) e.getUnfinishedMessage();
+          parsedMessage = (fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs) e.getUnfinishedMessage();
           throw e.unwrapIOException();
         } finally {
           if (parsedMessage != null) {
@@ -10230,41 +24117,41 @@ public final class ContentProtoBuf {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:NullifyAuthorsArgs)
+      // @@protoc_insertion_point(builder_scope:InvalidateUserArgs)
     }
 
-    // @@protoc_insertion_point(class_scope:NullifyAuthorsArgs)
-    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:InvalidateUserArgs)
+    private static final fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs();
+      DEFAULT_INSTANCE = new fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs();
     }
 
-    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs getDefaultInstance() {
+    public static fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<NullifyAuthorsArgs>
-        PARSER = new com.google.protobuf.AbstractParser<NullifyAuthorsArgs>() {
+    private static final com.google.protobuf.Parser<InvalidateUserArgs>
+        PARSER = new com.google.protobuf.AbstractParser<InvalidateUserArgs>() {
       @java.lang.Override
-      public NullifyAuthorsArgs parsePartialFrom(
+      public InvalidateUserArgs parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
-        return new NullifyAuthorsArgs(input, extensionRegistry);
+        return new InvalidateUserArgs(input, extensionRegistry);
       }
     };
 
-    public static com.google.protobuf.Parser<NullifyAuthorsArgs> parser() {
+    public static com.google.protobuf.Parser<InvalidateUserArgs> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<NullifyAuthorsArgs> getParserForType() {
+    public com.google.protobuf.Parser<InvalidateUserArgs> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs getDefaultInstanceForType() {
+    public fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -10295,16 +24182,81 @@ public final class ContentProtoBuf {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_GetPostsResult_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetPostsPageArgs_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetPostsPageArgs_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetPostsPageResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetPostsPageResult_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SearchPostsArgs_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SearchPostsArgs_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetPostsByAuthorArgs_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetPostsByAuthorArgs_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_GetPostArgs_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_GetPostArgs_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetPostsBatchArgs_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetPostsBatchArgs_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetPostsBatchResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetPostsBatchResult_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_GetPostAnswersArgs_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_GetPostAnswersArgs_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetThreadArgs_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetThreadArgs_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_ThreadNode_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_ThreadNode_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_SubscribeArgs_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_SubscribeArgs_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GrpcPostEvent_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GrpcPostEvent_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetChangesArgs_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetChangesArgs_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GrpcContentChange_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GrpcContentChange_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_GetChangesResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_GetChangesResult_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_UpdatePostArgs_descriptor;
   private static final 
@@ -10320,6 +24272,16 @@ public final class ContentProtoBuf {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_ChangeVoteArgs_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CastVoteArgs_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CastVoteArgs_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_CastVotesResult_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_CastVotesResult_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_EmptyMessage_descriptor;
   private static final 
@@ -10340,6 +24302,11 @@ public final class ContentProtoBuf {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_NullifyAuthorsArgs_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_InvalidateUserArgs_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_InvalidateUserArgs_fieldAccessorTable;
 
   public static com.google.protobuf.Descriptors.FileDescriptor
       getDescriptor() {
@@ -10363,39 +24330,87 @@ public final class ContentProtoBuf {
       "stResult\022\016\n\006postId\030\001 \001(\t\"Z\n\014GetPostsArgs" +
       "\022\026\n\ttimestamp\030\001 \001(\003H\000\210\001\001\022\026\n\tsortOrder\030\002 " +
       "\001(\tH\001\210\001\001B\014\n\n_timestampB\014\n\n_sortOrder\" \n\016" +
-      "GetPostsResult\022\016\n\006postId\030\001 \003(\t\"\035\n\013GetPos" +
-      "tArgs\022\016\n\006postId\030\001 \001(\t\"F\n\022GetPostAnswersA" +
-      "rgs\022\016\n\006postId\030\001 \001(\t\022\024\n\007timeout\030\002 \001(\003H\000\210\001" +
-      "\001B\n\n\010_timeout\"]\n\016UpdatePostArgs\022\016\n\006postI" +
-      "d\030\001 \001(\t\022\025\n\010password\030\002 \001(\tH\000\210\001\001\022\027\n\004post\030\003" +
-      " \001(\0132\t.GrpcPostB\013\n\t_password\"D\n\016DeletePo" +
-      "stArgs\022\016\n\006postId\030\001 \001(\t\022\025\n\010password\030\002 \001(\t" +
-      "H\000\210\001\001B\013\n\t_password\"T\n\016ChangeVoteArgs\022\016\n\006" +
-      "postId\030\001 \001(\t\022\016\n\006userId\030\002 \001(\t\022\025\n\010password" +
-      "\030\003 \001(\tH\000\210\001\001B\013\n\t_password\"\016\n\014EmptyMessage" +
-      "\" \n\017VoteCountResult\022\r\n\005count\030\001 \001(\005\"!\n\017De" +
-      "leteVotesArgs\022\016\n\006userId\030\001 \001(\t\"$\n\022Nullify" +
-      "AuthorsArgs\022\016\n\006userId\030\001 \001(\t2\317\005\n\007Content\022" +
-      "2\n\ncreatePost\022\017.CreatePostArgs\032\021.CreateP" +
-      "ostResult\"\000\022,\n\010getPosts\022\r.GetPostsArgs\032\017" +
-      ".GetPostsResult\"\000\022$\n\007getPost\022\014.GetPostAr" +
-      "gs\032\t.GrpcPost\"\000\0228\n\016getPostAnswers\022\023.GetP" +
-      "ostAnswersArgs\032\017.GetPostsResult\"\000\022*\n\nupd" +
-      "atePost\022\017.UpdatePostArgs\032\t.GrpcPost\"\000\022.\n" +
-      "\ndeletePost\022\017.DeletePostArgs\032\r.EmptyMess" +
-      "age\"\000\022.\n\nupVotePost\022\017.ChangeVoteArgs\032\r.E" +
-      "mptyMessage\"\000\0224\n\020removeUpVotePost\022\017.Chan" +
-      "geVoteArgs\032\r.EmptyMessage\"\000\0220\n\014downVoteP" +
-      "ost\022\017.ChangeVoteArgs\032\r.EmptyMessage\"\000\0226\n" +
-      "\022removeDownVotePost\022\017.ChangeVoteArgs\032\r.E" +
-      "mptyMessage\"\000\022.\n\ngetUpVotes\022\014.GetPostArg" +
-      "s\032\020.VoteCountResult\"\000\0220\n\014getDownVotes\022\014." +
-      "GetPostArgs\032\020.VoteCountResult\"\000\0228\n\023delet" +
-      "eVotesFromUser\022\020.DeleteVotesArgs\032\r.Empty" +
-      "Message\"\000\022:\n\022nullifyPostAuthors\022\023.Nullif" +
-      "yAuthorsArgs\032\r.EmptyMessage\"\000B5\n\"fctredd" +
-      "it.impl.grpc.generated_javaB\017ContentProt" +
-      "oBufb\006proto3"
+      "GetPostsResult\022\016\n\006postId\030\001 \003(\t\"\234\001\n\020GetPo" +
+      "stsPageArgs\022\026\n\ttimestamp\030\001 \001(\003H\000\210\001\001\022\026\n\ts" +
+      "ortOrder\030\002 \001(\tH\001\210\001\001\022\023\n\006cursor\030\003 \001(\tH\002\210\001\001" +
+      "\022\022\n\005limit\030\004 \001(\005H\003\210\001\001B\014\n\n_timestampB\014\n\n_s" +
+      "ortOrderB\t\n\007_cursorB\010\n\006_limit\"]\n\022GetPost" +
+      "sPageResult\022\016\n\006postId\030\001 \003(\t\022\027\n\nnextCurso" +
+      "r\030\002 \001(\tH\000\210\001\001\022\017\n\007sortKey\030\003 \003(\003B\r\n\013_nextCu" +
+      "rsor\"^\n\017SearchPostsArgs\022\r\n\005query\030\001 \001(\t\022\022" +
+      "\n\005limit\030\002 \001(\005H\000\210\001\001\022\023\n\006cursor\030\003 \001(\tH\001\210\001\001B" +
+      "\010\n\006_limitB\t\n\007_cursor\"d\n\024GetPostsByAuthor" +
+      "Args\022\016\n\006userId\030\001 \001(\t\022\023\n\006cursor\030\002 \001(\tH\000\210\001" +
+      "\001\022\022\n\005limit\030\003 \001(\005H\001\210\001\001B\t\n\007_cursorB\010\n\006_lim" +
+      "it\"\035\n\013GetPostArgs\022\016\n\006postId\030\001 \001(\t\"#\n\021Get" +
+      "PostsBatchArgs\022\016\n\006postId\030\001 \003(\t\".\n\023GetPos" +
+      "tsBatchResult\022\027\n\004post\030\001 \003(\0132\t.GrpcPost\"F" +
+      "\n\022GetPostAnswersArgs\022\016\n\006postId\030\001 \001(\t\022\024\n\007" +
+      "timeout\030\002 \001(\003H\000\210\001\001B\n\n\010_timeout\"a\n\rGetThr" +
+      "eadArgs\022\016\n\006postId\030\001 \001(\t\022\025\n\010maxDepth\030\002 \001(" +
+      "\005H\000\210\001\001\022\022\n\005limit\030\003 \001(\005H\001\210\001\001B\013\n\t_maxDepthB" +
+      "\010\n\006_limit\"4\n\nThreadNode\022\027\n\004post\030\001 \001(\0132\t." +
+      "GrpcPost\022\r\n\005depth\030\002 \001(\005\"/\n\rSubscribeArgs" +
+      "\022\023\n\006postId\030\001 \001(\tH\000\210\001\001B\t\n\007_postId\"s\n\rGrpc" +
+      "PostEvent\022\014\n\004type\030\001 \001(\t\022\016\n\006postId\030\002 \001(\t\022" +
+      "\025\n\010parentId\030\003 \001(\tH\000\210\001\001\022\016\n\006upVote\030\004 \001(\005\022\020" +
+      "\n\010downVote\030\005 \001(\005B\013\n\t_parentId\"_\n\016GetChan" +
+      "gesArgs\022\022\n\005epoch\030\001 \001(\tH\000\210\001\001\022\r\n\005since\030\002 \001" +
+      "(\003\022\024\n\007timeout\030\003 \001(\003H\001\210\001\001B\010\n\006_epochB\n\n\010_t" +
+      "imeout\"\275\001\n\021GrpcContentChange\022\013\n\003seq\030\001 \001(" +
+      "\003\022\014\n\004type\030\002 \001(\t\022\034\n\004post\030\003 \001(\0132\t.GrpcPost" +
+      "H\000\210\001\001\022\025\n\010parentId\030\004 \001(\tH\001\210\001\001\022\022\n\nreplyCou" +
+      "nt\030\005 \001(\005\022\016\n\006postId\030\006 \003(\t\022\023\n\006userId\030\007 \001(\t" +
+      "H\002\210\001\001B\007\n\005_postB\013\n\t_parentIdB\t\n\007_userId\"h" +
+      "\n\020GetChangesResult\022\r\n\005epoch\030\001 \001(\t\022\020\n\010sna" +
+      "pshot\030\002 \001(\010\022\017\n\007lastSeq\030\003 \001(\003\022\"\n\006change\030\004" +
+      " \003(\0132\022.GrpcContentChange\"]\n\016UpdatePostAr" +
+      "gs\022\016\n\006postId\030\001 \001(\t\022\025\n\010password\030\002 \001(\tH\000\210\001" +
+      "\001\022\027\n\004post\030\003 \001(\0132\t.GrpcPostB\013\n\t_password\"" +
+      "D\n\016DeletePostArgs\022\016\n\006postId\030\001 \001(\t\022\025\n\010pas" +
+      "sword\030\002 \001(\tH\000\210\001\001B\013\n\t_password\"T\n\016ChangeV" +
+      "oteArgs\022\016\n\006postId\030\001 \001(\t\022\016\n\006userId\030\002 \001(\t\022" +
+      "\025\n\010password\030\003 \001(\tH\000\210\001\001B\013\n\t_password\"d\n\014C" +
+      "astVoteArgs\022\016\n\006postId\030\001 \001(\t\022\016\n\006userId\030\002 " +
+      "\001(\t\022\025\n\010password\030\003 \001(\tH\000\210\001\001\022\020\n\010voteType\030\004" +
+      " \001(\tB\013\n\t_password\"\"\n\017CastVotesResult\022\017\n\007" +
+      "outcome\030\001 \003(\t\"\016\n\014EmptyMessage\" \n\017VoteCou" +
+      "ntResult\022\r\n\005count\030\001 \001(\005\"!\n\017DeleteVotesAr" +
+      "gs\022\016\n\006userId\030\001 \001(\t\"$\n\022NullifyAuthorsArgs" +
+      "\022\016\n\006userId\030\001 \001(\t\"$\n\022InvalidateUserArgs\022\016" +
+      "\n\006userId\030\001 \001(\t2\275\t\n\007Content\0222\n\ncreatePost" +
+      "\022\017.CreatePostArgs\032\021.CreatePostResult\"\000\022," +
+      "\n\010getPosts\022\r.GetPostsArgs\032\017.GetPostsResu" +
+      "lt\"\000\0228\n\014getPostsPage\022\021.GetPostsPageArgs\032" +
+      "\023.GetPostsPageResult\"\000\0226\n\013searchPosts\022\020." +
+      "SearchPostsArgs\032\023.GetPostsPageResult\"\000\022@" +
+      "\n\020getPostsByAuthor\022\025.GetPostsByAuthorArg" +
+      "s\032\023.GetPostsPageResult\"\000\022$\n\007getPost\022\014.Ge" +
+      "tPostArgs\032\t.GrpcPost\"\000\022;\n\rgetPostsBatch\022" +
+      "\022.GetPostsBatchArgs\032\024.GetPostsBatchResul" +
+      "t\"\000\0228\n\016getPostAnswers\022\023.GetPostAnswersAr" +
+      "gs\032\017.GetPostsResult\"\000\022,\n\tgetThread\022\016.Get" +
+      "ThreadArgs\032\013.ThreadNode\"\0000\001\022/\n\tsubscribe" +
+      "\022\016.SubscribeArgs\032\016.GrpcPostEvent\"\0000\001\022*\n\n" +
+      "updatePost\022\017.UpdatePostArgs\032\t.GrpcPost\"\000" +
+      "\022.\n\ndeletePost\022\017.DeletePostArgs\032\r.EmptyM" +
+      "essage\"\000\022.\n\nupVotePost\022\017.ChangeVoteArgs\032" +
+      "\r.EmptyMessage\"\000\0224\n\020removeUpVotePost\022\017.C" +
+      "hangeVoteArgs\032\r.EmptyMessage\"\000\0220\n\014downVo" +
+      "tePost\022\017.ChangeVoteArgs\032\r.EmptyMessage\"\000" +
+      "\0226\n\022removeDownVotePost\022\017.ChangeVoteArgs\032" +
+      "\r.EmptyMessage\"\000\0220\n\tcastVotes\022\r.CastVote" +
+      "Args\032\020.CastVotesResult\"\000(\001\022.\n\ngetUpVotes" +
+      "\022\014.GetPostArgs\032\020.VoteCountResult\"\000\0220\n\014ge" +
+      "tDownVotes\022\014.GetPostArgs\032\020.VoteCountResu" +
+      "lt\"\000\0228\n\023deleteVotesFromUser\022\020.DeleteVote" +
+      "sArgs\032\r.EmptyMessage\"\000\022:\n\022nullifyPostAut" +
+      "hors\022\023.NullifyAuthorsArgs\032\r.EmptyMessage" +
+      "\"\000\0226\n\016invalidateUser\022\023.InvalidateUserArg" +
+      "s\032\r.EmptyMessage\"\000\0222\n\ngetChanges\022\017.GetCh" +
+      "angesArgs\032\021.GetChangesResult\"\000B5\n\"fctred" +
+      "dit.impl.grpc.generated_javaB\017ContentPro" +
+      "toBufb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -10431,60 +24446,156 @@ public final class ContentProtoBuf {
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_GetPostsResult_descriptor,
         new java.lang.String[] { "PostId", });
-    internal_static_GetPostArgs_descriptor =
+    internal_static_GetPostsPageArgs_descriptor =
       getDescriptor().getMessageTypes().get(5);
+    internal_static_GetPostsPageArgs_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetPostsPageArgs_descriptor,
+        new java.lang.String[] { "Timestamp", "SortOrder", "Cursor", "Limit", "Timestamp", "SortOrder", "Cursor", "Limit", });
+    internal_static_GetPostsPageResult_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_GetPostsPageResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetPostsPageResult_descriptor,
+        new java.lang.String[] { "PostId", "NextCursor", "SortKey", "NextCursor", });
+    internal_static_SearchPostsArgs_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_SearchPostsArgs_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SearchPostsArgs_descriptor,
+        new java.lang.String[] { "Query", "Limit", "Cursor", "Limit", "Cursor", });
+    internal_static_GetPostsByAuthorArgs_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_GetPostsByAuthorArgs_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetPostsByAuthorArgs_descriptor,
+        new java.lang.String[] { "UserId", "Cursor", "Limit", "Cursor", "Limit", });
+    internal_static_GetPostArgs_descriptor =
+      getDescriptor().getMessageTypes().get(9);
     internal_static_GetPostArgs_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_GetPostArgs_descriptor,
         new java.lang.String[] { "PostId", });
+    internal_static_GetPostsBatchArgs_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_GetPostsBatchArgs_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetPostsBatchArgs_descriptor,
+        new java.lang.String[] { "PostId", });
+    internal_static_GetPostsBatchResult_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_GetPostsBatchResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetPostsBatchResult_descriptor,
+        new java.lang.String[] { "Post", });
     internal_static_GetPostAnswersArgs_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_GetPostAnswersArgs_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_GetPostAnswersArgs_descriptor,
         new java.lang.String[] { "PostId", "Timeout", "Timeout", });
+    internal_static_GetThreadArgs_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_GetThreadArgs_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetThreadArgs_descriptor,
+        new java.lang.String[] { "PostId", "MaxDepth", "Limit", "MaxDepth", "Limit", });
+    internal_static_ThreadNode_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_ThreadNode_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_ThreadNode_descriptor,
+        new java.lang.String[] { "Post", "Depth", });
+    internal_static_SubscribeArgs_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_SubscribeArgs_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_SubscribeArgs_descriptor,
+        new java.lang.String[] { "PostId", "PostId", });
+    internal_static_GrpcPostEvent_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_GrpcPostEvent_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GrpcPostEvent_descriptor,
+        new java.lang.String[] { "Type", "PostId", "ParentId", "UpVote", "DownVote", "ParentId", });
+    internal_static_GetChangesArgs_descriptor =
+      getDescriptor().getMessageTypes().get(17);
+    internal_static_GetChangesArgs_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetChangesArgs_descriptor,
+        new java.lang.String[] { "Epoch", "Since", "Timeout", "Epoch", "Timeout", });
+    internal_static_GrpcContentChange_descriptor =
+      getDescriptor().getMessageTypes().get(18);
+    internal_static_GrpcContentChange_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GrpcContentChange_descriptor,
+        new java.lang.String[] { "Seq", "Type", "Post", "ParentId", "ReplyCount", "PostId", "UserId", "Post", "ParentId", "UserId", });
+    internal_static_GetChangesResult_descriptor =
+      getDescriptor().getMessageTypes().get(19);
+    internal_static_GetChangesResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_GetChangesResult_descriptor,
+        new java.lang.String[] { "Epoch", "Snapshot", "LastSeq", "Change", });
     internal_static_UpdatePostArgs_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(20);
     internal_static_UpdatePostArgs_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_UpdatePostArgs_descriptor,
         new java.lang.String[] { "PostId", "Password", "Post", "Password", });
     internal_static_DeletePostArgs_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(21);
     internal_static_DeletePostArgs_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_DeletePostArgs_descriptor,
         new java.lang.String[] { "PostId", "Password", "Password", });
     internal_static_ChangeVoteArgs_descriptor =
-      getDescriptor().getMessageTypes().get(9);
+      getDescriptor().getMessageTypes().get(22);
     internal_static_ChangeVoteArgs_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ChangeVoteArgs_descriptor,
         new java.lang.String[] { "PostId", "UserId", "Password", "Password", });
+    internal_static_CastVoteArgs_descriptor =
+      getDescriptor().getMessageTypes().get(23);
+    internal_static_CastVoteArgs_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CastVoteArgs_descriptor,
+        new java.lang.String[] { "PostId", "UserId", "Password", "VoteType", "Password", });
+    internal_static_CastVotesResult_descriptor =
+      getDescriptor().getMessageTypes().get(24);
+    internal_static_CastVotesResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_CastVotesResult_descriptor,
+        new java.lang.String[] { "Outcome", });
     internal_static_EmptyMessage_descriptor =
-      getDescriptor().getMessageTypes().get(10);
+      getDescriptor().getMessageTypes().get(25);
     internal_static_EmptyMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_EmptyMessage_descriptor,
         new java.lang.String[] { });
     internal_static_VoteCountResult_descriptor =
-      getDescriptor().getMessageTypes().get(11);
+      getDescriptor().getMessageTypes().get(26);
     internal_static_VoteCountResult_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_VoteCountResult_descriptor,
         new java.lang.String[] { "Count", });
     internal_static_DeleteVotesArgs_descriptor =
-      getDescriptor().getMessageTypes().get(12);
+      getDescriptor().getMessageTypes().get(27);
     internal_static_DeleteVotesArgs_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_DeleteVotesArgs_descriptor,
         new java.lang.String[] { "UserId", });
     internal_static_NullifyAuthorsArgs_descriptor =
-      getDescriptor().getMessageTypes().get(13);
+      getDescriptor().getMessageTypes().get(28);
     internal_static_NullifyAuthorsArgs_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_NullifyAuthorsArgs_descriptor,
         new java.lang.String[] { "UserId", });
+    internal_static_InvalidateUserArgs_descriptor =
+      getDescriptor().getMessageTypes().get(29);
+    internal_static_InvalidateUserArgs_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_InvalidateUserArgs_descriptor,
+        new java.lang.String[] { "UserId", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
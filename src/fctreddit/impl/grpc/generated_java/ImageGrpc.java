@@ -108,6 +108,37 @@ public final class ImageGrpc {
     return getDeleteImageMethod;
   }
 
+  private static volatile io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserArgs,
+      fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserResult> getInvalidateUserMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "invalidateUser",
+      requestType = fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserArgs.class,
+      responseType = fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserResult.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserArgs,
+      fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserResult> getInvalidateUserMethod() {
+    io.grpc.MethodDescriptor<fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserArgs, fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserResult> getInvalidateUserMethod;
+    if ((getInvalidateUserMethod = ImageGrpc.getInvalidateUserMethod) == null) {
+      synchronized (ImageGrpc.class) {
+        if ((getInvalidateUserMethod = ImageGrpc.getInvalidateUserMethod) == null) {
+          ImageGrpc.getInvalidateUserMethod = getInvalidateUserMethod =
+              io.grpc.MethodDescriptor.<fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserArgs, fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserResult>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "invalidateUser"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserArgs.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserResult.getDefaultInstance()))
+              .setSchemaDescriptor(new ImageMethodDescriptorSupplier("invalidateUser"))
+              .build();
+        }
+      }
+    }
+    return getInvalidateUserMethod;
+  }
+
   /**
    * Creates a new async stub that supports all call types for the service
    */
@@ -176,6 +207,13 @@ public final class ImageGrpc {
         io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ImageProtoBuf.DeleteImageResult> responseObserver) {
       io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getDeleteImageMethod(), responseObserver);
     }
+
+    /**
+     */
+    default void invalidateUser(fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserResult> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getInvalidateUserMethod(), responseObserver);
+    }
   }
 
   /**
@@ -228,6 +266,14 @@ public final class ImageGrpc {
       io.grpc.stub.ClientCalls.asyncUnaryCall(
           getChannel().newCall(getDeleteImageMethod(), getCallOptions()), request, responseObserver);
     }
+
+    /**
+     */
+    public void invalidateUser(fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserArgs request,
+        io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserResult> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getInvalidateUserMethod(), getCallOptions()), request, responseObserver);
+    }
   }
 
   /**
@@ -267,6 +313,13 @@ public final class ImageGrpc {
       return io.grpc.stub.ClientCalls.blockingUnaryCall(
           getChannel(), getDeleteImageMethod(), getCallOptions(), request);
     }
+
+    /**
+     */
+    public fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserResult invalidateUser(fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserArgs request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getInvalidateUserMethod(), getCallOptions(), request);
+    }
   }
 
   /**
@@ -300,11 +353,20 @@ public final class ImageGrpc {
       return io.grpc.stub.ClientCalls.futureUnaryCall(
           getChannel().newCall(getDeleteImageMethod(), getCallOptions()), request);
     }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserResult> invalidateUser(
+        fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserArgs request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getInvalidateUserMethod(), getCallOptions()), request);
+    }
   }
 
   private static final int METHODID_CREATE_IMAGE = 0;
   private static final int METHODID_GET_IMAGE = 1;
   private static final int METHODID_DELETE_IMAGE = 2;
+  private static final int METHODID_INVALIDATE_USER = 3;
 
   private static final class MethodHandlers<Req, Resp> implements
       io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
@@ -335,6 +397,10 @@ public final class ImageGrpc {
           serviceImpl.deleteImage((fctreddit.impl.grpc.generated_java.ImageProtoBuf.DeleteImageArgs) request,
               (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ImageProtoBuf.DeleteImageResult>) responseObserver);
           break;
+        case METHODID_INVALIDATE_USER:
+          serviceImpl.invalidateUser((fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserArgs) request,
+              (io.grpc.stub.StreamObserver<fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserResult>) responseObserver);
+          break;
         default:
           throw new AssertionError();
       }
@@ -374,6 +440,13 @@ public final class ImageGrpc {
               fctreddit.impl.grpc.generated_java.ImageProtoBuf.DeleteImageArgs,
               fctreddit.impl.grpc.generated_java.ImageProtoBuf.DeleteImageResult>(
                 service, METHODID_DELETE_IMAGE)))
+        .addMethod(
+          getInvalidateUserMethod(),
+          io.grpc.stub.ServerCalls.asyncUnaryCall(
+            new MethodHandlers<
+              fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserArgs,
+              fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserResult>(
+                service, METHODID_INVALIDATE_USER)))
         .build();
   }
 
@@ -425,6 +498,7 @@ public final class ImageGrpc {
               .addMethod(getCreateImageMethod())
               .addMethod(getGetImageMethod())
               .addMethod(getDeleteImageMethod())
+              .addMethod(getInvalidateUserMethod())
               .build();
         }
       }
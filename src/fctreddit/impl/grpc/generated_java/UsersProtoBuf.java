@@ -7385,6 +7385,17 @@ public final class UsersProtoBuf {
      */
     com.google.protobuf.ByteString
         getPatternBytes();
+
+    /**
+     * <code>optional int32 limit = 2;</code>
+     * @return Whether the limit field is set.
+     */
+    boolean hasLimit();
+    /**
+     * <code>optional int32 limit = 2;</code>
+     * @return The limit.
+     */
+    int getLimit();
   }
   /**
    * Protobuf type {@code SearchUserArgs}
@@ -7439,6 +7450,11 @@ public final class UsersProtoBuf {
               pattern_ = s;
               break;
             }
+            case 16: {
+              bitField0_ |= 0x00000002;
+              limit_ = input.readInt32();
+              break;
+            }
             default: {
               if (!parseUnknownField(
                   input, unknownFields, extensionRegistry, tag)) {
@@ -7520,6 +7536,25 @@ public final class UsersProtoBuf {
       }
     }
 
+    public static final int LIMIT_FIELD_NUMBER = 2;
+    private int limit_;
+    /**
+     * <code>optional int32 limit = 2;</code>
+     * @return Whether the limit field is set.
+     */
+    @java.lang.Override
+    public boolean hasLimit() {
+      return ((bitField0_ & 0x00000002) != 0);
+    }
+    /**
+     * <code>optional int32 limit = 2;</code>
+     * @return The limit.
+     */
+    @java.lang.Override
+    public int getLimit() {
+      return limit_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -7537,6 +7572,9 @@ public final class UsersProtoBuf {
       if (((bitField0_ & 0x00000001) != 0)) {
         com.google.protobuf.GeneratedMessageV3.writeString(output, 1, pattern_);
       }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        output.writeInt32(2, limit_);
+      }
       unknownFields.writeTo(output);
     }
 
@@ -7549,6 +7587,10 @@ public final class UsersProtoBuf {
       if (((bitField0_ & 0x00000001) != 0)) {
         size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, pattern_);
       }
+      if (((bitField0_ & 0x00000002) != 0)) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, limit_);
+      }
       size += unknownFields.getSerializedSize();
       memoizedSize = size;
       return size;
@@ -7569,6 +7611,11 @@ public final class UsersProtoBuf {
         if (!getPattern()
             .equals(other.getPattern())) return false;
       }
+      if (hasLimit() != other.hasLimit()) return false;
+      if (hasLimit()) {
+        if (getLimit()
+            != other.getLimit()) return false;
+      }
       if (!unknownFields.equals(other.unknownFields)) return false;
       return true;
     }
@@ -7584,6 +7631,10 @@ public final class UsersProtoBuf {
         hash = (37 * hash) + PATTERN_FIELD_NUMBER;
         hash = (53 * hash) + getPattern().hashCode();
       }
+      if (hasLimit()) {
+        hash = (37 * hash) + LIMIT_FIELD_NUMBER;
+        hash = (53 * hash) + getLimit();
+      }
       hash = (29 * hash) + unknownFields.hashCode();
       memoizedHashCode = hash;
       return hash;
@@ -7719,6 +7770,8 @@ public final class UsersProtoBuf {
         super.clear();
         pattern_ = "";
         bitField0_ = (bitField0_ & ~0x00000001);
+        limit_ = 0;
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
@@ -7751,6 +7804,10 @@ public final class UsersProtoBuf {
           to_bitField0_ |= 0x00000001;
         }
         result.pattern_ = pattern_;
+        if (((from_bitField0_ & 0x00000002) != 0)) {
+          result.limit_ = limit_;
+          to_bitField0_ |= 0x00000002;
+        }
         result.bitField0_ = to_bitField0_;
         onBuilt();
         return result;
@@ -7805,6 +7862,9 @@ public final class UsersProtoBuf {
           pattern_ = other.pattern_;
           onChanged();
         }
+        if (other.hasLimit()) {
+          setLimit(other.getLimit());
+        }
         this.mergeUnknownFields(other.unknownFields);
         onChanged();
         return this;
@@ -7917,6 +7977,45 @@ public final class UsersProtoBuf {
         onChanged();
         return this;
       }
+
+      private int limit_ ;
+      /**
+       * <code>optional int32 limit = 2;</code>
+       * @return Whether the limit field is set.
+       */
+      @java.lang.Override
+      public boolean hasLimit() {
+        return ((bitField0_ & 0x00000002) != 0);
+      }
+      /**
+       * <code>optional int32 limit = 2;</code>
+       * @return The limit.
+       */
+      @java.lang.Override
+      public int getLimit() {
+        return limit_;
+      }
+      /**
+       * <code>optional int32 limit = 2;</code>
+       * @param value The limit to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLimit(int value) {
+        bitField0_ |= 0x00000002;
+        limit_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>optional int32 limit = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLimit() {
+        bitField0_ = (bitField0_ & ~0x00000002);
+        limit_ = 0;
+        onChanged();
+        return this;
+      }
       @java.lang.Override
       public final Builder setUnknownFields(
           final com.google.protobuf.UnknownFieldSet unknownFields) {
@@ -8050,17 +8149,18 @@ public final class UsersProtoBuf {
       "\"+\n\020UpdateUserResult\022\027\n\004user\030\001 \001(\0132\t.Grp" +
       "cUser\"2\n\016DeleteUserArgs\022\016\n\006userId\030\001 \001(\t\022" +
       "\020\n\010password\030\002 \001(\t\"+\n\020DeleteUserResult\022\027\n" +
-      "\004user\030\001 \001(\0132\t.GrpcUser\"2\n\016SearchUserArgs" +
-      "\022\024\n\007pattern\030\001 \001(\tH\000\210\001\001B\n\n\010_pattern2\256\002\n\005U" +
-      "sers\0222\n\ncreateUser\022\017.CreateUserArgs\032\021.Cr" +
-      "eateUserResult\"\000\022)\n\007getUser\022\014.GetUserArg" +
-      "s\032\016.GetUserResult\"\000\022/\n\ngetUserAux\022\017.GetU" +
-      "serAuxArgs\032\016.GetUserResult\"\000\0222\n\nupdateUs" +
-      "er\022\017.UpdateUserArgs\032\021.UpdateUserResult\"\000" +
-      "\0222\n\ndeleteUser\022\017.DeleteUserArgs\032\021.Delete" +
-      "UserResult\"\000\022-\n\013searchUsers\022\017.SearchUser" +
-      "Args\032\t.GrpcUser\"\0000\001B3\n\"fctreddit.impl.gr" +
-      "pc.generated_javaB\rUsersProtoBufb\006proto3"
+      "\004user\030\001 \001(\0132\t.GrpcUser\"P\n\016SearchUserArgs" +
+      "\022\024\n\007pattern\030\001 \001(\tH\000\210\001\001\022\022\n\005limit\030\002 \001(\005H\001\210" +
+      "\001\001B\n\n\010_patternB\010\n\006_limit2\256\002\n\005Users\0222\n\ncr" +
+      "eateUser\022\017.CreateUserArgs\032\021.CreateUserRe" +
+      "sult\"\000\022)\n\007getUser\022\014.GetUserArgs\032\016.GetUse" +
+      "rResult\"\000\022/\n\ngetUserAux\022\017.GetUserAuxArgs" +
+      "\032\016.GetUserResult\"\000\0222\n\nupdateUser\022\017.Updat" +
+      "eUserArgs\032\021.UpdateUserResult\"\000\0222\n\ndelete" +
+      "User\022\017.DeleteUserArgs\032\021.DeleteUserResult" +
+      "\"\000\022-\n\013searchUsers\022\017.SearchUserArgs\032\t.Grp" +
+      "cUser\"\0000\001B3\n\"fctreddit.impl.grpc.generat" +
+      "ed_javaB\rUsersProtoBufb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -8131,7 +8231,7 @@ public final class UsersProtoBuf {
     internal_static_SearchUserArgs_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_SearchUserArgs_descriptor,
-        new java.lang.String[] { "Pattern", "Pattern", });
+        new java.lang.String[] { "Pattern", "Limit", "Pattern", "Limit", });
   }
 
   // @@protoc_insertion_point(outer_class_scope)
@@ -1,8 +1,16 @@
 package fctreddit.impl.grpc.util;
 
+import java.util.ArrayList;
+
+import fctreddit.api.ContentChange;
+import fctreddit.api.ContentChanges;
 import fctreddit.api.Post;
+import fctreddit.api.PostEvent;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcContentChange;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost.Builder;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent;
 
 public class DataModelAdaptorPosts {
     public static GrpcPost Post_to_GrpcPost( Post from )  {
@@ -17,6 +25,9 @@ public class DataModelAdaptorPosts {
 		if(from.getAuthorId() != null)
 			b.setAuthorId( from.getAuthorId());
 
+        if(from.getCreationTimestamp() != 0)
+            b.setCreationTimestamp(from.getCreationTimestamp());
+
         if(from.getParentUrl() != null)
             b.setParentUrl(from.getParentUrl());
 	
@@ -44,6 +55,9 @@ public class DataModelAdaptorPosts {
         if (from.hasAuthorId())
             p.setAuthorId(from.getAuthorId());
 
+        if (from.hasCreationTimestamp())
+            p.setCreationTimestamp(from.getCreationTimestamp());
+
         if (from.hasParentUrl())
             p.setParentUrl(from.getParentUrl());
 
@@ -58,4 +72,65 @@ public class DataModelAdaptorPosts {
 
         return p;
     }
+
+    public static GrpcPostEvent PostEvent_to_GrpcPostEvent(PostEvent from) {
+        GrpcPostEvent.Builder b = GrpcPostEvent.newBuilder()
+                .setType(from.getType())
+                .setPostId(from.getPostId())
+                .setUpVote(from.getUpVote())
+                .setDownVote(from.getDownVote());
+
+        if (from.getParentId() != null)
+            b.setParentId(from.getParentId());
+
+        return b.build();
+    }
+
+    public static PostEvent GrpcPostEvent_to_PostEvent(GrpcPostEvent from) {
+        return new PostEvent(from.getType(), from.getPostId(), from.hasParentId() ? from.getParentId() : null,
+                from.getUpVote(), from.getDownVote());
+    }
+
+    public static GetChangesResult ContentChanges_to_GetChangesResult(ContentChanges from) {
+        GetChangesResult.Builder b = GetChangesResult.newBuilder()
+                .setEpoch(from.getEpoch())
+                .setSnapshot(from.isSnapshot())
+                .setLastSeq(from.getLastSeq());
+
+        for (ContentChange c : from.getChanges()) {
+            GrpcContentChange.Builder cb = GrpcContentChange.newBuilder()
+                    .setSeq(c.getSeq())
+                    .setType(c.getType())
+                    .setReplyCount(c.getReplyCount());
+            if (c.getPost() != null)
+                cb.setPost(Post_to_GrpcPost(c.getPost()));
+            if (c.getParentId() != null)
+                cb.setParentId(c.getParentId());
+            if (c.getPostIds() != null)
+                cb.addAllPostId(c.getPostIds());
+            if (c.getUserId() != null)
+                cb.setUserId(c.getUserId());
+            b.addChange(cb);
+        }
+        return b.build();
+    }
+
+    public static ContentChanges GetChangesResult_to_ContentChanges(GetChangesResult from) {
+        var changes = new ArrayList<ContentChange>();
+        for (GrpcContentChange c : from.getChangeList()) {
+            ContentChange change = new ContentChange();
+            change.setSeq(c.getSeq());
+            change.setType(c.getType());
+            change.setReplyCount(c.getReplyCount());
+            if (c.hasPost())
+                change.setPost(GrpcPost_to_Post(c.getPost()));
+            if (c.hasParentId())
+                change.setParentId(c.getParentId());
+            change.setPostIds(new ArrayList<>(c.getPostIdList()));
+            if (c.hasUserId())
+                change.setUserId(c.getUserId());
+            changes.add(change);
+        }
+        return new ContentChanges(from.getEpoch(), from.getSnapshot(), from.getLastSeq(), changes);
+    }
 }
@@ -20,8 +20,12 @@ public class Discovery {
 
     private static final String DELIMITER = "\t";
     private static final int DISCOVERY_PERIOD = 1000;
+    // A replica not announced for this long is taken to be gone.
+    private static final long REPLICA_EXPIRY = 3 * DISCOVERY_PERIOD;
 
     private final Map<String, Set<String>> uris = new ConcurrentHashMap<>();
+    // The read replicas of each server, by the URI of the server, with the time each was last announced.
+    private final Map<String, Map<String, Long>> replicas = new ConcurrentHashMap<>();
     private boolean started = false;
 
     private static Discovery instance;
@@ -37,6 +41,14 @@ public class Discovery {
     }
 
     public void start(InetSocketAddress addr, String serviceName, String serviceURI) {
+        start(addr, serviceName, serviceURI, null);
+    }
+
+    /**
+     * @param primaryURI - when not null, the server is announced as a read replica of the
+     *                   server with that URI, rather than as a server of the service
+     */
+    public void start(InetSocketAddress addr, String serviceName, String serviceURI, String primaryURI) {
         if (started) {
             Log.warning("Discovery already started. Ignoring start request.");
             return;
@@ -45,7 +57,11 @@ public class Discovery {
 
         Log.info(String.format("Starting Discovery announcements on: %s for: %s -> %s", addr, serviceName, serviceURI));
 
-        byte[] announceBytes = String.format("%s%s%s", serviceName, DELIMITER, serviceURI).getBytes();
+        String announcement = String.format("%s%s%s", serviceName, DELIMITER, serviceURI);
+        if (primaryURI != null) {
+            announcement += DELIMITER + primaryURI;
+        }
+        byte[] announceBytes = announcement.getBytes();
         DatagramPacket announcePkt = new DatagramPacket(announceBytes, announceBytes.length, addr);
 
         try {
@@ -82,6 +98,9 @@ public class Discovery {
                                 uris.computeIfAbsent(name, k -> ConcurrentHashMap.newKeySet()).add(uri);
                             }
                             Log.info("Updated URIs: " + uris);
+                        } else if (parts.length == 3) {
+                            replicas.computeIfAbsent(parts[2], k -> new ConcurrentHashMap<>())
+                                    .put(parts[1], System.currentTimeMillis());
                         }
                     } catch (IOException e) {
                         Log.warning("Error receiving announcement: " + e.getMessage());
@@ -94,6 +113,22 @@ public class Discovery {
         }
     }
 
+    /**
+     * @return the read replicas of the server with the given URI that were announced
+     *         recently, the others are forgotten
+     */
+    public List<String> knownReplicasOf(String primaryURI) {
+        Map<String, Long> announced = replicas.get(primaryURI);
+        if (announced == null)
+            return new ArrayList<>();
+        long expired = System.currentTimeMillis() - REPLICA_EXPIRY;
+        announced.values().removeIf(last -> last < expired);
+        return new ArrayList<>(announced.keySet());
+    }
+
+    /**
+     * @return the servers of the service, not including read replicas
+     */
     public List<String> knownUrisOf(String serviceName) {
         synchronized (uris) {
             return new ArrayList<>(uris.getOrDefault(serviceName, Collections.emptySet()));
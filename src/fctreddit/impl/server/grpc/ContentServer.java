@@ -2,9 +2,14 @@ package fctreddit.impl.server.grpc;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.nio.file.Path;
 import java.util.logging.Logger;
 
 import fctreddit.impl.server.discovery.Discovery;
+import fctreddit.impl.server.java.ContentReplica;
+import fctreddit.impl.server.java.ContentShards;
+import fctreddit.impl.server.java.JavaContent;
+import fctreddit.impl.server.java.WriteAheadLog;
 import io.grpc.Grpc;
 import io.grpc.InsecureServerCredentials;
 import io.grpc.Server;
@@ -13,6 +18,14 @@ import io.grpc.ServerCredentials;
 public class ContentServer {
 	public static final int PORT = 9002;
 	public static final String SERVICE = "Content";
+	// Run with this argument to hold a shard of the posts, alongside other Content servers.
+	public static final String SHARDED = "-sharded";
+	// Run with this argument, followed by the URI of a Content server, to be its read replica.
+	public static final String REPLICA = "-replica";
+	// Run with this argument, followed by a file, to log the writes to it and replay them on startup.
+	public static final String WAL = "-wal";
+	// Followed by sync, group (the default) or async, how long writes wait for the log to be on disk.
+	public static final String DURABILITY = "-durability";
 
 	private static final String GRPC_CTX = "/grpc";
 	private static final String SERVER_BASE_URI = "grpc://%s:%s%s";
@@ -29,9 +42,29 @@ public class ContentServer {
 		Server server = Grpc.newServerBuilderForPort(PORT, cred).addService(stub).build();
 		String serverURI = String.format(SERVER_BASE_URI, InetAddress.getLocalHost().getHostAddress(), PORT, GRPC_CTX);
 
+		String primaryURI = null, walFile = null;
+		WriteAheadLog.Durability durability = WriteAheadLog.Durability.GROUP;
+		for (int i = 0; i < args.length; i++) {
+			if (args[i].equals(SHARDED))
+				ContentShards.getInstance().enable(serverURI);
+			else if (args[i].equals(REPLICA) && i + 1 < args.length)
+				primaryURI = args[++i];
+			else if (args[i].equals(WAL) && i + 1 < args.length)
+				walFile = args[++i];
+			else if (args[i].equals(DURABILITY) && i + 1 < args.length)
+				durability = WriteAheadLog.Durability.valueOf(args[++i].toUpperCase());
+		}
+		// The posts are rebuilt before any request is taken.
+		if (walFile != null) {
+			WriteAheadLog.getInstance().open(Path.of(walFile), durability);
+			new JavaContent().recover();
+		}
+		if (primaryURI != null)
+			ContentReplica.getInstance().follow(primaryURI);
+
 		Discovery discovery = Discovery.getInstance();
 		Log.info(String.format("Preparing to announce %s with URI: %s", SERVICE, serverURI));
-		discovery.start(DISCOVERY_ADDR, SERVICE, serverURI);
+		discovery.start(DISCOVERY_ADDR, SERVICE, serverURI, primaryURI);
 
 		Log.info(
 				String.format("Service discovery started for %s @ %s at %s", SERVICE, serverURI, new java.util.Date()));
@@ -1,27 +1,51 @@
 package fctreddit.impl.server.grpc;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 import io.grpc.BindableService;
 import io.grpc.ServerServiceDefinition;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 
-import fctreddit.api.java.Content;
 import fctreddit.api.java.Result;
+import fctreddit.api.ContentChanges;
 import fctreddit.api.Post;
+import fctreddit.api.PostEvent;
+import fctreddit.api.PostThread;
+import fctreddit.api.PostsPage;
+import fctreddit.api.VoteOp;
 import fctreddit.impl.server.java.JavaContent;
+import fctreddit.impl.server.java.PostEvents;
 import fctreddit.impl.grpc.generated_java.ContentGrpc;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVoteArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.CastVotesResult;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.CreatePostArgs;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.CreatePostResult;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeletePostArgs;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.DeleteVotesArgs;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.EmptyMessage;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetChangesResult;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostAnswersArgs;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsByAuthorArgs;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsBatchResult;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsPageResult;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetPostsResult;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GetThreadArgs;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPost;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.GrpcPostEvent;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.InvalidateUserArgs;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.NullifyAuthorsArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.SearchPostsArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.SubscribeArgs;
+import fctreddit.impl.grpc.generated_java.ContentProtoBuf.ThreadNode;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.UpdatePostArgs;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.VoteCountResult;
 import fctreddit.impl.grpc.generated_java.ContentProtoBuf.ChangeVoteArgs;
@@ -29,7 +53,7 @@ import fctreddit.impl.grpc.util.DataModelAdaptorPosts;
 
 public class GrpcContentServerStub implements ContentGrpc.AsyncService, BindableService {
 
-    Content impl;
+    JavaContent impl;
 
     public GrpcContentServerStub() {
         this.impl = new JavaContent();
@@ -65,6 +89,53 @@ public class GrpcContentServerStub implements ContentGrpc.AsyncService, Bindable
         }
     }
     
+    @Override
+    public void getPostsPage(GetPostsPageArgs request, StreamObserver<GetPostsPageResult> responseObserver) {
+        long timestamp = request.hasTimestamp() ? request.getTimestamp() : 0;
+        String sortOrder = request.hasSortOrder() && !request.getSortOrder().isEmpty() ? request.getSortOrder() : null;
+        String cursor = request.hasCursor() && !request.getCursor().isEmpty() ? request.getCursor() : null;
+        Result<PostsPage> res = impl.getPostsPage(timestamp, sortOrder, cursor, request.getLimit());
+        if (!res.isOK()) {
+            responseObserver.onError(errorCodeToStatus(res.error()));
+        } else {
+            responseObserver.onNext(PostsPage_to_GetPostsPageResult(res.value()));
+            responseObserver.onCompleted();
+        }
+    }
+
+    @Override
+    public void searchPosts(SearchPostsArgs request, StreamObserver<GetPostsPageResult> responseObserver) {
+        String cursor = request.hasCursor() && !request.getCursor().isEmpty() ? request.getCursor() : null;
+        Result<PostsPage> res = impl.searchPosts(request.getQuery(), request.getLimit(), cursor);
+        if (!res.isOK()) {
+            responseObserver.onError(errorCodeToStatus(res.error()));
+        } else {
+            responseObserver.onNext(PostsPage_to_GetPostsPageResult(res.value()));
+            responseObserver.onCompleted();
+        }
+    }
+
+    @Override
+    public void getPostsByAuthor(GetPostsByAuthorArgs request, StreamObserver<GetPostsPageResult> responseObserver) {
+        String cursor = request.hasCursor() && !request.getCursor().isEmpty() ? request.getCursor() : null;
+        Result<PostsPage> res = impl.getPostsByAuthor(request.getUserId(), cursor, request.getLimit());
+        if (!res.isOK()) {
+            responseObserver.onError(errorCodeToStatus(res.error()));
+        } else {
+            responseObserver.onNext(PostsPage_to_GetPostsPageResult(res.value()));
+            responseObserver.onCompleted();
+        }
+    }
+
+    private static GetPostsPageResult PostsPage_to_GetPostsPageResult(PostsPage page) {
+        GetPostsPageResult.Builder b = GetPostsPageResult.newBuilder().addAllPostId(page.getPostIds());
+        if (page.getSortKeys() != null)
+            b.addAllSortKey(page.getSortKeys());
+        if (page.getNextCursor() != null)
+            b.setNextCursor(page.getNextCursor());
+        return b.build();
+    }
+    
     @Override
     public void getPost(GetPostArgs request, StreamObserver<GrpcPost> responseObserver) {
         Result<Post> res = impl.getPost(request.getPostId());
@@ -76,17 +147,101 @@ public class GrpcContentServerStub implements ContentGrpc.AsyncService, Bindable
         }
     }
 
+    @Override
+    public void getPostsBatch(GetPostsBatchArgs request, StreamObserver<GetPostsBatchResult> responseObserver) {
+        Result<List<Post>> res = impl.getPostsByIds(request.getPostIdList());
+        if (!res.isOK())
+            responseObserver.onError(errorCodeToStatus(res.error()));
+        else {
+            GetPostsBatchResult.Builder b = GetPostsBatchResult.newBuilder();
+            for (Post p : res.value())
+                b.addPost(DataModelAdaptorPosts.Post_to_GrpcPost(p));
+            responseObserver.onNext(b.build());
+            responseObserver.onCompleted();
+        }
+    }
+
     @Override
     public void getPostAnswers(GetPostAnswersArgs request, StreamObserver<GetPostsResult> responseObserver) {
-        Result<List<String>> res = impl.getPostAnswers(request.getPostId(), request.getTimeout());
+        // Completed from the reply notification or the timeout, not from the calling thread,
+        // and failed if the future fails, so that the call is not left open.
+        impl.getPostAnswersAsync(request.getPostId(), request.getTimeout()).whenComplete((res, e) -> {
+            if (e != null)
+                responseObserver.onError(Status.INTERNAL.withDescription(e.getMessage()).withCause(e).asException());
+            else if (!res.isOK())
+                responseObserver.onError(errorCodeToStatus(res.error()));
+            else {
+                responseObserver.onNext(GetPostsResult.newBuilder().addAllPostId(res.value()).build());
+                responseObserver.onCompleted();
+            }
+        });
+    }
+
+    @Override
+    public void getThread(GetThreadArgs request, StreamObserver<ThreadNode> responseObserver) {
+        Result<PostThread> res = impl.getThread(request.getPostId(), request.getMaxDepth(), request.getLimit());
         if (!res.isOK())
             responseObserver.onError(errorCodeToStatus(res.error()));
         else {
-            responseObserver.onNext(GetPostsResult.newBuilder().addAllPostId(res.value()).build());
+            sendThread(res.value(), 0, responseObserver);
             responseObserver.onCompleted();
-        } 
+        }
+    }
+
+    /**
+     * Streams the thread in pre-order, so each post is sent right after its parent.
+     */
+    private static void sendThread(PostThread thread, int depth, StreamObserver<ThreadNode> responseObserver) {
+        responseObserver.onNext(ThreadNode.newBuilder()
+                .setPost(DataModelAdaptorPosts.Post_to_GrpcPost(thread.getPost()))
+                .setDepth(depth)
+                .build());
+        for (PostThread reply : thread.getReplies())
+            sendThread(reply, depth + 1, responseObserver);
+    }
+
+    @Override
+    public void subscribe(SubscribeArgs request, StreamObserver<GrpcPostEvent> responseObserver) {
+        var observer = (ServerCallStreamObserver<GrpcPostEvent>) responseObserver;
+        // Set before subscribing, as the events are sent from other threads.
+        AtomicReference<PostEvents.Subscription> subscription = new AtomicReference<>();
+        observer.setOnCancelHandler(() -> {
+            if (subscription.get() != null)
+                subscription.get().cancel();
+        });
+        // gRPC buffers the messages sent while the call is not ready without bound, so they
+        // are kept in the bounded buffer of the subscription instead.
+        observer.setOnReadyHandler(() -> {
+            if (subscription.get() != null)
+                subscription.get().resume();
+        });
+
+        Result<PostEvents.Subscription> res = impl.subscribe(request.hasPostId() ? request.getPostId() : null,
+                new PostEvents.Sink() {
+                    @Override
+                    public void send(PostEvent event) {
+                        observer.onNext(DataModelAdaptorPosts.PostEvent_to_GrpcPostEvent(event));
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return observer.isReady();
+                    }
+
+                    @Override
+                    public void overflow() {
+                        observer.onError(Status.RESOURCE_EXHAUSTED
+                                .withDescription("Subscriber fell too far behind").asException());
+                    }
+                });
+        if (!res.isOK())
+            responseObserver.onError(errorCodeToStatus(res.error()));
+        else {
+            subscription.set(res.value());
+            if (observer.isCancelled())
+                res.value().cancel();
+        }
     }
-    
 
     @Override
     public void updatePost(UpdatePostArgs request, StreamObserver<GrpcPost> responseObserver) {
@@ -155,6 +310,50 @@ public class GrpcContentServerStub implements ContentGrpc.AsyncService, Bindable
         }
     }
 
+    @Override
+    public StreamObserver<CastVoteArgs> castVotes(StreamObserver<CastVotesResult> responseObserver) {
+        List<VoteOp> votes = new ArrayList<>();
+        return new StreamObserver<CastVoteArgs>() {
+            // Set once the batch is rejected, after which the rest of the stream is ignored.
+            private boolean rejected = false;
+
+            @Override
+            public void onNext(CastVoteArgs request) {
+                if (rejected)
+                    return;
+                if (votes.size() == JavaContent.MAX_VOTES_BATCH) {
+                    rejected = true;
+                    votes.clear();
+                    responseObserver.onError(errorCodeToStatus(Result.ErrorCode.BAD_REQUEST));
+                    return;
+                }
+                votes.add(new VoteOp(request.getPostId(), request.getUserId(),
+                        request.hasPassword() ? request.getPassword() : null, request.getVoteType()));
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                votes.clear();
+            }
+
+            @Override
+            public void onCompleted() {
+                if (rejected)
+                    return;
+                Result<List<Result.ErrorCode>> res = impl.castVotes(votes);
+                if (!res.isOK())
+                    responseObserver.onError(errorCodeToStatus(res.error()));
+                else {
+                    CastVotesResult.Builder b = CastVotesResult.newBuilder();
+                    for (Result.ErrorCode outcome : res.value())
+                        b.addOutcome(outcome.name());
+                    responseObserver.onNext(b.build());
+                    responseObserver.onCompleted();
+                }
+            }
+        };
+    }
+
     @Override
     public void deleteVotesFromUser(DeleteVotesArgs request, StreamObserver<EmptyMessage> responseObserver) {
         Result<Void> res = impl.deleteVotesFromUser(request.getUserId());
@@ -199,6 +398,29 @@ public class GrpcContentServerStub implements ContentGrpc.AsyncService, Bindable
         }
     }
 
+    @Override
+    public void invalidateUser(InvalidateUserArgs request, StreamObserver<EmptyMessage> responseObserver) {
+        Result<Void> res = impl.invalidateUser(request.getUserId());
+        if (!res.isOK())
+            responseObserver.onError(errorCodeToStatus(res.error()));
+        else {
+            responseObserver.onNext(EmptyMessage.newBuilder().build());
+            responseObserver.onCompleted();
+        }
+    }
+
+    @Override
+    public void getChanges(GetChangesArgs request, StreamObserver<GetChangesResult> responseObserver) {
+        String epoch = request.hasEpoch() ? request.getEpoch() : null;
+        Result<ContentChanges> res = impl.getChanges(epoch, request.getSince(), request.getTimeout());
+        if (!res.isOK())
+            responseObserver.onError(errorCodeToStatus(res.error()));
+        else {
+            responseObserver.onNext(DataModelAdaptorPosts.ContentChanges_to_GetChangesResult(res.value()));
+            responseObserver.onCompleted();
+        }
+    }
+
 
     protected static Throwable errorCodeToStatus(Result.ErrorCode error) {
         var status = switch (error) {
@@ -15,6 +15,8 @@ import fctreddit.impl.grpc.generated_java.ImageProtoBuf.GetImageArgs;
 import fctreddit.impl.grpc.generated_java.ImageProtoBuf.GetImageResult;
 import fctreddit.impl.grpc.generated_java.ImageProtoBuf.DeleteImageArgs;
 import fctreddit.impl.grpc.generated_java.ImageProtoBuf.DeleteImageResult;
+import fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserArgs;
+import fctreddit.impl.grpc.generated_java.ImageProtoBuf.InvalidateUserResult;
 
 public class GrpcImagesServerStub implements ImageGrpc.AsyncService, BindableService {
 
@@ -65,6 +67,17 @@ public class GrpcImagesServerStub implements ImageGrpc.AsyncService, BindableSer
         }
     }
 
+    @Override
+    public void invalidateUser(InvalidateUserArgs request, StreamObserver<InvalidateUserResult> responseObserver) {
+        Result<Void> res = impl.invalidateUser(request.getUserId());
+        if (!res.isOK())
+            responseObserver.onError(errorCodeToStatus(res.error()));
+        else {
+            responseObserver.onNext(InvalidateUserResult.newBuilder().build());
+            responseObserver.onCompleted();
+        }
+    }
+
     protected static Throwable errorCodeToStatus(Result.ErrorCode error) {
         var status = switch (error) {
             case NOT_FOUND -> io.grpc.Status.NOT_FOUND;
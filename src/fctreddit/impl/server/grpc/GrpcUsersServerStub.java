@@ -1,14 +1,14 @@
 package fctreddit.impl.server.grpc;
 
-import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import io.grpc.BindableService;
 import io.grpc.ServerServiceDefinition;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 
 import fctreddit.api.User;
 import fctreddit.api.java.Result;
-import fctreddit.api.java.Users;
 import fctreddit.impl.grpc.util.DataModelAdaptorUsers;
 import fctreddit.impl.grpc.generated_java.UsersGrpc;
 import fctreddit.impl.grpc.generated_java.UsersProtoBuf.CreateUserArgs;
@@ -23,10 +23,11 @@ import fctreddit.impl.grpc.generated_java.UsersProtoBuf.SearchUserArgs;
 import fctreddit.impl.grpc.generated_java.UsersProtoBuf.UpdateUserArgs;
 import fctreddit.impl.grpc.generated_java.UsersProtoBuf.UpdateUserResult;
 import fctreddit.impl.server.java.JavaUsers;
+import fctreddit.impl.server.java.UserStream;
 
 public class GrpcUsersServerStub implements UsersGrpc.AsyncService, BindableService {
 
-    Users impl;
+    JavaUsers impl;
 
     public GrpcUsersServerStub() {
         this.impl = new JavaUsers();
@@ -94,18 +95,43 @@ public class GrpcUsersServerStub implements UsersGrpc.AsyncService, BindableServ
         }
     }
 
+	/**
+	 * The users are sent while the transport is ready to take them, and again each time it
+	 * drains, so a slow client holds back the reading of the users rather than have them
+	 * buffered. The call's handlers run one at a time, so the stream is not used concurrently.
+	 */
 	@Override
     public void searchUsers(SearchUserArgs request, StreamObserver<GrpcUser> responseObserver) {
-		Result<List<User>> res = impl.searchUsers(request.getPattern());
-		
-		if( ! res.isOK() )
+		Result<UserStream> res = impl.streamUsers(request.getPattern(), request.getLimit());
+		if (!res.isOK()) {
 			responseObserver.onError(errorCodeToStatus(res.error()));
-		else {
-			for(User u: res.value()) {
-				responseObserver.onNext( DataModelAdaptorUsers.User_to_GrpcUser(u));
-			}
-			responseObserver.onCompleted();
+			return;
 		}
+
+		UserStream users = res.value();
+		ServerCallStreamObserver<GrpcUser> observer = (ServerCallStreamObserver<GrpcUser>) responseObserver;
+		AtomicBoolean done = new AtomicBoolean(false);
+		observer.setOnCancelHandler(() -> {
+			if (done.compareAndSet(false, true))
+				users.close();
+		});
+		observer.setOnReadyHandler(() -> {
+			if (done.get())
+				return;
+			try {
+				while (observer.isReady() && users.hasNext())
+					observer.onNext(DataModelAdaptorUsers.User_to_GrpcUser(users.next()));
+				if (!users.hasNext() && done.compareAndSet(false, true)) {
+					users.close();
+					observer.onCompleted();
+				}
+			} catch (Exception e) {
+				if (done.compareAndSet(false, true)) {
+					users.close();
+					observer.onError(errorCodeToStatus(Result.ErrorCode.INTERNAL_ERROR));
+				}
+			}
+		});
 	}
 
 
@@ -0,0 +1,197 @@
+package fctreddit.impl.server.java;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+import fctreddit.api.ContentChange;
+import fctreddit.api.ContentChanges;
+import fctreddit.api.Post;
+import fctreddit.impl.server.persistence.Hibernate;
+
+/**
+ * The ordered log of the changes to the posts of this Content server, fetched by its read
+ * replicas (see ContentReplica).
+ *
+ * A change to a post carries the whole post, which is only logged by its postId, and read
+ * when the change is fetched, so that writers never read the post while holding the lock
+ * of the log. All the posts of a fetch are read at once, and after those of earlier
+ * fetches, so a change never carries an older state than the changes before it, and
+ * applying a change again is harmless. A replica can thus start, or catch up after
+ * falling more than MAX_RETAINED changes behind, from a snapshot of all the posts taken
+ * at any time after its seq, followed by the changes logged from then on.
+ *
+ * Nothing is logged until a replica first asks for changes.
+ */
+public class ChangeLog {
+
+    private static final Logger Log = Logger.getLogger(ChangeLog.class.getName());
+
+    private static final int MAX_RETAINED = 10_000;
+    private static final int MAX_BATCH = 1000;
+    private static final long MAX_WAIT = 10_000;
+
+    private static ChangeLog instance;
+
+    /**
+     * A change, or, for a post created or changed, just its postId.
+     */
+    private record Entry(long seq, String postId, ContentChange change) {
+    }
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final Deque<Entry> retained = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private long lastSeq = 0;
+    private volatile boolean active = false;
+
+    synchronized public static ChangeLog getInstance() {
+        if (instance == null)
+            instance = new ChangeLog();
+        return instance;
+    }
+
+    private ChangeLog() {
+    }
+
+    /**
+     * Logs that a post was created or changed.
+     */
+    public void postChanged(String postId) {
+        if (!active)
+            return;
+        lock.lock();
+        try {
+            append(postId, null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void postsDeleted(List<String> postIds) {
+        if (!active)
+            return;
+        lock.lock();
+        try {
+            append(null, ContentChange.deletePosts(postIds));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void authorNullified(String userId) {
+        if (!active)
+            return;
+        lock.lock();
+        try {
+            append(null, ContentChange.nullifyAuthor(userId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void append(String postId, ContentChange change) {
+        Entry e = new Entry(++lastSeq, postId, change);
+        if (change != null)
+            change.setSeq(e.seq());
+        retained.addLast(e);
+        if (retained.size() > MAX_RETAINED)
+            retained.removeFirst();
+        appended.signalAll();
+    }
+
+    /**
+     * @return the changes after since, waiting up to timeout ms for one if there are none,
+     *         or a snapshot of all the posts if the caller does not follow the current log
+     *         or the changes after since were discarded
+     */
+    public ContentChanges changesSince(String epoch, long since, long timeout) throws InterruptedException {
+        active = true;
+        List<Entry> entries = new ArrayList<>();
+        long last;
+        boolean behind;
+        lock.lock();
+        try {
+            long first = retained.isEmpty() ? lastSeq + 1 : retained.getFirst().seq();
+            behind = !this.epoch.equals(epoch) || since > lastSeq || since + 1 < first;
+            if (!behind) {
+                long remaining = TimeUnit.MILLISECONDS.toNanos(Math.min(Math.max(timeout, 0), MAX_WAIT));
+                while (lastSeq == since && remaining > 0)
+                    remaining = appended.awaitNanos(remaining);
+                // Discarded while waiting.
+                behind = !retained.isEmpty() && since + 1 < retained.getFirst().seq();
+            }
+            for (Entry e : retained) {
+                if (behind || entries.size() == MAX_BATCH)
+                    break;
+                if (e.seq() > since)
+                    entries.add(e);
+            }
+            last = behind ? lastSeq : entries.isEmpty() ? since : entries.get(entries.size() - 1).seq();
+        } finally {
+            lock.unlock();
+        }
+        if (behind)
+            return snapshot(last);
+        return new ContentChanges(this.epoch, false, last, resolve(entries));
+    }
+
+    /**
+     * Reads the posts of the entries, all at once. Only the last change of each post is
+     * kept, as they would all carry the same state, and none is kept for the posts deleted
+     * meanwhile, whose deletion is logged later.
+     */
+    private static List<ContentChange> resolve(List<Entry> entries) {
+        Set<String> postIds = new HashSet<>();
+        for (Entry e : entries) {
+            if (e.postId() != null)
+                postIds.add(e.postId());
+        }
+        Map<String, Post> posts = new HashMap<>();
+        if (!postIds.isEmpty()) {
+            for (Post post : Hibernate.getInstance().jpql("SELECT p FROM Post p WHERE p.postId IN :postIds", Post.class,
+                    Map.of("postIds", postIds), 0))
+                posts.put(post.getPostId(), VoteCounters.getInstance().overlay(post));
+        }
+
+        Set<String> later = new HashSet<>();
+        List<ContentChange> changes = new ArrayList<>();
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            Entry e = entries.get(i);
+            if (e.change() != null) {
+                changes.add(e.change());
+                continue;
+            }
+            Post post = posts.get(e.postId());
+            if (post == null || !later.add(e.postId()))
+                continue;
+            ContentChange c = ContentChange.putPost(post);
+            c.setSeq(e.seq());
+            changes.add(c);
+        }
+        Collections.reverse(changes);
+        return changes;
+    }
+
+    /**
+     * Taken after reading seq, so that it holds the changes logged up to it.
+     */
+    private ContentChanges snapshot(long seq) {
+        List<ContentChange> changes = new ArrayList<>();
+        for (Post post : Hibernate.getInstance().jpql("SELECT p FROM Post p", Post.class))
+            changes.add(ContentChange.putPost(VoteCounters.getInstance().overlay(post)));
+        Log.info("Change log snapshot of " + changes.size() + " posts at seq " + seq);
+        return new ContentChanges(epoch, true, seq, changes);
+    }
+}
@@ -0,0 +1,90 @@
+package fctreddit.impl.server.java;
+
+import java.net.URI;
+import java.util.logging.Logger;
+
+import fctreddit.api.ContentChanges;
+import fctreddit.api.java.Result;
+import fctreddit.clients.grpc.GrpcContentClient;
+import fctreddit.clients.java.ContentClient;
+import fctreddit.clients.rest.RestPostsClient;
+
+/**
+ * Makes this Content server a read replica of another (the primary): the changes logged
+ * by the primary (see ChangeLog) are fetched in order and applied to the posts of this
+ * server, which serves reads from them. Reads lag behind the primary by the time it takes
+ * for a change to be fetched, and writes are refused, to be sent to the primary instead.
+ */
+public class ContentReplica {
+
+    private static final Logger Log = Logger.getLogger(ContentReplica.class.getName());
+
+    private static final long CHANGES_WAIT = 3000;
+    private static final long RETRY_WAIT = 1000;
+
+    private static ContentReplica instance;
+
+    private volatile String primary; // null when not a replica
+
+    synchronized public static ContentReplica getInstance() {
+        if (instance == null)
+            instance = new ContentReplica();
+        return instance;
+    }
+
+    private ContentReplica() {
+    }
+
+    public boolean isReplica() {
+        return primary != null;
+    }
+
+    /**
+     * Starts following the primary with the given URI.
+     */
+    public synchronized void follow(String primaryURI) {
+        if (primary != null)
+            return;
+        primary = primaryURI;
+
+        URI uri = URI.create(primaryURI);
+        ContentClient client = uri.getScheme().equals("grpc") ? new GrpcContentClient(uri) : new RestPostsClient(uri);
+        Thread replication = new Thread(() -> replicate(client), "replication");
+        replication.setDaemon(true);
+        replication.start();
+        Log.info("Replicating the posts of " + primaryURI);
+    }
+
+    private void replicate(ContentClient client) {
+        JavaContent impl = new JavaContent();
+        String epoch = null;
+        long since = 0;
+        while (true) {
+            Result<ContentChanges> res = client.getChanges(epoch, since, CHANGES_WAIT);
+            if (!res.isOK()) {
+                Log.warning("Failed to fetch changes from " + primary + ": " + res.error());
+                sleep();
+                continue;
+            }
+            ContentChanges changes = res.value();
+            try {
+                impl.applyChanges(changes);
+            } catch (Exception e) {
+                // Fetched again, as they are not known to be applied.
+                Log.severe("Failed to apply changes up to " + changes.getLastSeq() + ": " + e.getMessage());
+                sleep();
+                continue;
+            }
+            epoch = changes.getEpoch();
+            since = changes.getLastSeq();
+        }
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(RETRY_WAIT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package fctreddit.impl.server.java;
+
+import java.util.List;
+import java.util.UUID;
+
+import fctreddit.clients.java.ShardRing;
+import fctreddit.impl.server.discovery.Discovery;
+
+/**
+ * The posts this Content server holds when posts are sharded over several Content servers,
+ * which are reached through a ShardedContentClient. The shards are the Content servers
+ * known through Discovery, and this server holds the posts whose postIds fall in its range
+ * of their ShardRing.
+ *
+ * Clients send a new post to the shard that should hold it, so this server gives each new
+ * post a postId in its own range. Until Discovery has heard of this server its range is
+ * not known, and so no postIds are given.
+ */
+public class ContentShards {
+
+    private static final String SERVICE = "Content";
+    private static final long JOIN_WAIT = 3000;
+    private static final long JOIN_POLL = 100;
+
+    private static ContentShards instance;
+
+    private final Discovery discovery = Discovery.getInstance();
+    private volatile String self; // null when not sharded
+    private volatile ShardRing ring;
+
+    synchronized public static ContentShards getInstance() {
+        if (instance == null)
+            instance = new ContentShards();
+        return instance;
+    }
+
+    private ContentShards() {
+    }
+
+    /**
+     * Makes this server a shard, announced through Discovery with the given URI.
+     */
+    public void enable(String serverURI) {
+        self = serverURI;
+    }
+
+    /**
+     * @return a new postId that belongs in this server, or null if this server is a shard
+     *         that Discovery has not heard of within JOIN_WAIT, as its range is not known
+     *         until then
+     */
+    public String newPostId() {
+        if (self == null)
+            return UUID.randomUUID().toString();
+
+        ShardRing current = awaitRing();
+        if (current == null)
+            return null;
+        String postId;
+        do {
+            postId = UUID.randomUUID().toString();
+        } while (!current.shardOf(postId).equals(self));
+        return postId;
+    }
+
+    /**
+     * Waits, up to JOIN_WAIT, for Discovery to hear of this server, e.g., right after it
+     * starts.
+     */
+    private ShardRing awaitRing() {
+        long deadline = System.currentTimeMillis() + JOIN_WAIT;
+        ShardRing current;
+        while ((current = ring()) == null && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(JOIN_POLL);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * @return the ring of the shards known through Discovery, or null if it does not
+     *         include this server yet
+     */
+    private ShardRing ring() {
+        List<String> uris = discovery.knownUrisOf(SERVICE);
+        if (!uris.contains(self))
+            return null;
+        ShardRing current = ring;
+        if (current == null || !current.hasShards(uris))
+            ring = current = new ShardRing(uris);
+        return current;
+    }
+}
@@ -0,0 +1,86 @@
+package fctreddit.impl.server.java;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import fctreddit.api.java.Content;
+
+/**
+ * Versions of the posts and of the post feeds, used as validators (ETags) by clients that
+ * poll them. A version is bumped after each change is committed, and is read from memory,
+ * so a client that already has the current representation is answered without reading it.
+ *
+ * Versions include the start time of the server, so they are never reused after a restart.
+ * At most MAX_POSTS post versions are kept: past that, they are all forgotten at once,
+ * after bumping the generation, so that no version is reused either.
+ */
+public class ContentVersions {
+
+    private static final int MAX_POSTS = 100_000;
+
+    private static ContentVersions instance;
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+    private final AtomicLong clock = new AtomicLong();
+    // Bumped by changes to many posts at once, e.g., when their author is removed.
+    private final AtomicLong generation = new AtomicLong();
+    // The feeds change when top-level posts are created or deleted, and their order when
+    // the votes or the replies of a post change.
+    private final AtomicLong feed = new AtomicLong();
+    private final AtomicLong votes = new AtomicLong();
+    private final AtomicLong replies = new AtomicLong();
+    // Posts that never changed since the server started, or since the last generation, are at version 0.
+    private final Map<String, Long> posts = new ConcurrentHashMap<>();
+
+    synchronized public static ContentVersions getInstance() {
+        if (instance == null)
+            instance = new ContentVersions();
+        return instance;
+    }
+
+    private ContentVersions() {
+    }
+
+    public String postVersion(String postId) {
+        return epoch + "." + generation.get() + "." + posts.getOrDefault(postId, 0L);
+    }
+
+    /**
+     * @return the version of the feed of top-level posts in the given order
+     */
+    public String feedVersion(String sortOrder) {
+        String version = epoch + "." + feed.get();
+        if (Content.MOST_UP_VOTES.equals(sortOrder) || Content.HOTTEST.equals(sortOrder))
+            return version + ".v" + votes.get();
+        if (Content.MOST_REPLIES.equals(sortOrder))
+            return version + ".r" + replies.get();
+        return version;
+    }
+
+    public void postChanged(String postId) {
+        posts.put(postId, clock.incrementAndGet());
+        if (posts.size() > MAX_POSTS) {
+            generation.incrementAndGet();
+            posts.clear();
+        }
+    }
+
+    public void allPostsChanged() {
+        generation.incrementAndGet();
+        posts.clear();
+    }
+
+    public void feedChanged() {
+        feed.incrementAndGet();
+    }
+
+    public void votesChanged(String postId) {
+        postChanged(postId);
+        votes.incrementAndGet();
+    }
+
+    public void repliesChanged() {
+        replies.incrementAndGet();
+    }
+}
@@ -0,0 +1,155 @@
+package fctreddit.impl.server.java;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+
+import fctreddit.api.Post;
+import fctreddit.impl.server.persistence.Hibernate;
+
+/**
+ * In-memory ranking of the hottest top-level posts, so that the "hot" feed is served
+ * without querying the Post table.
+ *
+ * The hot score of a post is the order of magnitude of its vote balance plus its creation
+ * time in units of DECAY_SECONDS: a post needs ten times the votes of one created
+ * DECAY_SECONDS earlier to rank the same. The score of a post only changes when it is
+ * voted on, so the ranking is updated incrementally on votes and post creation.
+ *
+ * Only the best MAX_TRACKED posts are kept. Every post scoring above the floor (the best
+ * score ever dropped from the ranking) is tracked, so the top of the ranking is exact
+ * while it holds at least HOT_POSTS posts; otherwise it is rebuilt from the Post table.
+ */
+public class HotRanking {
+
+    private static final Logger Log = Logger.getLogger(HotRanking.class.getName());
+
+    public static final int HOT_POSTS = 1000;
+    private static final int MAX_TRACKED = 2 * HOT_POSTS;
+    private static final double DECAY_SECONDS = 45000;
+
+    private static HotRanking instance;
+
+    public record Entry(String postId, long creationTimestamp, double score) {
+    }
+
+    private static final Comparator<Entry> HOTTEST_FIRST =
+            Comparator.comparingDouble(Entry::score).reversed().thenComparing(Entry::postId);
+
+    private final VoteCounters voteCounters = VoteCounters.getInstance();
+
+    private final TreeSet<Entry> ranking = new TreeSet<>(HOTTEST_FIRST);
+    private final Map<String, Entry> entries = new HashMap<>();
+    private double floor = Double.NEGATIVE_INFINITY;
+    private boolean loaded = false;
+
+    synchronized public static HotRanking getInstance() {
+        if (instance == null)
+            instance = new HotRanking();
+        return instance;
+    }
+
+    private HotRanking() {
+    }
+
+    static double score(long creationTimestamp, int upVotes, int downVotes) {
+        int balance = upVotes - downVotes;
+        double order = Math.log10(Math.max(Math.abs(balance), 1));
+        return Math.signum(balance) * order + (creationTimestamp / 1000) / DECAY_SECONDS;
+    }
+
+    /**
+     * Ranks a post again after it was created or voted on. Replies are ignored.
+     * The votes are read here, under the lock, so that the last update of a post
+     * always sees its last vote.
+     *
+     * @param post - the post as read from the Post table
+     */
+    public synchronized void update(Post post) {
+        if (!loaded || post.getParentId() != null)
+            return;
+
+        int up = voteCounters.upVotes(post.getPostId());
+        int down = voteCounters.downVotes(post.getPostId());
+        rank(post.getPostId(), post.getCreationTimestamp(),
+                up < 0 ? post.getUpVote() : up, down < 0 ? post.getDownVote() : down);
+    }
+
+    /**
+     * Drops deleted posts from the ranking.
+     */
+    public synchronized void remove(Collection<String> postIds) {
+        for (String postId : postIds) {
+            Entry e = entries.remove(postId);
+            if (e != null)
+                ranking.remove(e);
+        }
+    }
+
+    /**
+     * Forgets the ranking, to be rebuilt from the Post table on its next use, after the
+     * table was replaced.
+     */
+    public synchronized void invalidate() {
+        loaded = false;
+    }
+
+    /**
+     * @return the (at most HOT_POSTS) hottest top-level posts, hottest first
+     */
+    public synchronized List<Entry> top() {
+        if (!loaded || (ranking.size() < HOT_POSTS && floor != Double.NEGATIVE_INFINITY))
+            reload();
+
+        List<Entry> top = new ArrayList<>(Math.min(ranking.size(), HOT_POSTS));
+        for (Entry e : ranking) {
+            if (top.size() == HOT_POSTS)
+                break;
+            top.add(e);
+        }
+        return top;
+    }
+
+    private void rank(String postId, long creationTimestamp, int upVotes, int downVotes) {
+        Entry old = entries.remove(postId);
+        if (old != null)
+            ranking.remove(old);
+
+        // Posts below the floor are not all tracked, so their order is unknown.
+        Entry e = new Entry(postId, creationTimestamp, score(creationTimestamp, upVotes, downVotes));
+        if (e.score() <= floor)
+            return;
+        ranking.add(e);
+        entries.put(postId, e);
+
+        if (ranking.size() > MAX_TRACKED) {
+            Entry dropped = ranking.pollLast();
+            entries.remove(dropped.postId());
+            floor = Math.max(floor, dropped.score());
+        }
+    }
+
+    private void reload() {
+        voteCounters.flush();
+        List<Object[]> rows = Hibernate.getInstance().jpql(
+                "SELECT p.postId, p.creationTimestamp, p.upVote, p.downVote FROM Post p WHERE p.parentId IS NULL",
+                Object[].class);
+
+        ranking.clear();
+        entries.clear();
+        floor = Double.NEGATIVE_INFINITY;
+        for (Object[] row : rows) {
+            String postId = (String) row[0];
+            int up = voteCounters.upVotes(postId);
+            int down = voteCounters.downVotes(postId);
+            rank(postId, (Long) row[1], up < 0 ? (Integer) row[2] : up, down < 0 ? (Integer) row[3] : down);
+        }
+        loaded = true;
+        Log.info("Hot ranking rebuilt from " + rows.size() + " posts.");
+    }
+}
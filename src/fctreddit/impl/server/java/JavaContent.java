@@ -1,12 +1,28 @@
 package fctreddit.impl.server.java;
 
-import java.net.InetAddress;
+import java.io.IOException;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
 import java.util.logging.Logger;
 
 import org.hibernate.Session;
+import org.hibernate.exception.ConstraintViolationException;
+
+import com.google.common.primitives.Ints;
 
 import fctreddit.api.java.Content;
 import fctreddit.api.java.Result;
@@ -19,15 +35,18 @@ import fctreddit.clients.rest.RestImagesClient;
 import fctreddit.clients.rest.RestUsersClient;
 import fctreddit.impl.server.discovery.Discovery;
 import fctreddit.impl.server.persistence.Hibernate;
+import fctreddit.api.ContentChange;
+import fctreddit.api.ContentChanges;
 import fctreddit.api.Post;
+import fctreddit.api.PostEvent;
+import fctreddit.api.PostThread;
+import fctreddit.api.PostsPage;
 import fctreddit.api.User;
+import fctreddit.api.VoteOp;
 import fctreddit.api.Votes;
 
-import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceException;
 import jakarta.persistence.TypedQuery;
-import jakarta.ws.rs.WebApplicationException;
-import jakarta.ws.rs.core.Response.Status;
 
 public class JavaContent implements Content {
     private static Logger Log = Logger.getLogger(JavaContent.class.getName());
@@ -39,6 +58,37 @@ public class JavaContent implements Content {
 
     private Hibernate hibernate;
 
+    private ReplyWaiters replyWaiters = ReplyWaiters.getInstance();
+    private UserCache userCache = UserCache.getInstance();
+    private VoteCounters voteCounters = VoteCounters.getInstance();
+    private HotRanking hotRanking = HotRanking.getInstance();
+    private PostCache postCache = PostCache.getInstance();
+    private PostEvents postEvents = PostEvents.getInstance();
+    private PostIndex postIndex = PostIndex.getInstance();
+    private ContentVersions versions = ContentVersions.getInstance();
+    private ContentShards shards = ContentShards.getInstance();
+    private ChangeLog changeLog = ChangeLog.getInstance();
+    private ContentReplica replica = ContentReplica.getInstance();
+    private WriteAheadLog wal = WriteAheadLog.getInstance();
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 1000;
+    public static final int MAX_VOTES_BATCH = 10_000;
+    private static final int STORE_VOTES_ATTEMPTS = 3;
+
+    /**
+     * Walks down the reply tree from a post, yielding each post in the thread with its depth.
+     */
+    private static final String THREAD_CTE =
+            "WITH RECURSIVE thread (postId, depth) AS ("
+            + " SELECT p.postId, 0 FROM Post p WHERE p.postId = :postId"
+            + " UNION ALL"
+            + " SELECT p.postId, t.depth + 1 FROM Post p JOIN thread t ON p.parentId = t.postId"
+            + " WHERE t.depth < :maxDepth)";
+
+    private static final int ANSWERS_THREADS = 8;
+    private static final ExecutorService answersExecutor = Executors.newFixedThreadPool(ANSWERS_THREADS);
+
     public JavaContent() {
         hibernate = Hibernate.getInstance();
     }
@@ -110,11 +160,21 @@ public class JavaContent implements Content {
     }
 
     private User getUser(String userId) {
+        // The author of a post is null once the user was deleted.
+        if (userId == null) {
+            return null;
+        }
+        User cached = userCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
         if (!initializeUsersClient()) {
             Log.warning("Cannot retrieve user due to unavailable Users service");
             return null;
         }
 
+        long version = userCache.version();
         Result<User> result = usersClient.getUserAux(userId);
         if (result == null || !result.isOK()) {
             if (result != null && result.error() == ErrorCode.NOT_FOUND) {
@@ -124,6 +184,7 @@ public class JavaContent implements Content {
             }
             return null;
         }
+        userCache.put(result.value(), version);
         return result.value();
     }
 
@@ -149,6 +210,9 @@ public class JavaContent implements Content {
     @Override
     public Result<String> createPost(Post post, String userPassword) {
         Log.info("createPost called with userId: " + post.getAuthorId());
+        if (readOnly("createPost")) {
+            return Result.error(ErrorCode.NOT_IMPLEMENTED);
+        }
         User user = getUser(post.getAuthorId());
         if (user == null) {
             Log.info("createPost: User not found.");
@@ -158,20 +222,53 @@ public class JavaContent implements Content {
             Log.info("createPost: Invalid input.");
             return Result.error(ErrorCode.FORBIDDEN);
         }
-        if (post.getParentUrl() != null) {
-            String parentId = post.getParentUrl().substring(post.getParentUrl().lastIndexOf('/') + 1);
-            Post parentPost = hibernate.get(Post.class, parentId);
+        String parentId = parentIdOf(post.getParentUrl());
+        if (parentId != null) {
+            Post parentPost = postCache.get(parentId);
             if (parentPost == null) {
                 Log.info("createPost: Parent post not found.");
                 return Result.error(ErrorCode.NOT_FOUND);
             }
         }
     
-        String postId = UUID.randomUUID().toString();
+        String postId = shards.newPostId();
+        if (postId == null) {
+            Log.severe("createPost: This shard is not known through Discovery yet.");
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        }
         post.setPostId(postId); 
+        post.setParentId(parentId);
+        post.setCreationTimestamp(System.currentTimeMillis());
+        post.setReplyCount(0);
     
         try {
-            hibernate.persist(post);
+            inLoggedTransaction(session -> {
+                session.persist(post);
+                if (parentId != null) {
+                    session.createMutationQuery(
+                        "UPDATE Post p SET p.replyCount = p.replyCount + 1 WHERE p.postId = :parentId")
+                        .setParameter("parentId", parentId)
+                        .executeUpdate();
+                }
+                session.flush();
+                wal.append(WriteAheadLog.Entry.created(post));
+            });
+            if (parentId != null) {
+                postCache.invalidate(parentId);
+                replyWaiters.signal(parentId);
+                changeLog.postChanged(parentId);
+            }
+            changeLog.postChanged(postId);
+            hotRanking.update(post);
+            postIndex.update(postId, post.getContent());
+            if (parentId == null) {
+                versions.feedChanged();
+            } else {
+                versions.repliesChanged();
+            }
+            postEvents.publish(new PostEvent(parentId == null ? PostEvent.NEW_POST : PostEvent.NEW_REPLY,
+                    postId, parentId, 0, 0));
+            wal.sync();
             return Result.ok(postId);
         } catch (Exception e) {
             e.printStackTrace();
@@ -179,48 +276,295 @@ public class JavaContent implements Content {
             return Result.error(ErrorCode.INTERNAL_ERROR);
         }
     }
+
+    private static String parentIdOf(String parentUrl) {
+        if (parentUrl == null) {
+            return null;
+        }
+        return parentUrl.substring(parentUrl.lastIndexOf('/') + 1);
+    }
     
     
     @Override
     public Result<List<String>> getPosts(long timestamp, String sortOrder) {
         Log.info("getPosts called with timestamp: " + timestamp + " and sortOrder: " + sortOrder);
     
-        try {
-            String query = "SELECT p.postId FROM Post p WHERE p.parentUrl IS NULL";
-        
-            if (timestamp > 0) {
-                query += " AND p.creationTimestamp >= :timestamp";
-            }
-        
-            List<String> postIds = hibernate.jpql(query, String.class);
-        
-            if (sortOrder != null) {
-                switch (sortOrder) {
-                    case Content.MOST_UP_VOTES:
-                        query += " ORDER BY p.upVote DESC";
-                        postIds = hibernate.jpql(query, String.class);
-                        break;
-                
-                    case Content.MOST_REPLIES:
-                        long maxTimeout = 0;
-                        postIds.sort((a, b) -> {
-                            List<String> answersB = getPostAnswers(b, maxTimeout).value();
-                            List<String> answersA = getPostAnswers(a, maxTimeout).value();
-                            return Integer.compare(answersB.size(), answersA.size());
-                        });                    
-                        break;
-                    
-                    default:
-                        Log.warning("Invalid sortOrder: " + sortOrder);
-                        throw new WebApplicationException(Status.BAD_REQUEST);
+        if (Content.HOTTEST.equals(sortOrder)) {
+            try {
+                List<String> postIds = new ArrayList<>();
+                for (HotRanking.Entry e : hotPosts(timestamp)) {
+                    postIds.add(e.postId());
                 }
+                return Result.ok(postIds);
+            } catch (Exception e) {
+                Log.severe("Error retrieving hot posts: " + e.getMessage());
+                return Result.error(ErrorCode.INTERNAL_ERROR);
+            }
+        }
+
+        PostOrder order = PostOrder.of(sortOrder);
+        if (order == null) {
+            Log.warning("Invalid sortOrder: " + sortOrder);
+            return Result.error(ErrorCode.BAD_REQUEST);
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        String query = "SELECT p.postId FROM Post p WHERE p.parentId IS NULL";
+        if (timestamp > 0) {
+            query += " AND p.creationTimestamp >= :timestamp";
+            params.put("timestamp", timestamp);
+        }
+
+        try {
+            if (order.byVotes()) {
+                voteCounters.flush();
             }
-        
-            return Result.ok(postIds);
-        
+            return Result.ok(hibernate.jpql(query + order.orderBy(), String.class, params, 0));
         } catch (Exception e) {
             Log.severe("Error retrieving posts: " + e.getMessage());
-            throw new WebApplicationException(Status.INTERNAL_SERVER_ERROR);
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    @Override
+    public Result<PostsPage> getPostsPage(long timestamp, String sortOrder, String cursor, int limit) {
+        Log.info("getPostsPage called with timestamp: " + timestamp + ", sortOrder: " + sortOrder
+                + ", cursor: " + cursor + " and limit: " + limit);
+
+        if (Content.HOTTEST.equals(sortOrder)) {
+            return getHotPostsPage(timestamp, cursor, limit);
+        }
+
+        PostOrder order = PostOrder.of(sortOrder);
+        if (order == null) {
+            Log.warning("Invalid sortOrder: " + sortOrder);
+            return Result.error(ErrorCode.BAD_REQUEST);
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        String query = "SELECT p.postId, p." + order.field() + " FROM Post p WHERE p.parentId IS NULL";
+        if (timestamp > 0) {
+            query += " AND p.creationTimestamp >= :timestamp";
+            params.put("timestamp", timestamp);
+        }
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] position = PostsPage.decodeCursor(cursor);
+            if (position == null) {
+                Log.info("getPostsPage: Invalid cursor.");
+                return Result.error(ErrorCode.BAD_REQUEST);
+            }
+            query += order.after();
+            params.put("lastKey", order.key(Long.parseLong(position[0])));
+            params.put("lastId", position[1]);
+        }
+
+        try {
+            if (order.byVotes()) {
+                voteCounters.flush();
+            }
+            return Result.ok(page(hibernate.jpql(query + order.orderBy(), Object[].class, params, pageSize(limit) + 1),
+                    pageSize(limit)));
+        } catch (Exception e) {
+            Log.severe("Error retrieving posts page: " + e.getMessage());
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    /**
+     * Sort orders of the post feeds, each a keyset on (field, postId) that is backed by an index.
+     */
+    private record PostOrder(String field, boolean descending) {
+
+        static PostOrder of(String sortOrder) {
+            if (sortOrder == null || sortOrder.isEmpty())
+                return new PostOrder("creationTimestamp", false);
+            return switch (sortOrder) {
+                case Content.MOST_UP_VOTES -> new PostOrder("upVote", true);
+                case Content.MOST_REPLIES -> new PostOrder("replyCount", true);
+                default -> null;
+            };
+        }
+
+        boolean byVotes() {
+            return field.equals("upVote");
+        }
+
+        String orderBy() {
+            return " ORDER BY p." + field + (descending ? " DESC" : " ASC") + ", p.postId ASC";
+        }
+
+        String after() {
+            return " AND (p." + field + (descending ? " < " : " > ") + ":lastKey OR (p." + field
+                    + " = :lastKey AND p.postId > :lastId))";
+        }
+
+        Object key(long value) {
+            return field.equals("creationTimestamp") ? (Object) value : (Object) (int) value;
+        }
+    }
+
+    /**
+     * The hot feed is served from the in-memory ranking.
+     */
+    private Result<PostsPage> getHotPostsPage(long timestamp, String cursor, int limit) {
+        List<HotRanking.Entry> hot;
+        try {
+            hot = hotPosts(timestamp);
+        } catch (Exception e) {
+            Log.severe("Error retrieving hot posts page: " + e.getMessage());
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        }
+        return rankedPage("getPostsPage", hot, HotRanking.Entry::postId, HotRanking.Entry::score, cursor, limit);
+    }
+
+    /**
+     * Builds a page out of a ranking held in memory, ordered by descending score and then
+     * by postId. The cursor keys are the bits of the score.
+     */
+    private static <T> Result<PostsPage> rankedPage(String op, List<T> ranking, Function<T, String> postIdOf,
+            ToDoubleFunction<T> scoreOf, String cursor, int limit) {
+        double lastScore = Double.POSITIVE_INFINITY;
+        String lastId = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] position = PostsPage.decodeCursor(cursor);
+            if (position == null) {
+                Log.info(op + ": Invalid cursor.");
+                return Result.error(ErrorCode.BAD_REQUEST);
+            }
+            lastScore = Double.longBitsToDouble(Long.parseLong(position[0]));
+            lastId = position[1];
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        for (T e : ranking) {
+            if (rows.size() > pageSize(limit)) {
+                break;
+            }
+            double score = scoreOf.applyAsDouble(e);
+            String postId = postIdOf.apply(e);
+            if (score < lastScore || (score == lastScore && postId.compareTo(lastId) > 0)) {
+                rows.add(new Object[] { postId, Double.doubleToLongBits(score) });
+            }
+        }
+        return Result.ok(page(rows, pageSize(limit)));
+    }
+
+    private List<HotRanking.Entry> hotPosts(long timestamp) {
+        List<HotRanking.Entry> hot = new ArrayList<>();
+        for (HotRanking.Entry e : hotRanking.top()) {
+            if (e.creationTimestamp() >= timestamp) {
+                hot.add(e);
+            }
+        }
+        return hot;
+    }
+
+    private static int pageSize(int limit) {
+        return limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Builds a page out of (postId, key) rows, fetched with one row more than the page size
+     * to tell whether there is a next page.
+     */
+    private static PostsPage page(List<Object[]> rows, int pageSize) {
+        List<String> postIds = new ArrayList<>();
+        List<Long> sortKeys = new ArrayList<>();
+        for (int i = 0; i < rows.size() && i < pageSize; i++) {
+            postIds.add((String) rows.get(i)[0]);
+            sortKeys.add(((Number) rows.get(i)[1]).longValue());
+        }
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            Object[] last = rows.get(pageSize - 1);
+            nextCursor = PostsPage.cursorAfter(((Number) last[1]).longValue(), (String) last[0]);
+        }
+        return new PostsPage(postIds, sortKeys, nextCursor);
+    }
+
+    /**
+     * The ranking of a search changes with every post indexed, so a search cursor is not a
+     * position in the order of the posts but an offset into the ranking the previous page
+     * was taken from: the generation of the index it was taken at, and the offset of the
+     * next hit. The ranking may then still have posts deleted since.
+     */
+    @Override
+    public Result<PostsPage> searchPosts(String query, int limit, String cursor) {
+        Log.info("searchPosts called with query: " + query + ", limit: " + limit + " and cursor: " + cursor);
+
+        if (query == null || query.trim().isEmpty()) {
+            Log.info("searchPosts: Invalid query.");
+            return Result.error(ErrorCode.BAD_REQUEST);
+        }
+        long generation = -1;
+        int offset = 0;
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] position = PostsPage.decodeCursor(cursor);
+            Integer next = position == null ? null : Ints.tryParse(position[1]);
+            if (next == null || next < 0) {
+                Log.info("searchPosts: Invalid cursor.");
+                return Result.error(ErrorCode.BAD_REQUEST);
+            }
+            generation = Long.parseLong(position[0]);
+            offset = next;
+        }
+
+        PostIndex.Ranking ranking;
+        try {
+            ranking = generation < 0 ? postIndex.search(query) : postIndex.search(query, generation);
+        } catch (Exception e) {
+            Log.severe("Error searching posts: " + e.getMessage());
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        }
+        if (ranking == null) {
+            Log.info("searchPosts: The ranking of the cursor is no longer kept.");
+            return Result.error(ErrorCode.BAD_REQUEST);
+        }
+
+        List<PostIndex.Hit> hits = ranking.hits();
+        int end = Math.min(hits.size(), offset + pageSize(limit));
+        List<String> postIds = new ArrayList<>();
+        List<Long> sortKeys = new ArrayList<>();
+        for (int i = offset; i < end; i++) {
+            postIds.add(hits.get(i).postId());
+            sortKeys.add(Double.doubleToLongBits(hits.get(i).score()));
+        }
+        String nextCursor = end < hits.size() ? PostsPage.cursorAfter(ranking.generation(), String.valueOf(end)) : null;
+        return Result.ok(new PostsPage(postIds, sortKeys, nextCursor));
+    }
+
+
+    @Override
+    public Result<PostsPage> getPostsByAuthor(String userId, String cursor, int limit) {
+        Log.info("getPostsByAuthor called with userId: " + userId + ", cursor: " + cursor + " and limit: " + limit);
+
+        if (userId == null || userId.trim().isEmpty()) {
+            Log.info("getPostsByAuthor: Invalid userId.");
+            return Result.error(ErrorCode.BAD_REQUEST);
+        }
+
+        // Most recent first, a range of the index on (authorId, creationTimestamp, postId).
+        PostOrder order = new PostOrder("creationTimestamp", true);
+        Map<String, Object> params = new HashMap<>();
+        params.put("userId", userId);
+        String query = "SELECT p.postId, p.creationTimestamp FROM Post p WHERE p.authorId = :userId";
+        if (cursor != null && !cursor.isEmpty()) {
+            String[] position = PostsPage.decodeCursor(cursor);
+            if (position == null) {
+                Log.info("getPostsByAuthor: Invalid cursor.");
+                return Result.error(ErrorCode.BAD_REQUEST);
+            }
+            query += order.after();
+            params.put("lastKey", order.key(Long.parseLong(position[0])));
+            params.put("lastId", position[1]);
+        }
+
+        try {
+            return Result.ok(page(hibernate.jpql(query + order.orderBy(), Object[].class, params, pageSize(limit) + 1),
+                    pageSize(limit)));
+        } catch (Exception e) {
+            Log.severe("Error retrieving posts by author: " + e.getMessage());
+            return Result.error(ErrorCode.INTERNAL_ERROR);
         }
     }
 
@@ -229,71 +573,119 @@ public class JavaContent implements Content {
     public Result<Post> getPost(String postId) {
         Log.info("getPost called with postId: " + postId);
 
-        Post post = hibernate.get(Post.class, postId);
+        Post post = postCache.get(postId);
         if (post == null) {
             Log.info("getPost: Post not found.");
             return Result.error(ErrorCode.NOT_FOUND);
         }
-        Log.info("getPost: Retrieved post with ID " + postId);
-        return Result.ok(post);
+        Log.info("getPost: Retrieved post with ID " + postId + " (post cache hits: " + postCache.hits()
+                + ", misses: " + postCache.misses() + ")");
+        return Result.ok(voteCounters.overlay(post));
+    }
+
+    @Override
+    public Result<List<Post>> getPostsByIds(List<String> postIds) {
+        Log.info("getPostsByIds called with " + (postIds == null ? 0 : postIds.size()) + " postIds");
+
+        if (postIds == null || postIds.size() > MAX_PAGE_SIZE) {
+            Log.info("getPostsByIds: Invalid postIds.");
+            return Result.error(ErrorCode.BAD_REQUEST);
+        }
+        if (postIds.isEmpty()) {
+            return Result.ok(new ArrayList<>());
+        }
+
+        try {
+            List<Post> found = hibernate.jpql("SELECT p FROM Post p WHERE p.postId IN :postIds", Post.class,
+                    Map.of("postIds", new HashSet<>(postIds)), 0);
+
+            Map<String, Post> byId = new HashMap<>();
+            for (Post p : found) {
+                byId.put(p.getPostId(), voteCounters.overlay(p));
+            }
+            List<Post> posts = new ArrayList<>();
+            for (String postId : postIds) {
+                Post p = byId.get(postId);
+                if (p != null) {
+                    posts.add(p);
+                }
+            }
+            return Result.ok(posts);
+        } catch (Exception e) {
+            Log.severe("Error retrieving posts by ID: " + e.getMessage());
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        }
     }
 
     @Override
     public Result<List<String>> getPostAnswers(String postId, long timeout) {
+        return getPostAnswersAsync(postId, timeout).join();
+    }
+
+    /**
+     * Non-blocking variant of getPostAnswers. When a timeout is given, the returned
+     * future completes as soon as a reply to the post is created, or with the replies
+     * known at call time once the timeout expires. No thread is held while waiting.
+     */
+    public CompletableFuture<Result<List<String>>> getPostAnswersAsync(String postId, long timeout) {
         Log.info("getPostAnswers called with postId: " + postId + ", timeout: " + timeout);
     
         if (postId == null || postId.trim().isEmpty()) {
             Log.info("getPostAnswers: Invalid postId.");
-            return Result.error(ErrorCode.BAD_REQUEST);
+            return CompletableFuture.completedFuture(Result.error(ErrorCode.BAD_REQUEST));
         }
 
-        if (!initializeUsersClient()) {
-            Log.warning("Cannot initialize UsersClient, skipping user-related operations");
-            return Result.error(ErrorCode.INTERNAL_ERROR);
+        if (timeout <= 0) {
+            return CompletableFuture.completedFuture(queryPostAnswers(postId));
         }
-    
+
+        // Registered before the first read, so a reply created in between still wakes us up.
+        CompletableFuture<Void> reply = replyWaiters.register(postId);
+        Result<List<String>> initialAnswers = queryPostAnswers(postId);
+        if (!initialAnswers.isOK()) {
+            replyWaiters.unregister(postId, reply);
+            return CompletableFuture.completedFuture(initialAnswers);
+        }
+
+        return reply.thenApplyAsync(v -> queryPostAnswers(postId), answersExecutor)
+                .completeOnTimeout(initialAnswers, timeout, TimeUnit.MILLISECONDS)
+                .whenComplete((res, e) -> replyWaiters.unregister(postId, reply));
+    }
+
+    /**
+     * Subscribes to the post events: new top-level posts, new replies and vote changes.
+     * Events are pushed to the sink as they happen, until the subscription is cancelled.
+     *
+     * @param postId - optional, when defined only the events of the post and of its direct
+     *               replies are delivered
+     * @return OK and the subscription;
+     * NOT_FOUND if postId does not match an existing Post
+     */
+    public Result<PostEvents.Subscription> subscribe(String postId, PostEvents.Sink sink) {
+        Log.info("subscribe called with postId: " + postId);
+
+        if (postId != null && postCache.get(postId) == null) {
+            Log.info("subscribe: Post not found.");
+            return Result.error(ErrorCode.NOT_FOUND);
+        }
+        return Result.ok(postEvents.subscribe(postId, sink));
+    }
+
+    private Result<List<String>> queryPostAnswers(String postId) {
         try (Session session = Hibernate.getInstance().sessionFactory.openSession()) {
             Post parentPost = session.get(Post.class, postId);
             if (parentPost == null) {
                 Log.info("getPostAnswers: Post not found.");
                 return Result.error(ErrorCode.NOT_FOUND);
             }
-                
-            String serverIp = InetAddress.getLocalHost().getHostAddress();
-
-            String parentUrl = null;
-            if (usersClient instanceof RestUsersClient) {
-                parentUrl = String.format("http://%s:8081/rest/posts/%s", serverIp, postId);
-            } else if (usersClient instanceof GrpcUsersClient) {
-                parentUrl = String.format("grpc://%s:9002/grpc/posts/%s", serverIp, postId);
-            } 
     
             TypedQuery<String> query = session.createQuery(
-                "SELECT p.postId FROM Post p WHERE p.parentUrl = :parentUrl",
+                "SELECT p.postId FROM Post p WHERE p.parentId = :parentId ORDER BY p.creationTimestamp, p.postId",
                 String.class
             );
-            query.setParameter("parentUrl", parentUrl);
-    
-            List<String> initialAnswers = query.getResultList();
-            if (timeout <= 0) {
-                return Result.ok(initialAnswers);
-            }
+            query.setParameter("parentId", postId);
     
-            long startTime = System.currentTimeMillis();
-            while (System.currentTimeMillis() - startTime < timeout) {
-                Thread.sleep(1000); 
-    
-                List<String> currentAnswers = session.createQuery(
-                    "SELECT p.postId FROM Post p WHERE p.parentUrl = :parentUrl",
-                    String.class
-                ).setParameter("parentUrl", parentUrl).getResultList();
-    
-                if (currentAnswers.size() > initialAnswers.size()) {
-                    return Result.ok(currentAnswers);
-                }
-            }
-    
-            return Result.ok(initialAnswers);
+            return Result.ok(query.getResultList());
     
         } catch (Exception e) {
             Log.severe("getPostAnswers: Unexpected error: " + e.getMessage());
@@ -301,19 +693,69 @@ public class JavaContent implements Content {
             return Result.error(ErrorCode.INTERNAL_ERROR);
         }
     }
-    
+
+    @Override
+    public Result<PostThread> getThread(String postId, int maxDepth, int limit) {
+        Log.info("getThread called with postId: " + postId + ", maxDepth: " + maxDepth + " and limit: " + limit);
+
+        if (postId == null || postId.trim().isEmpty()) {
+            Log.info("getThread: Invalid postId.");
+            return Result.error(ErrorCode.BAD_REQUEST);
+        }
+
+        List<Post> posts;
+        try {
+            // Breadth first, so that cutting at the limit still leaves a connected tree.
+            posts = hibernate.sql(THREAD_CTE
+                    + " SELECT p.* FROM Post p JOIN thread t ON p.postId = t.postId"
+                    + " ORDER BY t.depth, p.creationTimestamp, p.postId",
+                    Post.class,
+                    Map.of("postId", postId, "maxDepth", maxDepth <= 0 ? Integer.MAX_VALUE : maxDepth),
+                    threadSize(limit));
+        } catch (Exception e) {
+            Log.severe("Error retrieving thread: " + e.getMessage());
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        }
+        if (posts.isEmpty()) {
+            Log.info("getThread: Post not found.");
+            return Result.error(ErrorCode.NOT_FOUND);
+        }
+
+        PostThread root = new PostThread(voteCounters.overlay(posts.get(0)));
+        Map<String, PostThread> nodes = new HashMap<>();
+        nodes.put(postId, root);
+        for (Post p : posts.subList(1, posts.size())) {
+            PostThread node = new PostThread(voteCounters.overlay(p));
+            nodes.get(p.getParentId()).getReplies().add(node);
+            nodes.put(p.getPostId(), node);
+        }
+        return Result.ok(root);
+    }
+
+    private static int threadSize(int limit) {
+        return limit <= 0 ? MAX_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+    }
 
 
     @Override
     public Result<Post> updatePost(String postId, String userPassword, Post post) {
         Log.info("updatePost called with postId: " + postId + " and userPassword: " + userPassword);
+        if (readOnly("updatePost")) {
+            return Result.error(ErrorCode.NOT_IMPLEMENTED);
+        }
 
-        Post existingPost = hibernate.get(Post.class, postId);
+        Post existingPost = postCache.get(postId);
+        if (existingPost == null) {
+            Log.info("updatePost: Post not found.");
+            return Result.error(ErrorCode.NOT_FOUND);
+        }
+        // A post whose author was deleted (or nullified) cannot be updated by anyone.
         User user = getUser(existingPost.getAuthorId());
-        if (!user.getPassword().equals(userPassword)) {
+        if (user == null || !user.getPassword().equals(userPassword)) {
             Log.info("updatePost: Invalid password.");
             return Result.error(ErrorCode.FORBIDDEN);
         }
+        voteCounters.overlay(existingPost);
         if (existingPost.getUpVote() > 0 || existingPost.getDownVote() > 0) {
             Log.info("updatePost: Post has votes. Update not allowed.");
             return Result.error(ErrorCode.BAD_REQUEST);
@@ -330,7 +772,21 @@ public class JavaContent implements Content {
             if (post.getMediaUrl() != null) {
                 existingPost.setMediaUrl(post.getMediaUrl());
             }
-            hibernate.update(existingPost);
+            // Only the edited fields are written, the counters are maintained by their own updates.
+            inLoggedTransaction(session -> {
+                session.createMutationQuery(
+                    "UPDATE Post p SET p.content = :content, p.mediaUrl = :mediaUrl WHERE p.postId = :postId")
+                    .setParameter("content", existingPost.getContent())
+                    .setParameter("mediaUrl", existingPost.getMediaUrl())
+                    .setParameter("postId", postId)
+                    .executeUpdate();
+                wal.append(WriteAheadLog.Entry.updated(postId, existingPost.getContent(), existingPost.getMediaUrl()));
+            });
+            postCache.invalidate(postId);
+            changeLog.postChanged(postId);
+            postIndex.update(postId, existingPost.getContent());
+            versions.postChanged(postId);
+            wal.sync();
             Log.info("updatePost: Updated post with ID " + postId);
             return Result.ok(existingPost);
         } catch (Exception e) {
@@ -343,8 +799,11 @@ public class JavaContent implements Content {
     @Override
     public Result<Void> deletePost(String postId, String userPassword) {
         Log.info("deletePost called with postId: " + postId + " and userPassword: " + userPassword);
+        if (readOnly("deletePost")) {
+            return Result.error(ErrorCode.NOT_IMPLEMENTED);
+        }
     
-        Post post = hibernate.get(Post.class, postId);
+        Post post = postCache.get(postId);
         if (post == null) {
             Log.info("deletePost: Post not found.");
             return Result.error(ErrorCode.NOT_FOUND);
@@ -356,6 +815,7 @@ public class JavaContent implements Content {
             return Result.error(ErrorCode.FORBIDDEN);
         }
     
+        voteCounters.overlay(post);
         if (post.getUpVote() != 0 || post.getDownVote() != 0) {
             Log.info("deletePost: Cannot delete post with votes.");
             return Result.error(ErrorCode.CONFLICT);
@@ -370,38 +830,64 @@ public class JavaContent implements Content {
             deleteImage(id, userId, userPassword);  
         } 
             
-        deletePostRecursively(postId);
+        if (!deleteThread(post)) {
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        }
     
         Log.info("deletePost: Deleted post with ID " + postId);
         return Result.ok();
     }
     
-    private void deletePostRecursively(String postId) {
-        Result<List<String>> repliesResult = getPostAnswers(postId, 0);
-        if (repliesResult.isOK()) {
-            List<String> replies = repliesResult.value();
-            for (String replyId : replies) {
-                deletePostRecursively(replyId);
+    /**
+     * Removes a post, all its replies (and replies to those replies) and their votes
+     * in a single transaction.
+     */
+    private boolean deleteThread(Post post) {
+        try {
+            List<String> postIds = fromLoggedTransaction(session -> {
+                List<String> ids = session.createNativeQuery(THREAD_CTE + " SELECT t.postId FROM thread t", String.class)
+                    .setParameter("postId", post.getPostId())
+                    .setParameter("maxDepth", Integer.MAX_VALUE)
+                    .getResultList();
+
+                session.createMutationQuery("DELETE FROM Votes v WHERE v.postId IN :postIds")
+                    .setParameter("postIds", ids)
+                    .executeUpdate();
+                session.createMutationQuery("DELETE FROM Post p WHERE p.postId IN :postIds")
+                    .setParameter("postIds", ids)
+                    .executeUpdate();
+                if (post.getParentId() != null) {
+                    session.createMutationQuery(
+                        "UPDATE Post p SET p.replyCount = p.replyCount - 1 WHERE p.postId = :parentId")
+                        .setParameter("parentId", post.getParentId())
+                        .executeUpdate();
+                }
+                wal.append(WriteAheadLog.Entry.deleted(post.getPostId()));
+                return ids;
+            });
+            voteCounters.remove(postIds);
+            postCache.invalidate(postIds);
+            changeLog.postsDeleted(postIds);
+            if (post.getParentId() != null) {
+                postCache.invalidate(post.getParentId());
+                changeLog.postChanged(post.getParentId());
             }
-        }
-    
-        try (Session session = Hibernate.getInstance().sessionFactory.openSession()) {
-            session.beginTransaction();
-            List<Votes> votes = session.createQuery(
-                "SELECT v FROM Votes v WHERE v.postId = :postId", Votes.class)
-                .setParameter("postId", postId)
-                .getResultList();
-            for (Votes v : votes) {
-                session.remove(v);
-            }
-            session.getTransaction().commit();
+            hotRanking.remove(postIds);
+            postIndex.remove(postIds);
+            for (String postId : postIds) {
+                versions.postChanged(postId);
+            }
+            if (post.getParentId() == null) {
+                versions.feedChanged();
+            } else {
+                versions.repliesChanged();
+            }
+            Log.info("deleteThread: Deleted " + postIds.size() + " posts.");
+            wal.sync();
+            return true;
         } catch (Exception e) {
-            Log.warning("Failed to delete votes for postId: " + postId + " - " + e.getMessage());
-        }
-    
-        Post toDelete = hibernate.get(Post.class, postId);
-        if (toDelete != null) {
-            hibernate.delete(toDelete);
+            Log.warning("Failed to delete post: " + post.getPostId() + " - " + e.getMessage());
+            return false;
         }
     }
     
@@ -409,226 +895,328 @@ public class JavaContent implements Content {
     @Override
     public Result<Void> upVotePost(String postId, String userId, String userPassword) {
         Log.info("upVotePost called with postId: " + postId + " and userId: " + userId);
-    
-        if (postId == null || userId == null || userPassword == null) {
-            Log.info("upVotePost: Invalid input.");
-            return Result.error(ErrorCode.BAD_REQUEST);
-        }
-    
-        try (Session session = Hibernate.getInstance().sessionFactory.openSession()) {
-    
-            session.beginTransaction();
-    
-            Post post = session.get(Post.class, postId);
-            if (post == null) {
-                Log.info("upVotePost: Post not found.");
-                return Result.error(ErrorCode.NOT_FOUND);
-            }
-    
-            User user = getUser(userId);
-            if (user == null) {
-                Log.info("upVotePost: User not found.");
-                return Result.error(ErrorCode.NOT_FOUND);
-            }
-    
-            if (!user.getPassword().equals(userPassword)) {
-                Log.info("upVotePost: Invalid password.");
-                return Result.error(ErrorCode.FORBIDDEN);
-            }
-    
-            TypedQuery<Votes> query = session.createQuery(
-                "SELECT v FROM Votes v WHERE v.postId = :postId AND v.userId = :userId",
-                Votes.class
-            );
-            query.setParameter("postId", postId);
-            query.setParameter("userId", userId);
-    
-            if (!query.getResultList().isEmpty()) {
-                Log.info("upVotePost: User already voted.");
-                return Result.error(ErrorCode.CONFLICT);
-            }
-    
-            Votes vote = new Votes(postId, userId, Votes.VOTE_UP);
-            session.persist(vote);
-            post.setUpVote(post.getUpVote() + 1);
-            session.getTransaction().commit();
-    
-            Log.info("upVotePost: Added upvote to post with ID " + postId);
-            return Result.ok();
-    
-        } catch (PersistenceException e) {
-            Log.severe("Error in upVotePost: " + e.getMessage());
-            return Result.error(ErrorCode.INTERNAL_ERROR);
-        } catch (Exception e) {
-            Log.severe("Unexpected error in upVotePost: " + e.getMessage());
-            return Result.error(ErrorCode.INTERNAL_ERROR);
-        }
+        return addVote("upVotePost", postId, userId, userPassword, Votes.VOTE_UP);
     }
-    
 
     @Override
     public Result<Void> removeUpVotePost(String postId, String userId, String userPassword) {
         Log.info("removeUpVotePost called with postId: " + postId + " and userId: " + userId);
+        return removeVote("removeUpVotePost", postId, userId, userPassword, Votes.VOTE_UP);
+    }
+
+    @Override
+    public Result<Void> downVotePost(String postId, String userId, String userPassword) {
+        Log.info("downVotePost called with postId: " + postId + " and userId: " + userId);
+        return addVote("downVotePost", postId, userId, userPassword, Votes.VOTE_DOWN);
+    }
+
+    @Override
+    public Result<Void> removeDownVotePost(String postId, String userId, String userPassword) {
+        Log.info("removeDownVotePost called with postId: " + postId + " and userId: " + userId);
+        return removeVote("removeDownVotePost", postId, userId, userPassword, Votes.VOTE_DOWN);
+    }
+
+    /**
+     * Checks the post and the user of a vote operation.
+     *
+     * @return the post, or the error of the operation
+     */
+    private Result<Post> checkVote(String op, String postId, String userId, String userPassword) {
+        if (postId == null || userId == null || userPassword == null) {
+            Log.info(op + ": Invalid input.");
+            return Result.error(ErrorCode.BAD_REQUEST);
+        }
 
-        Post post = hibernate.get(Post.class, postId);
+        Post post = postCache.get(postId);
         if (post == null) {
-            Log.info("removeUpVotePost: Post not found.");
+            Log.info(op + ": Post not found.");
             return Result.error(ErrorCode.NOT_FOUND);
         }
-        User user = hibernate.get(User.class, userId);
+
+        User user = getUser(userId);
         if (user == null) {
-            Log.info("removeUpVotePost: User not found.");
+            Log.info(op + ": User not found.");
             return Result.error(ErrorCode.NOT_FOUND);
         }
+
         if (!user.getPassword().equals(userPassword)) {
-            Log.info("removeUpVotePost: Invalid password.");
+            Log.info(op + ": Invalid password.");
             return Result.error(ErrorCode.FORBIDDEN);
         }
-        TypedQuery<Votes> query = hibernate.jpql2(
-                "SELECT v FROM Votes v WHERE v.postId = :postId AND v.userId = :userId",
-                Votes.class);
-        query.setParameter("postId", postId);
-        query.setParameter("userId", userId);
-        Votes userVote = query.getSingleResult();
-        if (userVote.getUserId().equals(userId)) {
-            if (userVote.getVoteType() != Votes.VOTE_UP) {
-                Log.info("removeUpVotePost: User did not cast an upvote.");
+        return Result.ok(post);
+    }
+
+    private Result<Void> addVote(String op, String postId, String userId, String userPassword, String voteType) {
+        if (readOnly(op)) {
+            return Result.error(ErrorCode.NOT_IMPLEMENTED);
+        }
+        Result<Post> post = checkVote(op, postId, userId, userPassword);
+        if (!post.isOK()) {
+            return Result.error(post.error());
+        }
+
+        // A second vote of the user on the post violates the primary key (postId, userId).
+        try {
+            inLoggedTransaction(session -> {
+                session.persist(new Votes(postId, userId, voteType));
+                session.flush();
+                wal.append(WriteAheadLog.Entry.voted(postId, userId, voteType));
+            });
+        } catch (Exception e) {
+            if (isConstraintViolation(e)) {
+                Log.info(op + ": User already voted.");
                 return Result.error(ErrorCode.CONFLICT);
             }
+            Log.severe("Error in " + op + ": " + e.getMessage());
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        }
+
+        addVotes(post.value(), voteType, 1);
+        votesChanged(post.value());
+        wal.sync();
+        Log.info(op + ": Added vote to post with ID " + postId);
+        return Result.ok();
+    }
+
+    private Result<Void> removeVote(String op, String postId, String userId, String userPassword, String voteType) {
+        if (readOnly(op)) {
+            return Result.error(ErrorCode.NOT_IMPLEMENTED);
         }
+        Result<Post> post = checkVote(op, postId, userId, userPassword);
+        if (!post.isOK()) {
+            return Result.error(post.error());
+        }
+
         try {
-            hibernate.delete(userVote);
-            post.setUpVote(post.getUpVote() - 1);
-            updatePost(postId, userPassword, post);
-            Log.info("removeUpVotePost: Removed upvote from post with ID " + postId);
-            return Result.ok();
-        } catch (NoResultException e) {
-            Log.info("removeUpVotePost: User did not vote.");
-            return Result.error(ErrorCode.CONFLICT);
+            int removed = fromLoggedTransaction(session -> {
+                int n = session.createMutationQuery(
+                    "DELETE FROM Votes v WHERE v.postId = :postId AND v.userId = :userId AND v.voteType = :voteType")
+                    .setParameter("postId", postId)
+                    .setParameter("userId", userId)
+                    .setParameter("voteType", voteType)
+                    .executeUpdate();
+                if (n > 0) {
+                    wal.append(WriteAheadLog.Entry.unvoted(postId, userId, voteType));
+                }
+                return n;
+            });
+            if (removed == 0) {
+                Log.info(op + ": User did not cast this vote.");
+                return Result.error(ErrorCode.CONFLICT);
+            }
         } catch (Exception e) {
-            e.printStackTrace();
-            Log.info("removeUpVotePost: Failed to remove upvote.");
-            return Result.error(ErrorCode.BAD_REQUEST);
+            Log.severe("Error in " + op + ": " + e.getMessage());
+            return Result.error(ErrorCode.INTERNAL_ERROR);
         }
+
+        addVotes(post.value(), voteType, -1);
+        votesChanged(post.value());
+        wal.sync();
+        Log.info(op + ": Removed vote from post with ID " + postId);
+        return Result.ok();
     }
 
     @Override
-    public Result<Void> downVotePost(String postId, String userId, String userPassword) {
-        Log.info("downVotePost called with postId: " + postId + " and userId: " + userId);
-    
-        if (postId == null || userId == null || userPassword == null) {
-            Log.info("downVotePost: Invalid input.");
+    public Result<List<ErrorCode>> castVotes(List<VoteOp> votes) {
+        Log.info("castVotes called with " + (votes == null ? 0 : votes.size()) + " votes");
+        if (readOnly("castVotes")) {
+            return Result.error(ErrorCode.NOT_IMPLEMENTED);
+        }
+
+        if (votes == null || votes.size() > MAX_VOTES_BATCH) {
+            Log.info("castVotes: Invalid votes.");
             return Result.error(ErrorCode.BAD_REQUEST);
         }
-    
-        try (Session session = Hibernate.getInstance().sessionFactory.openSession()) {
-    
-            session.beginTransaction();
-    
-            Post post = session.get(Post.class, postId);
-            if (post == null) {
-                Log.info("downVotePost: Post not found.");
-                return Result.error(ErrorCode.NOT_FOUND);
+
+        // The outcome of each vote, null while it is still to be decided.
+        ErrorCode[] outcomes = new ErrorCode[votes.size()];
+        Set<String> postIds = new HashSet<>();
+        Map<String, User> users = new HashMap<>();
+        for (int i = 0; i < votes.size(); i++) {
+            VoteOp vote = votes.get(i);
+            if (vote == null || vote.getPostId() == null || vote.getUserId() == null || vote.getPassword() == null
+                    || !(Votes.VOTE_UP.equals(vote.getVoteType()) || Votes.VOTE_DOWN.equals(vote.getVoteType()))) {
+                outcomes[i] = ErrorCode.BAD_REQUEST;
+                continue;
             }
-    
-            User user = getUser(userId);
-            if (user == null) {
-                Log.info("downVotePost: User not found.");
-                return Result.error(ErrorCode.NOT_FOUND);
+            postIds.add(vote.getPostId());
+            // Each distinct user is looked up once, a user that does not exist is kept as null.
+            if (!users.containsKey(vote.getUserId())) {
+                users.put(vote.getUserId(), getUser(vote.getUserId()));
             }
-    
-            if (!user.getPassword().equals(userPassword)) {
-                Log.info("downVotePost: Invalid password.");
-                return Result.error(ErrorCode.FORBIDDEN);
-            }
-            
-            TypedQuery<Votes> query = session.createQuery(
-                "SELECT v FROM Votes v WHERE v.postId = :postId AND v.userId = :userId",
-                Votes.class
-            );
-            query.setParameter("postId", postId);
-            query.setParameter("userId", userId);
-    
-            if (!query.getResultList().isEmpty()) {
-                Log.info("downVotePost: User already voted.");
-                return Result.error(ErrorCode.CONFLICT);
+        }
+
+        Map<String, Post> posts = new HashMap<>();
+        try {
+            if (!postIds.isEmpty()) {
+                for (Post p : hibernate.jpql("SELECT p FROM Post p WHERE p.postId IN :postIds", Post.class,
+                        Map.of("postIds", postIds), 0)) {
+                    posts.put(p.getPostId(), p);
+                }
             }
-    
-            Votes vote = new Votes(postId, userId, Votes.VOTE_DOWN);
-            session.persist(vote);
-            post.setDownVote(post.getDownVote() + 1);
-            session.getTransaction().commit();    
-            Log.info("downVotePost: Added downvote to post with ID " + postId);
-            return Result.ok();
-    
-        } catch (PersistenceException e) {
-            Log.severe("Error in downVotePost: " + e.getMessage());
-            return Result.error(ErrorCode.INTERNAL_ERROR);
         } catch (Exception e) {
-            Log.severe("Unexpected error in downVotePost: " + e.getMessage());
+            Log.severe("Error retrieving voted posts: " + e.getMessage());
             return Result.error(ErrorCode.INTERNAL_ERROR);
         }
-    }
-    
-    
 
-    @Override
-    public Result<Void> removeDownVotePost(String postId, String userId, String userPassword) {
-        Log.info("removeDownVotePost called with postId: " + postId + " and userId: " + userId);
+        for (int i = 0; i < votes.size(); i++) {
+            if (outcomes[i] != null) {
+                continue;
+            }
+            VoteOp vote = votes.get(i);
+            User user = users.get(vote.getUserId());
+            if (!posts.containsKey(vote.getPostId()) || user == null) {
+                outcomes[i] = ErrorCode.NOT_FOUND;
+            } else if (!user.getPassword().equals(vote.getPassword())) {
+                outcomes[i] = ErrorCode.FORBIDDEN;
+            }
+        }
 
-        Post post = hibernate.get(Post.class, postId);
-        if (post == null) {
-            Log.info("removeDownVotePost: Post not found.");
-            return Result.error(ErrorCode.NOT_FOUND);
+        try {
+            outcomes = storeVotes(votes, outcomes);
+        } catch (Exception e) {
+            Log.severe("Error in castVotes: " + e.getMessage());
+            return Result.error(ErrorCode.INTERNAL_ERROR);
         }
-        User user = hibernate.get(User.class, userId);
-        if (user == null) {
-            Log.info("removeDownVotePost: User not found.");
-            return Result.error(ErrorCode.NOT_FOUND);
+
+        Set<String> voted = new HashSet<>();
+        for (int i = 0; i < votes.size(); i++) {
+            if (outcomes[i] == ErrorCode.OK) {
+                VoteOp vote = votes.get(i);
+                addVotes(posts.get(vote.getPostId()), vote.getVoteType(), 1);
+                voted.add(vote.getPostId());
+            }
         }
-        if (!user.getPassword().equals(userPassword)) {
-            Log.info("removeDownVotePost: Invalid password.");
-            return Result.error(ErrorCode.FORBIDDEN);
+        for (String postId : voted) {
+            votesChanged(posts.get(postId));
         }
-        TypedQuery<Votes> query = hibernate.jpql2(
-                "SELECT v FROM Votes v WHERE v.postId = :postId AND v.userId = :userId",
-                Votes.class);
-        query.setParameter("postId", postId);
-        query.setParameter("userId", userId);
-        Votes userVote = query.getSingleResult();
-        if (userVote.getUserId().equals(userId)) {
-            if (userVote.getVoteType() != Votes.VOTE_DOWN) {
-                Log.info("removeDownVotePost: User did not cast a downvote.");
-                return Result.error(ErrorCode.CONFLICT);
+        wal.sync();
+        Log.info("castVotes: Cast " + voted.size() + " votes.");
+        return Result.ok(Arrays.asList(outcomes));
+    }
+
+    /**
+     * Stores, in one transaction, the votes that passed the checks, except those of users
+     * that already voted on the post (in the batch or before), which are conflicts.
+     * A vote stored concurrently by another operation makes the transaction fail on the
+     * primary key, in which case it is retried.
+     *
+     * @return the outcomes of all the votes
+     */
+    private ErrorCode[] storeVotes(List<VoteOp> votes, ErrorCode[] checked) {
+        for (int attempt = 1; ; attempt++) {
+            ErrorCode[] outcomes = checked.clone();
+            Set<String> postIds = new HashSet<>(), userIds = new HashSet<>();
+            for (int i = 0; i < votes.size(); i++) {
+                if (outcomes[i] == null) {
+                    postIds.add(votes.get(i).getPostId());
+                    userIds.add(votes.get(i).getUserId());
+                }
+            }
+            if (postIds.isEmpty()) {
+                return outcomes;
+            }
+
+            try {
+                inLoggedTransaction(session -> {
+                    List<WriteAheadLog.Entry> stored = new ArrayList<>();
+                    Set<Votes.Key> taken = new HashSet<>();
+                    for (Object[] v : session.createQuery(
+                            "SELECT v.postId, v.userId FROM Votes v WHERE v.postId IN :postIds AND v.userId IN :userIds",
+                            Object[].class)
+                            .setParameter("postIds", postIds)
+                            .setParameter("userIds", userIds)
+                            .getResultList()) {
+                        taken.add(new Votes.Key((String) v[0], (String) v[1]));
+                    }
+
+                    for (int i = 0; i < votes.size(); i++) {
+                        if (outcomes[i] != null) {
+                            continue;
+                        }
+                        VoteOp vote = votes.get(i);
+                        if (!taken.add(new Votes.Key(vote.getPostId(), vote.getUserId()))) {
+                            outcomes[i] = ErrorCode.CONFLICT;
+                        } else {
+                            session.persist(new Votes(vote.getPostId(), vote.getUserId(), vote.getVoteType()));
+                            stored.add(WriteAheadLog.Entry.voted(vote.getPostId(), vote.getUserId(), vote.getVoteType()));
+                            outcomes[i] = ErrorCode.OK;
+                        }
+                    }
+                    session.flush();
+                    wal.append(stored);
+                });
+                return outcomes;
+            } catch (RuntimeException e) {
+                if (!isConstraintViolation(e) || attempt == STORE_VOTES_ATTEMPTS) {
+                    throw e;
+                }
+                Log.info("storeVotes: Concurrent vote, retrying.");
             }
         }
+    }
+
+    private void addVotes(Post post, String voteType, int votes) {
+        if (voteType.equals(Votes.VOTE_UP)) {
+            voteCounters.addUpVotes(post, votes);
+        } else {
+            voteCounters.addDownVotes(post, votes);
+        }
+    }
+
+    private void votesChanged(Post post) {
+        changeLog.postChanged(post.getPostId());
+        hotRanking.update(post);
+        versions.votesChanged(post.getPostId());
+        postEvents.publish(new PostEvent(PostEvent.VOTES, post.getPostId(), post.getParentId(),
+                voteCounters.upVotes(post.getPostId()), voteCounters.downVotes(post.getPostId())));
+    }
+
+    private static boolean isConstraintViolation(Throwable e) {
+        for (; e != null; e = e.getCause()) {
+            if (e instanceof ConstraintViolationException)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Runs a write in a transaction, after which the entries it handed to the log are
+     * written, if it committed, or dropped.
+     */
+    private <R> R fromLoggedTransaction(Function<Session, R> write) {
+        boolean committed = false;
         try {
-            hibernate.delete(userVote);
-            post.setDownVote(post.getDownVote() - 1);
-            updatePost(postId, userPassword, post);
-            Log.info("removeDownVotePost: Removed downvote from post with ID " + postId);
-            return Result.ok();
-        } catch (NoResultException e) {
-            Log.info("removeDownVotePost: User did not vote.");
-            return Result.error(ErrorCode.CONFLICT);
-        } catch (Exception e) {
-            e.printStackTrace();
-            Log.info("removeDownVotePost: Failed to remove downvote.");
-            return Result.error(ErrorCode.BAD_REQUEST);
+            R result = hibernate.sessionFactory.fromTransaction(write);
+            committed = true;
+            return result;
+        } finally {
+            wal.completed(committed);
         }
     }
 
+    private void inLoggedTransaction(Consumer<Session> write) {
+        fromLoggedTransaction(session -> {
+            write.accept(session);
+            return null;
+        });
+    }
+
     @Override
     public Result<Integer> getUpVotes(String postId) {
         Log.info("getupVotes called with postId: " + postId);
 
-        Post post = hibernate.get(Post.class, postId);
+        int counted = voteCounters.upVotes(postId);
+        if (counted >= 0) {
+            return Result.ok(counted);
+        }
+        Post post = postCache.get(postId);
         if (post == null) {
             Log.info("getupVotes: Post not found.");
             return Result.error(ErrorCode.NOT_FOUND);
         }
         try {
-            int upVotes = post.getUpVote();
+            int upVotes = voteCounters.overlay(post).getUpVote();
             Log.info("getupVotes: Retrieved upvotes for post with ID " + postId);
             return Result.ok(upVotes);
         } catch (Exception e) {
@@ -642,13 +1230,17 @@ public class JavaContent implements Content {
     public Result<Integer> getDownVotes(String postId) {
         Log.info("getDownVotes called with postId: " + postId);
 
-        Post post = hibernate.get(Post.class, postId);
+        int counted = voteCounters.downVotes(postId);
+        if (counted >= 0) {
+            return Result.ok(counted);
+        }
+        Post post = postCache.get(postId);
         if (post == null) {
             Log.info("getDownVotes: Post not found.");
             return Result.error(ErrorCode.NOT_FOUND);
         }
         try {
-            int downVotes = post.getDownVote();
+            int downVotes = voteCounters.overlay(post).getDownVote();
             Log.info("getDownVotes: Retrieved downvotes for post with ID " + postId);
             return Result.ok(downVotes);
         } catch (Exception e) {
@@ -661,40 +1253,38 @@ public class JavaContent implements Content {
     @Override
     public Result<Void> deleteVotesFromUser(String userId) {
         Log.info("deleteVotesFromUser called with userId: " + userId);
+        if (readOnly("deleteVotesFromUser")) {
+            return Result.error(ErrorCode.NOT_IMPLEMENTED);
+        }
     
         if (userId == null || userId.trim().isEmpty()) {
             Log.warning("deleteVotesFromUser: Invalid userId provided");
             return Result.error(ErrorCode.BAD_REQUEST);
         }
+        userCache.invalidate(userId);
     
-        try (Session session = Hibernate.getInstance().sessionFactory.openSession()) {
-            List<Votes> votes = session.createQuery(
-                    "FROM Votes v WHERE v.userId = :userId", Votes.class
-                )
-                .setParameter("userId", userId)
-                .getResultList();
-    
-            if (votes.isEmpty()) {
-                Log.info("deleteVotesFromUser: No votes found for user with ID " + userId);
-                return Result.ok();
-            }
-    
-            session.beginTransaction();
-    
-            for (Votes vote : votes) {
-                session.remove(vote);
-            }
-
-            for (Votes vote : votes) {
-                Post post = session.get(Post.class, vote.getPostId());
-                if (vote.getVoteType().equals(Votes.VOTE_UP)) {
-                    post.setUpVote(post.getUpVote() - 1);
-                } else if (vote.getVoteType().equals(Votes.VOTE_DOWN)) {
-                    post.setDownVote(post.getDownVote() - 1);
+        try {
+            // Each row is a voted post and the type of the vote, a user has at most one vote per post.
+            List<Object[]> votes = fromLoggedTransaction(session -> {
+                List<Object[]> voted = session.createQuery(
+                    "SELECT p, v.voteType FROM Votes v JOIN Post p ON p.postId = v.postId WHERE v.userId = :userId",
+                    Object[].class)
+                    .setParameter("userId", userId)
+                    .getResultList();
+                session.createMutationQuery("DELETE FROM Votes v WHERE v.userId = :userId")
+                    .setParameter("userId", userId)
+                    .executeUpdate();
+                if (!voted.isEmpty()) {
+                    wal.append(WriteAheadLog.Entry.unvotedAll(userId));
                 }
+                return voted;
+            });
+
+            for (Object[] vote : votes) {
+                addVotes((Post) vote[0], (String) vote[1], -1);
+                votesChanged((Post) vote[0]);
             }
-    
-            session.getTransaction().commit();
+            wal.sync();
     
             Log.info("deleteVotesFromUser: Deleted " + votes.size() + " votes for user with ID " + userId);
             return Result.ok();
@@ -712,44 +1302,363 @@ public class JavaContent implements Content {
 
     @Override
     public Result<Void> nullifyPostAuthors(String userId) {
+        if (readOnly("nullifyPostAuthors")) {
+            return Result.error(ErrorCode.NOT_IMPLEMENTED);
+        }
 
-    if (userId == null || userId.trim().isEmpty()) {
-        return Result.error(ErrorCode.BAD_REQUEST);
-    }
+        if (userId == null || userId.trim().isEmpty()) {
+            return Result.error(ErrorCode.BAD_REQUEST);
+        }
+        userCache.invalidate(userId);
 
-    try (Session session = Hibernate.getInstance().sessionFactory.openSession()) {
-        List<Post> posts = session.createQuery(
-                "FROM Post p WHERE p.authorId = :userId", Post.class
-            )
-            .setParameter("userId", userId)
-            .getResultList();
+        try {
+            int nullified = fromLoggedTransaction(session -> {
+                int n = session.createMutationQuery(
+                    "UPDATE Post p SET p.authorId = NULL WHERE p.authorId = :userId")
+                    .setParameter("userId", userId)
+                    .executeUpdate();
+                if (n > 0) {
+                    wal.append(WriteAheadLog.Entry.nullified(userId));
+                }
+                return n;
+            });
+            if (nullified > 0) {
+                postCache.invalidateAll();
+                versions.allPostsChanged();
+                changeLog.authorNullified(userId);
+            }
+            wal.sync();
 
-        if (posts.isEmpty()) {
-            Log.info("nullifyPostAuthors: No posts found for user with ID " + userId);
+            Log.info("nullifyPostAuthors: Nullified authorId for " + nullified + " posts by user with ID " + userId);
             return Result.ok();
+
+        } catch (PersistenceException e) {
+            Log.severe("Persistence error in nullifyPostAuthors: " + e.getMessage());
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        } catch (Exception e) {
+            Log.severe("Unexpected error in nullifyPostAuthors");
+            e.printStackTrace();
+            return Result.error(ErrorCode.INTERNAL_ERROR);
         }
+    }
 
-        session.beginTransaction();
+    /**
+     * @return the current version of the post, which changes whenever its representation does
+     */
+    public String postVersion(String postId) {
+        return versions.postVersion(postId);
+    }
 
-        for (Post post : posts) {
-            post.setAuthorId(null);
-        }
+    /**
+     * @return the current version of the results of getPosts in the given order, for any timestamp
+     */
+    public String feedVersion(String sortOrder) {
+        return versions.feedVersion(sortOrder);
+    }
 
-        session.getTransaction().commit();
+    @Override
+    public Result<Void> invalidateUser(String userId) {
+        Log.info("invalidateUser called with userId: " + userId);
 
-        Log.info("nullifyPostAuthors: Nullified authorId for " + posts.size() + " posts by user with ID " + userId);
+        if (userId == null || userId.trim().isEmpty()) {
+            return Result.error(ErrorCode.BAD_REQUEST);
+        }
+        userCache.invalidate(userId);
         return Result.ok();
+    }
 
-    } catch (PersistenceException e) {
-        Log.severe("Persistence error in nullifyPostAuthors: " + e.getMessage());
-        return Result.error(ErrorCode.INTERNAL_ERROR);
-    } catch (Exception e) {
-        Log.severe("Unexpected error in nullifyPostAuthors");
-        e.printStackTrace();
-        return Result.error(ErrorCode.INTERNAL_ERROR);
+    @Override
+    public Result<ContentChanges> getChanges(String epoch, long since, long timeout) {
+        Log.info("getChanges called with epoch: " + epoch + " and since: " + since);
+        // Replicas do not log the changes they apply, so they cannot be followed.
+        if (readOnly("getChanges")) {
+            return Result.error(ErrorCode.NOT_IMPLEMENTED);
+        }
+        try {
+            return Result.ok(changeLog.changesSince(epoch, since, timeout));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        } catch (Exception e) {
+            Log.severe("Error retrieving changes: " + e.getMessage());
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        }
     }
-}
 
-    
+    /**
+     * Writes are only taken by the primary, from which the read replicas get them.
+     */
+    private boolean readOnly(String op) {
+        if (replica.isReplica()) {
+            Log.info(op + ": Refused by a read replica.");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Applies changes fetched from the primary to the posts of this server, when it is a
+     * read replica, with the same effects on the caches and the subscribers as the writes
+     * that made them in the primary.
+     */
+    public void applyChanges(ContentChanges changes) {
+        if (changes.isSnapshot()) {
+            hibernate.sessionFactory.inTransaction(session -> {
+                session.createMutationQuery("DELETE FROM Post p").executeUpdate();
+                for (ContentChange change : changes.getChanges()) {
+                    session.persist(postOf(change));
+                }
+            });
+            voteCounters.clear();
+            postCache.invalidateAll();
+            hotRanking.invalidate();
+            postIndex.invalidate();
+            versions.allPostsChanged();
+            versions.feedChanged();
+            versions.repliesChanged();
+            Log.info("applyChanges: Replaced the posts with a snapshot of " + changes.getChanges().size() + " posts.");
+            return;
+        }
+
+        for (ContentChange change : changes.getChanges()) {
+            switch (change.getType()) {
+                case ContentChange.PUT_POST -> applyPutPost(postOf(change));
+                case ContentChange.DELETE_POSTS -> applyDeletePosts(change.getPostIds());
+                case ContentChange.NULLIFY_AUTHOR -> applyNullifyAuthor(change.getUserId());
+                default -> Log.warning("applyChanges: Unknown change " + change);
+            }
+        }
+    }
+
+    private static Post postOf(ContentChange change) {
+        Post post = change.getPost();
+        post.setParentId(change.getParentId());
+        post.setReplyCount(change.getReplyCount());
+        return post;
+    }
+
+    private void applyPutPost(Post post) {
+        String postId = post.getPostId();
+        Post previous = hibernate.sessionFactory.fromTransaction(session -> {
+            Post existing = session.get(Post.class, postId);
+            Post before = existing == null ? null : new Post(existing);
+            session.merge(post);
+            return before;
+        });
+        // The votes of the primary replace those counted here.
+        voteCounters.remove(List.of(postId));
+        postCache.invalidate(postId);
+        hotRanking.update(post);
+
+        if (previous == null) {
+            postIndex.update(postId, post.getContent());
+            if (post.getParentId() == null) {
+                versions.feedChanged();
+            } else {
+                replyWaiters.signal(post.getParentId());
+                versions.repliesChanged();
+            }
+            postEvents.publish(new PostEvent(post.getParentId() == null ? PostEvent.NEW_POST : PostEvent.NEW_REPLY,
+                    postId, post.getParentId(), post.getUpVote(), post.getDownVote()));
+            return;
+        }
+        if (!Objects.equals(previous.getContent(), post.getContent())) {
+            postIndex.update(postId, post.getContent());
+        }
+        if (previous.getReplyCount() != post.getReplyCount()) {
+            versions.repliesChanged();
+        }
+        if (previous.getUpVote() != post.getUpVote() || previous.getDownVote() != post.getDownVote()) {
+            versions.votesChanged(postId);
+            postEvents.publish(new PostEvent(PostEvent.VOTES, postId, post.getParentId(), post.getUpVote(),
+                    post.getDownVote()));
+        } else {
+            versions.postChanged(postId);
+        }
+    }
+
+    private void applyDeletePosts(List<String> postIds) {
+        hibernate.sessionFactory.inTransaction(session -> session.createMutationQuery(
+                "DELETE FROM Post p WHERE p.postId IN :postIds")
+                .setParameter("postIds", postIds)
+                .executeUpdate());
+        voteCounters.remove(postIds);
+        postCache.invalidate(postIds);
+        hotRanking.remove(postIds);
+        postIndex.remove(postIds);
+        for (String postId : postIds) {
+            versions.postChanged(postId);
+        }
+        versions.feedChanged();
+        versions.repliesChanged();
+    }
+
+    private void applyNullifyAuthor(String userId) {
+        hibernate.sessionFactory.inTransaction(session -> session.createMutationQuery(
+                "UPDATE Post p SET p.authorId = NULL WHERE p.authorId = :userId")
+                .setParameter("userId", userId)
+                .executeUpdate());
+        postCache.invalidateAll();
+        versions.allPostsChanged();
+    }
+
+    /**
+     * Rebuilds the posts from the write-ahead log, on startup and before any request is
+     * served, and then compacts the log to the entries that create the posts and votes
+     * left, if those are fewer.
+     *
+     * The log is then the only record the writes are durable by, so the database does not
+     * keep its own: as it is recreated empty on every start, that would only add to the
+     * cost of each commit.
+     */
+    public void recover() throws IOException {
+        hibernate.sessionFactory.inTransaction(session -> session.createNativeMutationQuery(
+                "SET FILES LOG FALSE").executeUpdate());
+        long replayed = wal.replay(entries -> hibernate.sessionFactory.inTransaction(session -> {
+            for (WriteAheadLog.Entry e : entries) {
+                redo(session, e);
+            }
+        }));
+        if (replayed == 0) {
+            return;
+        }
+        voteCounters.clear();
+        postCache.invalidateAll();
+        hotRanking.invalidate();
+        postIndex.invalidate();
+
+        List<WriteAheadLog.Entry> entries = snapshot();
+        if (entries.size() < replayed) {
+            wal.compact(entries);
+        }
+    }
+
+    /**
+     * Redoes a logged write, with the effects it had on the database. The votes go straight
+     * to the Post table, as there are no vote counters yet.
+     *
+     * Bulk deletes leave the deleted entities in the session, which is cleared after them so
+     * that the same posts or votes can be created again in the same batch.
+     */
+    private static void redo(Session session, WriteAheadLog.Entry e) {
+        switch (e.type()) {
+            case WriteAheadLog.Entry.CREATE -> {
+                Post post = e.post();
+                post.setUpVote(0);
+                post.setDownVote(0);
+                post.setReplyCount(0);
+                session.persist(post);
+                if (post.getParentId() != null) {
+                    session.createMutationQuery(
+                        "UPDATE Post p SET p.replyCount = p.replyCount + 1 WHERE p.postId = :parentId")
+                        .setParameter("parentId", post.getParentId())
+                        .executeUpdate();
+                }
+            }
+            case WriteAheadLog.Entry.UPDATE -> session.createMutationQuery(
+                    "UPDATE Post p SET p.content = :content, p.mediaUrl = :mediaUrl WHERE p.postId = :postId")
+                    .setParameter("content", e.post().getContent())
+                    .setParameter("mediaUrl", e.post().getMediaUrl())
+                    .setParameter("postId", e.postId())
+                    .executeUpdate();
+            case WriteAheadLog.Entry.DELETE -> {
+                session.flush();
+                List<Post> found = session.createQuery("SELECT p FROM Post p WHERE p.postId = :postId", Post.class)
+                    .setParameter("postId", e.postId())
+                    .getResultList();
+                if (found.isEmpty()) {
+                    return;
+                }
+                List<String> ids = session.createNativeQuery(THREAD_CTE + " SELECT t.postId FROM thread t", String.class)
+                    .setParameter("postId", e.postId())
+                    .setParameter("maxDepth", Integer.MAX_VALUE)
+                    .getResultList();
+                session.createMutationQuery("DELETE FROM Votes v WHERE v.postId IN :postIds")
+                    .setParameter("postIds", ids)
+                    .executeUpdate();
+                session.createMutationQuery("DELETE FROM Post p WHERE p.postId IN :postIds")
+                    .setParameter("postIds", ids)
+                    .executeUpdate();
+                if (found.get(0).getParentId() != null) {
+                    session.createMutationQuery(
+                        "UPDATE Post p SET p.replyCount = p.replyCount - 1 WHERE p.postId = :parentId")
+                        .setParameter("parentId", found.get(0).getParentId())
+                        .executeUpdate();
+                }
+                session.clear();
+            }
+            case WriteAheadLog.Entry.VOTE -> {
+                session.persist(new Votes(e.postId(), e.userId(), e.voteType()));
+                countVotes(session, e.postId(), e.voteType(), 1);
+            }
+            case WriteAheadLog.Entry.UNVOTE -> {
+                session.flush();
+                int removed = session.createMutationQuery(
+                    "DELETE FROM Votes v WHERE v.postId = :postId AND v.userId = :userId AND v.voteType = :voteType")
+                    .setParameter("postId", e.postId())
+                    .setParameter("userId", e.userId())
+                    .setParameter("voteType", e.voteType())
+                    .executeUpdate();
+                if (removed > 0) {
+                    countVotes(session, e.postId(), e.voteType(), -1);
+                }
+                session.clear();
+            }
+            case WriteAheadLog.Entry.UNVOTE_ALL -> {
+                session.flush();
+                List<Object[]> voted = session.createQuery(
+                    "SELECT v.postId, v.voteType FROM Votes v WHERE v.userId = :userId", Object[].class)
+                    .setParameter("userId", e.userId())
+                    .getResultList();
+                session.createMutationQuery("DELETE FROM Votes v WHERE v.userId = :userId")
+                    .setParameter("userId", e.userId())
+                    .executeUpdate();
+                for (Object[] vote : voted) {
+                    countVotes(session, (String) vote[0], (String) vote[1], -1);
+                }
+                session.clear();
+            }
+            case WriteAheadLog.Entry.NULLIFY -> session.createMutationQuery(
+                    "UPDATE Post p SET p.authorId = NULL WHERE p.authorId = :userId")
+                    .setParameter("userId", e.userId())
+                    .executeUpdate();
+            default -> Log.warning("redo: Unknown log entry " + e);
+        }
+    }
+
+    private static void countVotes(Session session, String postId, String voteType, int votes) {
+        String field = voteType.equals(Votes.VOTE_UP) ? "upVote" : "downVote";
+        session.createMutationQuery("UPDATE Post p SET p." + field + " = p." + field + " + :votes WHERE p.postId = :postId")
+            .setParameter("votes", votes)
+            .setParameter("postId", postId)
+            .executeUpdate();
+    }
+
+    /**
+     * @return log entries that create the posts and votes stored now, each post after its parent
+     */
+    private List<WriteAheadLog.Entry> snapshot() {
+        List<Post> roots = new ArrayList<>();
+        Map<String, List<Post>> replies = new HashMap<>();
+        for (Post p : hibernate.jpql("SELECT p FROM Post p ORDER BY p.creationTimestamp", Post.class)) {
+            if (p.getParentId() == null) {
+                roots.add(p);
+            } else {
+                replies.computeIfAbsent(p.getParentId(), k -> new ArrayList<>()).add(p);
+            }
+        }
+
+        List<WriteAheadLog.Entry> entries = new ArrayList<>();
+        List<Post> next = roots;
+        for (int i = 0; i < next.size(); i++) {
+            Post p = next.get(i);
+            entries.add(WriteAheadLog.Entry.created(p));
+            next.addAll(replies.getOrDefault(p.getPostId(), List.of()));
+        }
+        for (Votes v : hibernate.jpql("SELECT v FROM Votes v", Votes.class)) {
+            entries.add(WriteAheadLog.Entry.voted(v.getPostId(), v.getUserId(), v.getVoteType()));
+        }
+        return entries;
+    }
 
 }
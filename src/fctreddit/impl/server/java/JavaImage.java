@@ -27,6 +27,7 @@ public class JavaImage implements Image {
     
     private Discovery discovery = Discovery.getInstance();
     private volatile UsersClient usersClient;
+    private UserCache userCache = UserCache.getInstance();
 
     public JavaImage() {
         File dir = new File(IMAGE_DIR);
@@ -68,11 +69,17 @@ public class JavaImage implements Image {
     }
 
     private User getUser(String userId) {
+        User cached = userCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
         if (!initializeUsersClient()) {
             Log.warning("Cannot retrieve user due to unavailable Users service");
             return null;
         }
 
+        long version = userCache.version();
         Result<User> result = usersClient.getUserAux(userId);
         if (result == null || !result.isOK()) {
             if (result != null && result.error() == ErrorCode.NOT_FOUND) {
@@ -82,6 +89,7 @@ public class JavaImage implements Image {
             }
             return null;
         }
+        userCache.put(result.value(), version);
         return result.value();
     }
 
@@ -181,4 +189,15 @@ public class JavaImage implements Image {
             return Result.error(ErrorCode.INTERNAL_ERROR);
         }
     }
+
+    @Override
+    public Result<Void> invalidateUser(String userId) {
+        Log.info("invalidateUser : " + userId);
+
+        if (userId == null || userId.trim().isEmpty()) {
+            return Result.error(ErrorCode.BAD_REQUEST);
+        }
+        userCache.invalidate(userId);
+        return Result.ok();
+    }
 }
\ No newline at end of file
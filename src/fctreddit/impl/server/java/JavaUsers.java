@@ -2,14 +2,21 @@ package fctreddit.impl.server.java;
 
 import java.util.logging.Logger;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import fctreddit.api.CacheStats;
 import fctreddit.api.User;
 import fctreddit.api.java.Users;
 import fctreddit.clients.grpc.GrpcContentClient;
 import fctreddit.clients.grpc.GrpcImagesClient;
 import fctreddit.clients.java.ContentClient;
 import fctreddit.clients.java.ImageClient;
+import fctreddit.clients.java.ShardedContentClient;
 import fctreddit.clients.rest.RestImagesClient;
 import fctreddit.clients.rest.RestPostsClient;
 import fctreddit.api.java.Result;
@@ -30,6 +37,15 @@ public class JavaUsers implements Users {
 
     private Hibernate hibernate;
 
+    private UserIndex userIndex = UserIndex.getInstance();
+
+    private StoredUserCache userCache = StoredUserCache.getInstance();
+
+    private static final int INVALIDATION_THREADS = 4;
+    private static final ExecutorService invalidations = Executors.newFixedThreadPool(INVALIDATION_THREADS);
+    private static final Map<String, ContentClient> contentClients = new ConcurrentHashMap<>();
+    private static final Map<String, ImageClient> imageClients = new ConcurrentHashMap<>();
+
     public JavaUsers() {
         hibernate = Hibernate.getInstance();
     }
@@ -68,20 +84,9 @@ public class JavaUsers implements Users {
             Log.warning("No known URIs for Content service found");
             return false;
         }
-        try {
-            URI contentUri = URI.create(contentServiceUris.get(0));
-            if (contentUri.getScheme().equals("http")) {
-                contentClient = new RestPostsClient(contentUri);
-            } else if (contentUri.getScheme().equals("grpc")) {
-                contentClient = new GrpcContentClient(contentUri);
-            } else {
-                throw new IllegalArgumentException("Unsupported URI scheme: " + contentUri.getScheme());
-            }
-            return true;
-        } catch (Exception e) {
-            Log.severe("Failed to initialize ContentClient: " + e.getMessage());
-            return false;
-        }
+        // The posts of a user may be in any of the Content servers, when they are sharded.
+        contentClient = new ShardedContentClient(() -> discovery.knownUrisOf("Content"), discovery::knownReplicasOf);
+        return true;
     }
 
 private void deleteImage(String imageId, String userId, String password) {
@@ -136,6 +141,39 @@ private void deleteImage(String imageId, String userId, String password) {
             Log.info("All posts by user " + userId + " were successfully nullified.");
         }
     }
+
+    /**
+     * Tells every known Content and Image server that the user changed, so that they drop
+     * their cached copy of it. Notifications are sent in the background, so an unreachable
+     * server does not delay the operation; its cached entry still expires on its own.
+     */
+    private void invalidateCachedUser(String userId) {
+        for (String uri : discovery.knownUrisOf("Content")) {
+            invalidations.execute(() -> {
+                ContentClient client = contentClients.computeIfAbsent(uri, u -> {
+                    URI contentUri = URI.create(u);
+                    return contentUri.getScheme().equals("grpc") ? new GrpcContentClient(contentUri) : new RestPostsClient(contentUri);
+                });
+                Result<Void> result = client.invalidateUser(userId);
+                if (!result.isOK()) {
+                    Log.warning("Failed to invalidate cached user " + userId + " at " + uri + ": " + result.error());
+                }
+            });
+        }
+        for (String uri : discovery.knownUrisOf("Image")) {
+            invalidations.execute(() -> {
+                ImageClient client = imageClients.computeIfAbsent(uri, u -> {
+                    URI imagesUri = URI.create(u);
+                    return imagesUri.getScheme().equals("grpc") ? new GrpcImagesClient(imagesUri) : new RestImagesClient(imagesUri);
+                });
+                Result<Void> result = client.invalidateUser(userId);
+                if (!result.isOK()) {
+                    Log.warning("Failed to invalidate cached user " + userId + " at " + uri + ": " + result.error());
+                }
+            });
+        }
+    }
+
     @Override
     public Result<String> createUser(User user) {
         Log.info("createUser : " + user);
@@ -156,6 +194,7 @@ private void deleteImage(String imageId, String userId, String password) {
 
         try {
             hibernate.persist(user);
+            userIndex.add(user.getUserId());
             Log.info("User persisted successfully: " + user.getUserId());
         } catch (Exception e) {
             Log.severe("Failed to persist user: " + e.getMessage());
@@ -178,7 +217,7 @@ private void deleteImage(String imageId, String userId, String password) {
 
         User user = null;
         try {
-            user = hibernate.get(User.class, userId);
+            user = userCache.get(userId);
         } catch (Exception e) {
             e.printStackTrace();
             return Result.error(ErrorCode.INTERNAL_ERROR);
@@ -243,6 +282,8 @@ private void deleteImage(String imageId, String userId, String password) {
             e.printStackTrace();
             return Result.error(ErrorCode.INTERNAL_ERROR);
         }
+        userCache.invalidate(userId);
+        invalidateCachedUser(userId);
 
         return Result.ok(existingUser);
     }
@@ -290,13 +331,36 @@ private void deleteImage(String imageId, String userId, String password) {
             e.printStackTrace();
             return Result.error(ErrorCode.INTERNAL_ERROR);
         }
+        userIndex.remove(userId);
+        userCache.invalidate(userId);
+        invalidateCachedUser(userId);
 
         return Result.ok(user);
     }
 
     @Override
-    public Result<List<User>> searchUsers(String pattern) {
-        Log.info("searchUsers : " + pattern);
+    public Result<List<User>> searchUsers(String pattern, int limit) {
+        Result<UserStream> res = streamUsers(pattern, limit);
+        if (!res.isOK()) {
+            return Result.error(res.error());
+        }
+
+        try (UserStream users = res.value()) {
+            List<User> found = new ArrayList<>();
+            users.forEachRemaining(found::add);
+            return Result.ok(found);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return Result.error(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    /**
+     * Same as searchUsers, but the users are read as they are consumed, so that any number
+     * of them can be sent with bounded memory. The stream must be closed.
+     */
+    public Result<UserStream> streamUsers(String pattern, int limit) {
+        Log.info("searchUsers : " + pattern + "; limit = " + limit);
 
         if (pattern == null || pattern.isEmpty()) {
             Log.info("Empty search pattern.");
@@ -304,14 +368,20 @@ private void deleteImage(String imageId, String userId, String password) {
         }
 
         try {
-            List<User> users = hibernate.jpql("SELECT u FROM User u WHERE u.userId LIKE '%" + pattern + "%'", User.class);
-            return Result.ok(users);
+            return Result.ok(new UserStream(userIndex.search(pattern, limit)));
         } catch (Exception e) {
             e.printStackTrace();
             return Result.error(ErrorCode.INTERNAL_ERROR);
         }
     }
 
+    /**
+     * @return the size and the hit ratio of the cache of the users read by getUser and getUserAux
+     */
+    public Result<CacheStats> getCacheStats() {
+        return Result.ok(userCache.stats());
+    }
+
     @Override
     public Result<User> getUserAux(String userId) {
         Log.info("getUser : user = " + userId);
@@ -323,7 +393,7 @@ private void deleteImage(String imageId, String userId, String password) {
 
         User user = null;
         try {
-            user = hibernate.get(User.class, userId);
+            user = userCache.get(userId);
         } catch (Exception e) {
             e.printStackTrace();
             return Result.error(ErrorCode.INTERNAL_ERROR);
@@ -334,6 +404,8 @@ private void deleteImage(String imageId, String userId, String password) {
             return Result.error(ErrorCode.NOT_FOUND);
         }
 
+        Log.info("getUserAux: Retrieved user " + userId + String.format(" (user cache size: %d, hit ratio: %.2f)",
+                userCache.size(), userCache.hitRatio()));
         return Result.ok(user);
     }
 }
\ No newline at end of file
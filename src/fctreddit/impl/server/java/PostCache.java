@@ -0,0 +1,26 @@
+package fctreddit.impl.server.java;
+
+import fctreddit.api.Post;
+import fctreddit.impl.server.persistence.Hibernate;
+
+/**
+ * Read-through cache of the posts read from the Post table. The operations that change
+ * a post row invalidate its entry after committing. The votes of a cached post are not
+ * kept up to date: they are overlaid from the vote counters, as for posts read from the table.
+ */
+public class PostCache extends ReadThroughCache<String, Post> {
+
+    private static final long MAX_POSTS = 10_000;
+
+    private static PostCache instance;
+
+    synchronized public static PostCache getInstance() {
+        if (instance == null)
+            instance = new PostCache();
+        return instance;
+    }
+
+    private PostCache() {
+        super(MAX_POSTS, postId -> Hibernate.getInstance().get(Post.class, postId), Post::new);
+    }
+}
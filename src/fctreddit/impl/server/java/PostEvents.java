@@ -0,0 +1,155 @@
+package fctreddit.impl.server.java;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import fctreddit.api.PostEvent;
+
+/**
+ * Fan-out of the post events to the subscribers of the Content service.
+ *
+ * Publishing never blocks: each subscriber has a bounded buffer, drained by a shared pool
+ * of threads that deliver its events one at a time, in order, while its sink is ready to
+ * take them. A subscriber that falls more than BUFFER_SIZE events behind is dropped, and
+ * told so, rather than slowing down the others or growing its buffer without bound.
+ */
+public class PostEvents {
+
+    private static final Logger Log = Logger.getLogger(PostEvents.class.getName());
+
+    private static final int BUFFER_SIZE = 1000;
+    private static final int DELIVERY_THREADS = 8;
+
+    private static PostEvents instance;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService delivery = Executors.newFixedThreadPool(DELIVERY_THREADS);
+
+    /**
+     * Where the events of a subscription are delivered. The methods of a sink are never
+     * called concurrently.
+     */
+    public interface Sink {
+
+        /**
+         * Delivers an event. Throwing cancels the subscription.
+         */
+        void send(PostEvent event) throws Exception;
+
+        /**
+         * @return whether the sink can take an event without buffering it. When it cannot,
+         *         the delivery pauses until the subscription is resumed.
+         */
+        default boolean isReady() {
+            return true;
+        }
+
+        /**
+         * Called, instead of any further send, when the subscription is dropped for
+         * falling behind.
+         */
+        void overflow();
+    }
+
+    public class Subscription {
+        private final String postId;
+        private final Sink sink;
+        private final BlockingQueue<PostEvent> buffer = new ArrayBlockingQueue<>(BUFFER_SIZE);
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private volatile boolean overflowed = false;
+        private volatile boolean cancelled = false;
+
+        private Subscription(String postId, Sink sink) {
+            this.postId = postId;
+            this.sink = sink;
+        }
+
+        private boolean wants(PostEvent event) {
+            return postId == null || postId.equals(event.getPostId()) || postId.equals(event.getParentId());
+        }
+
+        private void offer(PostEvent event) {
+            if (!buffer.offer(event)) {
+                overflowed = true;
+                subscriptions.remove(this);
+                Log.info("Dropped a subscriber that fell " + BUFFER_SIZE + " events behind.");
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (draining.compareAndSet(false, true))
+                delivery.execute(this::drain);
+        }
+
+        private void drain() {
+            try {
+                PostEvent event;
+                while (!cancelled && sink.isReady() && (event = buffer.poll()) != null)
+                    sink.send(event);
+                if (overflowed && !cancelled) {
+                    cancelled = true;
+                    sink.overflow();
+                }
+            } catch (Exception e) {
+                Log.info("Subscriber gone: " + e.getMessage());
+                cancel();
+            } finally {
+                draining.set(false);
+            }
+            // An event offered, the sink made ready or the buffer overflowed after the last
+            // check but before draining was cleared.
+            if (!cancelled && (overflowed || !buffer.isEmpty() && sink.isReady()))
+                schedule();
+        }
+
+        /**
+         * Resumes the delivery of events, once the sink is ready again.
+         */
+        public void resume() {
+            if (!cancelled)
+                schedule();
+        }
+
+        /**
+         * Stops the delivery of events, e.g., when the subscriber disconnects.
+         */
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+            buffer.clear();
+        }
+    }
+
+    synchronized public static PostEvents getInstance() {
+        if (instance == null)
+            instance = new PostEvents();
+        return instance;
+    }
+
+    private PostEvents() {
+    }
+
+    /**
+     * @param postId - when not null, only the events of the post and of its direct replies
+     *               are delivered
+     */
+    public Subscription subscribe(String postId, Sink sink) {
+        Subscription s = new Subscription(postId, sink);
+        subscriptions.add(s);
+        return s;
+    }
+
+    public void publish(PostEvent event) {
+        for (Subscription s : subscriptions) {
+            if (s.wants(event))
+                s.offer(event);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package fctreddit.impl.server.java;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import fctreddit.impl.server.persistence.Hibernate;
+
+/**
+ * In-memory inverted index of the content of the posts: for each term, the posts that
+ * contain it and how many times. It is built from the Post table on first use and then
+ * kept up to date by the operations that create, edit and delete posts.
+ *
+ * A search returns the posts that contain all the terms of the query, ranked by TF-IDF:
+ * terms that appear in fewer posts, and more times in a post, weigh more. As the scores
+ * change with every post indexed, a ranking is taken at a generation of the index, which
+ * is bumped by every change, and kept for a while, so that its pages can be fetched after
+ * the index changed. The rankings kept are bounded by their total number of hits, so a
+ * ranking too large to be kept can only be paged through while the index does not change.
+ */
+public class PostIndex {
+
+    private static final Logger Log = Logger.getLogger(PostIndex.class.getName());
+
+    private static final String TERM_SEPARATORS = "[^\\p{L}\\p{N}]+";
+    private static final long MAX_RANKED_HITS = 1_000_000; // of all the rankings kept
+    private static final long RANKING_TTL = 5; // minutes since last used
+
+    private static PostIndex instance;
+
+    public record Hit(String postId, double score) {
+    }
+
+    /**
+     * The hits of a query, best first, as of a generation of the index.
+     */
+    public record Ranking(long generation, List<Hit> hits) {
+    }
+
+    private static final Comparator<Hit> BEST_FIRST =
+            Comparator.comparingDouble(Hit::score).reversed().thenComparing(Hit::postId);
+
+    // term -> (postId -> occurrences of the term in the post)
+    private final Map<String, Map<String, Integer>> postings = new HashMap<>();
+    // postId -> the terms of the post, to take it out of their postings
+    private final Map<String, Collection<String>> terms = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean loaded = false;
+    private long generation = 0; // changed under the write lock
+
+    // "generation terms..." -> the ranking of the query at that generation
+    private final Cache<String, Ranking> rankings = CacheBuilder.newBuilder()
+            .maximumWeight(MAX_RANKED_HITS)
+            .weigher((String key, Ranking ranking) -> Math.max(1, ranking.hits().size()))
+            .expireAfterAccess(RANKING_TTL, TimeUnit.MINUTES)
+            .build();
+
+    synchronized public static PostIndex getInstance() {
+        if (instance == null)
+            instance = new PostIndex();
+        return instance;
+    }
+
+    private PostIndex() {
+    }
+
+    static List<String> terms(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null)
+            return terms;
+        for (String t : text.toLowerCase(Locale.ROOT).split(TERM_SEPARATORS)) {
+            if (!t.isEmpty())
+                terms.add(t);
+        }
+        return terms;
+    }
+
+    /**
+     * Indexes the content of a post, replacing what was indexed for it before.
+     */
+    public void update(String postId, String content) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded)
+                return;
+            generation++;
+            unindex(postId);
+            index(postId, content);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops deleted posts from the index.
+     */
+    public void remove(Collection<String> postIds) {
+        lock.writeLock().lock();
+        try {
+            generation++;
+            for (String postId : postIds)
+                unindex(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Forgets the index, to be rebuilt from the Post table on its next use, after the
+     * table was replaced.
+     */
+    public void invalidate() {
+        lock.writeLock().lock();
+        try {
+            generation++;
+            postings.clear();
+            terms.clear();
+            loaded = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the current ranking of the posts that contain all the terms of the query, with
+     *         no hits if the query has no terms
+     */
+    public Ranking search(String query) {
+        List<String> queryTerms = terms(query);
+        if (!loaded)
+            load();
+
+        Ranking ranking = rank(queryTerms);
+        rankings.put(rankingKey(ranking.generation(), queryTerms), ranking);
+        return ranking;
+    }
+
+    /**
+     * @return the ranking of the query as of the given generation of the index, or null if
+     *         it is no longer kept
+     */
+    public Ranking search(String query, long generation) {
+        List<String> queryTerms = terms(query);
+        Ranking ranking = rankings.getIfPresent(rankingKey(generation, queryTerms));
+        if (ranking != null)
+            return ranking;
+
+        // Not kept, but still the same if the index did not change since.
+        if (!loaded)
+            load();
+        ranking = rank(queryTerms);
+        if (ranking.generation() != generation)
+            return null;
+        rankings.put(rankingKey(generation, queryTerms), ranking);
+        return ranking;
+    }
+
+    private static String rankingKey(long generation, List<String> queryTerms) {
+        return generation + " " + String.join(" ", queryTerms);
+    }
+
+    private Ranking rank(List<String> queryTerms) {
+        lock.readLock().lock();
+        try {
+            List<Map<String, Integer>> matches = new ArrayList<>();
+            for (String term : queryTerms) {
+                Map<String, Integer> posts = postings.get(term);
+                if (posts == null)
+                    return new Ranking(generation, new ArrayList<>());
+                matches.add(posts);
+            }
+            if (matches.isEmpty())
+                return new Ranking(generation, new ArrayList<>());
+
+            // Candidates are taken from the rarest term, and must contain all the others.
+            matches.sort(Comparator.comparingInt(Map::size));
+            double indexed = terms.size();
+            List<Hit> hits = new ArrayList<>();
+            candidates: for (String postId : matches.get(0).keySet()) {
+                double score = 0;
+                for (Map<String, Integer> posts : matches) {
+                    Integer occurrences = posts.get(postId);
+                    if (occurrences == null)
+                        continue candidates;
+                    score += (1 + Math.log(occurrences)) * Math.log(1 + indexed / posts.size());
+                }
+                hits.add(new Hit(postId, score));
+            }
+            hits.sort(BEST_FIRST);
+            return new Ranking(generation, hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void index(String postId, String content) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String term : terms(content))
+            counts.merge(term, 1, Integer::sum);
+
+        for (var e : counts.entrySet())
+            postings.computeIfAbsent(e.getKey(), k -> new HashMap<>()).put(postId, e.getValue());
+        terms.put(postId, counts.keySet());
+    }
+
+    private void unindex(String postId) {
+        Collection<String> indexed = terms.remove(postId);
+        if (indexed == null)
+            return;
+        for (String term : indexed) {
+            Map<String, Integer> posts = postings.get(term);
+            posts.remove(postId);
+            if (posts.isEmpty())
+                postings.remove(term);
+        }
+    }
+
+    private void load() {
+        lock.writeLock().lock();
+        try {
+            if (loaded)
+                return;
+            List<Object[]> rows = Hibernate.getInstance().jpql("SELECT p.postId, p.content FROM Post p", Object[].class);
+            for (Object[] row : rows)
+                index((String) row[0], (String) row[1]);
+            loaded = true;
+            Log.info("Post index built from " + rows.size() + " posts, with " + postings.size() + " terms.");
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
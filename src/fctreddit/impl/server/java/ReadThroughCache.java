@@ -0,0 +1,104 @@
+package fctreddit.impl.server.java;
+
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import fctreddit.api.CacheStats;
+
+/**
+ * Read-through cache of the rows of a table, loaded by key on a miss. The operations that
+ * change a row invalidate its entry after committing; a row loaded before an invalidation
+ * is returned but not cached, so that it cannot outlive it.
+ *
+ * Callers get copies, so they are free to modify them.
+ */
+public class ReadThroughCache<K, V> {
+
+    private final Cache<K, V> entries;
+
+    private final Function<K, V> loader;
+
+    private final UnaryOperator<V> copier;
+
+    // Bumped by every invalidation, so that a value read before it is not cached after it.
+    private long invalidations = 0;
+
+    /**
+     * @param loader reads the value of a key, or returns null if there is none
+     * @param copier copies a value, so that neither the cache nor its callers see the
+     *               changes of the other
+     */
+    public ReadThroughCache(long maxSize, Function<K, V> loader, UnaryOperator<V> copier) {
+        this.entries = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.loader = loader;
+        this.copier = copier;
+    }
+
+    /**
+     * @return a copy of the value, or null if it does not exist
+     */
+    public V get(K key) {
+        V value = entries.getIfPresent(key);
+        if (value != null)
+            return copier.apply(value);
+
+        long version;
+        synchronized (this) {
+            version = invalidations;
+        }
+        value = loader.apply(key);
+        if (value == null)
+            return null;
+        synchronized (this) {
+            if (version == invalidations)
+                entries.put(key, copier.apply(value));
+        }
+        return value;
+    }
+
+    public synchronized void invalidate(K key) {
+        invalidations++;
+        entries.invalidate(key);
+    }
+
+    public synchronized void invalidate(Collection<? extends K> keys) {
+        invalidations++;
+        entries.invalidateAll(keys);
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations++;
+        entries.invalidateAll();
+    }
+
+    public long size() {
+        return entries.size();
+    }
+
+    public long hits() {
+        return entries.stats().hitCount();
+    }
+
+    public long misses() {
+        return entries.stats().missCount();
+    }
+
+    /**
+     * @return the fraction of the lookups answered from the cache, or 1 if there were none
+     */
+    public double hitRatio() {
+        return entries.stats().hitRate();
+    }
+
+    public CacheStats stats() {
+        var stats = entries.stats();
+        return new CacheStats(entries.size(), stats.hitCount(), stats.missCount(), stats.hitRate());
+    }
+}
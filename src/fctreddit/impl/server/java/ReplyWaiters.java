@@ -0,0 +1,68 @@
+package fctreddit.impl.server.java;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of callers waiting for new replies to a post (long-polling on
+ * getPostAnswers). All waiters on the same parent share one future, which is
+ * completed when a reply to that parent is persisted.
+ */
+public class ReplyWaiters {
+
+    private static ReplyWaiters instance;
+
+    private final Map<String, Waiters> waiters = new ConcurrentHashMap<>();
+
+    private static class Waiters {
+        final CompletableFuture<Void> reply = new CompletableFuture<>();
+        int count;
+    }
+
+    synchronized public static ReplyWaiters getInstance() {
+        if (instance == null)
+            instance = new ReplyWaiters();
+        return instance;
+    }
+
+    private ReplyWaiters() {
+    }
+
+    /**
+     * Registers a waiter for the next reply to a post. Must be called before
+     * reading the current replies, so that a reply created in between is not missed.
+     *
+     * @param parentId - the post whose replies are awaited
+     * @return a future completed when the next reply is created
+     */
+    public CompletableFuture<Void> register(String parentId) {
+        return waiters.compute(parentId, (k, w) -> {
+            if (w == null)
+                w = new Waiters();
+            w.count++;
+            return w;
+        }).reply;
+    }
+
+    /**
+     * Removes a waiter previously returned by register, dropping the entry
+     * once the last waiter on that post is gone.
+     */
+    public void unregister(String parentId, CompletableFuture<Void> reply) {
+        waiters.computeIfPresent(parentId, (k, w) -> {
+            if (w.reply != reply)
+                return w;
+            return --w.count == 0 ? null : w;
+        });
+    }
+
+    /**
+     * Wakes up every caller waiting for replies to the given post.
+     */
+    public void signal(String parentId) {
+        Waiters w = waiters.remove(parentId);
+        if (w != null)
+            w.reply.complete(null);
+    }
+}
@@ -0,0 +1,28 @@
+package fctreddit.impl.server.java;
+
+import fctreddit.api.User;
+import fctreddit.impl.server.persistence.Hibernate;
+
+/**
+ * Read-through cache of the users read from the User table, so that the lookups of the
+ * other services, which authenticate each operation with getUserAux, do not open a
+ * session each. The operations that change or delete a user row invalidate its entry
+ * after committing. (UserCache is the cache the Content server keeps of the users it
+ * fetches from this service.)
+ */
+public class StoredUserCache extends ReadThroughCache<String, User> {
+
+    private static final long MAX_USERS = 100_000;
+
+    private static StoredUserCache instance;
+
+    synchronized public static StoredUserCache getInstance() {
+        if (instance == null)
+            instance = new StoredUserCache();
+        return instance;
+    }
+
+    private StoredUserCache() {
+        super(MAX_USERS, userId -> Hibernate.getInstance().get(User.class, userId), User::new);
+    }
+}
@@ -0,0 +1,69 @@
+package fctreddit.impl.server.java;
+
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import fctreddit.api.User;
+
+/**
+ * Cache of the users fetched from the Users service, used to authenticate operations
+ * without a remote call each time. Entries are dropped when the Users service notifies
+ * that a user was updated or deleted, and expire after a short time otherwise, which
+ * bounds how long a missed notification can leave a stale entry.
+ */
+public class UserCache {
+
+    private static final long MAX_USERS = 10_000;
+    private static final long TTL_SECONDS = 60;
+
+    private static UserCache instance;
+
+    private final Cache<String, User> users = CacheBuilder.newBuilder()
+            .maximumSize(MAX_USERS)
+            .expireAfterWrite(TTL_SECONDS, TimeUnit.SECONDS)
+            .build();
+
+    // Bumped by every invalidation, so that a user fetched before it is not cached after it.
+    private long invalidations = 0;
+
+    synchronized public static UserCache getInstance() {
+        if (instance == null)
+            instance = new UserCache();
+        return instance;
+    }
+
+    private UserCache() {
+    }
+
+    /**
+     * @return the cached user, or null if it is not cached
+     */
+    public User get(String userId) {
+        return users.getIfPresent(userId);
+    }
+
+    /**
+     * @return the version to pass to put for a user about to be fetched
+     */
+    public synchronized long version() {
+        return invalidations;
+    }
+
+    /**
+     * Caches a fetched user, unless an invalidation came after the fetch started, as the
+     * user may then have changed or been deleted since.
+     *
+     * @param version - as returned by version() before the fetch
+     */
+    public synchronized void put(User user, long version) {
+        if (version == invalidations)
+            users.put(user.getUserId(), user);
+    }
+
+    public synchronized void invalidate(String userId) {
+        invalidations++;
+        users.invalidate(userId);
+    }
+}
@@ -0,0 +1,190 @@
+package fctreddit.impl.server.java;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+
+import fctreddit.impl.server.persistence.Hibernate;
+
+/**
+ * In-memory trigram index of the userIds, to find the userIds that contain a substring
+ * without scanning the User table. It is built from the User table on first use and then
+ * kept up to date by the operations that create and delete users.
+ *
+ * Each userId is given a slot, in the order users are indexed, and each trigram (three
+ * consecutive characters) maps to the slots of the userIds that contain it, in ascending
+ * order. The userIds that contain a pattern are among those that contain all its
+ * trigrams, which are taken from the postings of the rarest one and checked for the
+ * others, and then for the whole pattern. Patterns shorter than a trigram are matched
+ * against all the userIds.
+ */
+public class UserIndex {
+
+    private static final Logger Log = Logger.getLogger(UserIndex.class.getName());
+
+    private static final int GRAM = 3;
+
+    private static UserIndex instance;
+
+    /**
+     * The slots of the userIds with a trigram, ascending. New slots are the highest so far,
+     * so they are appended.
+     */
+    private static class Postings {
+        int[] slots = new int[4];
+        int size = 0;
+
+        void add(int slot) {
+            if (size == slots.length)
+                slots = Arrays.copyOf(slots, size * 2);
+            slots[size++] = slot;
+        }
+
+        void remove(int slot) {
+            int i = Arrays.binarySearch(slots, 0, size, slot);
+            if (i < 0)
+                return;
+            System.arraycopy(slots, i + 1, slots, i, size - i - 1);
+            size--;
+        }
+
+        boolean contains(int slot) {
+            return Arrays.binarySearch(slots, 0, size, slot) >= 0;
+        }
+    }
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final List<String> userIds = new ArrayList<>(); // slot -> userId, null once deleted
+    private final Map<String, Integer> slots = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean loaded = false;
+
+    synchronized public static UserIndex getInstance() {
+        if (instance == null)
+            instance = new UserIndex();
+        return instance;
+    }
+
+    private UserIndex() {
+    }
+
+    private static Set<String> grams(String s) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM <= s.length(); i++)
+            grams.add(s.substring(i, i + GRAM));
+        return grams;
+    }
+
+    /**
+     * Indexes the userId of a new user.
+     */
+    public void add(String userId) {
+        lock.writeLock().lock();
+        try {
+            if (!loaded)
+                return;
+            index(userId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops the userId of a deleted user from the index.
+     */
+    public void remove(String userId) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.remove(userId);
+            if (slot == null)
+                return;
+            userIds.set(slot, null);
+            for (String gram : grams(userId)) {
+                Postings p = postings.get(gram);
+                p.remove(slot);
+                if (p.size == 0)
+                    postings.remove(gram);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param limit - the maximum number of userIds returned, or zero (or less) for all
+     * @return the userIds that contain the pattern, sorted
+     */
+    public List<String> search(String pattern, int limit) {
+        if (!loaded)
+            load();
+
+        List<String> found = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (pattern.length() < GRAM) {
+                for (String userId : userIds) {
+                    if (userId != null && userId.contains(pattern))
+                        found.add(userId);
+                }
+            } else {
+                List<Postings> matches = new ArrayList<>();
+                for (String gram : grams(pattern)) {
+                    Postings p = postings.get(gram);
+                    if (p == null)
+                        return found;
+                    matches.add(p);
+                }
+                matches.sort(Comparator.comparingInt(p -> p.size));
+                Postings rarest = matches.get(0);
+                candidates: for (int i = 0; i < rarest.size; i++) {
+                    int slot = rarest.slots[i];
+                    for (int j = 1; j < matches.size(); j++) {
+                        if (!matches.get(j).contains(slot))
+                            continue candidates;
+                    }
+                    String userId = userIds.get(slot);
+                    if (userId.contains(pattern))
+                        found.add(userId);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        found.sort(null);
+        return limit > 0 && found.size() > limit ? new ArrayList<>(found.subList(0, limit)) : found;
+    }
+
+    private void index(String userId) {
+        if (slots.containsKey(userId))
+            return;
+        int slot = userIds.size();
+        userIds.add(userId);
+        slots.put(userId, slot);
+        for (String gram : grams(userId))
+            postings.computeIfAbsent(gram, k -> new Postings()).add(slot);
+    }
+
+    private void load() {
+        lock.writeLock().lock();
+        try {
+            if (loaded)
+                return;
+            List<String> rows = Hibernate.getInstance().jpql("SELECT u.userId FROM User u ORDER BY u.userId", String.class);
+            for (String userId : rows)
+                index(userId);
+            loaded = true;
+            Log.info("User index built from " + rows.size() + " users, with " + postings.size() + " trigrams.");
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
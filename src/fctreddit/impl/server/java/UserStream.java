@@ -0,0 +1,82 @@
+package fctreddit.impl.server.java;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+
+import com.google.common.collect.Lists;
+
+import fctreddit.api.User;
+import fctreddit.impl.server.persistence.Hibernate;
+
+/**
+ * The users with the given userIds, in that order, read from the User table as they are
+ * consumed. The userIds are queried in chunks, each through a cursor of its own in a
+ * session that is closed as soon as the chunk is read, so at most one chunk of users is
+ * held in memory, and no database connection is held while the consumer is not reading,
+ * e.g., while a slow client is being waited for.
+ *
+ * The userIds are those that matched when the search was made, so the stream is of those
+ * users only: a user created during the stream is not in it, even if it matches, and a
+ * user deleted before its chunk is read is left out. Each user is as it was when its
+ * chunk was read.
+ */
+public class UserStream implements Iterator<User>, AutoCloseable {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int FETCH_SIZE = 100;
+
+    private final Iterator<List<String>> chunks;
+    private Iterator<User> chunk = Collections.emptyIterator();
+    private boolean closed = false;
+
+    /**
+     * @param userIds - sorted, as the users of each chunk are read sorted by userId
+     */
+    UserStream(List<String> userIds) {
+        chunks = Lists.partition(userIds, CHUNK_SIZE).iterator();
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!chunk.hasNext()) {
+            if (closed || !chunks.hasNext())
+                return false;
+            List<User> users = new ArrayList<>(CHUNK_SIZE);
+            try (Session session = Hibernate.getInstance().sessionFactory.openSession();
+                    ScrollableResults<User> cursor = session
+                            .createQuery("SELECT u FROM User u WHERE u.userId IN :userIds ORDER BY u.userId", User.class)
+                            .setParameter("userIds", chunks.next())
+                            .setReadOnly(true)
+                            .setFetchSize(FETCH_SIZE)
+                            .scroll(ScrollMode.FORWARD_ONLY)) {
+                while (cursor.next())
+                    users.add(cursor.get());
+            }
+            chunk = users.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public User next() {
+        if (!hasNext())
+            throw new NoSuchElementException();
+        return chunk.next();
+    }
+
+    /**
+     * Drops the users not yet consumed.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        chunk = Collections.emptyIterator();
+    }
+}
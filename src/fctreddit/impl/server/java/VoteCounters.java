@@ -0,0 +1,256 @@
+package fctreddit.impl.server.java;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import fctreddit.api.Post;
+import fctreddit.impl.server.persistence.Hibernate;
+
+/**
+ * In-memory up/down vote counters of the posts, so that concurrent votes on the same post
+ * do not serialize on its row. Votes are added to the counters and written to the Post
+ * table periodically, in batches (write-behind).
+ *
+ * A post gets counters when it is voted on, starting from the values stored in its row.
+ * While it has them, the counters are the reference for its votes: its row is only updated
+ * by the flush, and lags behind by at most one flush period. The counters of a post that
+ * is not voted on for IDLE_FLUSHES flushes, all its votes stored, are dropped, and its row
+ * is the reference again.
+ */
+public class VoteCounters {
+
+    private static final Logger Log = Logger.getLogger(VoteCounters.class.getName());
+
+    private static final long FLUSH_PERIOD = 1000;
+    private static final int IDLE_FLUSHES = 2;
+
+    private static VoteCounters instance;
+
+    private final Map<String, Counts> counters = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor();
+    // Bumped before counters are dropped, so that counters are not created from a row read before.
+    private final AtomicLong drops = new AtomicLong();
+
+    /**
+     * The votes of one post: the values stored when the counters were created, the votes
+     * added since then, and the part of those not yet written to the Post table.
+     */
+    private static class Counts {
+        final long storedUp, storedDown;
+        final LongAdder up = new LongAdder(), down = new LongAdder();
+        final LongAdder pendingUp = new LongAdder(), pendingDown = new LongAdder();
+        int idleFlushes = 0; // only used by the flush
+
+        Counts(int storedUp, int storedDown) {
+            this.storedUp = storedUp;
+            this.storedDown = storedDown;
+        }
+
+        int upVotes() {
+            return (int) (storedUp + up.sum());
+        }
+
+        int downVotes() {
+            return (int) (storedDown + down.sum());
+        }
+
+        Counts add(int upVotes, int downVotes) {
+            up.add(upVotes);
+            pendingUp.add(upVotes);
+            down.add(downVotes);
+            pendingDown.add(downVotes);
+            return this;
+        }
+    }
+
+    synchronized public static VoteCounters getInstance() {
+        if (instance == null)
+            instance = new VoteCounters();
+        return instance;
+    }
+
+    private VoteCounters() {
+        flusher.scheduleWithFixedDelay(this::flush, FLUSH_PERIOD, FLUSH_PERIOD, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Adds votes to the counters of a post, creating them if it has none. Votes are added
+     * within the lock of the map, so that counters are never dropped with votes not stored.
+     *
+     * @param post - the post, whose votes are read again from its row to create counters
+     */
+    private void add(Post post, int upVotes, int downVotes) {
+        String postId = post.getPostId();
+        while (true) {
+            if (counters.computeIfPresent(postId, (k, c) -> c.add(upVotes, downVotes)) != null)
+                return;
+
+            long seen = drops.get();
+            Object[] stored;
+            try {
+                List<Object[]> rows = Hibernate.getInstance().jpql(
+                        "SELECT p.upVote, p.downVote FROM Post p WHERE p.postId = :postId", Object[].class,
+                        Map.of("postId", postId), 1);
+                if (rows.isEmpty())
+                    return; // Deleted meanwhile.
+                stored = rows.get(0);
+            } catch (Exception e) {
+                // The votes are already stored, so they are counted from the post as given.
+                Log.warning("Failed to read the votes of " + postId + ": " + e.getMessage());
+                stored = new Object[] { post.getUpVote(), post.getDownVote() };
+            }
+            Object[] base = stored;
+            Counts c = counters.compute(postId, (k, current) -> {
+                if (current != null)
+                    return current.add(upVotes, downVotes);
+                if (drops.get() != seen)
+                    return null; // The row may have been read before the votes of the dropped counters were stored.
+                return new Counts((Integer) base[0], (Integer) base[1]).add(upVotes, downVotes);
+            });
+            if (c != null)
+                return;
+        }
+    }
+
+    /**
+     * @return the number of up votes of the post, or -1 if the post has no counters
+     */
+    public int upVotes(String postId) {
+        Counts c = counters.get(postId);
+        return c == null ? -1 : c.upVotes();
+    }
+
+    /**
+     * @return the number of down votes of the post, or -1 if the post has no counters
+     */
+    public int downVotes(String postId) {
+        Counts c = counters.get(postId);
+        return c == null ? -1 : c.downVotes();
+    }
+
+    /**
+     * Adds (or, if negative, removes) up votes to a post.
+     *
+     * @param post - the post as read from the Post table
+     */
+    public void addUpVotes(Post post, int votes) {
+        add(post, votes, 0);
+    }
+
+    /**
+     * Adds (or, if negative, removes) down votes to a post.
+     *
+     * @param post - the post as read from the Post table
+     */
+    public void addDownVotes(Post post, int votes) {
+        add(post, 0, votes);
+    }
+
+    /**
+     * Sets the vote fields of a post read from the Post table to the current counts, if it
+     * has counters. Must not be applied to posts that are going to be written back to the
+     * table.
+     *
+     * @return the post
+     */
+    public Post overlay(Post post) {
+        Counts c = counters.get(post.getPostId());
+        if (c != null) {
+            post.setUpVote(c.upVotes());
+            post.setDownVote(c.downVotes());
+        }
+        return post;
+    }
+
+    /**
+     * Drops the counters of deleted posts.
+     */
+    public void remove(Collection<String> postIds) {
+        for (String postId : postIds)
+            counters.remove(postId);
+    }
+
+    /**
+     * Drops the counters of all posts, after the Post table was replaced. Only for tables
+     * that are not voted on, as the votes not yet stored are lost.
+     */
+    public void clear() {
+        drops.incrementAndGet();
+        counters.clear();
+    }
+
+    /**
+     * Writes the votes not yet stored to the Post table, in one transaction, and drops the
+     * counters that have been idle for IDLE_FLUSHES flushes. Called periodically, and before
+     * queries that order posts by their votes.
+     */
+    public synchronized void flush() {
+        List<String> postIds = new ArrayList<>();
+        List<long[]> deltas = new ArrayList<>();
+        List<String> idle = new ArrayList<>();
+        for (var e : counters.entrySet()) {
+            Counts c = e.getValue();
+            // Taken out by subtraction, so that votes added meanwhile are kept for the next flush.
+            long up = c.pendingUp.sum(), down = c.pendingDown.sum();
+            if (up == 0 && down == 0) {
+                if (++c.idleFlushes >= IDLE_FLUSHES)
+                    idle.add(e.getKey());
+                continue;
+            }
+            c.idleFlushes = 0;
+            c.pendingUp.add(-up);
+            c.pendingDown.add(-down);
+            postIds.add(e.getKey());
+            deltas.add(new long[] { up, down });
+        }
+        drop(idle);
+        if (postIds.isEmpty())
+            return;
+
+        try {
+            Hibernate.getInstance().sessionFactory.inTransaction(session -> {
+                var update = session.createMutationQuery(
+                        "UPDATE Post p SET p.upVote = p.upVote + :up, p.downVote = p.downVote + :down WHERE p.postId = :postId");
+                for (int i = 0; i < postIds.size(); i++) {
+                    update.setParameter("up", (int) deltas.get(i)[0])
+                            .setParameter("down", (int) deltas.get(i)[1])
+                            .setParameter("postId", postIds.get(i))
+                            .executeUpdate();
+                }
+            });
+        } catch (Exception e) {
+            Log.warning("Failed to flush vote counters: " + e.getMessage());
+            for (int i = 0; i < postIds.size(); i++) {
+                Counts c = counters.get(postIds.get(i));
+                if (c != null) {
+                    c.pendingUp.add(deltas.get(i)[0]);
+                    c.pendingDown.add(deltas.get(i)[1]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops the counters of idle posts, unless they were voted on meanwhile. Their cached
+     * rows, read before their votes were stored, are dropped first.
+     */
+    private void drop(List<String> postIds) {
+        if (postIds.isEmpty())
+            return;
+        PostCache.getInstance().invalidate(postIds);
+        drops.incrementAndGet();
+        for (String postId : postIds) {
+            counters.computeIfPresent(postId,
+                    (k, c) -> c.pendingUp.sum() == 0 && c.pendingDown.sum() == 0 ? null : c);
+        }
+    }
+}
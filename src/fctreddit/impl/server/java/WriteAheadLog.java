@@ -0,0 +1,516 @@
+package fctreddit.impl.server.java;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import fctreddit.api.Post;
+
+/**
+ * An append-only log of the writes to the posts of this Content server, which is replayed
+ * on startup to rebuild them (the database is recreated empty on every start).
+ *
+ * Writes hand their entries to the log within their database transaction, once its
+ * statements were executed and before it commits, which gives them a slot in the log.
+ * A write that conflicts with another in the database takes its slot after the other
+ * committed. The entries are written once the transaction completes, in the order of
+ * the slots, or dropped if it did not commit, so that the log holds the committed
+ * writes in the order they commit and nothing else. A write then waits for its entries
+ * to be forced to disk as the durability mode requires:
+ * - SYNC: each write forces the log itself;
+ * - GROUP: one of the waiting writes forces the log for all of the entries appended so
+ *   far, while the others wait for it (group commit), so concurrent writes share fsyncs;
+ * - ASYNC: writes do not wait, the log is forced every ASYNC_PERIOD, so the writes of the
+ *   last period can be lost.
+ *
+ * Each entry is framed by its length and CRC, and a torn entry at the end of the log, left
+ * by a crash in the middle of an append, is discarded on replay.
+ *
+ * A write is visible once it commits, so a failure to write or force the log is not
+ * reported to it. The log is marked as failed instead, and refuses the writes that follow,
+ * which are rolled back.
+ *
+ * Nothing is logged until the log is opened.
+ */
+public class WriteAheadLog {
+
+    private static final Logger Log = Logger.getLogger(WriteAheadLog.class.getName());
+
+    private static final long ASYNC_PERIOD = 100;
+    private static final int MAX_ENTRY_SIZE = 64 * 1024 * 1024;
+    private static final int REPLAY_BATCH = 1000;
+
+    public enum Durability {
+        SYNC, GROUP, ASYNC
+    }
+
+    /**
+     * One write: the creation of a post (post), the update of its content and media
+     * (post, with only those and its postId), the deletion of its thread (postId), a vote
+     * added or removed (postId, userId and voteType), the removal of the votes of a user
+     * (userId) or of a user as author of posts (userId).
+     */
+    public record Entry(String type, Post post, String postId, String userId, String voteType) {
+
+        public static final String CREATE = "create";
+        public static final String UPDATE = "update";
+        public static final String DELETE = "delete";
+        public static final String VOTE = "vote";
+        public static final String UNVOTE = "unvote";
+        public static final String UNVOTE_ALL = "unvoteAll";
+        public static final String NULLIFY = "nullify";
+
+        public static Entry created(Post post) {
+            return new Entry(CREATE, post, post.getPostId(), null, null);
+        }
+
+        public static Entry updated(String postId, String content, String mediaUrl) {
+            Post post = new Post();
+            post.setPostId(postId);
+            post.setContent(content);
+            post.setMediaUrl(mediaUrl);
+            return new Entry(UPDATE, post, postId, null, null);
+        }
+
+        public static Entry deleted(String postId) {
+            return new Entry(DELETE, null, postId, null, null);
+        }
+
+        public static Entry voted(String postId, String userId, String voteType) {
+            return new Entry(VOTE, null, postId, userId, voteType);
+        }
+
+        public static Entry unvoted(String postId, String userId, String voteType) {
+            return new Entry(UNVOTE, null, postId, userId, voteType);
+        }
+
+        public static Entry unvotedAll(String userId) {
+            return new Entry(UNVOTE_ALL, null, null, userId, null);
+        }
+
+        public static Entry nullified(String userId) {
+            return new Entry(NULLIFY, null, null, userId, null);
+        }
+    }
+
+    private static WriteAheadLog instance;
+
+    // The entries of a transaction that did not complete yet, and their slot.
+    private record Pending(long slot, List<Entry> entries) {
+    }
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition written = lock.newCondition();
+    private final Condition forced = lock.newCondition();
+    private final ThreadLocal<Pending> pending = new ThreadLocal<>();
+    // The slot of the last transaction of each thread that completed.
+    private final ThreadLocal<Long> lastCompleted = ThreadLocal.withInitial(() -> 0L);
+    // The entries of the completed slots that wait for an earlier one, empty if it rolled back.
+    private final TreeMap<Long, List<Entry>> completed = new TreeMap<>();
+    // Slots are numbered from 1: the last one given, written and forced to disk.
+    private long reserved = 0;
+    private long appended = 0;
+    private long durable = 0;
+    private boolean forcing = false;
+    private boolean failed = false;
+
+    private volatile FileChannel channel; // null when not open
+    private Path file;
+    private Durability durability;
+
+    synchronized public static WriteAheadLog getInstance() {
+        if (instance == null)
+            instance = new WriteAheadLog();
+        return instance;
+    }
+
+    private WriteAheadLog() {
+    }
+
+    public boolean isOpen() {
+        return channel != null;
+    }
+
+    /**
+     * Opens the log in the given file, which is created if it does not exist. The entries
+     * already in it are to be replayed before any other is appended.
+     */
+    public synchronized void open(Path file, Durability durability) throws IOException {
+        if (channel != null)
+            return;
+        this.file = file;
+        this.durability = durability;
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (durability == Durability.ASYNC) {
+            ScheduledExecutorService forcer = Executors.newSingleThreadScheduledExecutor(
+                    new ThreadFactoryBuilder().setNameFormat("wal-force").setDaemon(true).build());
+            forcer.scheduleWithFixedDelay(this::forceAll, ASYNC_PERIOD, ASYNC_PERIOD, TimeUnit.MILLISECONDS);
+        }
+        Log.info("Logging writes to " + file + " with " + durability + " durability");
+    }
+
+    /**
+     * Hands entries to the log, to be called within the transaction of the write, right
+     * before it commits, and followed by {@link #completed(boolean)} once it completes.
+     *
+     * @throws UncheckedIOException if the log failed, so that the transaction is rolled back
+     */
+    public void append(Entry... entries) {
+        append(List.of(entries));
+    }
+
+    public void append(List<Entry> entries) {
+        if (channel == null || entries.isEmpty())
+            return;
+        lock.lock();
+        try {
+            if (failed)
+                throw new UncheckedIOException(new IOException("The log failed on a previous write"));
+            Pending p = pending.get();
+            if (p == null) {
+                pending.set(new Pending(++reserved, List.copyOf(entries)));
+            } else {
+                List<Entry> all = new ArrayList<>(p.entries());
+                all.addAll(entries);
+                pending.set(new Pending(p.slot(), all));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Writes the entries the calling thread handed in its transaction, if it committed, once
+     * those of the slots before are written, or drops them if it did not. To be called when
+     * the transaction completes, whether it committed or not.
+     */
+    public void completed(boolean committed) {
+        Pending p = pending.get();
+        if (p == null)
+            return;
+        pending.remove();
+        lock.lock();
+        try {
+            lastCompleted.set(p.slot());
+            if (failed)
+                return;
+            completed.put(p.slot(), committed ? p.entries() : List.of());
+            List<Entry> ready = new ArrayList<>();
+            long upTo = appended;
+            while (completed.containsKey(upTo + 1))
+                ready.addAll(completed.remove(++upTo));
+            if (upTo == appended)
+                return;
+            try {
+                write(encode(ready));
+                appended = upTo;
+            } catch (IOException e) {
+                // The slots after these would be logged without them.
+                Log.severe("Failed to write to the log, refusing further writes: " + e.getMessage());
+                failed = true;
+                completed.clear();
+            }
+            written.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void write(ByteBuffer buf) throws IOException {
+        long start = channel.position();
+        try {
+            while (buf.hasRemaining())
+                channel.write(buf);
+        } catch (IOException e) {
+            // Leave no partial entry at the end of the log.
+            try {
+                channel.truncate(start);
+                channel.position(start);
+            } catch (IOException ex) {
+                Log.warning("Failed to truncate the log: " + ex.getMessage());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for the entries of the last transaction of this thread to be durable, as the
+     * durability mode requires. To be called after {@link #completed(boolean)}. The write is
+     * visible already, so a failure of the log is logged rather than thrown.
+     */
+    public void sync() {
+        if (channel == null || durability == Durability.ASYNC)
+            return;
+        long slot = lastCompleted.get();
+        try {
+            lock.lock();
+            try {
+                while (appended < slot && !failed)
+                    written.awaitUninterruptibly();
+                if (failed)
+                    return;
+            } finally {
+                lock.unlock();
+            }
+            if (durability == Durability.SYNC)
+                force();
+            else
+                forceUpTo(slot);
+        } catch (IOException e) {
+            Log.severe("Failed to force the log, refusing further writes: " + e.getMessage());
+            lock.lock();
+            try {
+                failed = true;
+                completed.clear();
+                written.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void force() throws IOException {
+        long upTo;
+        lock.lock();
+        try {
+            upTo = appended;
+        } finally {
+            lock.unlock();
+        }
+        channel.force(false);
+        lock.lock();
+        try {
+            durable = Math.max(durable, upTo);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Forces the log unless another thread is already doing so, in which case it waits for
+     * it and checks again, as its force may not cover the entry.
+     */
+    private void forceUpTo(long seq) throws IOException {
+        lock.lock();
+        try {
+            while (durable < seq && !failed) {
+                if (forcing) {
+                    forced.awaitUninterruptibly();
+                    continue;
+                }
+                forcing = true;
+                long upTo = appended;
+                boolean done = false;
+                lock.unlock();
+                try {
+                    channel.force(false);
+                    done = true;
+                } finally {
+                    lock.lock();
+                    forcing = false;
+                    if (done)
+                        durable = Math.max(durable, upTo);
+                    forced.signalAll();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void forceAll() {
+        long upTo;
+        lock.lock();
+        try {
+            upTo = appended;
+        } finally {
+            lock.unlock();
+        }
+        try {
+            forceUpTo(upTo);
+        } catch (IOException e) {
+            Log.warning("Failed to force the log: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the entries in the log, in order and in batches, discarding a torn entry at the
+     * end of it.
+     *
+     * @return the number of entries read
+     */
+    public synchronized long replay(Consumer<List<Entry>> redo) throws IOException {
+        if (channel == null)
+            return 0;
+        long valid = 0, count = 0;
+        List<Entry> batch = new ArrayList<>();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            while (true) {
+                int length;
+                try {
+                    length = in.readInt();
+                } catch (EOFException e) {
+                    break;
+                }
+                if (length <= 0 || length > MAX_ENTRY_SIZE)
+                    break;
+                long crc = in.readInt() & 0xffffffffL;
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                if (crc32(payload) != crc)
+                    break;
+                batch.add(decode(new DataInputStream(new ByteArrayInputStream(payload))));
+                valid += Integer.BYTES * 2 + length;
+                if (batch.size() == REPLAY_BATCH) {
+                    redo.accept(batch);
+                    count += batch.size();
+                    batch = new ArrayList<>();
+                }
+            }
+        } catch (EOFException e) {
+            // A torn entry, at the end of the log.
+        }
+        if (!batch.isEmpty()) {
+            redo.accept(batch);
+            count += batch.size();
+        }
+
+        if (valid < channel.size()) {
+            Log.warning("Discarding " + (channel.size() - valid) + " bytes of a torn entry at the end of the log");
+            channel.truncate(valid);
+        }
+        channel.position(valid);
+        Log.info("Replayed " + count + " entries of the log");
+        return count;
+    }
+
+    /**
+     * Replaces the entries in the log with others that have the same effect, written to
+     * another file that takes its place once it is durable.
+     */
+    public synchronized void compact(List<Entry> entries) throws IOException {
+        if (channel == null)
+            return;
+        Path compacted = file.resolveSibling(file.getFileName() + ".compact");
+        try (FileChannel out = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buf = encode(entries);
+            while (buf.hasRemaining())
+                out.write(buf);
+            out.force(true);
+        }
+        lock.lock();
+        try {
+            channel.close();
+            Files.move(compacted, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+        } finally {
+            lock.unlock();
+        }
+        Log.info("Compacted the log to " + entries.size() + " entries");
+    }
+
+    private static long crc32(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return crc.getValue();
+    }
+
+    private static ByteBuffer encode(List<Entry> entries) {
+        try {
+            ByteArrayOutputStream framed = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(framed);
+            for (Entry e : entries) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                encode(e, new DataOutputStream(bytes));
+                byte[] payload = bytes.toByteArray();
+                out.writeInt(payload.length);
+                out.writeInt((int) crc32(payload));
+                out.write(payload);
+            }
+            return ByteBuffer.wrap(framed.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void encode(Entry e, DataOutputStream out) throws IOException {
+        writeString(out, e.type());
+        writeString(out, e.postId());
+        writeString(out, e.userId());
+        writeString(out, e.voteType());
+        Post p = e.post();
+        out.writeBoolean(p != null);
+        if (p != null) {
+            writeString(out, p.getPostId());
+            writeString(out, p.getAuthorId());
+            writeString(out, p.getParentId());
+            writeString(out, p.getParentUrl());
+            out.writeLong(p.getCreationTimestamp());
+            writeString(out, p.getContent());
+            writeString(out, p.getMediaUrl());
+        }
+    }
+
+    private static Entry decode(DataInputStream in) throws IOException {
+        String type = readString(in), postId = readString(in), userId = readString(in), voteType = readString(in);
+        Post p = null;
+        if (in.readBoolean()) {
+            p = new Post();
+            p.setPostId(readString(in));
+            p.setAuthorId(readString(in));
+            p.setParentId(readString(in));
+            p.setParentUrl(readString(in));
+            p.setCreationTimestamp(in.readLong());
+            p.setContent(readString(in));
+            p.setMediaUrl(readString(in));
+        }
+        return new Entry(type, p, postId, userId, voteType);
+    }
+
+    // Strings are written as their length in UTF-8, or -1 for null, followed by the bytes.
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0)
+            return null;
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -2,6 +2,7 @@ package fctreddit.impl.server.persistence;
 
 import java.io.File;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.SessionFactory;
 import org.hibernate.Transaction;
@@ -132,6 +133,29 @@ public class Hibernate {
 		}
 	}
 
+	/**
+	 * Performs a parameterized jpql Hibernate query, optionally bounding the number of results
+	 *
+	 * @param <T>           The type of objects returned by the query
+	 * @param jpqlStatement - the jpql query statement
+	 * @param clazz         - the class of the objects that will be returned
+	 * @param parameters    - the values of the named parameters of the statement
+	 * @param maxResults    - the maximum number of results, or zero for no limit
+	 * @return - list of objects that match the query
+	 */
+	public <T> List<T> jpql(String jpqlStatement, Class<T> clazz, Map<String, Object> parameters, int maxResults) {
+		try (var session = sessionFactory.openSession()) {
+			var query = session.createQuery(jpqlStatement, clazz);
+			for (var p : parameters.entrySet())
+				query.setParameter(p.getKey(), p.getValue());
+			if (maxResults > 0)
+				query.setMaxResults(maxResults);
+			return query.list();
+		} catch (Exception e) {
+			throw e;
+		}
+	}
+
 	public <T> TypedQuery<T> jpql2(String jpqlstatement, Class<T> clazz) {
 		try (var session = sessionFactory.openSession()) {
 			return session.createQuery(jpqlstatement, clazz);
@@ -157,6 +181,29 @@ public class Hibernate {
 		}
 	}
 
+	/**
+	 * Performs a parameterized (native) SQL query, optionally bounding the number of results
+	 *
+	 * @param <T>          The type of objects returned by the query
+	 * @param sqlStatement - the sql query statement
+	 * @param clazz        - the class of the objects that will be returned
+	 * @param parameters   - the values of the named parameters of the statement
+	 * @param maxResults   - the maximum number of results, or zero for no limit
+	 * @return - list of objects that match the query
+	 */
+	public <T> List<T> sql(String sqlStatement, Class<T> clazz, Map<String, Object> parameters, int maxResults) {
+		try (var session = sessionFactory.openSession()) {
+			var query = session.createNativeQuery(sqlStatement, clazz);
+			for (var p : parameters.entrySet())
+				query.setParameter(p.getKey(), p.getValue());
+			if (maxResults > 0)
+				query.setMaxResults(maxResults);
+			return query.list();
+		} catch (Exception e) {
+			throw e;
+		}
+	}
+
 	public void genericTx() {
 		Transaction tx = null;
 		try (var session = sessionFactory.openSession()) {
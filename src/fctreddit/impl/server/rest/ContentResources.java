@@ -1,21 +1,46 @@
 package fctreddit.impl.server.rest;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
 import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.container.AsyncResponse;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.Response.ResponseBuilder;
 import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.sse.Sse;
+import jakarta.ws.rs.sse.SseEventSink;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 import fctreddit.api.rest.RestContent;
+import fctreddit.api.ContentChanges;
 import fctreddit.api.Post;
+import fctreddit.api.PostEvent;
+import fctreddit.api.PostThread;
+import fctreddit.api.PostsPage;
+import fctreddit.api.VoteOp;
 import fctreddit.api.java.Result;
-import fctreddit.api.java.Content;
 import fctreddit.impl.server.java.JavaContent;
+import fctreddit.impl.server.java.PostEvents;
 
 public class ContentResources implements RestContent {
 
     private static final Logger Log = Logger.getLogger(ContentResources.class.getName());
-    private final Content impl;
+    private final JavaContent impl;
+
+    // Writes the events to the SSE clients, as a write to a slow client blocks, so that it
+    // blocks neither the shared delivery threads of the post events nor the other clients.
+    private static final ExecutorService sseWriters = Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder().setNameFormat("sse-writer-%d").setDaemon(true).build());
 
     public ContentResources() {
         impl = new JavaContent();
@@ -28,21 +53,126 @@ public class ContentResources implements RestContent {
     }
 
     @Override
-    public List<String> getPosts(long timestamp, String sortOrder) {
+    public Response getPosts(long timestamp, String sortOrder, Request request) {
         Log.info("getPosts called with timestamp: " + timestamp + " and sortOrder: " + sortOrder);
-        return handleResult(impl.getPosts(timestamp, sortOrder), "Failed to retrieve posts");
+        // Taken before reading, so that a change in between is seen by the next request.
+        EntityTag tag = new EntityTag(impl.feedVersion(sortOrder));
+        ResponseBuilder notModified = request.evaluatePreconditions(tag);
+        if (notModified != null) {
+            return notModified.tag(tag).build();
+        }
+        return Response.ok(handleResult(impl.getPosts(timestamp, sortOrder), "Failed to retrieve posts"))
+                .tag(tag).build();
+    }
+
+    @Override
+    public PostsPage getPostsPage(long timestamp, String sortOrder, String cursor, int limit) {
+        Log.info("getPostsPage called with timestamp: " + timestamp + ", sortOrder: " + sortOrder + ", cursor: " + cursor + " and limit: " + limit);
+        return handleResult(impl.getPostsPage(timestamp, sortOrder, cursor, limit), "Failed to retrieve posts page");
+    }
+
+    @Override
+    public PostsPage searchPosts(String query, int limit, String cursor) {
+        Log.info("searchPosts called with query: " + query + ", limit: " + limit + " and cursor: " + cursor);
+        return handleResult(impl.searchPosts(query, limit, cursor), "Failed to search posts");
     }
 
     @Override
-    public Post getPost(String postId) {
+    public PostsPage getPostsByAuthor(String userId, String cursor, int limit) {
+        Log.info("getPostsByAuthor called with userId: " + userId + ", cursor: " + cursor + " and limit: " + limit);
+        return handleResult(impl.getPostsByAuthor(userId, cursor, limit), "Failed to retrieve posts by author: " + userId);
+    }
+
+    @Override
+    public Response getPost(String postId, Request request) {
         Log.info("getPost called with postId: " + postId);
-        return handleResult(impl.getPost(postId), "Failed to retrieve post with ID: " + postId);
+        EntityTag tag = new EntityTag(impl.postVersion(postId));
+        ResponseBuilder notModified = request.evaluatePreconditions(tag);
+        if (notModified != null) {
+            return notModified.tag(tag).build();
+        }
+        return Response.ok(handleResult(impl.getPost(postId), "Failed to retrieve post with ID: " + postId))
+                .tag(tag).build();
     }
 
     @Override
-    public List<String> getPostAnswers(String postId, long maxTimeout) {
+    public List<Post> getPostsByIds(List<String> postIds) {
+        Log.info("getPostsByIds called with postIds: " + postIds);
+        return handleResult(impl.getPostsByIds(postIds), "Failed to retrieve posts by ID");
+    }
+
+    @Override
+    public void getPostAnswers(String postId, long maxTimeout, AsyncResponse ar) {
         Log.info("getPostAnswers called with postId: " + postId);
-        return handleResult(impl.getPostAnswers(postId, maxTimeout), "Failed to retrieve answers for post with ID: " + postId);
+        // The response is resumed whether the future completes or fails, or the request would hang.
+        impl.getPostAnswersAsync(postId, maxTimeout).whenComplete((res, e) -> {
+            String errorMessage = "Failed to retrieve answers for post with ID: " + postId;
+            if (e != null) {
+                Log.severe(errorMessage + ": " + e.getMessage());
+                ar.resume(new WebApplicationException(errorMessage, Status.INTERNAL_SERVER_ERROR));
+            } else if (!res.isOK()) {
+                Log.severe(errorMessage + ": " + res.error());
+                ar.resume(new WebApplicationException(errorMessage, errorCodeToStatus(res.error())));
+            } else {
+                ar.resume(res.value());
+            }
+        });
+    }
+
+    @Override
+    public PostThread getThread(String postId, int maxDepth, int limit) {
+        Log.info("getThread called with postId: " + postId + ", maxDepth: " + maxDepth + " and limit: " + limit);
+        return handleResult(impl.getThread(postId, maxDepth, limit), "Failed to retrieve thread of post with ID: " + postId);
+    }
+
+    @Override
+    public void subscribe(String postId, SseEventSink eventSink, Sse sse) {
+        Log.info("subscribe called with postId: " + postId);
+        // Set after subscribing, events sent before are resumed below.
+        AtomicReference<PostEvents.Subscription> subscription = new AtomicReference<>();
+        // One event is written at a time, the others wait in the bounded buffer of the
+        // subscription, which drops the client when it fills up.
+        AtomicBoolean writing = new AtomicBoolean(false);
+        Result<PostEvents.Subscription> res = impl.subscribe(postId, new PostEvents.Sink() {
+            @Override
+            public void send(PostEvent event) {
+                if (eventSink.isClosed())
+                    throw new IllegalStateException("Event stream closed");
+                writing.set(true);
+                CompletableFuture.supplyAsync(() -> eventSink.send(sse.newEventBuilder()
+                        .name(event.getType())
+                        .mediaType(MediaType.APPLICATION_JSON_TYPE)
+                        .data(PostEvent.class, event)
+                        .build()), sseWriters)
+                        .thenCompose(sent -> sent)
+                        .whenComplete((v, e) -> {
+                            writing.set(false);
+                            PostEvents.Subscription s = subscription.get();
+                            if (e != null) {
+                                Log.info("Subscriber gone: " + e.getMessage());
+                                if (s != null)
+                                    s.cancel();
+                                eventSink.close();
+                            } else if (s != null) {
+                                s.resume();
+                            }
+                        });
+            }
+
+            @Override
+            public boolean isReady() {
+                return !writing.get();
+            }
+
+            @Override
+            public void overflow() {
+                // On a writer, as closing may block behind a write to the client.
+                sseWriters.execute(eventSink::close);
+            }
+        });
+        handleResult(res, "Failed to subscribe to events of post with ID: " + postId);
+        subscription.set(res.value());
+        res.value().resume();
     }
 
     @Override
@@ -81,6 +211,12 @@ public class ContentResources implements RestContent {
         handleResult(impl.removeDownVotePost(postId, userId, userPassword), "Failed to remove downvote from post with ID: " + postId);
     }
 
+    @Override
+    public List<Result.ErrorCode> castVotes(List<VoteOp> votes) {
+        Log.info("castVotes called with " + (votes == null ? 0 : votes.size()) + " votes");
+        return handleResult(impl.castVotes(votes), "Failed to cast votes");
+    }
+
     @Override
     public Integer getUpVotes(String postId) {
         Log.info("getupVotes called with postId: " + postId);
@@ -105,6 +241,18 @@ public class ContentResources implements RestContent {
         handleResult(impl.deleteVotesFromUser(userId), "Failed to delete votes for user with ID: " + userId);
     }
 
+    @Override
+    public void invalidateUser(String userId) {
+        Log.info("invalidateUser called with userId: " + userId);
+        handleResult(impl.invalidateUser(userId), "Failed to invalidate cached user with ID: " + userId);
+    }
+
+    @Override
+    public ContentChanges getChanges(String epoch, long since, long timeout) {
+        Log.info("getChanges called with epoch: " + epoch + " and since: " + since);
+        return handleResult(impl.getChanges(epoch, since, timeout), "Failed to retrieve changes since: " + since);
+    }
+
 
     private <T> T handleResult(Result<T> result, String errorMessage) {
         if (!result.isOK()) {
@@ -4,11 +4,16 @@ import java.util.logging.Logger;
 import java.net.URI;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.nio.file.Path;
 
-import org.glassfish.jersey.jdkhttp.JdkHttpServerFactory;
+import org.glassfish.jersey.grizzly2.httpserver.GrizzlyHttpServerFactory;
 import org.glassfish.jersey.server.ResourceConfig;
 
 import fctreddit.impl.server.discovery.Discovery;
+import fctreddit.impl.server.java.ContentReplica;
+import fctreddit.impl.server.java.ContentShards;
+import fctreddit.impl.server.java.JavaContent;
+import fctreddit.impl.server.java.WriteAheadLog;
 
 public class ContentServer {
     private static Logger Log = Logger.getLogger(ContentServer.class.getName());
@@ -22,6 +27,14 @@ public class ContentServer {
 
     public static final int PORT = 8081;
     public static final String SERVICE = "Content";
+    // Run with this argument to hold a shard of the posts, alongside other Content servers.
+    public static final String SHARDED = "-sharded";
+    // Run with this argument, followed by the URI of a Content server, to be its read replica.
+    public static final String REPLICA = "-replica";
+    // Run with this argument, followed by a file, to log the writes to it and replay them on startup.
+    public static final String WAL = "-wal";
+    // Followed by sync, group (the default) or async, how long writes wait for the log to be on disk.
+    public static final String DURABILITY = "-durability";
 
     public static void main(String[] args) {
         try {
@@ -32,11 +45,34 @@ public class ContentServer {
 
             String serverURI = String.format(SERVER_URI_FMT, ip, PORT);
             URI uri = URI.create(serverURI);
-            JdkHttpServerFactory.createHttpServer(uri, config);
+
+            String primaryURI = null, walFile = null;
+            WriteAheadLog.Durability durability = WriteAheadLog.Durability.GROUP;
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals(SHARDED))
+                    ContentShards.getInstance().enable(serverURI);
+                else if (args[i].equals(REPLICA) && i + 1 < args.length)
+                    primaryURI = args[++i];
+                else if (args[i].equals(WAL) && i + 1 < args.length)
+                    walFile = args[++i];
+                else if (args[i].equals(DURABILITY) && i + 1 < args.length)
+                    durability = WriteAheadLog.Durability.valueOf(args[++i].toUpperCase());
+            }
+            // The posts are rebuilt before any request is taken.
+            if (walFile != null) {
+                WriteAheadLog.getInstance().open(Path.of(walFile), durability);
+                new JavaContent().recover();
+            }
+
+            // Grizzly, unlike the JDK HTTP server, supports suspended (long-polling) requests.
+            GrizzlyHttpServerFactory.createHttpServer(uri, config);
 
             Log.info(String.format("%s Server ready @ %s\n", SERVICE, serverURI));
 
-            Discovery.getInstance().start(DISCOVERY_ADDR, SERVICE, serverURI);
+            if (primaryURI != null)
+                ContentReplica.getInstance().follow(primaryURI);
+
+            Discovery.getInstance().start(DISCOVERY_ADDR, SERVICE, serverURI, primaryURI);
             Thread.currentThread().join();
         } catch (Exception e) {
             Log.severe(e.getMessage());
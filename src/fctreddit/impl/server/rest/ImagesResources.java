@@ -38,6 +38,12 @@ public class ImagesResources implements RestImage {
         handleResult(impl.deleteImage(userId, imageId, password), "Failed to delete image with ID: " + imageId);
     }
 
+    @Override
+    public void invalidateUser(String userId) {
+        Log.info("invalidateUser called with userId: " + userId);
+        handleResult(impl.invalidateUser(userId), "Failed to invalidate cached user with ID: " + userId);
+    }
+
     private <T> T handleResult(Result<T> result, String errorMessage) {
         if (!result.isOK()) {
             Log.severe(errorMessage + ": " + result.error());
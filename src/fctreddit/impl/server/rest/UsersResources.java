@@ -1,22 +1,32 @@
 package fctreddit.impl.server.rest;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.logging.Logger;
 import java.util.List;
 
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.Response.Status;
+import jakarta.ws.rs.core.StreamingOutput;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import fctreddit.api.CacheStats;
 import fctreddit.api.User;
-import fctreddit.api.java.Users;
 import fctreddit.api.java.Result;
 import fctreddit.api.rest.RestUsers;
 import fctreddit.impl.server.java.JavaUsers;
+import fctreddit.impl.server.java.UserStream;
 
 public class UsersResources implements RestUsers {
 
     private static Logger Log = Logger.getLogger(UsersResources.class.getName());
 
-    final Users impl;
+    private static final ObjectMapper json = new ObjectMapper();
+
+    final JavaUsers impl;
 
     public UsersResources() {
         impl = new JavaUsers();
@@ -40,6 +50,12 @@ public class UsersResources implements RestUsers {
         return handleResult(impl.getUserAux(userId), "Failed to retrieve user with ID: " + userId);
     }
 
+    @Override
+    public CacheStats getCacheStats() {
+        Log.info("getCacheStats");
+        return handleResult(impl.getCacheStats(), "Failed to retrieve the user cache stats");
+    }
+
     @Override
     public User updateUser(String userId, String password, User user) {
         Log.info("updateUser : user = " + userId + "; pwd = [PROTECTED] ; userData = " + user);
@@ -53,9 +69,23 @@ public class UsersResources implements RestUsers {
     }
 
     @Override
-    public List<User> searchUsers(String pattern) {
-        Log.info("searchUsers : pattern = " + pattern);
-        return handleResult(impl.searchUsers(pattern), "Failed to search users with pattern: " + pattern);
+    public List<User> searchUsers(String pattern, int limit) {
+        Log.info("searchUsers : pattern = " + pattern + "; limit = " + limit);
+        return handleResult(impl.searchUsers(pattern, limit), "Failed to search users with pattern: " + pattern);
+    }
+
+    @Override
+    public StreamingOutput streamUsers(String pattern, int limit) {
+        Log.info("streamUsers : pattern = " + pattern + "; limit = " + limit);
+        UserStream users = handleResult(impl.streamUsers(pattern, limit), "Failed to search users with pattern: " + pattern);
+        return out -> {
+            try (users; Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+                while (users.hasNext()) {
+                    writer.write(json.writeValueAsString(users.next()));
+                    writer.write('\n');
+                }
+            }
+        };
     }
 
     private <T> T handleResult(Result<T> result, String errorMessage) {